@@ -2,7 +2,9 @@ package com.culturacarabobo.sicuc.backend.config;
 
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -25,13 +27,17 @@ public class ApplicationConfig {
      * Defines the password encoding bean for the application.
      * <p>
      * Uses **BCrypt** as the hashing algorithm, which is the industry standard
-     * for securely storing passwords.
+     * for securely storing passwords. Its cost (log2 of the rounds) is tuned
+     * with {@code application.security.password.bcrypt-strength}: stored
+     * hashes with a lower cost are upgraded on the user's next login.
      *
+     * @param strength The BCrypt cost (4 to 31; each step doubles the time
+     * per hash).
      * @return A {@link PasswordEncoder} instance.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${application.security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     /**
@@ -39,22 +45,27 @@ public class ApplicationConfig {
      * <p>
      * This bean acts as the "glue" that connects Spring Security to the custom
      * {@link UserDetailsService} (to find users) and the {@link PasswordEncoder}
-     * (to verify passwords).
+     * (to verify passwords), and re-hashes outdated passwords through the
+     * {@link UserDetailsPasswordService} after a successful login.
      *
      * @param userDetailsService The custom service implementation for loading user
      * data (e.g., {@code UserService}).
+     * @param passwordService    The service that stores upgraded password hashes
+     * (e.g., {@code UserService}).
      * @param passwordEncoder    The bean used for password hashing.
      * @return The configured {@link DaoAuthenticationProvider} bean.
      */
     @SuppressWarnings("deprecation") // Setters are still a valid way to configure this bean
     @Bean
     public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService,
-            PasswordEncoder passwordEncoder) {
+            UserDetailsPasswordService passwordService, PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         // Set the service that Spring Security will use to find a user by username
         authProvider.setUserDetailsService(userDetailsService);
         // Set the password encoder to use for verifying passwords
         authProvider.setPasswordEncoder(passwordEncoder);
+        // Upgrade hashes stored with a lower BCrypt cost on successful login
+        authProvider.setUserDetailsPasswordService(passwordService);
         return authProvider;
     }
 
@@ -0,0 +1,150 @@
+package com.culturacarabobo.sicuc.backend.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * {@link DataSource} wrapper that caps how many threads may hold a pooled
+ * connection at the same time, using a fair {@link Semaphore}.
+ * <p>
+ * With virtual threads, every request gets its own thread, so thousands of
+ * requests can reach the connection pool at once. Waiting on this semaphore
+ * parks a virtual thread cheaply and in arrival order, instead of piling
+ * every request into the pool's own wait queue; a request that cannot get a
+ * permit within the timeout fails fast with a
+ * {@link SQLTransientConnectionException}.
+ * <p>
+ * The permit is taken only for a thread's outermost connection: a nested
+ * connection (e.g., Hibernate's ID allocation or a {@code REQUIRES_NEW}
+ * transaction) is obtained under the permit the thread already holds. So the
+ * permits bound the threads using the pool, not the connections. If every
+ * permit holder may need {@code n} connections at once, permit holders can
+ * only wait on each other in the pool when {@code permits * n} exceeds the
+ * pool size. With at most one nested connection ({@code n = 2}), the permits
+ * should be at most half the pool size. Above that, the waiting is bounded by
+ * the pool's connection timeout, not ruled out.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    /**
+     * Connections currently held by each thread through this data source.
+     */
+    private final ThreadLocal<AtomicInteger> heldConnections = ThreadLocal.withInitial(AtomicInteger::new);
+
+    private final Semaphore permits;
+    private final long timeoutNanos;
+
+    /**
+     * Wraps a data source.
+     *
+     * @param targetDataSource The pooled data source.
+     * @param maxConnections   The maximum threads holding a connection at once.
+     * @param timeout          How long to wait for a permit.
+     */
+    public ConnectionLimitingDataSource(DataSource targetDataSource, int maxConnections, Duration timeout) {
+        super(targetDataSource);
+        this.permits = new Semaphore(maxConnections, true);
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return limit(() -> obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return limit(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * Returns the number of permits currently available.
+     *
+     * @return The free permits.
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    // ----------------------------------------------------------------
+    // PRIVATE HELPER METHODS
+    // ----------------------------------------------------------------
+
+    /**
+     * Obtains a connection under a permit (or, for a nested connection, under
+     * the permit the thread already holds).
+     */
+    private Connection limit(ConnectionSupplier supplier) throws SQLException {
+        AtomicInteger held = heldConnections.get();
+        boolean acquired = false;
+        if (held.get() == 0) {
+            try {
+                acquired = permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", ex);
+            }
+            if (!acquired) {
+                throw new SQLTransientConnectionException("Timed out waiting for a database connection");
+            }
+        }
+
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException ex) {
+            if (acquired) {
+                permits.release();
+            }
+            throw ex;
+        }
+        held.incrementAndGet();
+        return wrap(connection, held, acquired);
+    }
+
+    /**
+     * Returns a proxy that releases the permit (once) when the connection is
+     * closed, i.e., returned to the pool.
+     */
+    private Connection wrap(Connection connection, AtomicInteger held, boolean ownsPermit) {
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (closed.compareAndSet(false, true)) {
+                                held.decrementAndGet();
+                                if (ownsPermit) {
+                                    permits.release();
+                                }
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
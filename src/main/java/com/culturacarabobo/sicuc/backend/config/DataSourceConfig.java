@@ -0,0 +1,58 @@
+package com.culturacarabobo.sicuc.backend.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Puts a {@link ConnectionLimitingDataSource} in front of the connection pool
+ * in virtual-thread mode ({@code spring.threads.virtual.enabled=true}).
+ * <p>
+ * In that mode request concurrency is no longer bounded by Tomcat's thread
+ * pool, so a traffic spike must queue somewhere cheap: at the semaphore, in
+ * arrival order, rather than inside the pool. In platform-thread mode Tomcat's
+ * thread pool already bounds concurrency and the pool is used directly, as
+ * before.
+ * <p>
+ * See {@link ConnectionLimitingDataSource} for how the permits relate to the
+ * pool size.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * Wraps the application's {@link DataSource} in a
+     * {@link ConnectionLimitingDataSource}.
+     * <p>
+     * Static, as bean post-processors must be created before regular beans.
+     *
+     * @param environment The environment, read for
+     * {@code application.datasource.connection-limit.permits} (default 5, half
+     * the pool size of 10) and {@code application.datasource.connection-limit.timeout}.
+     * @return The wrapping post-processor.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                    int permits = environment.getProperty("application.datasource.connection-limit.permits",
+                            Integer.class, 5);
+                    Duration timeout = environment.getProperty("application.datasource.connection-limit.timeout",
+                            Duration.class, Duration.ofSeconds(30));
+                    return new ConnectionLimitingDataSource(dataSource, permits, timeout);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,15 +1,27 @@
 package com.culturacarabobo.sicuc.backend.config;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import com.culturacarabobo.sicuc.backend.entities.Role;
 import com.culturacarabobo.sicuc.backend.services.JwtService;
+import com.culturacarabobo.sicuc.backend.services.ParsedToken;
+import com.culturacarabobo.sicuc.backend.services.TokenDenylist;
+import com.culturacarabobo.sicuc.backend.services.UserStateCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,20 +32,41 @@ import jakarta.servlet.http.HttpServletResponse;
  * <p>
  * This filter is responsible for:
  * 1. Extracting the JWT (Bearer Token) from the "Authorization" header.
- * 2. Validating the token using {@link JwtService}.
+ * 2. Verifying the token once using {@link JwtService#parse}.
  * 3. Loading the {@link UserDetails} from the database via
  * {@link UserDetailsService}.
  * 4. Setting the user's authentication in the {@link SecurityContextHolder} if
  * the token is valid.
  * <p>
+ * In stateless mode ({@code application.security.jwt.stateless=true}), step 3
+ * is skipped for tokens that carry the user's role and token version: the
+ * authentication is built from the verified token, and the
+ * {@link UserStateCache} (not a query per request) confirms the user still
+ * exists with that role and version. Tokens without those claims fall back to
+ * loading the user.
+ * <p>
  * This filter is inserted *before* the standard Spring Security filters by
  * {@link SecurityConfig}.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * The authorities of each role, built once for stateless principals.
+     */
+    private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : Role.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority(role.name())));
+        }
+    }
+
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final UserStateCache userStateCache;
+    private final TokenDenylist tokenDenylist;
+    private final boolean stateless;
 
     /**
      * Constructs the filter with required services.
@@ -42,10 +75,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      * extract).
      * @param userDetailsService The service Spring Security uses to load a user by
      * username (our {@code UserService}).
+     * @param userStateCache     The cache of user states checked in stateless mode.
+     * @param tokenDenylist      The in-memory list of revoked (logged out) tokens.
+     * @param stateless          Whether to authenticate tokens without loading
+     * the user (from {@code application.security.jwt.stateless}).
      */
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService,
+            UserStateCache userStateCache, TokenDenylist tokenDenylist,
+            @Value("${application.security.jwt.stateless:false}") boolean stateless) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.userStateCache = userStateCache;
+        this.tokenDenylist = tokenDenylist;
+        this.stateless = stateless;
     }
 
     /**
@@ -76,48 +118,79 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 3. Extract the JWT string (remove "Bearer ")
         final String jwt = authHeader.substring(7);
         
-        // 4. Extract the username (subject) from the token.
+        // 4. Verify the token once (or find it in the verified-token cache).
         // This will throw ExpiredJwtException if the token is expired,
         // which is caught by our GlobalExceptionHandler.
         @SuppressWarnings("null")
-        final String username = jwtService.extractUsername(jwt);
+        final ParsedToken token = jwtService.parse(jwt);
+        final String username = token.getSubject();
 
-        // 5. Check if we have a username AND the user is not already authenticated
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        // 5. Check if we have a username, the token was not revoked (an in-memory
+        // check), AND the user is not already authenticated
+        if (username != null && !tokenDenylist.isRevoked(token)
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
             
-            // 6. Load the user from the database
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-
-            // 7. Validate the token against the user details
-            @SuppressWarnings("null")
-            boolean isTokenValid = jwtService.isTokenValid(jwt, userDetails);
-
-            if (isTokenValid) {
-                // 8. (Custom Rule) Check if the token type is "access".
-                // This prevents a "refresh" token from being used to access the API.
-                @SuppressWarnings("null")
-                String tokenType = jwtService.extractClaim(jwt, claims -> claims.get("type", String.class));
+            // 6. Build the principal: from the token itself in stateless mode,
+            // otherwise by loading the user from the database
+            UserDetails userDetails = stateless && token.hasUserState()
+                    ? authenticateStateless(token)
+                    : authenticateWithUser(token);
+
+            if (userDetails != null) {
+                // 8. Create the authentication token (User, null credentials, Authorities)
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        userDetails,
+                        null, // Credentials are null for token-based auth
+                        userDetails.getAuthorities()
+                );
+                
+                // 9. Set request details (e.g., IP address) on the token
+                authToken.setDetails(
+                        new WebAuthenticationDetailsSource().buildDetails(request)
+                );
                 
-                if ("access".equals(tokenType)) {
-                    // 9. Create the authentication token (User, null credentials, Authorities)
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null, // Credentials are null for token-based auth
-                            userDetails.getAuthorities()
-                    );
-                    
-                    // 10. Set request details (e.g., IP address) on the token
-                    authToken.setDetails(
-                            new WebAuthenticationDetailsSource().buildDetails(request)
-                    );
-                    
-                    // 11. Set the authenticated user in Spring's Security Context
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+                // 10. Set the authenticated user in Spring's Security Context
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         }
         
-        // 12. Pass the request to the next filter in the chain
+        // 11. Pass the request to the next filter in the chain
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    // ----------------------------------------------------------------
+    // PRIVATE HELPER METHODS
+    // ----------------------------------------------------------------
+
+    /**
+     * Loads the token's user and validates the token against it.
+     *
+     * @return The user, or {@code null} if the token is not a valid access
+     * token for them.
+     */
+    private UserDetails authenticateWithUser(ParsedToken token) {
+        UserDetails userDetails = this.userDetailsService.loadUserByUsername(token.getSubject());
+
+        // 7. Validate the token against the user details, and (custom rule)
+        // check that it is an "access" token. This prevents a "refresh"
+        // token from being used to access the API.
+        return token.isValidFor(userDetails) && token.isAccessToken() ? userDetails : null;
+    }
+
+    /**
+     * Builds the principal from a token's own claims, after checking that the
+     * user still exists with the token's role and version.
+     *
+     * @return The principal (no password), or {@code null} if the token is
+     * not a current access token.
+     */
+    @SuppressWarnings("null")
+    private UserDetails authenticateStateless(ParsedToken token) {
+        // 7. Same rules as above, checked against the cached user state
+        if (!token.isAccessToken() || token.isExpired(Instant.now())
+                || !userStateCache.isCurrent(token.getSubject(), token.getRole(), token.getTokenVersion())) {
+            return null;
+        }
+        return new User(token.getSubject(), "", AUTHORITIES.get(token.getRole()));
+    }
+}
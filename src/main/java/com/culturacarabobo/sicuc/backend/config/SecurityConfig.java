@@ -69,14 +69,21 @@ public class SecurityConfig {
                 
                 // Define URL-level authorization rules
                 .authorizeHttpRequests(auth -> auth
-                        // Rule 1: Authentication endpoints are public.
+                        // Rule 1: Authentication endpoints are public, except logging out.
+                        .requestMatchers(HttpMethod.POST, "/auth/logout", "/auth/logout-all").authenticated()
                         .requestMatchers("/auth/**").permitAll()
 
+                        // Rule 1b: The public verification keys (JWK Set).
+                        .requestMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll()
+
                         // Rule 2: Public read-only (GET) endpoints for form data.
                         .requestMatchers(HttpMethod.GET, "/municipalities", "/parishes", "/art-categories", "/art-disciplines").permitAll()
 
                         // Rule 3: Public endpoint for new cultor registration.
                         .requestMatchers(HttpMethod.POST, "/cultors").permitAll()
+
+                        // Rule 3b: Registrants poll their queued registration by its (random) tracking ID.
+                        .requestMatchers(HttpMethod.GET, "/cultors/intake/*").permitAll()
                         
                         // Rule 4: All other requests (PUT, DELETE, GET /cultors, etc.) must be authenticated.
                         .anyRequest().authenticated()
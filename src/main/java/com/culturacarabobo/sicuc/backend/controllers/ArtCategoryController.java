@@ -1,6 +1,8 @@
 package com.culturacarabobo.sicuc.backend.controllers;
 
-import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -21,27 +23,38 @@ import org.springframework.web.bind.annotation.GetMapping;
 public class ArtCategoryController {
 
     private final ArtCategoryService artCategoryService;
+    private final ReferenceDataResponses referenceDataResponses;
 
     /**
      * Constructs the controller with the required ArtCategoryService.
      *
      * @param artCategoryService The service responsible for art category business
      * logic.
+     * @param referenceDataResponses Builds the cacheable responses.
      */
-    public ArtCategoryController(ArtCategoryService artCategoryService) {
+    public ArtCategoryController(ArtCategoryService artCategoryService,
+            ReferenceDataResponses referenceDataResponses) {
         this.artCategoryService = artCategoryService;
+        this.referenceDataResponses = referenceDataResponses;
     }
 
     /**
      * [GET /art-categories] Retrieves a list of all art categories.
      * <p>
      * This endpoint is public and used to populate selection fields.
+     * <p>
+     * The body is the pre-serialized JSON held by the reference data snapshot
+     * (gzip-compressed if the client accepts it), so no database query or JSON
+     * serialization happens per request. A client whose copy is current
+     * ({@code If-None-Match}) gets a 304 with no body.
      *
-     * @return A {@link List} of {@link ArtCategoryResponse} DTOs, sorted by ID.
+     * @param acceptEncoding The request's "Accept-Encoding" header, if any.
+     * @return A JSON array of {@link ArtCategoryResponse} DTOs, sorted by ID.
      */
     @GetMapping
-    public List<ArtCategoryResponse> getAll() {
-        return artCategoryService.getAll();
+    public ResponseEntity<byte[]> getAll(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return referenceDataResponses.toResponse(artCategoryService.getAllBody(), acceptEncoding);
     }
 
 }
\ No newline at end of file
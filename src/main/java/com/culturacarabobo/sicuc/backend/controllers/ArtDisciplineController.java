@@ -1,6 +1,8 @@
 package com.culturacarabobo.sicuc.backend.controllers;
 
-import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -21,27 +23,38 @@ import org.springframework.web.bind.annotation.GetMapping;
 public class ArtDisciplineController {
 
     private final ArtDisciplineService artDisciplineService;
+    private final ReferenceDataResponses referenceDataResponses;
 
     /**
      * Constructs the controller with the required ArtDisciplineService.
      *
      * @param artDisciplineService The service responsible for art discipline
      * business logic.
+     * @param referenceDataResponses Builds the cacheable responses.
      */
-    public ArtDisciplineController(ArtDisciplineService artDisciplineService) {
+    public ArtDisciplineController(ArtDisciplineService artDisciplineService,
+            ReferenceDataResponses referenceDataResponses) {
         this.artDisciplineService = artDisciplineService;
+        this.referenceDataResponses = referenceDataResponses;
     }
 
     /**
      * [GET /art-disciplines] Retrieves a list of all art disciplines.
      * <p>
      * This endpoint is public and used to populate selection fields.
+     * <p>
+     * The body is the pre-serialized JSON held by the reference data snapshot
+     * (gzip-compressed if the client accepts it), so no database query or JSON
+     * serialization happens per request. A client whose copy is current
+     * ({@code If-None-Match}) gets a 304 with no body.
      *
-     * @return A {@link List} of {@link ArtDisciplineResponse} DTOs, sorted by ID.
+     * @param acceptEncoding The request's "Accept-Encoding" header, if any.
+     * @return A JSON array of {@link ArtDisciplineResponse} DTOs, sorted by ID.
      */
     @GetMapping
-    public List<ArtDisciplineResponse> getAll() {
-        return artDisciplineService.getAll();
+    public ResponseEntity<byte[]> getAll(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return referenceDataResponses.toResponse(artDisciplineService.getAllBody(), acceptEncoding);
     }
 
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.culturacarabobo.sicuc.backend.controllers;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -11,11 +14,14 @@ import com.culturacarabobo.sicuc.backend.dtos.AuthResponse;
 import com.culturacarabobo.sicuc.backend.dtos.RefreshTokenRequest;
 import com.culturacarabobo.sicuc.backend.services.AuthenticationService;
 
+import jakarta.servlet.http.HttpServletRequest;
+
 /**
  * REST controller for handling user authentication endpoints.
  * <p>
- * This controller exposes public endpoints for user login and token refreshing.
- * It delegates all logic to the {@link AuthenticationService}.
+ * This controller exposes public endpoints for user login and token refreshing,
+ * and authenticated endpoints for logging out. It delegates all logic to the
+ * {@link AuthenticationService}.
  */
 @RestController
 @RequestMapping("/auth")
@@ -36,18 +42,23 @@ public class AuthenticationController {
     /**
      * [POST /auth/login] Authenticates a user and returns a token pair.
      *
-     * @param request The {@link AuthRequest} DTO containing the username and
+     * @param request     The {@link AuthRequest} DTO containing the username and
      * password.
+     * @param httpRequest The HTTP request, for the client's address (behind a
+     * proxy, set {@code server.forward-headers-strategy} so it is taken from
+     * the forwarded headers).
      * @return A {@link ResponseEntity} with an {@link AuthResponse} (containing
      * access and refresh tokens) and HTTP 200 (OK).
      * @throws org.springframework.security.core.AuthenticationException If
      * credentials are invalid (handled by GlobalExceptionHandler as 401).
+     * @throws com.culturacarabobo.sicuc.backend.exceptions.TooManyRequestsException
+     * If the attempt is throttled (handled by GlobalExceptionHandler as 429).
      */
     @SuppressWarnings("null")
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@RequestBody AuthRequest request) {
+    public ResponseEntity<AuthResponse> login(@RequestBody AuthRequest request, HttpServletRequest httpRequest) {
         // Delegate login logic to the service
-        return ResponseEntity.ok(authenticationService.login(request));
+        return ResponseEntity.ok(authenticationService.login(request, httpRequest.getRemoteAddr()));
     }
 
     /**
@@ -57,8 +68,9 @@ public class AuthenticationController {
      * token.
      * @return A {@link ResponseEntity} with an {@link AuthResponse} (containing a
      * *new* access token) and HTTP 200 (OK).
-     * @throws RuntimeException If the refresh token is invalid or expired
-     * (handled by GlobalExceptionHandler).
+     * @throws com.culturacarabobo.sicuc.backend.exceptions.InvalidTokenException
+     * If the refresh token is invalid or expired (a 401, handled by
+     * GlobalExceptionHandler).
      */
     @SuppressWarnings("null")
     @PostMapping("/refresh")
@@ -66,4 +78,37 @@ public class AuthenticationController {
         // Delegate refresh logic to the service
         return ResponseEntity.ok(authenticationService.refreshToken(request));
     }
-}
\ No newline at end of file
+
+    /**
+     * [POST /auth/logout] Revokes the caller's access token and, if given in
+     * the body, the refresh token of the same session.
+     *
+     * @param authorization The "Authorization" header (a valid Bearer token,
+     * as the endpoint requires authentication).
+     * @param request       Optional {@link RefreshTokenRequest} with the
+     * session's refresh token.
+     * @return An empty {@link ResponseEntity} with HTTP 204 (No Content).
+     * @throws com.culturacarabobo.sicuc.backend.exceptions.InvalidTokenException
+     * If the refresh token is invalid or belongs to another user (a 401,
+     * handled by GlobalExceptionHandler).
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+            @RequestBody(required = false) RefreshTokenRequest request) {
+        authenticationService.logout(authorization.substring(7), request == null ? null : request.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * [POST /auth/logout-all] Revokes every token issued to the caller, on
+     * every device.
+     *
+     * @param authentication The authenticated caller.
+     * @return An empty {@link ResponseEntity} with HTTP 204 (No Content).
+     */
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAll(Authentication authentication) {
+        authenticationService.logoutAll(authentication.getName());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -4,14 +4,27 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.culturacarabobo.sicuc.backend.dtos.CultorCursorResponse;
+import com.culturacarabobo.sicuc.backend.dtos.CultorImportResponse;
+import com.culturacarabobo.sicuc.backend.dtos.CultorIntakeResponse;
 import com.culturacarabobo.sicuc.backend.dtos.CultorRequest;
 import com.culturacarabobo.sicuc.backend.dtos.CultorResponse;
+import com.culturacarabobo.sicuc.backend.dtos.CultorSearchResponse;
+import com.culturacarabobo.sicuc.backend.services.CultorExportService;
+import com.culturacarabobo.sicuc.backend.services.CultorImportService;
+import com.culturacarabobo.sicuc.backend.services.CultorIntakeService;
 import com.culturacarabobo.sicuc.backend.services.CultorService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,6 +32,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller that exposes endpoints for the Cultor entity CRUD operations.
@@ -30,14 +44,24 @@ import org.springframework.web.bind.annotation.RequestBody;
 public class CultorController {
 
     private final CultorService cultorService;
+    private final CultorExportService cultorExportService;
+    private final CultorImportService cultorImportService;
+    private final CultorIntakeService cultorIntakeService;
 
     /**
-     * Constructs the controller with the required CultorService.
+     * Constructs the controller with the required services.
      *
-     * @param cultorService The service responsible for cultor business logic.
+     * @param cultorService       The service responsible for cultor business logic.
+     * @param cultorExportService The service streaming bulk exports.
+     * @param cultorImportService The service running bulk imports.
+     * @param cultorIntakeService The service queuing registrations in intake mode.
      */
-    public CultorController(CultorService cultorService) {
+    public CultorController(CultorService cultorService, CultorExportService cultorExportService,
+            CultorImportService cultorImportService, CultorIntakeService cultorIntakeService) {
         this.cultorService = cultorService;
+        this.cultorExportService = cultorExportService;
+        this.cultorImportService = cultorImportService;
+        this.cultorIntakeService = cultorIntakeService;
     }
 
     /**
@@ -54,6 +78,8 @@ public class CultorController {
      * @param hasDisability   Optional filter for disability status (true/false).
      * @param hasIllness      Optional filter for illness status (true/false).
      * @param pageable        Automatic Spring parameter for pagination (e.g., ?page=0&size=10&sort=lastName,asc).
+     * @param count           Optional total mode: "exact" (default, cached per filter combination) or
+     * "estimated" (never runs a COUNT query; "totalElements" may be a lower bound).
      * @return A {@link Page} of {@link CultorResponse} DTOs matching the filters.
      */
     @SuppressWarnings("null")
@@ -67,19 +93,174 @@ public class CultorController {
             @RequestParam(required = false) Integer artDisciplineId,
             @RequestParam(required = false) Boolean hasDisability,
             @RequestParam(required = false) Boolean hasIllness,
-            Pageable pageable) {
+            Pageable pageable,
+            @RequestParam(required = false) String count) {
 
         return cultorService.getAllCultorsWithFilters(query,
+                gender, municipalityId, parishId, artCategoryId, artDisciplineId, hasDisability, hasIllness,
+                pageable, count);
+    }
+
+    /**
+     * [GET /cultors?mode=cursor] Retrieves a keyset (cursor) page of filtered cultors.
+     * <p>
+     * Meant for infinite scrolling and exports: each page costs the same however
+     * deep it is, and the total is only counted on request. Accepts the same
+     * filters as {@link #getCultorsFiltered}.
+     *
+     * @param query           Optional search term for name, ID number, or phone.
+     * @param gender          Optional filter for gender ("M" or "F").
+     * @param municipalityId  Optional filter by municipality ID.
+     * @param parishId        Optional filter by parish ID.
+     * @param artCategoryId   Optional filter by art category ID.
+     * @param artDisciplineId Optional filter by art discipline ID.
+     * @param hasDisability   Optional filter for disability status (true/false).
+     * @param hasIllness      Optional filter for illness status (true/false).
+     * @param sort            Optional order: "id" (default), "lastName" or "firstName", plus ",desc".
+     * @param cursor          The "nextCursor" of the previous page (omit for the first page).
+     * @param size            The page size (default 20, at most 100).
+     * @param count           "none" (default), "exact" or "estimated" (only if cached) to include "totalElements".
+     * @return A {@link CultorCursorResponse} with the page and the next cursor.
+     * @throws com.culturacarabobo.sicuc.backend.exceptions.ValidationException If a paging parameter is invalid (returns 400).
+     */
+    @SuppressWarnings("null")
+    @GetMapping(params = "mode=cursor")
+    public CultorCursorResponse getCultorsByCursor(
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) String gender,
+            @RequestParam(required = false) Integer municipalityId,
+            @RequestParam(required = false) Integer parishId,
+            @RequestParam(required = false) Integer artCategoryId,
+            @RequestParam(required = false) Integer artDisciplineId,
+            @RequestParam(required = false) Boolean hasDisability,
+            @RequestParam(required = false) Boolean hasIllness,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String count) {
+
+        return cultorService.getCultorsByCursor(query,
+                gender, municipalityId, parishId, artCategoryId, artDisciplineId, hasDisability, hasIllness,
+                sort, cursor, size, count);
+    }
+
+    /**
+     * [GET /cultors?mode=search] Ranked search served by the in-memory index.
+     * <p>
+     * Accepts the same filters as {@link #getCultorsFiltered}. The query may
+     * contain any number of words, each matched as a whole word, a prefix, or
+     * with a small typo; number fragments match anywhere in the ID or phone
+     * number. Results are ordered by relevance (the {@code sort} parameter is
+     * ignored) and include facet counts over all hits.
+     *
+     * @param query           Optional free text (names, group, discipline, ID or phone).
+     * @param gender          Optional filter for gender ("M" or "F").
+     * @param municipalityId  Optional filter by municipality ID.
+     * @param parishId        Optional filter by parish ID.
+     * @param artCategoryId   Optional filter by art category ID.
+     * @param artDisciplineId Optional filter by art discipline ID.
+     * @param hasDisability   Optional filter for disability status (true/false).
+     * @param hasIllness      Optional filter for illness status (true/false).
+     * @param pageable        Automatic Spring parameter for pagination (e.g., ?page=0&size=10).
+     * @return A {@link CultorSearchResponse} with the ranked page and facet counts.
+     */
+    @SuppressWarnings("null")
+    @GetMapping(params = "mode=search")
+    public CultorSearchResponse searchCultors(
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) String gender,
+            @RequestParam(required = false) Integer municipalityId,
+            @RequestParam(required = false) Integer parishId,
+            @RequestParam(required = false) Integer artCategoryId,
+            @RequestParam(required = false) Integer artDisciplineId,
+            @RequestParam(required = false) Boolean hasDisability,
+            @RequestParam(required = false) Boolean hasIllness,
+            Pageable pageable) {
+
+        return cultorService.searchCultors(query,
                 gender, municipalityId, parishId, artCategoryId, artDisciplineId, hasDisability, hasIllness,
                 pageable);
     }
 
+    /**
+     * [GET /cultors/export] Streams every cultor matching the filters as a file.
+     * <p>
+     * The body is written on an async thread straight from a database cursor,
+     * so memory use is flat for any census size. Accepts the same filters as
+     * {@link #getCultorsFiltered}; rows are ordered by ID.
+     *
+     * @param query           Optional search term for name, ID number, or phone.
+     * @param gender          Optional filter for gender ("M" or "F").
+     * @param municipalityId  Optional filter by municipality ID.
+     * @param parishId        Optional filter by parish ID.
+     * @param artCategoryId   Optional filter by art category ID.
+     * @param artDisciplineId Optional filter by art discipline ID.
+     * @param hasDisability   Optional filter for disability status (true/false).
+     * @param hasIllness      Optional filter for illness status (true/false).
+     * @param format          "csv" (default) or "ndjson".
+     * @param spreadsheet     If true, CSV cells starting with {@code = + - @}
+     *                        get a leading apostrophe so a spreadsheet shows
+     *                        them as text. Off by default, which keeps the
+     *                        values as stored.
+     * @return A {@link ResponseEntity} streaming the file as an attachment.
+     * @throws com.culturacarabobo.sicuc.backend.exceptions.ValidationException If the format is unknown (returns 400).
+     */
+    @SuppressWarnings("null")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) String gender,
+            @RequestParam(required = false) Integer municipalityId,
+            @RequestParam(required = false) Integer parishId,
+            @RequestParam(required = false) Integer artCategoryId,
+            @RequestParam(required = false) Integer artDisciplineId,
+            @RequestParam(required = false) Boolean hasDisability,
+            @RequestParam(required = false) Boolean hasIllness,
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "false") boolean spreadsheet) {
+
+        // Parsed up front, so an invalid format is still a JSON 400
+        CultorExportService.Format exportFormat = CultorExportService.Format.parse(format);
+
+        StreamingResponseBody body = out -> cultorExportService.export(query,
+                gender, municipalityId, parishId, artCategoryId, artDisciplineId, hasDisability, hasIllness,
+                exportFormat, spreadsheet, out);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(exportFormat.getFileName()).build().toString())
+                .body(body);
+    }
+
+    /**
+     * [POST /cultors/import] Creates cultors in bulk from a CSV or NDJSON file.
+     * <p>
+     * CSV files start with a header row naming the {@link CultorRequest}
+     * properties (e.g., {@code firstName,lastName,...}); empty cells are treated
+     * as absent. NDJSON files hold one {@link CultorRequest} object per line.
+     * Every row is validated like {@code POST /cultors}; valid rows are created
+     * and the others are reported with their reason.
+     *
+     * @param request The HTTP request whose body is the file.
+     * @return The {@link CultorImportResponse} report with HTTP status 200 (OK).
+     * @throws java.lang.IllegalArgumentException If the file is malformed or too large (returns 400).
+     * @throws com.culturacarabobo.sicuc.backend.exceptions.DuplicateEntityException If concurrent writes keep taking unique values through every retry (returns 409; nothing is imported). A row lost to a single concurrent write is reported as failed instead.
+     * @throws IOException If reading the body fails.
+     */
+    @SuppressWarnings("null")
+    @PostMapping(value = "/import", consumes = { "text/csv", MediaType.APPLICATION_NDJSON_VALUE })
+    public CultorImportResponse importCultors(HttpServletRequest request) throws IOException {
+        return cultorImportService.importCultors(MediaType.parseMediaType(request.getContentType()),
+                request.getInputStream());
+    }
+
     /**
      * [GET /cultors/{id}] Retrieves a single cultor by its ID.
      *
      * @param id The ID (primary key) of the cultor to retrieve.
      * @return A {@link ResponseEntity} with the {@link CultorResponse} and HTTP status 200 (OK).
-     * @throws jakarta.persistence.EntityNotFoundException If the ID is not found (handled by GlobalExceptionHandler as 404).
+     * @throws com.culturacarabobo.sicuc.backend.exceptions.ResourceNotFoundException If the ID is not found (handled by GlobalExceptionHandler as 404).
      */
     @SuppressWarnings("null")
     @GetMapping("/{id}")
@@ -90,19 +271,38 @@ public class CultorController {
     /**
      * [POST /cultors] Creates a new cultor.
      * <p>
-     * Validates the incoming {@link CultorRequest} body.
+     * Validates the incoming {@link CultorRequest} body. In intake mode
+     * ({@code application.cultors.intake.enabled}) the registration is queued
+     * instead, and the remaining checks run in the background.
      *
      * @param cultorRequest The DTO containing the data for the new cultor. Must be valid.
-     * @return A {@link ResponseEntity} with the created {@link CultorResponse} and HTTP status 201 (Created).
+     * @return A {@link ResponseEntity} with the created {@link CultorResponse} and HTTP status 201 (Created),
+     * or, in intake mode, the queued {@link CultorIntakeResponse} and HTTP status 202 (Accepted).
      * @throws org.springframework.web.bind.MethodArgumentNotValidException If DTO validation fails (handled by GlobalExceptionHandler as 400).
      * @throws com.culturacarabobo.sicuc.backend.exceptions.DuplicateEntityException If a unique constraint (idNumber, phone, etc.) is violated (handled by GlobalExceptionHandler as 409).
      */
     @SuppressWarnings("null")
     @PostMapping
-    public ResponseEntity<CultorResponse> create(@Valid @RequestBody CultorRequest cultorRequest) {
+    public ResponseEntity<?> create(@Valid @RequestBody CultorRequest cultorRequest) {
+        if (cultorIntakeService.isEnabled())
+            return cultorIntakeService.submit(cultorRequest);
         return cultorService.create(cultorRequest);
     }
 
+    /**
+     * [GET /cultors/intake/{trackingId}] Retrieves the state of a registration
+     * queued in intake mode.
+     *
+     * @param trackingId The tracking ID returned by POST /cultors.
+     * @return A {@link ResponseEntity} with the {@link CultorIntakeResponse} and HTTP status 200 (OK).
+     * @throws com.culturacarabobo.sicuc.backend.exceptions.ResourceNotFoundException If the tracking ID is unknown (returns 404).
+     */
+    @SuppressWarnings("null")
+    @GetMapping("/intake/{trackingId}")
+    public ResponseEntity<CultorIntakeResponse> getIntake(@PathVariable String trackingId) {
+        return cultorIntakeService.getStatus(trackingId);
+    }
+
     /**
      * [PUT /cultors/{id}] Updates an existing cultor by its ID.
      * <p>
@@ -112,10 +312,10 @@ public class CultorController {
      * @param id            The ID of the cultor to update.
      * @param cultorRequest The DTO with the updated data. Must be valid.
      * @return A {@link ResponseEntity} with the updated {@link CultorResponse} and HTTP status 200 (OK).
-     * @throws jakarta.persistence.EntityNotFoundException If the ID is not found (returns 404).
+     * @throws com.culturacarabobo.sicuc.backend.exceptions.ResourceNotFoundException If the ID is not found (returns 404).
      * @throws org.springframework.web.bind.MethodArgumentNotValidException If DTO validation fails (returns 400).
      * @throws com.culturacarabobo.sicuc.backend.exceptions.DuplicateEntityException If a unique field (e.g., phone) conflicts with another cultor (returns 409).
-     * @throws java.lang.IllegalArgumentException If an immutable field (e.g., idNumber) is changed (returns 400).
+     * @throws com.culturacarabobo.sicuc.backend.exceptions.ValidationException If an immutable field (e.g., idNumber) is changed (returns 400).
      */
     @SuppressWarnings("null")
     @PutMapping("/{id}")
@@ -131,7 +331,7 @@ public class CultorController {
      *
      * @param id The ID of the cultor to delete.
      * @return A {@link ResponseEntity} with HTTP status 204 (No Content).
-     * @throws jakarta.persistence.EntityNotFoundException If the ID is not found (returns 404).
+     * @throws com.culturacarabobo.sicuc.backend.exceptions.ResourceNotFoundException If the ID is not found (returns 404).
      */
     @SuppressWarnings("null")
     @DeleteMapping("/{id}")
@@ -0,0 +1,56 @@
+package com.culturacarabobo.sicuc.backend.controllers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.culturacarabobo.sicuc.backend.services.JwtKeyRing;
+
+/**
+ * REST controller publishing the public keys that verify this instance's
+ * tokens, as a JWK Set (RFC 7517).
+ * <p>
+ * Other backend instances (see
+ * {@link com.culturacarabobo.sicuc.backend.services.JwkSetCache}) or a
+ * reverse proxy can fetch it to verify access tokens locally. The set is
+ * empty in HMAC (HS256) mode, as shared secrets are never published.
+ */
+@RestController
+@RequestMapping("/.well-known")
+public class JwksController {
+
+    /**
+     * How long clients may cache the set (the default refresh interval of
+     * the {@link com.culturacarabobo.sicuc.backend.services.JwkSetCache}).
+     */
+    private static final long MAX_AGE_SECONDS = 300;
+
+    private final JwtKeyRing keyRing;
+
+    /**
+     * Constructs the controller with the key ring.
+     *
+     * @param keyRing The signing and verification keys.
+     */
+    public JwksController(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    /**
+     * [GET /.well-known/jwks.json] Returns the public verification keys.
+     *
+     * @return A {@link ResponseEntity} with the JWK Set JSON and HTTP 200 (OK),
+     * cacheable for five minutes.
+     */
+    @GetMapping(value = "/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> getJwkSet() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(MAX_AGE_SECONDS, TimeUnit.SECONDS).cachePublic())
+                .body(keyRing.getJwkSetJson());
+    }
+}
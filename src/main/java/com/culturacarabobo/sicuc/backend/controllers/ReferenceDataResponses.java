@@ -0,0 +1,99 @@
+package com.culturacarabobo.sicuc.backend.controllers;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.culturacarabobo.sicuc.backend.services.PrecompressedJson;
+
+/**
+ * Builds the responses of the public reference endpoints
+ * ({@code GET /municipalities}, {@code /parishes}, {@code /art-categories},
+ * {@code /art-disciplines}) from a {@link PrecompressedJson} body.
+ * <p>
+ * Every response carries a strong, content-derived {@code ETag},
+ * {@code Cache-Control: public, max-age} and {@code Vary: Accept-Encoding}.
+ * Clients that accept gzip get the pre-compressed bytes. Conditional requests
+ * ({@code If-None-Match}) are answered with {@code 304 Not Modified} and no
+ * body by Spring MVC, which checks the validators of a returned
+ * {@link ResponseEntity} before writing it.
+ */
+@Component
+public class ReferenceDataResponses {
+
+    private final CacheControl cacheControl;
+
+    /**
+     * Constructs the builder.
+     *
+     * @param maxAge How long browsers and proxies may reuse a response before
+     * revalidating it (from {@code application.reference-data.max-age}).
+     */
+    public ReferenceDataResponses(@Value("${application.reference-data.max-age:24h}") Duration maxAge) {
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    /**
+     * Builds the response for a body, in the best encoding the client accepts.
+     *
+     * @param body           The pre-serialized body.
+     * @param acceptEncoding The request's {@code Accept-Encoding} header, or
+     * {@code null}.
+     * @return A 200 response with validators (turned into a 304 by Spring MVC
+     * if the client's copy is current).
+     */
+    public ResponseEntity<byte[]> toResponse(PrecompressedJson body, String acceptEncoding) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(cacheControl)
+                .eTag(gzip ? body.getGzipETag() : body.getETag())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? body.getGzip() : body.getJson());
+    }
+
+    /**
+     * Checks whether an {@code Accept-Encoding} header accepts gzip (listed,
+     * or as {@code *}, without {@code q=0}).
+     *
+     * @param acceptEncoding The header value, or {@code null}.
+     * @return {@code true} if gzip is acceptable.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                return parts.length < 2 || !isZeroQuality(parts[1]);
+            }
+        }
+        return false;
+    }
+
+    // ----------------------------------------------------------------
+    // PRIVATE HELPER METHODS
+    // ----------------------------------------------------------------
+
+    private static boolean isZeroQuality(String parameter) {
+        String value = parameter.trim();
+        if (!value.startsWith("q=")) {
+            return false;
+        }
+        try {
+            return Double.parseDouble(value.substring(2)) == 0;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.culturacarabobo.sicuc.backend.dtos;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for a keyset (cursor) page of
+ * {@code GET /cultors?mode=cursor}.
+ * <p>
+ * This class is an immutable data carrier. The next page is requested by
+ * sending {@code nextCursor} back as the {@code cursor} parameter.
+ */
+public final class CultorCursorResponse {
+
+    /** The cultors of this page. */
+    private final List<CultorResponse> content;
+
+    /** The requested page size. */
+    private final int size;
+
+    /** The opaque token of the next page, or {@code null} on the last page. */
+    private final String nextCursor;
+
+    /** The total number of matches, or {@code null} if it was not requested. */
+    private final Long totalElements;
+
+    /**
+     * Constructs a new, immutable CultorCursorResponse.
+     *
+     * @param content       The cultors of this page.
+     * @param size          The requested page size.
+     * @param nextCursor    The opaque token of the next page, or {@code null}.
+     * @param totalElements The total number of matches, or {@code null}.
+     */
+    public CultorCursorResponse(List<CultorResponse> content, int size, String nextCursor, Long totalElements) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements;
+    }
+
+    // --- Standard Getters ---
+
+    public List<CultorResponse> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public Long getTotalElements() {
+        return totalElements;
+    }
+}
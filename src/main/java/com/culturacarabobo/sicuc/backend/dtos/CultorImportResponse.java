@@ -0,0 +1,109 @@
+package com.culturacarabobo.sicuc.backend.dtos;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for the report of a bulk import
+ * ({@code POST /cultors/import}).
+ * <p>
+ * This class is an immutable data carrier with one {@link RowResult} per data
+ * row of the uploaded file, in file order.
+ */
+public final class CultorImportResponse {
+
+    /** The number of data rows read. */
+    private final int total;
+
+    /** The number of cultors created. */
+    private final int created;
+
+    /** The number of rows rejected. */
+    private final int failed;
+
+    /** The outcome of every row, in file order. */
+    private final List<RowResult> rows;
+
+    /**
+     * Constructs a new, immutable CultorImportResponse.
+     *
+     * @param rows The outcome of every row, in file order.
+     */
+    public CultorImportResponse(List<RowResult> rows) {
+        this.rows = rows;
+        this.total = rows.size();
+        this.created = (int) rows.stream().filter(row -> row.getId() != null).count();
+        this.failed = total - created;
+    }
+
+    // --- Standard Getters ---
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public List<RowResult> getRows() {
+        return rows;
+    }
+
+    /**
+     * The outcome of one row: the ID of the created cultor, or the reason it
+     * was rejected.
+     */
+    public static final class RowResult {
+
+        /** The 1-based data row number (the CSV header is not counted). */
+        private final int row;
+
+        /** The ID of the created cultor, or {@code null} if rejected. */
+        private final Integer id;
+
+        /** The rejection reason (e.g., "IdNumber Is Invalid"), or {@code null}. */
+        private final String error;
+
+        private RowResult(int row, Integer id, String error) {
+            this.row = row;
+            this.id = id;
+            this.error = error;
+        }
+
+        /**
+         * @param row The 1-based data row number.
+         * @param id  The ID of the created cultor.
+         * @return A successful row result.
+         */
+        public static RowResult created(int row, int id) {
+            return new RowResult(row, id, null);
+        }
+
+        /**
+         * @param row   The 1-based data row number.
+         * @param error The rejection reason.
+         * @return A rejected row result.
+         */
+        public static RowResult failed(int row, String error) {
+            return new RowResult(row, null, error);
+        }
+
+        // --- Standard Getters ---
+
+        public int getRow() {
+            return row;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
+}
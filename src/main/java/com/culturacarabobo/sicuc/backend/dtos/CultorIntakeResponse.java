@@ -0,0 +1,77 @@
+package com.culturacarabobo.sicuc.backend.dtos;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) for the state of a queued registration
+ * ({@code POST /cultors} in intake mode, and
+ * {@code GET /cultors/intake/{trackingId}}).
+ * <p>
+ * This class is an immutable data carrier.
+ */
+public final class CultorIntakeResponse {
+
+    /** The tracking ID. */
+    private final String trackingId;
+
+    /** PENDING, PROCESSING, CREATED or REJECTED. */
+    private final String status;
+
+    /** The ID of the created cultor, once CREATED. */
+    private final Integer cultorId;
+
+    /** The rejection reason (e.g., "Id Number Already Exists"), once REJECTED. */
+    private final String error;
+
+    /** When the registration was submitted. */
+    private final LocalDateTime submittedAt;
+
+    /** When the registration was created or rejected. */
+    private final LocalDateTime processedAt;
+
+    /**
+     * Constructs a new, immutable CultorIntakeResponse.
+     *
+     * @param trackingId  The tracking ID.
+     * @param status      The processing state.
+     * @param cultorId    The ID of the created cultor, or {@code null}.
+     * @param error       The rejection reason, or {@code null}.
+     * @param submittedAt When the registration was submitted.
+     * @param processedAt When it was processed, or {@code null}.
+     */
+    public CultorIntakeResponse(String trackingId, String status, Integer cultorId, String error,
+            LocalDateTime submittedAt, LocalDateTime processedAt) {
+        this.trackingId = trackingId;
+        this.status = status;
+        this.cultorId = cultorId;
+        this.error = error;
+        this.submittedAt = submittedAt;
+        this.processedAt = processedAt;
+    }
+
+    // --- Standard Getters ---
+
+    public String getTrackingId() {
+        return trackingId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Integer getCultorId() {
+        return cultorId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+}
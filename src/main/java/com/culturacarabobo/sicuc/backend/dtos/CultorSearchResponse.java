@@ -0,0 +1,70 @@
+package com.culturacarabobo.sicuc.backend.dtos;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Object (DTO) for the ranked search results of
+ * {@code GET /cultors?mode=search}.
+ * <p>
+ * This class is an immutable data carrier. Besides the requested page, it
+ * carries the number of hits per value of every filterable attribute (e.g.,
+ * {@code facets.gender.F = 12}), computed over all hits.
+ */
+public final class CultorSearchResponse {
+
+    /** The cultors of the requested page, best match first. */
+    private final List<CultorResponse> content;
+
+    /** The zero-based page number. */
+    private final int page;
+
+    /** The requested page size. */
+    private final int size;
+
+    /** The total number of hits. */
+    private final long totalElements;
+
+    /** Hit counts per attribute, then per attribute value. */
+    private final Map<String, Map<String, Integer>> facets;
+
+    /**
+     * Constructs a new, immutable CultorSearchResponse.
+     *
+     * @param content       The cultors of the requested page, best match first.
+     * @param page          The zero-based page number.
+     * @param size          The requested page size.
+     * @param totalElements The total number of hits.
+     * @param facets        Hit counts per attribute, then per attribute value.
+     */
+    public CultorSearchResponse(List<CultorResponse> content, int page, int size, long totalElements,
+            Map<String, Map<String, Integer>> facets) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.facets = facets;
+    }
+
+    // --- Standard Getters ---
+
+    public List<CultorResponse> getContent() {
+        return content;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    public Map<String, Map<String, Integer>> getFacets() {
+        return facets;
+    }
+}
@@ -1,7 +1,10 @@
 package com.culturacarabobo.sicuc.backend.entities;
 
+import com.culturacarabobo.sicuc.backend.services.ReferenceDataChangeListener;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -14,6 +17,7 @@ import jakarta.persistence.Table;
  * lookup table for classifying {@link ArtDiscipline} and {@link Cultor} entities.
  */
 @Entity
+@EntityListeners(ReferenceDataChangeListener.class)
 @Table(name = "art_categories")
 public class ArtCategory {
 
@@ -1,7 +1,10 @@
 package com.culturacarabobo.sicuc.backend.entities;
 
+import com.culturacarabobo.sicuc.backend.services.ReferenceDataChangeListener;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -22,6 +25,7 @@ import jakarta.persistence.UniqueConstraint; // Import for Javadoc
  * but not twice).
  */
 @Entity
+@EntityListeners(ReferenceDataChangeListener.class)
 @Table(name = "art_disciplines", uniqueConstraints = {
         @UniqueConstraint(columnNames = { "name", "art_category_id" })
 })
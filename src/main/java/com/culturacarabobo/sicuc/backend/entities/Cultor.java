@@ -5,6 +5,8 @@ import java.time.LocalDate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.culturacarabobo.sicuc.backend.utils.StringUtils;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -15,6 +17,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.UniqueConstraint;
 
 /**
  * Represents a "Cultor" (cultural artist/artisan) entity.
@@ -25,18 +29,51 @@ import jakarta.persistence.Table;
  * <p>
  * {@link AuditingEntityListener} is used to automatically populate
  * {@code createdAt}.
+ * <p>
+ * The unique constraints are explicitly named ({@code uk_cultors_<column>}) so
+ * a violation raised by the database can be mapped back to the offending field
+ * (see {@link com.culturacarabobo.sicuc.backend.exceptions.UniqueConstraintTranslator}).
  */
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "cultors")
+@Table(name = "cultors", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_cultors_id_number", columnNames = "id_number"),
+        @UniqueConstraint(name = "uk_cultors_phone_number", columnNames = "phone_number"),
+        @UniqueConstraint(name = "uk_cultors_email", columnNames = "email"),
+        @UniqueConstraint(name = "uk_cultors_instagram_user", columnNames = "instagram_user")
+})
 public class Cultor {
 
+    /**
+     * The table holding the next free ID of each generator segment.
+     */
+    public static final String ID_TABLE = "id_sequences";
+
+    /**
+     * The row of {@link #ID_TABLE} owned by cultors.
+     */
+    public static final String ID_SEGMENT = "cultors";
+
+    /**
+     * How many IDs each instance reserves per round trip to {@link #ID_TABLE}.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     /**
      * The unique identifier (primary key) for the cultor.
-     * Auto-incremented by the database.
+     * <p>
+     * Allocated in blocks of {@value #ID_ALLOCATION_SIZE} from the
+     * {@value #ID_TABLE} table (the "pooled-lo" optimizer, see
+     * {@code hibernate.id.optimizer.pooled.preferred}), not by the column's
+     * AUTO_INCREMENT. The ID is known before the INSERT, so inserts can be
+     * batched ({@code hibernate.jdbc.batch_size}); with IDENTITY every insert
+     * is executed on its own to read the generated key back.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "cultor_id")
+    @TableGenerator(name = "cultor_id", table = ID_TABLE, pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = ID_SEGMENT, initialValue = 1,
+            allocationSize = ID_ALLOCATION_SIZE)
     private int id;
 
     /**
@@ -51,6 +88,22 @@ public class Cultor {
     @Column(length = 50, nullable = false)
     private String lastName;
 
+    /**
+     * Search key of {@link #firstName} (lowercased, accent-folded), see
+     * {@link StringUtils#toSearchKey(String)}. Indexed so name prefix searches
+     * are range scans. Maintained on every write.
+     */
+    @Column(length = 50, nullable = false)
+    private String firstNameSearch;
+
+    /**
+     * Search key of {@link #lastName} (lowercased, accent-folded), see
+     * {@link StringUtils#toSearchKey(String)}. Indexed so name prefix searches
+     * are range scans. Maintained on every write.
+     */
+    @Column(length = 50, nullable = false)
+    private String lastNameSearch;
+
     /**
      * The cultor's gender (e.g., "M" or "F"). Required.
      */
@@ -61,7 +114,7 @@ public class Cultor {
      * The cultor's national identification number (e.g., "V-12345678").
      * Required and must be unique.
      */
-    @Column(length = 10, nullable = false, unique = true)
+    @Column(length = 10, nullable = false)
     private String idNumber;
 
     /**
@@ -75,20 +128,20 @@ public class Cultor {
      * The cultor's primary phone number (e.g., "0412-1234567").
      * Required and must be unique.
      */
-    @Column(length = 12, nullable = false, unique = true)
+    @Column(length = 12, nullable = false)
     private String phoneNumber;
 
     /**
      * The cultor's email address. Optional, but must be unique if provided.
      */
-    @Column(length = 150, unique = true)
+    @Column(length = 150)
     private String email;
 
     /**
      * The cultor's Instagram handle (e.g., "@username"). Optional, but must be
      * unique if provided.
      */
-    @Column(length = 30, unique = true)
+    @Column(length = 30)
     private String instagramUser;
 
     /**
@@ -183,6 +236,8 @@ public class Cultor {
             int yearsOfExperience, String groupName, String disability, String illness) {
         this.firstName = firstName;
         this.lastName = lastName;
+        this.firstNameSearch = StringUtils.toSearchKey(firstName);
+        this.lastNameSearch = StringUtils.toSearchKey(lastName);
         this.gender = gender;
         this.idNumber = idNumber;
         this.birthDate = birthDate;
@@ -227,6 +282,22 @@ public class Cultor {
         this.lastName = lastName;
     }
 
+    public String getFirstNameSearch() {
+        return firstNameSearch;
+    }
+
+    public void setFirstNameSearch(String firstNameSearch) {
+        this.firstNameSearch = firstNameSearch;
+    }
+
+    public String getLastNameSearch() {
+        return lastNameSearch;
+    }
+
+    public void setLastNameSearch(String lastNameSearch) {
+        this.lastNameSearch = lastNameSearch;
+    }
+
     public String getGender() {
         return gender;
     }
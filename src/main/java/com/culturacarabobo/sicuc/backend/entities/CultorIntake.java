@@ -0,0 +1,179 @@
+package com.culturacarabobo.sicuc.backend.entities;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * A registration accepted by {@code POST /cultors} in intake mode and queued
+ * for asynchronous processing (an outbox row).
+ * <p>
+ * Maps to the {@code cultor_intakes} table. The row stores the submitted
+ * {@link com.culturacarabobo.sicuc.backend.dtos.CultorRequest} as JSON and
+ * moves through {@link Status#PENDING} → {@link Status#PROCESSING} →
+ * {@link Status#CREATED} or {@link Status#REJECTED}. Its ID is a random UUID
+ * handed to the registrant as the tracking ID.
+ * <p>
+ * Rows are inserted once and then only changed through the bulk updates of
+ * {@link com.culturacarabobo.sicuc.backend.repositories.CultorIntakeRepository},
+ * so this entity always reports itself as new (see {@link Persistable}) to
+ * avoid a SELECT on save.
+ */
+@Entity
+@Table(name = "cultor_intakes", indexes = {
+        @Index(name = "idx_cultor_intakes_status", columnList = "status, created_at"),
+        @Index(name = "idx_cultor_intakes_claim", columnList = "claim_token")
+})
+public class CultorIntake implements Persistable<String> {
+
+    /**
+     * The processing state of an intake.
+     */
+    public enum Status {
+        /** Waiting for a worker. */
+        PENDING,
+        /** Claimed by a worker. */
+        PROCESSING,
+        /** The cultor was created. */
+        CREATED,
+        /** The registration failed validation (see {@code error}). */
+        REJECTED
+    }
+
+    /**
+     * The tracking ID (a random UUID).
+     */
+    @Id
+    @Column(length = 36, nullable = false)
+    private String id;
+
+    /**
+     * The submitted request, as JSON.
+     */
+    @Column(length = 2000, nullable = false)
+    private String payload;
+
+    /**
+     * The processing state.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private Status status;
+
+    /**
+     * How many times a worker has claimed this intake.
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * The batch that claimed this intake, while it is being processed.
+     */
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    /**
+     * When the current claim was taken.
+     */
+    private LocalDateTime claimedAt;
+
+    /**
+     * The ID of the created cultor, once {@link Status#CREATED}.
+     */
+    private Integer cultorId;
+
+    /**
+     * The rejection reason, once {@link Status#REJECTED}.
+     */
+    @Column(length = 255)
+    private String error;
+
+    /**
+     * When the registration was submitted.
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * When the registration was created or rejected.
+     */
+    private LocalDateTime processedAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public CultorIntake() {
+    }
+
+    /**
+     * Creates a pending intake.
+     *
+     * @param id        The tracking ID.
+     * @param payload   The submitted request, as JSON.
+     * @param createdAt When it was submitted.
+     */
+    public CultorIntake(String id, String payload, LocalDateTime createdAt) {
+        this.id = id;
+        this.payload = payload;
+        this.status = Status.PENDING;
+        this.createdAt = createdAt;
+    }
+
+    // --- Persistable ---
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    // --- Standard Getters ---
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getClaimToken() {
+        return claimToken;
+    }
+
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    public Integer getCultorId() {
+        return cultorId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+}
@@ -0,0 +1,135 @@
+package com.culturacarabobo.sicuc.backend.entities;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * One posting of the trigram index over the digits of a cultor's
+ * {@code idNumber} and {@code phoneNumber}.
+ * <p>
+ * Maps to the {@code cultor_search_grams} table. Each cultor owns one row per
+ * distinct trigram of its digits (e.g., "V-1234" -> 123, 234), so a substring
+ * search of three or more digits is resolved by intersecting the postings of
+ * its trigrams instead of scanning {@code cultors} with {@code LIKE '%x%'}.
+ * <p>
+ * Rows are only ever inserted or bulk-deleted, never updated, so this entity
+ * always reports itself as new (see {@link Persistable}) to avoid a SELECT per
+ * row on save.
+ * <p>
+ * {@code V6__Create_Cultor_Search_Grams} creates the primary key as
+ * ({@code gram}, {@code cultor_id}) plus an index on {@code cultor_id}.
+ * Hibernate orders composite key columns alphabetically, so a generated schema
+ * (tests) gets ({@code cultor_id}, {@code gram}) instead; the gram-first index
+ * declared here keeps the lookup path identical.
+ */
+@Entity
+@IdClass(CultorSearchGram.Key.class)
+@Table(name = "cultor_search_grams", indexes = {
+        @Index(name = "idx_cultor_search_grams_gram", columnList = "gram, cultor_id")
+})
+public class CultorSearchGram implements Persistable<CultorSearchGram.Key> {
+
+    /**
+     * A three-digit substring of the cultor's id number or phone number.
+     */
+    @Id
+    @Column(length = 3, nullable = false)
+    private String gram;
+
+    /**
+     * The ID of the owning {@link Cultor}.
+     */
+    @Id
+    @Column(name = "cultor_id", nullable = false)
+    private int cultorId;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public CultorSearchGram() {
+    }
+
+    /**
+     * Creates a new posting.
+     *
+     * @param gram     The trigram.
+     * @param cultorId The ID of the owning cultor.
+     */
+    public CultorSearchGram(String gram, int cultorId) {
+        this.gram = gram;
+        this.cultorId = cultorId;
+    }
+
+    // --- Persistable ---
+
+    @Override
+    public Key getId() {
+        return new Key(gram, cultorId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    // --- Standard Getters ---
+
+    public String getGram() {
+        return gram;
+    }
+
+    public int getCultorId() {
+        return cultorId;
+    }
+
+    /**
+     * Composite primary key ({@code gram}, {@code cultor_id}).
+     */
+    public static class Key implements Serializable {
+
+        private String gram;
+        private int cultorId;
+
+        /**
+         * Default constructor required by JPA.
+         */
+        public Key() {
+        }
+
+        /**
+         * Creates a key.
+         *
+         * @param gram     The trigram.
+         * @param cultorId The ID of the owning cultor.
+         */
+        public Key(String gram, int cultorId) {
+            this.gram = gram;
+            this.cultorId = cultorId;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key key)) {
+                return false;
+            }
+            return cultorId == key.cultorId && Objects.equals(gram, key.gram);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(gram, cultorId);
+        }
+    }
+}
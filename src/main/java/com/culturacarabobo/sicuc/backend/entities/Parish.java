@@ -1,7 +1,10 @@
 package com.culturacarabobo.sicuc.backend.entities;
 
+import com.culturacarabobo.sicuc.backend.services.ReferenceDataChangeListener;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -21,6 +24,7 @@ import jakarta.persistence.UniqueConstraint; // Import for Javadoc
  * *within* its specific municipality.
  */
 @Entity
+@EntityListeners(ReferenceDataChangeListener.class)
 @Table(name = "parishes", uniqueConstraints = {
         @UniqueConstraint(columnNames = { "name", "municipality_id" })
 })
@@ -0,0 +1,103 @@
+package com.culturacarabobo.sicuc.backend.entities;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * A revoked JWT (logged out before it expired), identified by its "jti"
+ * claim.
+ * <p>
+ * Maps to the {@code revoked_tokens} table, which persists the in-memory
+ * {@link com.culturacarabobo.sicuc.backend.services.TokenDenylist} across
+ * restarts and shares it between instances. Rows are only useful until the
+ * token expires, and are then deleted. Times are stored in UTC.
+ * <p>
+ * Rows are inserted once and never updated, so this entity always reports
+ * itself as new (see {@link Persistable}) to avoid a SELECT on save.
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at"),
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+})
+public class RevokedToken implements Persistable<String> {
+
+    /**
+     * The token's ID ("jti" claim).
+     */
+    @Id
+    @Column(length = 36, nullable = false)
+    private String id;
+
+    /**
+     * The token's subject, for auditing.
+     */
+    @Column(nullable = false)
+    private String username;
+
+    /**
+     * When the token expires (UTC); the row can be deleted afterwards.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * When the token was revoked (UTC).
+     */
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public RevokedToken() {
+    }
+
+    /**
+     * Creates a revocation.
+     *
+     * @param id        The token's ID.
+     * @param username  The token's subject.
+     * @param expiresAt When the token expires (UTC).
+     * @param revokedAt When it was revoked (UTC).
+     */
+    public RevokedToken(String id, String username, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+        this.id = id;
+        this.username = username;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+
+    // --- Persistable ---
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    // --- Standard Getters ---
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public LocalDateTime getRevokedAt() {
+        return revokedAt;
+    }
+}
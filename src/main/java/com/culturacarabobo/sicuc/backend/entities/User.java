@@ -5,8 +5,10 @@ import java.util.List;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import com.culturacarabobo.sicuc.backend.services.UserChangeListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -24,6 +26,7 @@ import jakarta.persistence.Table;
  */
 @Entity
 @Table(name = "users")
+@EntityListeners(UserChangeListener.class)
 public class User implements UserDetails {
 
     /**
@@ -56,6 +59,14 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private Role role;
 
+    /**
+     * The version of the user's tokens. Every JWT carries the version current
+     * when it was issued, and is rejected once the version moves on, so
+     * incrementing it revokes all of the user's outstanding tokens.
+     */
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+
     // --- UserDetails Implementation ---
 
     /**
@@ -175,4 +186,12 @@ public class User implements UserDetails {
     public void setRole(Role role) {
         this.role = role;
     }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(int tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
 }
\ No newline at end of file
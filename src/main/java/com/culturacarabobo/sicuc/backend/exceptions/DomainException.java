@@ -0,0 +1,46 @@
+package com.culturacarabobo.sicuc.backend.exceptions;
+
+/**
+ * Base class of the expected failures of the domain: validation errors,
+ * missing entities, duplicates and rejected tokens.
+ * <p>
+ * These are routine outcomes of client input (and of bots probing the public
+ * endpoints), not bugs, so they are built without a stack trace (which is
+ * most of the cost of throwing) and without suppressed exceptions. Their
+ * message and {@link ErrorCode} say all there is to know. The instances with
+ * a fixed message can therefore be preallocated as constants and rethrown:
+ * they carry no per-throw state.
+ * <p>
+ * All of them are answered by
+ * {@link GlobalExceptionHandler#handleDomainException(DomainException, jakarta.servlet.http.HttpServletRequest)}
+ * with the status of their code, without logging.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    /**
+     * Default serial version UID for serialization.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The machine-readable code, which also selects the HTTP status.
+     */
+    private final ErrorCode code;
+
+    /**
+     * Constructs a stackless exception.
+     *
+     * @param code    The error code.
+     * @param message The client-facing detail message.
+     */
+    protected DomainException(ErrorCode code, String message) {
+        super(message, null, false, false);
+        this.code = code;
+    }
+
+    // --- Standard Getters ---
+
+    public ErrorCode getCode() {
+        return code;
+    }
+}
@@ -1,30 +1,38 @@
 package com.culturacarabobo.sicuc.backend.exceptions;
 
 /**
- * A custom, unchecked exception thrown when an operation violates a unique
- * constraint.
+ * A stackless {@link DomainException} thrown when an operation violates a
+ * unique constraint.
  * <p>
  * This is typically used in the service layer to signal a duplicate entity
  * (e.g., existing email or ID number) that should result in an HTTP 409
- * (Conflict) response.
- *
- * @see GlobalExceptionHandler#handleDuplicate(DuplicateEntityException,
- * jakarta.servlet.http.HttpServletRequest)
+ * (Conflict) response ({@link ErrorCode#DUPLICATE_ENTITY}).
  */
-public class DuplicateEntityException extends RuntimeException {
+public class DuplicateEntityException extends DomainException {
 
     /**
      * Default serial version UID for serialization.
      */
     private static final long serialVersionUID = 1L;
 
+    // The duplicates of the unique cultor fields, shared by the service-layer
+    // pre-check and the UniqueConstraintTranslator (preallocated, see DomainException)
+    public static final DuplicateEntityException ID_NUMBER_EXISTS = new DuplicateEntityException(
+            "Id Number Already Exists");
+    public static final DuplicateEntityException PHONE_NUMBER_EXISTS = new DuplicateEntityException(
+            "Phone Number Already Exists");
+    public static final DuplicateEntityException EMAIL_EXISTS = new DuplicateEntityException(
+            "Email Already Exists");
+    public static final DuplicateEntityException INSTAGRAM_USER_EXISTS = new DuplicateEntityException(
+            "Instagram Username Already Exists");
+
     /**
      * Constructs a new DuplicateEntityException with the specified detail message.
      *
      * @param message The detail message (e.g., "Email Already Exists").
      */
     public DuplicateEntityException(String message) {
-        super(message);
+        super(ErrorCode.DUPLICATE_ENTITY, message);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.culturacarabobo.sicuc.backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * The machine-readable codes of the expected (domain) failures, each with the
+ * HTTP status it is answered with.
+ * <p>
+ * The code is sent in the {@code "code"} field of the {@link ErrorResponse},
+ * so clients can branch on it instead of on the (human-readable) message.
+ *
+ * @see DomainException
+ */
+public enum ErrorCode {
+
+    /**
+     * A field value is malformed or breaks a business rule (e.g., "FirstName
+     * Is Invalid").
+     */
+    INVALID_FIELD(HttpStatus.BAD_REQUEST),
+
+    /**
+     * A field that cannot change after creation was changed on update (e.g.,
+     * the IdNumber).
+     */
+    IMMUTABLE_FIELD(HttpStatus.BAD_REQUEST),
+
+    /**
+     * Two references do not fit together (e.g., a parish of another
+     * municipality).
+     */
+    REFERENCE_MISMATCH(HttpStatus.BAD_REQUEST),
+
+    /**
+     * A query parameter is malformed or unsupported (e.g., an unknown sort or
+     * export format, a tampered cursor, a page size out of range).
+     */
+    INVALID_PARAMETER(HttpStatus.BAD_REQUEST),
+
+    /**
+     * A referenced catalog entry (municipality, parish, art category or art
+     * discipline) does not exist.
+     */
+    REFERENCE_NOT_FOUND(HttpStatus.NOT_FOUND),
+
+    /**
+     * The requested cultor does not exist.
+     */
+    CULTOR_NOT_FOUND(HttpStatus.NOT_FOUND),
+
+    /**
+     * The tracking ID of a queued registration is unknown.
+     */
+    INTAKE_NOT_FOUND(HttpStatus.NOT_FOUND),
+
+    /**
+     * A unique value (IdNumber, phone number, email, Instagram user) is
+     * already in use.
+     */
+    DUPLICATE_ENTITY(HttpStatus.CONFLICT),
+
+    /**
+     * A refresh token is malformed, expired, revoked, or not a refresh token.
+     */
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED),
+
+    /**
+     * The client is throttled (e.g., too many login attempts), or a bounded
+     * resource (e.g., the login verification pool) is saturated.
+     */
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS);
+
+    private final HttpStatus status;
+
+    ErrorCode(HttpStatus status) {
+        this.status = status;
+    }
+
+    // --- Standard Getters ---
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
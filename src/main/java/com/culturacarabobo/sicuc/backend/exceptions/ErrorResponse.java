@@ -2,6 +2,8 @@ package com.culturacarabobo.sicuc.backend.exceptions;
 
 import java.time.Instant;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * Represents a standardized, immutable error response body sent by the API.
  * <p>
@@ -31,7 +33,14 @@ public final class ErrorResponse {
     private final String path;
 
     /**
-     * Constructs a new, immutable ErrorResponse.
+     * The machine-readable {@link ErrorCode} of a domain failure (e.g.,
+     * "DUPLICATE_ENTITY"); omitted for other errors.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String code;
+
+    /**
+     * Constructs a new, immutable ErrorResponse without an error code.
      *
      * @param timestamp The time the error occurred.
      * @param status    The HTTP status code.
@@ -39,10 +48,24 @@ public final class ErrorResponse {
      * @param path      The API endpoint path where the error occurred.
      */
     public ErrorResponse(Instant timestamp, int status, String error, String path) {
+        this(timestamp, status, error, path, null);
+    }
+
+    /**
+     * Constructs a new, immutable ErrorResponse.
+     *
+     * @param timestamp The time the error occurred.
+     * @param status    The HTTP status code.
+     * @param error     A descriptive error message.
+     * @param path      The API endpoint path where the error occurred.
+     * @param code      The error code, or {@code null}.
+     */
+    public ErrorResponse(Instant timestamp, int status, String error, String path, ErrorCode code) {
         this.timestamp = timestamp;
         this.status = status;
         this.error = error;
         this.path = path;
+        this.code = code == null ? null : code.name();
     }
 
     // --- Standard Getters ---
@@ -63,4 +86,8 @@ public final class ErrorResponse {
     public String getPath() {
         return path;
     }
+
+    public String getCode() {
+        return code;
+    }
 }
\ No newline at end of file
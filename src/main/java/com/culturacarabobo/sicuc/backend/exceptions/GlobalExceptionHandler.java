@@ -5,6 +5,8 @@ import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -50,19 +52,68 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * Handles the custom {@link DuplicateEntityException}.
-     * This is thrown on a unique constraint violation (e.g., duplicate idNumber).
-     * Returns an HTTP 409 (Conflict) response.
+     * Handles every {@link DomainException}: the expected, stackless failures of
+     * the domain (validation errors, missing cultors or references, duplicates,
+     * rejected refresh tokens).
+     * <p>
+     * The status comes from the exception's {@link ErrorCode}, which is also
+     * sent as the response's {@code "code"}. Nothing is logged: these are
+     * routine rejections of client input.
      *
      * @param ex      The exception thrown.
      * @param request The original HTTP request.
-     * @return A ResponseEntity with a 409 status and {@link ErrorResponse} body.
+     * @return A ResponseEntity with the code's status and {@link ErrorResponse}
+     * body.
      */
-    @ExceptionHandler(DuplicateEntityException.class)
-    public ResponseEntity<ErrorResponse> handleDuplicate(DuplicateEntityException ex, HttpServletRequest request) {
-        ErrorResponse response = new ErrorResponse(Instant.now(), HttpStatus.CONFLICT.value(), ex.getMessage(),
-                request.getRequestURI());
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ErrorResponse> handleDomainException(DomainException ex, HttpServletRequest request) {
+        HttpStatus status = ex.getCode().getStatus();
+        ErrorResponse response = new ErrorResponse(Instant.now(), status.value(), ex.getMessage(),
+                request.getRequestURI(), ex.getCode());
+        return ResponseEntity.status(status).body(response);
+    }
+
+    /**
+     * Handles the custom {@link TooManyRequestsException}.
+     * This is thrown when login attempts are throttled, or when the login
+     * verification pool is saturated.
+     * Returns the same response as
+     * {@link #handleDomainException(DomainException, HttpServletRequest)} (HTTP
+     * 429, Too Many Requests) with a "Retry-After" header.
+     *
+     * @param ex      The exception thrown.
+     * @param request The original HTTP request.
+     * @return A ResponseEntity with a 429 status and {@link ErrorResponse} body.
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(TooManyRequestsException ex,
+            HttpServletRequest request) {
+        ResponseEntity<ErrorResponse> response = handleDomainException(ex, request);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
+    /**
+     * Handles {@link DataIntegrityViolationException} raised by the database.
+     * <p>
+     * In optimistic-insert mode the service skips its uniqueness pre-check, so a
+     * duplicate reaches the database and fails on a named unique constraint.
+     * The constraint is mapped back to the same message the pre-check would have
+     * produced (e.g., "Email Already Exists") and returned as HTTP 409 (Conflict).
+     * Any other integrity violation is treated as an unexpected error.
+     *
+     * @param ex      The exception thrown.
+     * @param request The original HTTP request.
+     * @return A ResponseEntity with a 409 status, or 500 if the violation is not
+     * a known unique constraint.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(DataIntegrityViolationException ex,
+            HttpServletRequest request) {
+        return UniqueConstraintTranslator.translate(ex)
+                .map(duplicate -> handleDomainException(duplicate, request))
+                .orElseGet(() -> handleGeneralError(ex, request));
     }
 
     /**
@@ -0,0 +1,25 @@
+package com.culturacarabobo.sicuc.backend.exceptions;
+
+/**
+ * A stackless {@link DomainException} thrown when a refresh token is
+ * malformed, expired, revoked, or not a refresh token.
+ * <p>
+ * Results in an HTTP 401 (Unauthorized) response.
+ */
+public class InvalidTokenException extends DomainException {
+
+    /**
+     * Default serial version UID for serialization.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new InvalidTokenException
+     * ({@link ErrorCode#INVALID_REFRESH_TOKEN}).
+     *
+     * @param message The detail message.
+     */
+    public InvalidTokenException(String message) {
+        super(ErrorCode.INVALID_REFRESH_TOKEN, message);
+    }
+}
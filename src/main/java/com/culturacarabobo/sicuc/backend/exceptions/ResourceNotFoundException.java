@@ -0,0 +1,27 @@
+package com.culturacarabobo.sicuc.backend.exceptions;
+
+/**
+ * A stackless {@link DomainException} thrown when a requested or referenced
+ * entity does not exist (e.g., "Cultor Not Found With Id: 99", "Parish Not
+ * Found").
+ * <p>
+ * Results in an HTTP 404 (Not Found) response.
+ */
+public class ResourceNotFoundException extends DomainException {
+
+    /**
+     * Default serial version UID for serialization.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new ResourceNotFoundException.
+     *
+     * @param code    The error code ({@link ErrorCode#CULTOR_NOT_FOUND} or
+     * {@link ErrorCode#REFERENCE_NOT_FOUND}).
+     * @param message The detail message.
+     */
+    public ResourceNotFoundException(ErrorCode code, String message) {
+        super(code, message);
+    }
+}
@@ -0,0 +1,44 @@
+package com.culturacarabobo.sicuc.backend.exceptions;
+
+/**
+ * A stackless {@link DomainException} thrown when a client is throttled, or
+ * when a bounded resource (e.g., the login verification pool) is saturated
+ * ({@link ErrorCode#TOO_MANY_REQUESTS}).
+ * <p>
+ * Results in an HTTP 429 (Too Many Requests) response with a
+ * {@code Retry-After} header.
+ *
+ * @see GlobalExceptionHandler#handleTooManyRequests(TooManyRequestsException,
+ * jakarta.servlet.http.HttpServletRequest)
+ */
+public class TooManyRequestsException extends DomainException {
+
+    /**
+     * Default serial version UID for serialization.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * How long the client should wait before retrying, in seconds.
+     */
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs a new TooManyRequestsException.
+     *
+     * @param message           The detail message (e.g., "Too Many Login
+     * Attempts").
+     * @param retryAfterSeconds How long the client should wait before
+     * retrying, in seconds.
+     */
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_REQUESTS, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    // --- Standard Getters ---
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
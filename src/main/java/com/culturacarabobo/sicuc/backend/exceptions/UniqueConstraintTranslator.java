@@ -0,0 +1,133 @@
+package com.culturacarabobo.sicuc.backend.exceptions;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Final utility class that translates unique-constraint violations on the
+ * {@code cultors} table into the same {@link DuplicateEntityException}
+ * messages produced by the service-layer pre-checks.
+ * <p>
+ * The violated constraint is identified by its name, as reported by Hibernate
+ * or, for plain JDBC writes (e.g., the batch inserts of the bulk import, which
+ * Spring reports as a {@link org.springframework.dao.DuplicateKeyException}),
+ * as named in the driver's duplicate-key message. Every unique constraint on
+ * {@code cultors} is named {@code uk_cultors_<column>} (see
+ * {@code V3__Name_Cultor_Unique_Constraints}), so matching on the column name
+ * also covers the legacy MySQL default names (the bare column) and H2's
+ * reported index descriptions.
+ * <p>
+ * This class cannot be instantiated.
+ */
+public final class UniqueConstraintTranslator {
+
+    /**
+     * Column name fragments, in the same priority order as the service-layer
+     * checks.
+     */
+    private static final String[] COLUMNS = { "id_number", "phone_number", "email", "instagram_user" };
+
+    /**
+     * The preallocated (stackless) exception of each column in
+     * {@link #COLUMNS}, the same instances the service-layer check throws.
+     */
+    private static final DuplicateEntityException[] DUPLICATES = {
+            DuplicateEntityException.ID_NUMBER_EXISTS,
+            DuplicateEntityException.PHONE_NUMBER_EXISTS,
+            DuplicateEntityException.EMAIL_EXISTS,
+            DuplicateEntityException.INSTAGRAM_USER_EXISTS
+    };
+
+    /**
+     * MySQL's error code for a duplicate key ({@code ER_DUP_ENTRY}).
+     */
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+
+    /**
+     * The standard SQLState of a unique violation, also used by H2.
+     */
+    private static final String UNIQUE_VIOLATION_STATE = "23505";
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private UniqueConstraintTranslator() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Translates a {@link DataIntegrityViolationException} into a
+     * {@link DuplicateEntityException} if it was caused by one of the known
+     * unique constraints.
+     *
+     * @param ex The exception raised by the insert/update.
+     * @return The matching (shared) {@link DuplicateEntityException}, or
+     * {@link Optional#empty()} if the violation is not a known unique constraint
+     * (e.g., a foreign key or NOT NULL violation).
+     */
+    public static Optional<DuplicateEntityException> translate(DataIntegrityViolationException ex) {
+        String constraintName = findConstraintName(ex);
+        if (constraintName == null) {
+            return Optional.empty();
+        }
+
+        String normalized = constraintName.toLowerCase(Locale.ROOT);
+        for (int column = 0; column < COLUMNS.length; column++) {
+            if (normalized.contains(COLUMNS[column])) {
+                return Optional.of(DUPLICATES[column]);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Walks the cause chain looking for Hibernate's
+     * {@link ConstraintViolationException} and returns its constraint name, or,
+     * failing that, for a duplicate-key {@link SQLException} (including a
+     * {@link java.sql.BatchUpdateException}) and returns the part of its
+     * message that names the key.
+     */
+    private static String findConstraintName(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE) {
+                return violation.getConstraintName();
+            }
+            if (cause instanceof SQLException sqlException && isDuplicateKey(sqlException)) {
+                return keyDescription(sqlException.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private static boolean isDuplicateKey(SQLException ex) {
+        return ex.getErrorCode() == MYSQL_DUPLICATE_ENTRY || UNIQUE_VIOLATION_STATE.equals(ex.getSQLState());
+    }
+
+    /**
+     * Cuts the duplicated value out of a driver message, so a value that
+     * happens to contain a column name cannot select the wrong constraint.
+     * <ul>
+     * <li>MySQL: {@code Duplicate entry 'V-1' for key 'cultors.uk_cultors_id_number'}
+     * (the key follows the value).</li>
+     * <li>H2: {@code Unique index or primary key violation: "PUBLIC.UK_CULTORS_ID_NUMBER_INDEX_5
+     * ON PUBLIC.CULTORS(ID_NUMBER NULLS FIRST) VALUES ( 'V-1' )"} (the key
+     * precedes the value).</li>
+     * </ul>
+     */
+    private static String keyDescription(String message) {
+        if (message == null) {
+            return null;
+        }
+        int forKey = message.indexOf(" for key ");
+        if (forKey >= 0) {
+            return message.substring(forKey);
+        }
+        int values = message.indexOf(" VALUES ");
+        return values >= 0 ? message.substring(0, values) : message;
+    }
+}
@@ -0,0 +1,27 @@
+package com.culturacarabobo.sicuc.backend.exceptions;
+
+/**
+ * A stackless {@link DomainException} thrown when a request breaks a
+ * field-level or business rule (e.g., "FirstName Is Invalid", "The Birth Date
+ * Cannot Be Modified").
+ * <p>
+ * Results in an HTTP 400 (Bad Request) response.
+ */
+public class ValidationException extends DomainException {
+
+    /**
+     * Default serial version UID for serialization.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new ValidationException.
+     *
+     * @param code    The error code ({@link ErrorCode#INVALID_FIELD},
+     * {@link ErrorCode#IMMUTABLE_FIELD} or {@link ErrorCode#REFERENCE_MISMATCH}).
+     * @param message The detail message.
+     */
+    public ValidationException(ErrorCode code, String message) {
+        super(code, message);
+    }
+}
@@ -0,0 +1,151 @@
+package com.culturacarabobo.sicuc.backend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.culturacarabobo.sicuc.backend.entities.CultorIntake;
+
+/**
+ * Spring Data JPA repository for the {@link CultorIntake} entity (the queue of
+ * registrations accepted in intake mode).
+ * <p>
+ * Workers claim batches with a conditional update ({@link #claim}), so two
+ * workers never process the same intake, without relying on
+ * {@code SELECT ... FOR UPDATE SKIP LOCKED}. State changes are single
+ * statements and must run inside a transaction. Those of a claimed intake
+ * ({@link #markCreated}, {@link #markRejected}, {@link #release}) only apply
+ * while the batch still holds the claim: once {@link #releaseStale} hands it
+ * to another batch, the first batch's late updates match no row.
+ * <p>
+ * It is used by the
+ * {@link com.culturacarabobo.sicuc.backend.services.CultorIntakeService}.
+ */
+public interface CultorIntakeRepository extends JpaRepository<CultorIntake, String> {
+
+    /**
+     * Returns the IDs of the oldest pending intakes.
+     *
+     * @param pageable The batch size (first page only).
+     * @return Up to {@code pageable.getPageSize()} IDs, oldest first.
+     */
+    @Query("""
+            SELECT i.id FROM CultorIntake i
+            WHERE i.status = com.culturacarabobo.sicuc.backend.entities.CultorIntake.Status.PENDING
+            ORDER BY i.createdAt
+            """)
+    List<String> findPendingIds(Pageable pageable);
+
+    /**
+     * Claims the given intakes for one batch, skipping any that another worker
+     * claimed first. The persistence context is cleared, so
+     * {@link #findByClaimTokenOrderByCreatedAt} returns the claimed state.
+     *
+     * @param ids        The candidate IDs (from {@link #findPendingIds}).
+     * @param claimToken The batch's unique token.
+     * @param now        The claim time.
+     * @return The number of intakes claimed.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE CultorIntake i
+            SET i.status = com.culturacarabobo.sicuc.backend.entities.CultorIntake.Status.PROCESSING,
+                i.claimToken = :claimToken, i.claimedAt = :now, i.attempts = i.attempts + 1
+            WHERE i.id IN :ids
+              AND i.status = com.culturacarabobo.sicuc.backend.entities.CultorIntake.Status.PENDING
+            """)
+    int claim(@Param("ids") Collection<String> ids, @Param("claimToken") String claimToken,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Returns the intakes claimed by one batch, oldest first.
+     *
+     * @param claimToken The batch's token.
+     * @return The claimed intakes.
+     */
+    List<CultorIntake> findByClaimTokenOrderByCreatedAt(String claimToken);
+
+    /**
+     * Marks a claimed intake as created, if the batch still holds its claim.
+     *
+     * @param id         The tracking ID.
+     * @param claimToken The token of the batch that claimed it.
+     * @param cultorId   The ID of the created cultor.
+     * @param now        The processing time.
+     * @return The number of rows updated ({@code 0} if the claim was lost).
+     */
+    @Modifying
+    @Query("""
+            UPDATE CultorIntake i
+            SET i.status = com.culturacarabobo.sicuc.backend.entities.CultorIntake.Status.CREATED,
+                i.cultorId = :cultorId, i.claimToken = NULL, i.processedAt = :now
+            WHERE i.id = :id AND i.claimToken = :claimToken
+              AND i.status = com.culturacarabobo.sicuc.backend.entities.CultorIntake.Status.PROCESSING
+            """)
+    int markCreated(@Param("id") String id, @Param("claimToken") String claimToken, @Param("cultorId") int cultorId,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Marks a claimed intake as rejected, if the batch still holds its claim.
+     *
+     * @param id         The tracking ID.
+     * @param claimToken The token of the batch that claimed it.
+     * @param error      The rejection reason.
+     * @param now        The processing time.
+     * @return The number of rows updated ({@code 0} if the claim was lost).
+     */
+    @Modifying
+    @Query("""
+            UPDATE CultorIntake i
+            SET i.status = com.culturacarabobo.sicuc.backend.entities.CultorIntake.Status.REJECTED,
+                i.error = :error, i.claimToken = NULL, i.processedAt = :now
+            WHERE i.id = :id AND i.claimToken = :claimToken
+              AND i.status = com.culturacarabobo.sicuc.backend.entities.CultorIntake.Status.PROCESSING
+            """)
+    int markRejected(@Param("id") String id, @Param("claimToken") String claimToken, @Param("error") String error,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Returns a claimed intake to the queue (e.g., after an unexpected error),
+     * if the batch still holds its claim.
+     *
+     * @param id         The tracking ID.
+     * @param claimToken The token of the batch that claimed it.
+     * @return The number of rows updated ({@code 0} if the claim was lost).
+     */
+    @Modifying
+    @Query("""
+            UPDATE CultorIntake i
+            SET i.status = com.culturacarabobo.sicuc.backend.entities.CultorIntake.Status.PENDING,
+                i.claimToken = NULL
+            WHERE i.id = :id AND i.claimToken = :claimToken
+              AND i.status = com.culturacarabobo.sicuc.backend.entities.CultorIntake.Status.PROCESSING
+            """)
+    int release(@Param("id") String id, @Param("claimToken") String claimToken);
+
+    /**
+     * Returns to the queue every intake whose claim is older than the cutoff
+     * (its worker stopped before finishing it).
+     * <p>
+     * A created intake is never released: its status change commits together
+     * with the cultor.
+     *
+     * @param cutoff Claims taken before this time are released.
+     * @return The number of intakes released.
+     */
+    @Modifying
+    @Query("""
+            UPDATE CultorIntake i
+            SET i.status = com.culturacarabobo.sicuc.backend.entities.CultorIntake.Status.PENDING,
+                i.claimToken = NULL
+            WHERE i.status = com.culturacarabobo.sicuc.backend.entities.CultorIntake.Status.PROCESSING
+              AND i.claimedAt < :cutoff
+            """)
+    int releaseStale(@Param("cutoff") LocalDateTime cutoff);
+}
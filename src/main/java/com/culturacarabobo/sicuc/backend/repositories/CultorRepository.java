@@ -1,10 +1,19 @@
 package com.culturacarabobo.sicuc.backend.repositories;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.culturacarabobo.sicuc.backend.entities.Cultor;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Spring Data JPA repository for the {@link Cultor} entity.
  * <p>
@@ -12,82 +21,229 @@ import com.culturacarabobo.sicuc.backend.entities.Cultor;
  * by extending {@link JpaRepository}.
  * <p>
  * It also extends {@link JpaSpecificationExecutor} to allow for dynamic,
- * criteria-based queries (e.g., filtering) using {@link com.culturacarabobo.sicuc.backend.specifications.CultorSpecification}.
+ * criteria-based queries (e.g., filtering) using {@link com.culturacarabobo.sicuc.backend.specifications.CultorSpecification},
+ * and {@link CultorRepositoryCustom} for reading filtered pages straight into DTOs.
  */
-public interface CultorRepository extends JpaRepository<Cultor, Integer>, JpaSpecificationExecutor<Cultor> {
+public interface CultorRepository
+        extends JpaRepository<Cultor, Integer>, JpaSpecificationExecutor<Cultor>, CultorRepositoryCustom {
 
     /**
-     * Checks if a {@link Cultor} exists with the given ID number.
+     * Probes all four unique columns ({@code id_number}, {@code phone_number},
+     * {@code email}, {@code instagram_user}) in a single round trip.
+     * <p>
+     * The {@code OR} over four unique indexes is resolved by the database with
+     * an index merge, and the aggregate tells which of the fields collide.
+     * Rows with the given {@code excludeId} are ignored, so the same query
+     * serves 'create' (pass {@code 0}, IDs start at 1) and 'update' (pass the
+     * cultor's own ID). {@code null} email/instagram values never match.
      *
-     * @param idNumber The ID number to check.
-     * @return {@code true} if a cultor with this ID number exists, {@code false}
-     * otherwise.
+     * @param idNumber      The ID number to check.
+     * @param phoneNumber   The phone number to check.
+     * @param email         The normalized email to check (may be null).
+     * @param instagramUser The normalized Instagram username to check (may be null).
+     * @param excludeId     The ID of the cultor to exclude from the check.
+     * @return A {@link UniqueFieldCollisions} row (never {@code null}).
      */
-    boolean existsByIdNumber(String idNumber);
+    @Query(nativeQuery = true, value = """
+            SELECT MAX(CASE WHEN c.id_number = :idNumber THEN 1 ELSE 0 END) AS idNumber,
+                   MAX(CASE WHEN c.phone_number = :phoneNumber THEN 1 ELSE 0 END) AS phoneNumber,
+                   MAX(CASE WHEN c.email = :email THEN 1 ELSE 0 END) AS email,
+                   MAX(CASE WHEN c.instagram_user = :instagramUser THEN 1 ELSE 0 END) AS instagramUser
+            FROM cultors c
+            WHERE (c.id_number = :idNumber OR c.phone_number = :phoneNumber
+                   OR c.email = :email OR c.instagram_user = :instagramUser)
+              AND c.id <> :excludeId
+            """)
+    UniqueFieldCollisions findUniqueFieldCollisions(@Param("idNumber") String idNumber,
+            @Param("phoneNumber") String phoneNumber,
+            @Param("email") String email,
+            @Param("instagramUser") String instagramUser,
+            @Param("excludeId") int excludeId);
 
     /**
-     * Checks if a {@link Cultor} exists with the given phone number.
+     * Set-based version of {@link #findUniqueFieldCollisions}, used by bulk
+     * imports: returns the unique field values of every cultor that already
+     * uses any of the given values, in one round trip per batch.
+     * <p>
+     * Every collection must be non-empty (pass a value that never matches,
+     * such as {@code ""}, when a batch has none).
      *
-     * @param phoneNumber The phone number to check.
-     * @return {@code true} if a cultor with this phone number exists, {@code false}
-     * otherwise.
+     * @param idNumbers      The ID numbers to check.
+     * @param phoneNumbers   The phone numbers to check.
+     * @param emails         The normalized emails to check.
+     * @param instagramUsers The normalized Instagram usernames to check.
+     * @return One {@link UniqueFieldValues} row per colliding cultor.
      */
-    boolean existsByPhoneNumber(String phoneNumber);
+    @Query("""
+            SELECT c.idNumber AS idNumber, c.phoneNumber AS phoneNumber,
+                   c.email AS email, c.instagramUser AS instagramUser
+            FROM Cultor c
+            WHERE c.idNumber IN :idNumbers OR c.phoneNumber IN :phoneNumbers
+               OR c.email IN :emails OR c.instagramUser IN :instagramUsers
+            """)
+    List<UniqueFieldValues> findUniqueFieldValues(@Param("idNumbers") Collection<String> idNumbers,
+            @Param("phoneNumbers") Collection<String> phoneNumbers,
+            @Param("emails") Collection<String> emails,
+            @Param("instagramUsers") Collection<String> instagramUsers);
 
     /**
-     * Checks if a {@link Cultor} exists with the given email address.
+     * Resolves the full location and art hierarchy referenced by a cultor in a
+     * single round trip.
+     * <p>
+     * Each column is an independent scalar subquery, so a missing row yields
+     * {@code null} for that column only, and the caller can still tell exactly
+     * which reference is invalid. Used by
+     * {@link com.culturacarabobo.sicuc.backend.services.CultorReferenceValidator}
+     * when the in-memory reference snapshot cannot answer.
      *
-     * @param email The email address to check.
-     * @return {@code true} if a cultor with this email exists, {@code false}
-     * otherwise.
+     * @param municipalityId  The municipality ID to resolve.
+     * @param parishId        The parish ID to resolve.
+     * @param artCategoryId   The art category ID to resolve.
+     * @param artDisciplineId The art discipline ID to resolve.
+     * @return A {@link ReferenceHierarchy} row (never {@code null}).
      */
-    boolean existsByEmail(String email);
+    @Query(nativeQuery = true, value = """
+            SELECT (SELECT m.id FROM municipalities m WHERE m.id = :municipalityId) AS municipalityId,
+                   (SELECT p.municipality_id FROM parishes p WHERE p.id = :parishId) AS parishMunicipalityId,
+                   (SELECT c.id FROM art_categories c WHERE c.id = :artCategoryId) AS artCategoryId,
+                   (SELECT d.art_category_id FROM art_disciplines d WHERE d.id = :artDisciplineId) AS artDisciplineCategoryId,
+                   (SELECT d.name FROM art_disciplines d WHERE d.id = :artDisciplineId) AS artDisciplineName
+            """)
+    ReferenceHierarchy findReferenceHierarchy(@Param("municipalityId") int municipalityId,
+            @Param("parishId") int parishId,
+            @Param("artCategoryId") int artCategoryId,
+            @Param("artDisciplineId") int artDisciplineId);
 
     /**
-     * Checks if a {@link Cultor} exists with the given Instagram username.
+     * Streams the searchable columns of every cultor, for building
+     * {@link com.culturacarabobo.sicuc.backend.services.CultorSearchIndex}.
+     * <p>
+     * Rows are fetched in batches (with MySQL Connector/J this requires
+     * {@code useCursorFetch=true} on the JDBC URL), so the table is never held
+     * in memory as entities. Must be called inside a transaction, and the
+     * stream must be closed.
      *
-     * @param instagramUser The Instagram username to check.
-     * @return {@code true} if a cultor with this username exists, {@code false}
-     * otherwise.
+     * @return A stream of {@link SearchSource} rows.
      */
-    boolean existsByInstagramUser(String instagramUser);
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(nativeQuery = true, value = """
+            SELECT c.id AS id, c.first_name AS firstName, c.last_name AS lastName,
+                   c.id_number AS idNumber, c.phone_number AS phoneNumber,
+                   c.group_name AS groupName, c.other_discipline AS otherDiscipline,
+                   c.gender AS gender, c.municipality_id AS municipalityId, c.parish_id AS parishId,
+                   c.art_category_id AS artCategoryId, c.art_discipline_id AS artDisciplineId,
+                   c.disability AS disability, c.illness AS illness
+            FROM cultors c
+            """)
+    Stream<SearchSource> streamSearchSources();
 
     /**
-     * Checks if a {@link Cultor} exists with the given phone number,
-     * *excluding* a specific cultor ID.
+     * Interface-based projection for {@link #streamSearchSources}.
+     */
+    interface SearchSource {
+
+        /** @return The cultor ID. */
+        int getId();
+
+        /** @return The first name. */
+        String getFirstName();
+
+        /** @return The last name. */
+        String getLastName();
+
+        /** @return The ID number. */
+        String getIdNumber();
+
+        /** @return The phone number. */
+        String getPhoneNumber();
+
+        /** @return The group name, if any. */
+        String getGroupName();
+
+        /** @return The custom discipline, if any. */
+        String getOtherDiscipline();
+
+        /** @return The gender ("M" or "F"). */
+        String getGender();
+
+        /** @return The municipality ID. */
+        int getMunicipalityId();
+
+        /** @return The parish ID. */
+        int getParishId();
+
+        /** @return The art category ID. */
+        int getArtCategoryId();
+
+        /** @return The art discipline ID. */
+        int getArtDisciplineId();
+
+        /** @return The disability description, if any. */
+        String getDisability();
+
+        /** @return The illness description, if any. */
+        String getIllness();
+    }
+
+    /**
+     * Interface-based projection for {@link #findReferenceHierarchy}.
      * <p>
-     * This is used in the 'update' logic to see if a new phone number conflicts
-     * with *another* user.
-     *
-     * @param phoneNumber The phone number to check.
-     * @param id          The ID of the cultor to exclude from the check.
-     * @return {@code true} if a *different* cultor uses this phone number,
-     * {@code false} otherwise.
+     * Every getter returns {@code null} when the corresponding row does not exist.
      */
-    boolean existsByPhoneNumberAndIdNot(String phoneNumber, Integer id);
+    interface ReferenceHierarchy {
+
+        /** @return The municipality ID, if it exists. */
+        Integer getMunicipalityId();
+
+        /** @return The municipality the parish belongs to, if the parish exists. */
+        Integer getParishMunicipalityId();
+
+        /** @return The art category ID, if it exists. */
+        Integer getArtCategoryId();
+
+        /** @return The category the discipline belongs to, if the discipline exists. */
+        Integer getArtDisciplineCategoryId();
+
+        /** @return The discipline name, if the discipline exists. */
+        String getArtDisciplineName();
+    }
 
     /**
-     * Checks if a {@link Cultor} exists with the given email,
-     * *excluding* a specific cultor ID.
-     *
-     * @param email The email to check.
-     * @param id    The ID of the cultor to exclude from the check.
-     * @return {@code true} if a *different* cultor uses this email, {@code false}
-     * otherwise.
+     * Interface-based projection for {@link #findUniqueFieldValues}.
      */
-    boolean existsByEmailAndIdNot(String email, Integer id);
+    interface UniqueFieldValues {
+
+        /** @return The ID number. */
+        String getIdNumber();
+
+        /** @return The phone number. */
+        String getPhoneNumber();
+
+        /** @return The email, if any. */
+        String getEmail();
+
+        /** @return The Instagram username, if any. */
+        String getInstagramUser();
+    }
 
     /**
-     * Checks if a {@link Cultor} exists with the given Instagram username,
-     * *excluding* a specific cultor ID.
-     *
-     * @param instagramUser The Instagram username to check.
-     * @param id            The ID of the cultor to exclude from the check.
-     * @return {@code true} if a *different* cultor uses this username,
-     * {@code false} otherwise.
+     * Interface-based projection for {@link #findUniqueFieldCollisions}.
+     * <p>
+     * Each getter returns {@code 1} if another cultor already uses that value,
+     * and {@code 0} or {@code null} (no candidate rows at all) otherwise.
      */
-    boolean existsByInstagramUserAndIdNot(String instagramUser, Integer id);
+    interface UniqueFieldCollisions {
+
+        /** @return Collision flag for the ID number. */
+        Integer getIdNumber();
+
+        /** @return Collision flag for the phone number. */
+        Integer getPhoneNumber();
+
+        /** @return Collision flag for the email. */
+        Integer getEmail();
 
-    // Note: existsByIdNumberAndIdNot is not included as IdNumber is immutable
-    // and this check is handled in the service layer.
-}
\ No newline at end of file
+        /** @return Collision flag for the Instagram username. */
+        Integer getInstagramUser();
+    }
+}
@@ -0,0 +1,71 @@
+package com.culturacarabobo.sicuc.backend.repositories;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.culturacarabobo.sicuc.backend.dtos.CultorResponse;
+import com.culturacarabobo.sicuc.backend.entities.Cultor;
+
+/**
+ * Custom query fragment of {@link CultorRepository}, implemented by
+ * {@link CultorRepositoryCustomImpl}.
+ */
+public interface CultorRepositoryCustom {
+
+    /**
+     * Reads a page of cultors matching a specification directly into
+     * {@link CultorResponse} DTOs.
+     * <p>
+     * The query selects the response columns (and the foreign key columns
+     * for the related IDs) with a constructor expression, so no
+     * {@link Cultor} entity is instantiated, managed, or snapshotted for
+     * dirty checking, and no association is ever touched.
+     *
+     * @param specification The filters (e.g., from
+     * {@link com.culturacarabobo.sicuc.backend.specifications.CultorSpecification}).
+     * @param sort          The order of the rows (entity attribute names).
+     * @param offset        The number of rows to skip.
+     * @param limit         The maximum number of rows to return.
+     * @return The DTOs, in order.
+     */
+    List<CultorResponse> findResponses(Specification<Cultor> specification, Sort sort, long offset, int limit);
+
+    /**
+     * Reads a keyset (seek) page of cultors matching a specification, with the
+     * same projection as {@link #findResponses}.
+     * <p>
+     * Instead of skipping rows, the page starts right after the given sort key
+     * values: for {@code lastNameSearch, id} ascending the query adds
+     * {@code last_name_search > ? OR (last_name_search = ? AND id > ?)}, which
+     * an index on the sort columns serves as a range scan.
+     *
+     * @param specification The filters.
+     * @param sort          The order of the rows; it must end with a unique
+     * attribute (the ID) so positions are unique.
+     * @param after         The sort key values of the last row of the previous
+     * page, by attribute, or empty for the first page.
+     * @param limit         The maximum number of rows to return.
+     * @return The DTOs, in order.
+     */
+    List<CultorResponse> findResponsesAfter(Specification<Cultor> specification, Sort sort, Map<String, ?> after,
+            int limit);
+
+    /**
+     * Streams every cultor matching a specification as {@link CultorResponse}
+     * DTOs, with the same projection as {@link #findResponses}.
+     * <p>
+     * Rows are fetched from a forward-only cursor {@code fetchSize} at a time,
+     * so memory stays flat regardless of the number of matches. Must be
+     * called inside a transaction, and the stream must be closed.
+     *
+     * @param specification The filters.
+     * @param sort          The order of the rows.
+     * @param fetchSize     The number of rows fetched per round trip.
+     * @return The DTOs, in order.
+     */
+    Stream<CultorResponse> streamResponses(Specification<Cultor> specification, Sort sort, int fetchSize);
+}
@@ -0,0 +1,151 @@
+package com.culturacarabobo.sicuc.backend.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.culturacarabobo.sicuc.backend.dtos.CultorResponse;
+import com.culturacarabobo.sicuc.backend.entities.Cultor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Criteria API implementation of {@link CultorRepositoryCustom}.
+ * <p>
+ * Picked up by Spring Data through the {@code Impl} naming convention.
+ */
+public class CultorRepositoryCustomImpl implements CultorRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The related IDs are read as {@code root.get("municipality").get("id")},
+     * which Hibernate resolves to the {@code municipality_id} column of
+     * {@code cultors} without a join. The arguments follow the order of the
+     * {@link CultorResponse} constructor.
+     */
+    @Override
+    public List<CultorResponse> findResponses(Specification<Cultor> specification, Sort sort, long offset,
+            int limit) {
+        return createQuery(specification, sort, Map.of())
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<CultorResponse> findResponsesAfter(Specification<Cultor> specification, Sort sort,
+            Map<String, ?> after, int limit) {
+        return createQuery(specification, sort, after)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Backed by a forward-only Hibernate scroll. On MySQL, Connector/J only
+     * honours the fetch size with {@code useCursorFetch=true} on the JDBC URL;
+     * without it the driver buffers the whole result.
+     */
+    @Override
+    public Stream<CultorResponse> streamResponses(Specification<Cultor> specification, Sort sort, int fetchSize) {
+        return createQuery(specification, sort, Map.of())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    /**
+     * Builds the read-only DTO query shared by all read paths, starting after
+     * the given sort key values if any.
+     */
+    @SuppressWarnings("null")
+    private TypedQuery<CultorResponse> createQuery(Specification<Cultor> specification, Sort sort,
+            Map<String, ?> after) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CultorResponse> criteriaQuery = cb.createQuery(CultorResponse.class);
+        Root<Cultor> root = criteriaQuery.from(Cultor.class);
+
+        criteriaQuery.select(cb.construct(CultorResponse.class,
+                root.get("id"),
+                root.get("firstName"),
+                root.get("lastName"),
+                root.get("gender"),
+                root.get("idNumber"),
+                root.get("birthDate"),
+                root.get("phoneNumber"),
+                root.get("email"),
+                root.get("instagramUser"),
+                root.get("municipality").get("id"),
+                root.get("parish").get("id"),
+                root.get("homeAddress"),
+                root.get("artCategory").get("id"),
+                root.get("artDiscipline").get("id"),
+                root.get("otherDiscipline"),
+                root.get("yearsOfExperience"),
+                root.get("groupName"),
+                root.get("disability"),
+                root.get("illness"),
+                root.get("createdAt")));
+
+        List<Predicate> predicates = new ArrayList<>(2);
+        Predicate predicate = specification.toPredicate(root, criteriaQuery, cb);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+        if (!after.isEmpty()) {
+            predicates.add(seek(cb, root, sort, after));
+        }
+        criteriaQuery.where(predicates.toArray(Predicate[]::new));
+        if (sort.isSorted()) {
+            criteriaQuery.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(criteriaQuery)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+    }
+
+    /**
+     * Builds the keyset condition "after these sort key values":
+     * {@code k1 > v1 OR (k1 = v1 AND k2 > v2) OR ...}, with {@code <} for
+     * descending keys.
+     */
+    private static Predicate seek(CriteriaBuilder cb, Root<Cultor> root, Sort sort, Map<String, ?> after) {
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalPrefix = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Object value = after.get(order.getProperty());
+            List<Predicate> alternative = new ArrayList<>(equalPrefix);
+            alternative.add(beyond(cb, root, order, value));
+            alternatives.add(cb.and(alternative.toArray(Predicate[]::new)));
+            equalPrefix.add(cb.equal(root.get(order.getProperty()), value));
+        }
+        return cb.or(alternatives.toArray(Predicate[]::new));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Y extends Comparable<? super Y>> Predicate beyond(CriteriaBuilder cb, Root<Cultor> root,
+            Sort.Order order, Object value) {
+        Expression<Y> attribute = root.get(order.getProperty());
+        return order.isAscending() ? cb.greaterThan(attribute, (Y) value) : cb.lessThan(attribute, (Y) value);
+    }
+}
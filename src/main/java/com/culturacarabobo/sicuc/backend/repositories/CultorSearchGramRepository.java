@@ -0,0 +1,28 @@
+package com.culturacarabobo.sicuc.backend.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.culturacarabobo.sicuc.backend.entities.CultorSearchGram;
+
+/**
+ * Spring Data JPA repository for the {@link CultorSearchGram} entity (the
+ * trigram index over cultor id and phone numbers).
+ * <p>
+ * It is used by the
+ * {@link com.culturacarabobo.sicuc.backend.services.CultorSearchGramService}.
+ */
+public interface CultorSearchGramRepository extends JpaRepository<CultorSearchGram, CultorSearchGram.Key> {
+
+    /**
+     * Deletes every posting of a cultor with a single statement.
+     *
+     * @param cultorId The ID of the cultor.
+     * @return The number of deleted rows.
+     */
+    @Modifying
+    @Query("DELETE FROM CultorSearchGram g WHERE g.cultorId = :cultorId")
+    int deleteByCultorId(@Param("cultorId") int cultorId);
+}
@@ -0,0 +1,48 @@
+package com.culturacarabobo.sicuc.backend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.culturacarabobo.sicuc.backend.entities.RevokedToken;
+
+/**
+ * Spring Data JPA repository for the {@link RevokedToken} entity (the
+ * persisted JWT denylist).
+ * <p>
+ * It is used by the
+ * {@link com.culturacarabobo.sicuc.backend.services.TokenDenylist}, which
+ * loads the rows into memory at startup and then polls for rows added by other
+ * instances.
+ */
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * Returns the revocations recorded since a given time whose tokens have
+     * not expired yet.
+     *
+     * @param revokedAfter Only rows revoked after this time (UTC).
+     * @param now          The current time (UTC).
+     * @return The matching revocations.
+     */
+    @Query("""
+            SELECT r FROM RevokedToken r
+            WHERE r.revokedAt > :revokedAfter AND r.expiresAt > :now
+            """)
+    List<RevokedToken> findActiveRevokedAfter(@Param("revokedAfter") LocalDateTime revokedAfter,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Deletes the revocations of tokens that have expired.
+     *
+     * @param now The current time (UTC).
+     * @return The number of rows deleted.
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
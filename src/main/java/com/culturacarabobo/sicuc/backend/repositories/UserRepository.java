@@ -1,6 +1,10 @@
 package com.culturacarabobo.sicuc.backend.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.culturacarabobo.sicuc.backend.entities.Role;
 import com.culturacarabobo.sicuc.backend.entities.User;
 import org.springframework.security.core.userdetails.UserDetails; // Import for Javadoc
 
@@ -25,4 +29,38 @@ public interface UserRepository extends JpaRepository<User, Integer> {
      */
     public User findByUsername(String username);
 
-}
\ No newline at end of file
+    /**
+     * Returns only the authorization state of a user (role and token
+     * version), without loading the entity.
+     * <p>
+     * Used by the {@link com.culturacarabobo.sicuc.backend.services.UserStateCache}
+     * to check stateless tokens against the current user.
+     *
+     * @param username The username to search for.
+     * @return The user's state, or {@code null} if not found.
+     */
+    @Query("SELECT u.role AS role, u.tokenVersion AS tokenVersion FROM User u WHERE u.username = :username")
+    UserState findStateByUsername(@Param("username") String username);
+
+    /**
+     * Increments a user's token version, revoking every token issued so far.
+     *
+     * @param username The user's username.
+     * @return The number of rows updated ({@code 0} if the user does not exist).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.username = :username")
+    int incrementTokenVersion(@Param("username") String username);
+
+    /**
+     * Interface-based projection for {@link #findStateByUsername}.
+     */
+    interface UserState {
+
+        /** @return The user's role. */
+        Role getRole();
+
+        /** @return The user's current token version. */
+        int getTokenVersion();
+    }
+}
@@ -1,57 +1,51 @@
 package com.culturacarabobo.sicuc.backend.services;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.culturacarabobo.sicuc.backend.dtos.ArtCategoryResponse;
 import com.culturacarabobo.sicuc.backend.entities.ArtCategory;
-import com.culturacarabobo.sicuc.backend.repositories.ArtCategoryRepository;
 
 /**
  * Service layer for managing {@link ArtCategory} entities.
  * <p>
  * This service handles retrieving art categories, primarily for populating
- * form dropdowns.
+ * form dropdowns. Data is served from the in-memory
+ * {@link ReferenceDataSnapshot} instead of querying the database.
  */
 @Service
 public class ArtCategoryService {
 
-    private final ArtCategoryRepository artCategoryRepository;
+    private final ReferenceDataService referenceDataService;
 
     /**
-     * Constructs the service with the required repository.
+     * Constructs the service with the reference data holder.
      *
-     * @param artCategoryRepository Repository for {@link ArtCategory} data access.
+     * @param referenceDataService Service owning the reference data snapshot.
      */
-    public ArtCategoryService(ArtCategoryRepository artCategoryRepository) {
-        this.artCategoryRepository = artCategoryRepository;
+    public ArtCategoryService(ReferenceDataService referenceDataService) {
+        this.referenceDataService = referenceDataService;
     }
 
     /**
      * Retrieves all art categories, sorted by their ID in ascending order.
      *
-     * @return A {@link List} of {@link ArtCategoryResponse} DTOs.
+     * @return An unmodifiable {@link List} of {@link ArtCategoryResponse} DTOs.
      */
-    @SuppressWarnings("null")
     public List<ArtCategoryResponse> getAll() {
-        // Find all categories, sort by ID to ensure consistent ordering
-        return artCategoryRepository.findAll(Sort.by("id")).stream()
-                .map(this::toArtCategoryResponse) // Convert each entity to a DTO
-                .collect(Collectors.toList());
+        return referenceDataService.getSnapshot().getArtCategories();
     }
 
     /**
-     * Private helper method to convert an {@link ArtCategory} entity to its DTO
-     * representation.
+     * Retrieves all art categories as a pre-serialized JSON array, with its gzip
+     * form and HTTP validators.
+     * <p>
+     * The returned body is shared across requests and must not be modified.
      *
-     * @param artCategory The {@link ArtCategory} entity to convert.
-     * @return The corresponding {@link ArtCategoryResponse} DTO.
+     * @return The body for {@code GET /art-categories}.
      */
-    private ArtCategoryResponse toArtCategoryResponse(ArtCategory artCategory) {
-        return new ArtCategoryResponse(artCategory.getId(), artCategory.getName());
+    public PrecompressedJson getAllBody() {
+        return referenceDataService.getSnapshot().getArtCategoriesBody();
     }
-
-}
\ No newline at end of file
+}
@@ -1,61 +1,51 @@
 package com.culturacarabobo.sicuc.backend.services;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.culturacarabobo.sicuc.backend.dtos.ArtDisciplineResponse;
 import com.culturacarabobo.sicuc.backend.entities.ArtDiscipline;
-import com.culturacarabobo.sicuc.backend.repositories.ArtDisciplineRepository;
 
 /**
  * Service layer for managing {@link ArtDiscipline} entities.
  * <p>
  * This service handles retrieving art disciplines, primarily for populating
- * form dropdowns.
+ * form dropdowns. Data is served from the in-memory
+ * {@link ReferenceDataSnapshot} instead of querying the database.
  */
 @Service
 public class ArtDisciplineService {
 
-    private final ArtDisciplineRepository artDisciplineRepository;
+    private final ReferenceDataService referenceDataService;
 
     /**
-     * Constructs the service with the required repository.
+     * Constructs the service with the reference data holder.
      *
-     * @param artDisciplineRepository Repository for {@link ArtDiscipline} data
-     * access.
+     * @param referenceDataService Service owning the reference data snapshot.
      */
-    public ArtDisciplineService(ArtDisciplineRepository artDisciplineRepository) {
-        this.artDisciplineRepository = artDisciplineRepository;
+    public ArtDisciplineService(ReferenceDataService referenceDataService) {
+        this.referenceDataService = referenceDataService;
     }
 
     /**
      * Retrieves all art disciplines, sorted by their ID in ascending order.
      *
-     * @return A {@link List} of {@link ArtDisciplineResponse} DTOs.
+     * @return An unmodifiable {@link List} of {@link ArtDisciplineResponse} DTOs.
      */
-    @SuppressWarnings("null")
     public List<ArtDisciplineResponse> getAll() {
-        // Find all disciplines, sort by ID to ensure consistent ordering
-        return artDisciplineRepository.findAll(Sort.by("id")).stream()
-                .map(this::toArtDisciplineResponse) // Convert each entity to a DTO
-                .collect(Collectors.toList());
+        return referenceDataService.getSnapshot().getArtDisciplines();
     }
 
     /**
-     * Private helper method to convert an {@link ArtDiscipline} entity to its DTO
-     * representation.
+     * Retrieves all art disciplines as a pre-serialized JSON array, with its gzip
+     * form and HTTP validators.
+     * <p>
+     * The returned body is shared across requests and must not be modified.
      *
-     * @param artDiscipline The {@link ArtDiscipline} entity to convert.
-     * @return The corresponding {@link ArtDisciplineResponse} DTO.
+     * @return The body for {@code GET /art-disciplines}.
      */
-    private ArtDisciplineResponse toArtDisciplineResponse(ArtDiscipline artDiscipline) {
-        return new ArtDisciplineResponse(
-                artDiscipline.getId(),
-                artDiscipline.getName(),
-                artDiscipline.getArtCategory().getId()
-        );
+    public PrecompressedJson getAllBody() {
+        return referenceDataService.getSnapshot().getArtDisciplinesBody();
     }
-}
\ No newline at end of file
+}
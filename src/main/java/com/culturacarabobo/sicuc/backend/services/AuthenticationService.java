@@ -7,6 +7,9 @@ import org.springframework.stereotype.Service;
 import com.culturacarabobo.sicuc.backend.dtos.AuthRequest;
 import com.culturacarabobo.sicuc.backend.dtos.AuthResponse;
 import com.culturacarabobo.sicuc.backend.dtos.RefreshTokenRequest;
+import com.culturacarabobo.sicuc.backend.exceptions.InvalidTokenException;
+
+import io.jsonwebtoken.JwtException;
 
 /**
  * Service responsible for handling user authentication logic.
@@ -17,9 +20,17 @@ import com.culturacarabobo.sicuc.backend.dtos.RefreshTokenRequest;
 @Service
 public class AuthenticationService {
 
+    /**
+     * The (stackless, preallocated) rejection of every unusable refresh token.
+     */
+    private static final InvalidTokenException INVALID_REFRESH_TOKEN = new InvalidTokenException(
+            "Invalid or expired Refresh Token");
+
     private final AuthenticationManager authenticationManager;
     private final UserService userService;
     private final JwtService jwtService;
+    private final TokenDenylist tokenDenylist;
+    private final LoginGuard loginGuard;
 
     /**
      * Constructs the service with required dependencies.
@@ -30,31 +41,46 @@ public class AuthenticationService {
      * {@link UserDetails}.
      * @param jwtService            The service responsible for generating and
      * validating JWTs.
+     * @param tokenDenylist         The list of revoked (logged out) tokens.
+     * @param loginGuard            Throttles login attempts and runs their
+     * password verification on a bounded pool.
      */
-    public AuthenticationService(AuthenticationManager authenticationManager, UserService userService, JwtService jwtService) {
+    public AuthenticationService(AuthenticationManager authenticationManager, UserService userService,
+            JwtService jwtService, TokenDenylist tokenDenylist, LoginGuard loginGuard) {
         this.authenticationManager = authenticationManager;
         this.userService = userService;
         this.jwtService = jwtService;
+        this.tokenDenylist = tokenDenylist;
+        this.loginGuard = loginGuard;
     }
 
     /**
      * Authenticates a user based on credentials provided in {@link AuthRequest}.
      * <p>
+     * The attempt is first counted against the client address and the username
+     * by the {@link LoginGuard}, and the credentials are then verified (BCrypt)
+     * on its bounded pool. A hash stored with a lower cost than configured is
+     * re-hashed on success (see {@link UserService#updatePassword}).
      * If authentication is successful, it generates a new pair of access and
      * refresh tokens.
      *
-     * @param request The login request DTO containing username and password.
+     * @param request       The login request DTO containing username and
+     * password.
+     * @param clientAddress The client's address, for throttling.
      * @return An {@link AuthResponse} containing the new access and refresh tokens.
      * @throws org.springframework.security.core.AuthenticationException If
      * credentials are invalid (e.g., BadCredentialsException).
+     * @throws com.culturacarabobo.sicuc.backend.exceptions.TooManyRequestsException
+     * If the attempt is throttled, or the verification pool is saturated.
      */
     @SuppressWarnings("null")
-    public AuthResponse login(AuthRequest request) {
-        // 1. Authenticate the user.
+    public AuthResponse login(AuthRequest request, String clientAddress) {
+        // 1. Throttle, then authenticate the user on the verification pool.
         // This will throw an AuthenticationException if credentials are bad.
-        authenticationManager.authenticate(
+        loginGuard.checkRate(clientAddress, request.getUsername());
+        loginGuard.verify(() -> authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
-        );
+        ));
 
         // 2. If authentication is successful, fetch user details
         UserDetails userDetails = userService.loadUserByUsername(request.getUsername());
@@ -70,38 +96,82 @@ public class AuthenticationService {
      * Refreshes an access token using a valid refresh token.
      * <p>
      * This method validates the refresh token, extracts the user, and issues a
-     * *new* access token if the refresh token is valid and is of type "refresh".
+     * *new* access token if the refresh token is valid, is of type "refresh",
+     * and has not been revoked.
      *
      * @param request The request DTO containing the refresh token.
      * @return An {@link AuthResponse} with a new access token and the
      * *original* refresh token.
-     * @throws RuntimeException If the refresh token is invalid, expired, or not of
-     * type "refresh".
+     * @throws InvalidTokenException If the refresh token is malformed, invalid,
+     * expired, revoked, or not of type "refresh".
      */
     public AuthResponse refreshToken(RefreshTokenRequest request) {
         String refreshToken = request.getRefreshToken();
-        @SuppressWarnings("null")
-        String username = jwtService.extractUsername(refreshToken);
-
-        if (username != null) {
-            UserDetails userDetails = this.userService.loadUserByUsername(username);
-            
-            @SuppressWarnings("null")
-            boolean isTokenValid = jwtService.isTokenValid(refreshToken, userDetails);
-
-            if (isTokenValid) {
-                // Ensure the token provided is actually a refresh token
-                @SuppressWarnings("null")
-                String tokenType = jwtService.extractClaim(refreshToken, claims -> claims.get("type", String.class));
-                
-                if ("refresh".equals(tokenType)) {
-                    String newAccessToken = jwtService.generateToken(userDetails);
-                    return new AuthResponse(newAccessToken, refreshToken);
-                }
+        ParsedToken token = parseRefreshToken(refreshToken);
+
+        if (token.getSubject() != null && !tokenDenylist.isRevoked(token)) {
+            UserDetails userDetails = this.userService.loadUserByUsername(token.getSubject());
+
+            // Ensure the token provided is valid and is actually a refresh token
+            if (token.isValidFor(userDetails) && token.isRefreshToken()) {
+                String newAccessToken = jwtService.generateToken(userDetails);
+                return new AuthResponse(newAccessToken, refreshToken);
             }
         }
         
-        // If any check fails, throw an exception
-        throw new RuntimeException("Invalid or expired Refresh Token");
+        // If any check fails, reject the token
+        throw INVALID_REFRESH_TOKEN;
+    }
+
+    /**
+     * Logs out one session: revokes the access token and, if given, the
+     * refresh token issued with it, until they expire.
+     *
+     * @param accessToken  The (already authenticated) access token.
+     * @param refreshToken The session's refresh token, or {@code null}.
+     * @throws InvalidTokenException If the refresh token is invalid, expired, not
+     * of type "refresh", or belongs to another user.
+     */
+    public void logout(String accessToken, String refreshToken) {
+        @SuppressWarnings("null")
+        ParsedToken access = jwtService.parse(accessToken);
+
+        if (refreshToken != null) {
+            ParsedToken refresh = parseRefreshToken(refreshToken);
+            if (!refresh.isRefreshToken() || refresh.getSubject() == null
+                    || !refresh.getSubject().equals(access.getSubject())) {
+                throw INVALID_REFRESH_TOKEN;
+            }
+            tokenDenylist.revoke(refresh);
+        }
+        tokenDenylist.revoke(access);
+    }
+
+    /**
+     * Logs a user out everywhere: every token issued to them so far is
+     * rejected (see {@link UserService#revokeTokens}).
+     *
+     * @param username The authenticated user's username.
+     */
+    public void logoutAll(String username) {
+        userService.revokeTokens(username);
+    }
+
+    // ----------------------------------------------------------------
+    // PRIVATE HELPER METHODS
+    // ----------------------------------------------------------------
+
+    /**
+     * Parses a client-supplied refresh token, turning a malformed, tampered
+     * or expired token into the same 401 as any other unusable one (rather
+     * than an unexpected 500).
+     */
+    @SuppressWarnings("null")
+    private ParsedToken parseRefreshToken(String refreshToken) {
+        try {
+            return jwtService.parse(refreshToken);
+        } catch (JwtException | IllegalArgumentException ex) {
+            throw INVALID_REFRESH_TOKEN;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,172 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.culturacarabobo.sicuc.backend.utils.StringUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Caffeine-backed cache of the total number of cultors matching a filter
+ * combination.
+ * <p>
+ * Entries are keyed by a normalized filter signature (see
+ * {@link #signature}), so equivalent requests (e.g., "José" and " jose ")
+ * share an entry. Every cultor write clears the cache once its transaction
+ * commits; the TTL only bounds staleness after writes that bypass
+ * {@link CultorService} (e.g., manual SQL).
+ * <p>
+ * A count that may predate an invalidation is never stored: each
+ * invalidation bumps a generation number, and a computed count is only
+ * cached if the generation is unchanged since the caller read it with
+ * {@link #generation()}. Callers must read it before their transaction's
+ * first query: under REPEATABLE READ the whole transaction reads the
+ * snapshot fixed by that query, so a write committed after it (and the
+ * invalidation it triggers) is invisible to a later COUNT. The check and the
+ * store are atomic with respect to {@link #invalidate()}. Counts taken inside
+ * a read-write transaction are never cached either, since they may include
+ * that transaction's own uncommitted writes.
+ * <p>
+ * Statistics are published to Micrometer as the {@code cache.*} meters
+ * tagged {@code cache=cultor-counts}.
+ */
+@Service
+public class CultorCountCache {
+
+    private final Cache<String, Long> counts;
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Constructs the cache and registers its metrics.
+     *
+     * @param maxEntries    The maximum number of cached signatures (from
+     * {@code application.cultors.count-cache.max-entries}); the least recently
+     * used are evicted beyond it.
+     * @param ttl           How long a count stays valid (from
+     * {@code application.cultors.count-cache.ttl}).
+     * @param meterRegistry The registry the cache statistics are published to.
+     */
+    public CultorCountCache(@Value("${application.cultors.count-cache.max-entries:1000}") int maxEntries,
+            @Value("${application.cultors.count-cache.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxEntries, 0))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "cultor-counts");
+    }
+
+    /**
+     * Builds the normalized signature of a filter combination.
+     *
+     * @return A string that is equal for equivalent filters.
+     */
+    public static String signature(String query, String gender, Integer municipalityId, Integer parishId,
+            Integer artCategoryId, Integer artDisciplineId, Boolean hasDisability, Boolean hasIllness) {
+        String normalizedQuery = query == null || query.isBlank() ? "" : StringUtils.toSearchKey(query);
+        String normalizedGender = gender == null || gender.isBlank() ? "" : gender.trim().toUpperCase();
+        return String.join("|", normalizedQuery, normalizedGender, String.valueOf(municipalityId),
+                String.valueOf(parishId), String.valueOf(artCategoryId), String.valueOf(artDisciplineId),
+                String.valueOf(hasDisability), String.valueOf(hasIllness));
+    }
+
+    /**
+     * Returns the cached count of a signature, if present and fresh.
+     *
+     * @param signature The filter signature.
+     * @return The count, or {@code null}.
+     */
+    public Long getIfPresent(String signature) {
+        return counts.getIfPresent(signature);
+    }
+
+    /**
+     * Returns the current generation, to be passed to
+     * {@link #get(String, long, LongSupplier)}. Read it before the first query
+     * of the transaction that will count.
+     *
+     * @return The number of invalidations so far.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Returns the cached count of a signature, computing and caching it if
+     * absent (see the class notes for when a count is not cached).
+     *
+     * @param signature       The filter signature.
+     * @param startGeneration The {@link #generation()} read before the
+     * transaction's first query.
+     * @param counter         Runs the count query.
+     * @return The count.
+     */
+    public long get(String signature, long startGeneration, LongSupplier counter) {
+        Long cached = getIfPresent(signature);
+        if (cached != null) {
+            return cached;
+        }
+
+        long count = counter.getAsLong();
+        if (generation.get() == startGeneration && !inReadWriteTransaction()) {
+            // Checked again under the entry's lock: clear() bumps the generation
+            // before removing entries, so it either fails this check or removes
+            // the entry afterwards
+            counts.asMap().compute(signature,
+                    (key, previous) -> generation.get() == startGeneration ? count : previous);
+        }
+        return count;
+    }
+
+    /**
+     * Clears the cache once the current transaction commits (immediately if
+     * there is none). Called by every cultor write.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        } else {
+            clear();
+        }
+    }
+
+    /**
+     * Returns the cache statistics (hits, misses, evictions).
+     *
+     * @return A snapshot of the statistics.
+     */
+    public CacheStats stats() {
+        return counts.stats();
+    }
+
+    // ----------------------------------------------------------------
+    // PRIVATE HELPER METHODS
+    // ----------------------------------------------------------------
+
+    private static boolean inReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        counts.invalidateAll();
+    }
+}
@@ -0,0 +1,224 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.data.domain.Sort;
+
+import com.culturacarabobo.sicuc.backend.dtos.CultorResponse;
+import com.culturacarabobo.sicuc.backend.exceptions.ErrorCode;
+import com.culturacarabobo.sicuc.backend.exceptions.ValidationException;
+import com.culturacarabobo.sicuc.backend.utils.StringUtils;
+
+/**
+ * The position of a keyset (seek) page over the cultors, and its opaque
+ * continuation token.
+ * <p>
+ * A cursor holds the sort order and the sort key values of the last cultor
+ * returned, so the next page starts right after it with an indexed range
+ * condition (e.g., {@code last_name_search > ? OR (last_name_search = ? AND id > ?)})
+ * instead of an {@code OFFSET}. Every order ends with the primary key, which
+ * makes the position unique.
+ * <p>
+ * Tokens are URL-safe Base64 and carry a version prefix; clients must treat
+ * them as opaque.
+ */
+public final class CultorCursor {
+
+    private static final String VERSION = "v1";
+
+    /**
+     * Separates the token fields. Names (the only free-text keys) are
+     * validated to letters, spaces, apostrophes and hyphens, so it never
+     * appears in a value.
+     */
+    private static final String SEPARATOR = "\u001F";
+
+    // Preallocated rejections of the sort and cursor parameters (stackless, see DomainException)
+    private static final ValidationException SORT_INVALID = new ValidationException(
+            ErrorCode.INVALID_PARAMETER, "Sort Is Invalid");
+    private static final ValidationException CURSOR_INVALID = new ValidationException(
+            ErrorCode.INVALID_PARAMETER, "Cursor Is Invalid");
+
+    /**
+     * The supported keyset orders and the entity attributes they sort on.
+     * Each is served by an index (the primary key, or the name search indexes
+     * of {@code V5__Add_Cultor_Name_Search_Columns}, which InnoDB extends with
+     * the primary key).
+     */
+    public enum Order {
+        ID("id", List.of("id")),
+        LAST_NAME("lastName", List.of("lastNameSearch", "id")),
+        FIRST_NAME("firstName", List.of("firstNameSearch", "lastNameSearch", "id"));
+
+        private final String parameter;
+        private final List<String> attributes;
+
+        Order(String parameter, List<String> attributes) {
+            this.parameter = parameter;
+            this.attributes = attributes;
+        }
+
+        /**
+         * Resolves the public name of an order (e.g., "lastName").
+         *
+         * @param parameter The public name.
+         * @return The order.
+         * @throws ValidationException If the name is unknown.
+         */
+        public static Order fromParameter(String parameter) {
+            for (Order order : values()) {
+                if (order.parameter.equalsIgnoreCase(parameter)) {
+                    return order;
+                }
+            }
+            throw SORT_INVALID;
+        }
+    }
+
+    private final Order order;
+    private final Sort.Direction direction;
+
+    /**
+     * The sort key values of the last cultor returned (ordered as
+     * {@link Order#attributes}), or empty for the first page.
+     */
+    private final Map<String, Object> keys;
+
+    private CultorCursor(Order order, Sort.Direction direction, Map<String, Object> keys) {
+        this.order = order;
+        this.direction = direction;
+        this.keys = keys;
+    }
+
+    /**
+     * Returns the position of the first page for a {@code sort} parameter such
+     * as {@code "lastName"} or {@code "lastName,desc"}.
+     *
+     * @param sort The sort parameter ({@code null} means {@code "id"}).
+     * @return The first-page cursor.
+     * @throws ValidationException If the sort is not supported.
+     */
+    public static CultorCursor first(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return new CultorCursor(Order.ID, Sort.Direction.ASC, Map.of());
+        }
+        String[] parts = sort.split(",", -1);
+        if (parts.length > 2) {
+            throw SORT_INVALID;
+        }
+        Sort.Direction direction = parts.length == 2 ? parseDirection(parts[1]) : Sort.Direction.ASC;
+        return new CultorCursor(Order.fromParameter(parts[0].trim()), direction, Map.of());
+    }
+
+    /**
+     * Decodes a continuation token.
+     *
+     * @param token The token returned as {@code nextCursor}.
+     * @return The cursor.
+     * @throws ValidationException If the token is malformed.
+     */
+    public static CultorCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] fields = decoded.split(SEPARATOR, -1);
+            if (fields.length < 3 || !VERSION.equals(fields[0])) {
+                throw CURSOR_INVALID;
+            }
+
+            Order order = Order.valueOf(fields[1]);
+            Sort.Direction direction = parseDirection(fields[2]);
+            if (fields.length != 3 + order.attributes.size()) {
+                throw CURSOR_INVALID;
+            }
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (int i = 0; i < order.attributes.size(); i++) {
+                String attribute = order.attributes.get(i);
+                String value = fields[3 + i];
+                keys.put(attribute, attribute.equals("id") ? Integer.valueOf(value) : value);
+            }
+            return new CultorCursor(order, direction, keys);
+        } catch (IllegalArgumentException | ValidationException ex) { // Also Base64, number and direction errors
+            throw CURSOR_INVALID;
+        }
+    }
+
+    /**
+     * Builds the cursor that follows the last cultor of a page.
+     * <p>
+     * The name search keys are derived from the returned names with
+     * {@link StringUtils#toSearchKey(String)}, the same function that fills the
+     * stored columns on every write, so the DTO needs no extra columns.
+     *
+     * @param last The last cultor returned.
+     * @return The next cursor, in the same order.
+     */
+    public CultorCursor next(CultorResponse last) {
+        Map<String, Object> nextKeys = new LinkedHashMap<>();
+        for (String attribute : order.attributes) {
+            nextKeys.put(attribute, switch (attribute) {
+                case "firstNameSearch" -> StringUtils.toSearchKey(last.getFirstName());
+                case "lastNameSearch" -> StringUtils.toSearchKey(last.getLastName());
+                default -> last.getId();
+            });
+        }
+        return new CultorCursor(order, direction, nextKeys);
+    }
+
+    /**
+     * Encodes this cursor as an opaque, URL-safe token.
+     *
+     * @return The token.
+     */
+    public String encode() {
+        StringBuilder token = new StringBuilder(VERSION)
+                .append(SEPARATOR).append(order.name())
+                .append(SEPARATOR).append(direction.name());
+        for (String attribute : order.attributes) {
+            token.append(SEPARATOR).append(keys.get(attribute));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns {@code true} if this cursor was built from the same
+     * {@code sort} parameter (the order cannot change while paging).
+     *
+     * @param sort The sort parameter sent along with the token.
+     * @return Whether the orders match.
+     */
+    public boolean hasSameOrderAs(String sort) {
+        CultorCursor requested = first(sort);
+        return requested.order == order && requested.direction == direction;
+    }
+
+    /**
+     * @return The Spring Data sort (every key in the same direction).
+     */
+    public Sort toSort() {
+        return Sort.by(direction, order.attributes.toArray(String[]::new));
+    }
+
+    /**
+     * @return The sort key values the page starts after, by entity attribute
+     * (empty for the first page).
+     */
+    public Map<String, Object> getKeys() {
+        return Collections.unmodifiableMap(keys);
+    }
+
+    private static Sort.Direction parseDirection(String direction) {
+        return switch (direction.trim().toUpperCase(Locale.ROOT)) {
+            case "ASC" -> Sort.Direction.ASC;
+            case "DESC" -> Sort.Direction.DESC;
+            default -> throw SORT_INVALID;
+        };
+    }
+}
@@ -0,0 +1,201 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.culturacarabobo.sicuc.backend.dtos.CultorResponse;
+import com.culturacarabobo.sicuc.backend.entities.Cultor;
+import com.culturacarabobo.sicuc.backend.exceptions.ErrorCode;
+import com.culturacarabobo.sicuc.backend.exceptions.ValidationException;
+import com.culturacarabobo.sicuc.backend.repositories.CultorRepository;
+import com.culturacarabobo.sicuc.backend.specifications.CultorSpecification;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Service that streams the cultor census (or a filtered part of it) as CSV or
+ * NDJSON.
+ * <p>
+ * Rows come from {@link CultorRepository#streamResponses} (a forward-only
+ * cursor read straight into DTOs) and are written to the output as they
+ * arrive, so memory use does not depend on the number of rows exported.
+ */
+@Service
+public class CultorExportService {
+
+    /**
+     * Number of rows fetched from the database per round trip.
+     */
+    private static final int FETCH_SIZE = 1000;
+
+    /**
+     * Preallocated rejection of an unknown format (stackless, see DomainException).
+     */
+    private static final ValidationException FORMAT_INVALID = new ValidationException(
+            ErrorCode.INVALID_PARAMETER, "Format Is Invalid");
+
+    /**
+     * The supported export formats.
+     */
+    public enum Format {
+        CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+        NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+        private final String extension;
+        private final MediaType mediaType;
+
+        Format(String extension, MediaType mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+
+        /**
+         * Parses a {@code format} parameter, case-insensitively.
+         *
+         * @param format The parameter ({@code null} means CSV).
+         * @return The format.
+         * @throws ValidationException If the format is unknown.
+         */
+        public static Format parse(String format) {
+            if (format == null || format.isBlank()) {
+                return CSV;
+            }
+            for (Format candidate : values()) {
+                if (candidate.extension.equals(format.trim().toLowerCase(Locale.ROOT))) {
+                    return candidate;
+                }
+            }
+            throw FORMAT_INVALID;
+        }
+
+        public String getFileName() {
+            return "cultors." + extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+    }
+
+    /**
+     * The CSV header, in the order of {@link #writeCsvRow}.
+     */
+    private static final String CSV_HEADER = "id,firstName,lastName,gender,idNumber,birthDate,phoneNumber,email,"
+            + "instagramUser,municipalityId,parishId,homeAddress,artCategoryId,artDisciplineId,otherDiscipline,"
+            + "yearsOfExperience,groupName,disability,illness,createdAt";
+
+    private final CultorRepository cultorRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs the service.
+     *
+     * @param cultorRepository Repository streaming the rows.
+     * @param objectMapper     The application's JSON mapper (same output as the API).
+     */
+    public CultorExportService(CultorRepository cultorRepository, ObjectMapper objectMapper) {
+        this.cultorRepository = cultorRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes every cultor matching the filters to {@code out}, ordered by ID.
+     * <p>
+     * Runs in its own read-only transaction, which keeps the cursor open while
+     * the rows are written. The output is flushed every {@link #FETCH_SIZE}
+     * rows, so the client starts receiving data immediately.
+     *
+     * @param query           (and all other filter params, as in GET /cultors)...
+     * @param format          The output format.
+     * @param spreadsheet     Whether CSV cells a spreadsheet would run as a
+     *                        formula get a leading apostrophe (ignored for NDJSON).
+     * @param out             The response body; it is flushed but not closed.
+     * @throws IOException If the client disconnects or the write fails.
+     */
+    @Transactional(readOnly = true)
+    public void export(String query, String gender, Integer municipalityId, Integer parishId,
+            Integer artCategoryId, Integer artDisciplineId, Boolean hasDisability, Boolean hasIllness,
+            Format format, boolean spreadsheet, OutputStream out) throws IOException {
+        Specification<Cultor> specification = CultorSpecification.withFilters(query,
+                gender, municipalityId, parishId, artCategoryId, artDisciplineId, hasDisability,
+                hasIllness);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+
+        try (Stream<CultorResponse> rows = cultorRepository.streamResponses(specification, Sort.by("id"),
+                FETCH_SIZE)) {
+            Iterator<CultorResponse> iterator = rows.iterator();
+            for (int written = 1; iterator.hasNext(); written++) {
+                CultorResponse row = iterator.next();
+                if (format == Format.CSV) {
+                    writeCsvRow(writer, row, spreadsheet);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                if (written % FETCH_SIZE == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    // ----------------------------------------------------------------
+    // PRIVATE HELPER METHODS
+    // ----------------------------------------------------------------
+
+    /**
+     * Writes one CSV record (RFC 4180, CRLF line endings).
+     */
+    private static void writeCsvRow(Writer writer, CultorResponse row, boolean spreadsheet)
+            throws IOException {
+        Object[] values = { row.getId(), row.getFirstName(), row.getLastName(), row.getGender(),
+                row.getIdNumber(), row.getBirthDate(), row.getPhoneNumber(), row.getEmail(),
+                row.getInstagramUser(), row.getMunicipalityId(), row.getParishId(), row.getHomeAddress(),
+                row.getArtCategoryId(), row.getArtDisciplineId(), row.getOtherDiscipline(),
+                row.getYearsOfExperience(), row.getGroupName(), row.getDisability(), row.getIllness(),
+                row.getCreatedAt() };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(toCsvField(values[i].toString(), spreadsheet));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Quotes a CSV field when needed. With {@code neutralizeFormulas}, values
+     * a spreadsheet would run as a formula (leading {@code = + - @}) also get
+     * a leading apostrophe; otherwise the value is kept as stored, so the file
+     * can be imported back unchanged.
+     */
+    static String toCsvField(String value, boolean neutralizeFormulas) {
+        if (neutralizeFormulas && !value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,578 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.culturacarabobo.sicuc.backend.dtos.CultorImportResponse;
+import com.culturacarabobo.sicuc.backend.dtos.CultorImportResponse.RowResult;
+import com.culturacarabobo.sicuc.backend.dtos.CultorRequest;
+import com.culturacarabobo.sicuc.backend.entities.Cultor;
+import com.culturacarabobo.sicuc.backend.exceptions.DomainException;
+import com.culturacarabobo.sicuc.backend.exceptions.DuplicateEntityException;
+import com.culturacarabobo.sicuc.backend.exceptions.UniqueConstraintTranslator;
+import com.culturacarabobo.sicuc.backend.repositories.CultorRepository;
+import com.culturacarabobo.sicuc.backend.repositories.CultorRepository.UniqueFieldValues;
+import com.culturacarabobo.sicuc.backend.utils.CsvReader;
+import com.culturacarabobo.sicuc.backend.utils.StringUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Service that imports cultors in bulk from a CSV or NDJSON upload.
+ * <p>
+ * The pipeline runs in four stages:
+ * <ol>
+ * <li><b>Parse:</b> one {@link CultorRequest} per data row (CSV columns are
+ * named after its properties).</li>
+ * <li><b>Validate (in parallel):</b> the same Jakarta constraints as
+ * {@code POST /cultors}, then the same normalization and business rules
+ * ({@link CultorService#mapAndValidateCultor}).</li>
+ * <li><b>Deduplicate (set-based):</b> repeated unique values within the file,
+ * then one query per batch against the database.</li>
+ * <li><b>Insert:</b> JDBC batch inserts of the accepted rows (and their
+ * search trigrams) in a single transaction.</li>
+ * </ol>
+ * A rejected row never blocks the others; the response reports the outcome
+ * of every row.
+ */
+@Service
+public class CultorImportService {
+
+    /**
+     * Number of rows per duplicate-check query and per JDBC batch.
+     */
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * Number of insert attempts when concurrent writes keep taking unique
+     * values between the duplicate check and the insert.
+     */
+    private static final int MAX_INSERT_ATTEMPTS = 3;
+
+    private static final String INSERT_CULTOR = """
+            INSERT INTO cultors (id, first_name, last_name, first_name_search, last_name_search, gender,
+                                 id_number, birth_date, phone_number, email, instagram_user, municipality_id,
+                                 parish_id, home_address, art_category_id, art_discipline_id, other_discipline,
+                                 years_of_experience, group_name, disability, illness, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_NEXT_ID = "SELECT next_val FROM " + Cultor.ID_TABLE
+            + " WHERE sequence_name = ? FOR UPDATE";
+
+    private static final String ADVANCE_NEXT_ID = "UPDATE " + Cultor.ID_TABLE
+            + " SET next_val = ? WHERE sequence_name = ?";
+
+    private static final String INSERT_GRAM = "INSERT INTO cultor_search_grams (gram, cultor_id) VALUES (?, ?)";
+
+    private final CultorService cultorService;
+    private final CultorRepository cultorRepository;
+    private final CultorSearchIndex cultorSearchIndex;
+    private final CultorCountCache cultorCountCache;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate idTransactionTemplate;
+
+    /**
+     * The maximum number of data rows accepted per upload.
+     */
+    private final int maxRows;
+
+    /**
+     * Constructs the service and injects all required dependencies.
+     *
+     * @param cultorService      Service holding the per-cultor validation rules.
+     * @param cultorRepository   Repository for the duplicate checks.
+     * @param cultorSearchIndex  In-memory search index, updated after commit.
+     * @param cultorCountCache   Count cache, cleared after commit.
+     * @param validator          The Jakarta Bean Validation validator.
+     * @param objectMapper       The application's JSON mapper.
+     * @param jdbcTemplate       JDBC access for the batch inserts.
+     * @param transactionManager Transaction manager for the insert stage.
+     * @param maxRows            The maximum rows per upload (from
+     * {@code application.cultors.import.max-rows}).
+     */
+    public CultorImportService(CultorService cultorService, CultorRepository cultorRepository,
+            CultorSearchIndex cultorSearchIndex, CultorCountCache cultorCountCache, Validator validator,
+            ObjectMapper objectMapper, JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            @Value("${application.cultors.import.max-rows:10000}") int maxRows) {
+        this.cultorService = cultorService;
+        this.cultorRepository = cultorRepository;
+        this.cultorSearchIndex = cultorSearchIndex;
+        this.cultorCountCache = cultorCountCache;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.idTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.idTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Imports every row of an upload.
+     *
+     * @param contentType The upload's content type ({@code text/csv} or
+     * {@code application/x-ndjson}).
+     * @param body        The upload.
+     * @return The per-row report.
+     * @throws IllegalArgumentException If the content type is unsupported, the
+     * file is malformed (e.g., a missing CSV header), or it has too many rows.
+     * @throws com.culturacarabobo.sicuc.backend.exceptions.DuplicateEntityException
+     * If concurrent writes keep taking unique values between the check and the
+     * insert after {@value #MAX_INSERT_ATTEMPTS} attempts, or once inside a
+     * caller's transaction (nothing is imported in that case).
+     * @throws IOException If reading the upload fails.
+     */
+    public CultorImportResponse importCultors(MediaType contentType, InputStream body) throws IOException {
+        // 1. Parse (a row that cannot be parsed is reported, not fatal)
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        List<ParsedRow> parsed;
+        if (contentType.isCompatibleWith(MediaType.parseMediaType("text/csv"))) {
+            parsed = parseCsv(reader);
+        } else if (contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+            parsed = parseNdjson(reader);
+        } else {
+            throw new IllegalArgumentException("Content Type Must Be text/csv Or application/x-ndjson");
+        }
+
+        // 2. Validate in parallel (the rules are stateless; references come from the snapshot).
+        // Inside a caller's transaction the work stays on this thread, since worker threads
+        // could not see that transaction's uncommitted rows.
+        IntStream indexes = IntStream.range(0, parsed.size());
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            indexes = indexes.parallel();
+        }
+        RowOutcome[] outcomes = indexes
+                .mapToObj(i -> validate(parsed.get(i)))
+                .toArray(RowOutcome[]::new);
+
+        // 3. Reject unique values repeated in the file, then those already stored
+        rejectDuplicatesInFile(outcomes);
+        rejectDuplicatesInDatabase(outcomes);
+
+        // 4. Insert the accepted rows
+        insertAccepted(outcomes);
+
+        List<RowResult> report = new ArrayList<>(outcomes.length);
+        for (RowOutcome outcome : outcomes) {
+            report.add(outcome.error == null
+                    ? RowResult.created(outcome.row, outcome.cultor.getId())
+                    : RowResult.failed(outcome.row, outcome.error));
+        }
+        return new CultorImportResponse(report);
+    }
+
+    // ----------------------------------------------------------------
+    // PRIVATE HELPER METHODS
+    // ----------------------------------------------------------------
+
+    /**
+     * Parses a CSV upload whose first record names the columns.
+     */
+    private List<ParsedRow> parseCsv(BufferedReader reader) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("The File Is Empty");
+        }
+
+        List<ParsedRow> rows = new ArrayList<>();
+        List<String> record;
+        while ((record = csv.readRecord()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue; // Blank line
+            }
+            int row = rows.size() + 1;
+            checkRowLimit(row);
+            if (record.size() != header.size()) {
+                rows.add(ParsedRow.failed(row, "Expected " + header.size() + " Columns But Found " + record.size()));
+                continue;
+            }
+
+            // Empty cells are absent values, as an omitted JSON property would be
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                if (!record.get(i).isEmpty()) {
+                    values.put(header.get(i).trim(), record.get(i));
+                }
+            }
+            rows.add(toRequest(row, values));
+        }
+        return rows;
+    }
+
+    /**
+     * Parses an NDJSON upload (one {@link CultorRequest} JSON object per line).
+     */
+    private List<ParsedRow> parseNdjson(BufferedReader reader) throws IOException {
+        List<ParsedRow> rows = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            int row = rows.size() + 1;
+            checkRowLimit(row);
+            try {
+                rows.add(ParsedRow.parsed(row, objectMapper.readValue(line, CultorRequest.class)));
+            } catch (IOException ex) {
+                rows.add(ParsedRow.failed(row, "The Row Is Malformed"));
+            }
+        }
+        return rows;
+    }
+
+    private ParsedRow toRequest(int row, Map<String, String> values) {
+        try {
+            return ParsedRow.parsed(row, objectMapper.convertValue(values, CultorRequest.class));
+        } catch (IllegalArgumentException ex) {
+            return ParsedRow.failed(row, "The Row Is Malformed");
+        }
+    }
+
+    private void checkRowLimit(int row) {
+        if (row > maxRows) {
+            throw new IllegalArgumentException("The File Exceeds " + maxRows + " Rows");
+        }
+    }
+
+    /**
+     * Applies the bean constraints and the business rules to one row.
+     * Messages match those of {@code POST /cultors}.
+     */
+    private RowOutcome validate(ParsedRow parsed) {
+        if (parsed.error != null) {
+            return RowOutcome.failed(parsed.row, parsed.error);
+        }
+
+        Set<ConstraintViolation<CultorRequest>> violations = validator.validate(parsed.request);
+        if (!violations.isEmpty()) {
+            String errors = violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(violation -> StringUtils.toCapitalize(violation.getPropertyPath().toString()) + " "
+                            + StringUtils.toCapitalize(violation.getMessage()))
+                    .collect(Collectors.joining(", "));
+            return RowOutcome.failed(parsed.row, errors);
+        }
+
+        try {
+            return RowOutcome.accepted(parsed.row, cultorService.mapAndValidateCultor(new Cultor(), parsed.request));
+        } catch (DomainException | IllegalArgumentException ex) {
+            return RowOutcome.failed(parsed.row, ex.getMessage());
+        }
+    }
+
+    /**
+     * Rejects every row reusing a unique value of an earlier accepted row.
+     */
+    private static void rejectDuplicatesInFile(RowOutcome[] outcomes) {
+        List<Map<String, Integer>> firstRows = List.of(new HashMap<>(), new HashMap<>(), new HashMap<>(),
+                new HashMap<>());
+        for (RowOutcome outcome : outcomes) {
+            if (outcome.error != null) {
+                continue;
+            }
+            String[] values = uniqueValues(outcome.cultor);
+            for (int field = 0; field < values.length && outcome.error == null; field++) {
+                Integer firstRow = values[field] == null ? null : firstRows.get(field).get(values[field]);
+                if (firstRow != null) {
+                    outcome.error = UNIQUE_FIELD_NAMES[field] + " Is Repeated In Row " + firstRow;
+                }
+            }
+            if (outcome.error == null) {
+                for (int field = 0; field < values.length; field++) {
+                    if (values[field] != null) {
+                        firstRows.get(field).put(values[field], outcome.row);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Rejects every row whose unique values are already stored, with one
+     * query per {@link #BATCH_SIZE} rows.
+     */
+    private void rejectDuplicatesInDatabase(RowOutcome[] outcomes) {
+        List<RowOutcome> pending = new ArrayList<>();
+        for (RowOutcome outcome : outcomes) {
+            if (outcome.error == null) {
+                pending.add(outcome);
+            }
+        }
+
+        for (int start = 0; start < pending.size(); start += BATCH_SIZE) {
+            List<RowOutcome> batch = pending.subList(start, Math.min(start + BATCH_SIZE, pending.size()));
+
+            List<Set<String>> candidates = List.of(new HashSet<>(), new HashSet<>(), new HashSet<>(),
+                    new HashSet<>());
+            for (RowOutcome outcome : batch) {
+                String[] values = uniqueValues(outcome.cultor);
+                for (int field = 0; field < values.length; field++) {
+                    if (values[field] != null) {
+                        candidates.get(field).add(values[field]);
+                    }
+                }
+            }
+
+            // "" never matches a stored value, and keeps every IN list non-empty
+            List<Set<String>> existing = List.of(new HashSet<>(), new HashSet<>(), new HashSet<>(),
+                    new HashSet<>());
+            for (UniqueFieldValues stored : cultorRepository.findUniqueFieldValues(orEmpty(candidates.get(0)),
+                    orEmpty(candidates.get(1)), orEmpty(candidates.get(2)), orEmpty(candidates.get(3)))) {
+                existing.get(0).add(stored.getIdNumber());
+                existing.get(1).add(stored.getPhoneNumber());
+                existing.get(2).add(stored.getEmail());
+                existing.get(3).add(stored.getInstagramUser());
+            }
+
+            for (RowOutcome outcome : batch) {
+                String[] values = uniqueValues(outcome.cultor);
+                for (int field = 0; field < values.length && outcome.error == null; field++) {
+                    if (values[field] != null && existing.get(field).contains(values[field])) {
+                        outcome.error = UNIQUE_FIELD_MESSAGES[field];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserts the accepted rows in one transaction.
+     * <p>
+     * A concurrent write may take a unique value between the duplicate check
+     * and the insert, which rolls the whole insert back. The database check
+     * then runs again, so the rows that now collide are reported as failed,
+     * and the rest are inserted, up to {@value #MAX_INSERT_ATTEMPTS} times.
+     * Inside a caller's transaction the violation has already doomed that
+     * transaction, so it is thrown instead.
+     */
+    private void insertAccepted(RowOutcome[] outcomes) {
+        for (int attempt = 1;; attempt++) {
+            List<RowOutcome> accepted = new ArrayList<>();
+            for (RowOutcome outcome : outcomes) {
+                if (outcome.error == null) {
+                    accepted.add(outcome);
+                }
+            }
+            if (accepted.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(accepted));
+                return;
+            } catch (DataIntegrityViolationException ex) {
+                DuplicateEntityException duplicate = UniqueConstraintTranslator.translate(ex).orElseThrow(() -> ex);
+                if (attempt == MAX_INSERT_ATTEMPTS || TransactionSynchronizationManager.isActualTransactionActive()) {
+                    throw duplicate;
+                }
+                rejectDuplicatesInDatabase(outcomes);
+            }
+        }
+    }
+
+    /**
+     * Reserves a block of consecutive cultor IDs from the {@link Cultor#ID_TABLE}
+     * table, the same allocator Hibernate uses for cultors ("pooled-lo": the
+     * stored value is the next free ID).
+     * <p>
+     * Runs in its own short transaction, so the allocator row is not locked
+     * for the duration of the import. IDs of a failed import are not reused.
+     *
+     * @param count The number of IDs to reserve.
+     * @return The first ID of the block.
+     */
+    private int reserveIds(int count) {
+        return idTransactionTemplate.execute(status -> {
+            long next = jdbcTemplate.queryForObject(SELECT_NEXT_ID, Long.class, Cultor.ID_SEGMENT);
+            jdbcTemplate.update(ADVANCE_NEXT_ID, next + count, Cultor.ID_SEGMENT);
+            return Math.toIntExact(next);
+        });
+    }
+
+    /**
+     * Inserts the accepted rows and their search trigrams with JDBC batches,
+     * under IDs reserved up front. Runs inside the import transaction.
+     */
+    private void insert(List<RowOutcome> accepted) {
+        int nextId = reserveIds(accepted.size());
+        for (RowOutcome outcome : accepted) {
+            outcome.cultor.setId(nextId++);
+        }
+
+        LocalDate today = LocalDate.now();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement cultors = connection.prepareStatement(INSERT_CULTOR);
+                    PreparedStatement grams = connection.prepareStatement(INSERT_GRAM)) {
+                for (int start = 0; start < accepted.size(); start += BATCH_SIZE) {
+                    List<RowOutcome> batch = accepted.subList(start, Math.min(start + BATCH_SIZE, accepted.size()));
+
+                    // Cultors
+                    for (RowOutcome outcome : batch) {
+                        bindCultor(cultors, outcome.cultor, today);
+                        cultors.addBatch();
+                    }
+                    cultors.executeBatch();
+
+                    // Trigram postings of the id and phone numbers
+                    for (RowOutcome outcome : batch) {
+                        Cultor cultor = outcome.cultor;
+                        for (String gram : CultorSearchGramService.gramsOf(cultor.getIdNumber(),
+                                cultor.getPhoneNumber())) {
+                            grams.setString(1, gram);
+                            grams.setInt(2, cultor.getId());
+                            grams.addBatch();
+                        }
+                    }
+                    grams.executeBatch();
+                }
+            }
+            return null;
+        });
+
+        // Applied after commit, as one index update
+        cultorSearchIndex.index(accepted.stream().map(outcome -> outcome.cultor).toList());
+        cultorCountCache.invalidate();
+    }
+
+    private static void bindCultor(PreparedStatement statement, Cultor cultor, LocalDate createdAt)
+            throws SQLException {
+        statement.setInt(1, cultor.getId());
+        statement.setString(2, cultor.getFirstName());
+        statement.setString(3, cultor.getLastName());
+        statement.setString(4, cultor.getFirstNameSearch());
+        statement.setString(5, cultor.getLastNameSearch());
+        statement.setString(6, cultor.getGender());
+        statement.setString(7, cultor.getIdNumber());
+        statement.setDate(8, Date.valueOf(cultor.getBirthDate()));
+        statement.setString(9, cultor.getPhoneNumber());
+        setNullableString(statement, 10, cultor.getEmail());
+        setNullableString(statement, 11, cultor.getInstagramUser());
+        statement.setInt(12, cultor.getMunicipality().getId());
+        statement.setInt(13, cultor.getParish().getId());
+        statement.setString(14, cultor.getHomeAddress());
+        statement.setInt(15, cultor.getArtCategory().getId());
+        statement.setInt(16, cultor.getArtDiscipline().getId());
+        setNullableString(statement, 17, cultor.getOtherDiscipline());
+        statement.setInt(18, cultor.getYearsOfExperience());
+        setNullableString(statement, 19, cultor.getGroupName());
+        setNullableString(statement, 20, cultor.getDisability());
+        setNullableString(statement, 21, cultor.getIllness());
+        statement.setDate(22, Date.valueOf(createdAt));
+    }
+
+    private static void setNullableString(PreparedStatement statement, int index, String value)
+            throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.VARCHAR);
+        } else {
+            statement.setString(index, value);
+        }
+    }
+
+    // --- Unique Fields (same order and messages as the POST /cultors checks) ---
+
+    private static final String[] UNIQUE_FIELD_NAMES = { "Id Number", "Phone Number", "Email",
+            "Instagram Username" };
+
+    private static final String[] UNIQUE_FIELD_MESSAGES = { "Id Number Already Exists",
+            "Phone Number Already Exists", "Email Already Exists", "Instagram Username Already Exists" };
+
+    /**
+     * The normalized unique values of a mapped cultor, in field order.
+     */
+    private static String[] uniqueValues(Cultor cultor) {
+        return new String[] { cultor.getIdNumber(), cultor.getPhoneNumber(), cultor.getEmail(),
+                cultor.getInstagramUser() };
+    }
+
+    private static Set<String> orEmpty(Set<String> values) {
+        return values.isEmpty() ? Set.of("") : values;
+    }
+
+    // --- Pipeline State ---
+
+    /**
+     * A data row after parsing: the request, or why it could not be read.
+     */
+    private static final class ParsedRow {
+
+        private final int row;
+        private final CultorRequest request;
+        private final String error;
+
+        private ParsedRow(int row, CultorRequest request, String error) {
+            this.row = row;
+            this.request = request;
+            this.error = error;
+        }
+
+        private static ParsedRow parsed(int row, CultorRequest request) {
+            return new ParsedRow(row, request, null);
+        }
+
+        private static ParsedRow failed(int row, String error) {
+            return new ParsedRow(row, null, error);
+        }
+    }
+
+    /**
+     * A data row after validation: the mapped cultor, or why it was rejected.
+     * The error is set by the later (sequential) deduplication stages too.
+     */
+    private static final class RowOutcome {
+
+        private final int row;
+        private final Cultor cultor;
+        private String error;
+
+        private RowOutcome(int row, Cultor cultor, String error) {
+            this.row = row;
+            this.cultor = cultor;
+            this.error = error;
+        }
+
+        private static RowOutcome accepted(int row, Cultor cultor) {
+            return new RowOutcome(row, cultor, null);
+        }
+
+        private static RowOutcome failed(int row, String error) {
+            return new RowOutcome(row, null, error);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.culturacarabobo.sicuc.backend.dtos.CultorIntakeResponse;
+import com.culturacarabobo.sicuc.backend.dtos.CultorRequest;
+import com.culturacarabobo.sicuc.backend.entities.CultorIntake;
+import com.culturacarabobo.sicuc.backend.exceptions.DomainException;
+import com.culturacarabobo.sicuc.backend.exceptions.ErrorCode;
+import com.culturacarabobo.sicuc.backend.exceptions.ResourceNotFoundException;
+import com.culturacarabobo.sicuc.backend.exceptions.ValidationException;
+import com.culturacarabobo.sicuc.backend.repositories.CultorIntakeRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Service behind the optional intake mode of {@code POST /cultors}.
+ * <p>
+ * In intake mode a registration that passes the request's Jakarta constraints
+ * is stored as a {@link CultorIntake} row (one small INSERT) and acknowledged
+ * with {@code 202 Accepted} and a tracking ID, so the request thread and its
+ * database connection are released immediately during registration drives.
+ * <p>
+ * A fixed pool of workers drains the queue: each claims a batch of pending
+ * intakes and creates them one by one through {@link CultorService#create},
+ * so the business rules, uniqueness checks and index updates are exactly those
+ * of the synchronous path. The database pool only ever sees as many concurrent
+ * registrations as there are workers.
+ * <p>
+ * Delivery is at least once per claim but never creates a cultor twice: an
+ * intake is marked {@link CultorIntake.Status#CREATED} in the same
+ * transaction that creates its cultor, and claims left behind by a stopped
+ * worker are only returned to the queue after
+ * {@code application.cultors.intake.stale-after}.
+ */
+@Service
+public class CultorIntakeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CultorIntakeService.class);
+
+    /**
+     * Longest rejection reason stored (the column length).
+     */
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    // Preallocated rejections (stackless, see DomainException): the status
+    // lookup is public, so unknown tracking IDs are routine bot traffic
+    private static final ResourceNotFoundException INTAKE_NOT_FOUND = new ResourceNotFoundException(
+            ErrorCode.INTAKE_NOT_FOUND, "Intake Not Found");
+    private static final ValidationException PAYLOAD_MALFORMED = new ValidationException(
+            ErrorCode.INVALID_FIELD, "Registration Is Malformed");
+
+    private final CultorService cultorService;
+    private final CultorIntakeRepository cultorIntakeRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int workers;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration staleAfter;
+    private final int maxAttempts;
+
+    /**
+     * The worker pool, while running.
+     */
+    private ScheduledExecutorService executor;
+
+    /**
+     * Constructs the service.
+     *
+     * @param cultorService          Service running the synchronous create path.
+     * @param cultorIntakeRepository Repository of the queue.
+     * @param objectMapper           The application's JSON mapper (stores the payloads).
+     * @param transactionManager     Transaction manager for the worker transactions.
+     * @param enabled                Whether POST /cultors queues registrations (from
+     * {@code application.cultors.intake.enabled}).
+     * @param workers                The number of worker threads.
+     * @param batchSize              The intakes claimed per batch.
+     * @param pollInterval           The pause of an idle worker.
+     * @param staleAfter             How long a claim may last before it is released.
+     * @param maxAttempts            Claims after which an intake failing with an
+     * unexpected error is rejected.
+     */
+    public CultorIntakeService(CultorService cultorService, CultorIntakeRepository cultorIntakeRepository,
+            ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+            @Value("${application.cultors.intake.enabled:false}") boolean enabled,
+            @Value("${application.cultors.intake.workers:2}") int workers,
+            @Value("${application.cultors.intake.batch-size:50}") int batchSize,
+            @Value("${application.cultors.intake.poll-interval:1s}") Duration pollInterval,
+            @Value("${application.cultors.intake.stale-after:5m}") Duration staleAfter,
+            @Value("${application.cultors.intake.max-attempts:3}") int maxAttempts) {
+        this.cultorService = cultorService;
+        this.cultorIntakeRepository = cultorIntakeRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.staleAfter = staleAfter;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Whether {@code POST /cultors} runs in intake mode.
+     *
+     * @return {@code true} if registrations are queued.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a registration that already passed the request's Jakarta
+     * constraints.
+     *
+     * @param cultorRequest The registration.
+     * @return A {@link ResponseEntity} with the PENDING {@link CultorIntakeResponse},
+     * HTTP 202 (Accepted) and a 'Location' header to poll.
+     */
+    @SuppressWarnings("null")
+    public ResponseEntity<CultorIntakeResponse> submit(CultorRequest cultorRequest) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(cultorRequest);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize the registration", ex);
+        }
+
+        CultorIntake intake = cultorIntakeRepository.save(
+                new CultorIntake(UUID.randomUUID().toString(), payload, LocalDateTime.now()));
+
+        URI location = URI.create("/cultors/intake/" + intake.getId());
+        return ResponseEntity.accepted().location(location).body(toResponse(intake));
+    }
+
+    /**
+     * Retrieves the state of a queued registration.
+     *
+     * @param trackingId The tracking ID returned on submission.
+     * @return A {@link ResponseEntity} with the {@link CultorIntakeResponse} and HTTP 200 (OK).
+     * @throws ResourceNotFoundException If the tracking ID is unknown.
+     */
+    @SuppressWarnings("null")
+    public ResponseEntity<CultorIntakeResponse> getStatus(String trackingId) {
+        CultorIntake intake = cultorIntakeRepository.findById(trackingId)
+                .orElseThrow(() -> INTAKE_NOT_FOUND);
+        return ResponseEntity.ok(toResponse(intake));
+    }
+
+    /**
+     * Starts the worker pool once the application is ready (intake mode only).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void onApplicationReady() {
+        if (!enabled || executor != null) {
+            return;
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newScheduledThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "cultor-intake-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            executor.scheduleWithFixedDelay(this::drainSafely, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        executor.scheduleWithFixedDelay(this::releaseStaleSafely, staleAfter.toMillis(), staleAfter.toMillis(),
+                TimeUnit.MILLISECONDS);
+        logger.info("Cultor intake started ({} workers, batches of {})", workers, batchSize);
+    }
+
+    /**
+     * Stops the worker pool. Batches in progress finish their current intake;
+     * the rest of their claims are released after
+     * {@code application.cultors.intake.stale-after}.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Claims and processes batches until the queue is empty.
+     *
+     * @return The number of intakes processed.
+     */
+    public int drain() {
+        int processed = 0;
+        int claimed;
+        do {
+            claimed = processBatch();
+            processed += claimed;
+        } while (claimed == batchSize && !Thread.currentThread().isInterrupted());
+        return processed;
+    }
+
+    /**
+     * Claims one batch of pending intakes and processes it.
+     *
+     * @return The number of intakes claimed.
+     */
+    @SuppressWarnings("null")
+    public int processBatch() {
+        String claimToken = UUID.randomUUID().toString();
+        List<CultorIntake> batch = transactionTemplate.execute(status -> {
+            List<String> ids = cultorIntakeRepository.findPendingIds(PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return List.<CultorIntake>of();
+            }
+            cultorIntakeRepository.claim(ids, claimToken, LocalDateTime.now());
+            return cultorIntakeRepository.findByClaimTokenOrderByCreatedAt(claimToken);
+        });
+
+        for (CultorIntake intake : batch) {
+            process(intake, claimToken);
+        }
+        return batch.size();
+    }
+
+    // ----------------------------------------------------------------
+    // PRIVATE HELPER METHODS
+    // ----------------------------------------------------------------
+
+    /**
+     * Creates the cultor of one claimed intake, or records why it cannot be
+     * created.
+     * <p>
+     * Every state change is conditional on the batch's claim token: if the
+     * claim went stale (see {@link CultorIntakeRepository#releaseStale}) and
+     * another batch re-claimed the intake, this batch changes nothing, and a
+     * cultor it created is rolled back.
+     */
+    private void process(CultorIntake intake, String claimToken) {
+        try {
+            // The cultor and the CREATED mark commit (or roll back) together
+            transactionTemplate.executeWithoutResult(status -> {
+                CultorRequest cultorRequest = readPayload(intake);
+                int cultorId = cultorService.create(cultorRequest).getBody().getId();
+                if (cultorIntakeRepository.markCreated(intake.getId(), claimToken, cultorId,
+                        LocalDateTime.now()) == 0) {
+                    logger.warn("Intake {} was re-claimed by another batch, discarding its cultor", intake.getId());
+                    status.setRollbackOnly();
+                }
+            });
+        } catch (DomainException ex) {
+            reject(intake, claimToken, ex.getMessage());
+        } catch (RuntimeException ex) {
+            if (intake.getAttempts() >= maxAttempts) {
+                logger.error("Intake {} failed {} times, rejecting it", intake.getId(), intake.getAttempts(), ex);
+                reject(intake, claimToken, "Registration Could Not Be Processed");
+            } else {
+                logger.warn("Intake {} failed, returning it to the queue", intake.getId(), ex);
+                transactionTemplate.executeWithoutResult(
+                        status -> cultorIntakeRepository.release(intake.getId(), claimToken));
+            }
+        }
+    }
+
+    private void reject(CultorIntake intake, String claimToken, String error) {
+        String reason = error == null ? "Registration Is Invalid"
+                : error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        transactionTemplate.executeWithoutResult(status -> cultorIntakeRepository.markRejected(intake.getId(),
+                claimToken, reason, LocalDateTime.now()));
+    }
+
+    private CultorRequest readPayload(CultorIntake intake) {
+        try {
+            return objectMapper.readValue(intake.getPayload(), CultorRequest.class);
+        } catch (JsonProcessingException ex) {
+            throw PAYLOAD_MALFORMED;
+        }
+    }
+
+    /**
+     * Worker entry point: a failure is logged and retried on the next poll
+     * (an exception would cancel the scheduled task).
+     */
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (RuntimeException ex) {
+            logger.warn("Cultor intake worker failed, retrying in {}", pollInterval, ex);
+        }
+    }
+
+    private void releaseStaleSafely() {
+        try {
+            Integer released = transactionTemplate.execute(
+                    status -> cultorIntakeRepository.releaseStale(LocalDateTime.now().minus(staleAfter)));
+            if (released != null && released > 0) {
+                logger.warn("Released {} stale cultor intake claims", released);
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Could not release stale cultor intake claims", ex);
+        }
+    }
+
+    private static CultorIntakeResponse toResponse(CultorIntake intake) {
+        return new CultorIntakeResponse(intake.getId(), intake.getStatus().name(), intake.getCultorId(),
+                intake.getError(), intake.getCreatedAt(), intake.getProcessedAt());
+    }
+}
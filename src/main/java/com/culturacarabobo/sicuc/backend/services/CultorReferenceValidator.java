@@ -0,0 +1,245 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import org.springframework.stereotype.Service;
+
+import com.culturacarabobo.sicuc.backend.dtos.CultorRequest;
+import com.culturacarabobo.sicuc.backend.entities.ArtCategory;
+import com.culturacarabobo.sicuc.backend.entities.ArtDiscipline;
+import com.culturacarabobo.sicuc.backend.exceptions.ErrorCode;
+import com.culturacarabobo.sicuc.backend.exceptions.ResourceNotFoundException;
+import com.culturacarabobo.sicuc.backend.exceptions.ValidationException;
+import com.culturacarabobo.sicuc.backend.entities.Municipality;
+import com.culturacarabobo.sicuc.backend.entities.Parish;
+import com.culturacarabobo.sicuc.backend.repositories.ArtCategoryRepository;
+import com.culturacarabobo.sicuc.backend.repositories.ArtDisciplineRepository;
+import com.culturacarabobo.sicuc.backend.repositories.CultorRepository;
+import com.culturacarabobo.sicuc.backend.repositories.CultorRepository.ReferenceHierarchy;
+import com.culturacarabobo.sicuc.backend.repositories.MunicipalityRepository;
+import com.culturacarabobo.sicuc.backend.repositories.ParishRepository;
+
+/**
+ * Validates the relational integrity of the references held by a
+ * {@link CultorRequest}: the Municipality → Parish and Art Category → Art
+ * Discipline hierarchies, plus the "Otra..." discipline rule.
+ * <p>
+ * The whole hierarchy is resolved in one step, either:
+ * <ol>
+ * <li>From the in-memory {@link ReferenceDataSnapshot} (no database access), or</li>
+ * <li>When any ID is missing from the snapshot, with a single
+ * {@link CultorRepository#findReferenceHierarchy} round trip. If that query
+ * finds every row, the snapshot is stale and a refresh is requested.</li>
+ * </ol>
+ * The resolved entities are returned as JPA references (proxies), so attaching
+ * them to a {@link com.culturacarabobo.sicuc.backend.entities.Cultor} never
+ * triggers a SELECT.
+ */
+@Service
+public class CultorReferenceValidator {
+
+    // Preallocated rejections (stackless, see DomainException)
+    private static final ResourceNotFoundException MUNICIPALITY_NOT_FOUND = new ResourceNotFoundException(
+            ErrorCode.REFERENCE_NOT_FOUND, "Municipality Not Found");
+    private static final ResourceNotFoundException PARISH_NOT_FOUND = new ResourceNotFoundException(
+            ErrorCode.REFERENCE_NOT_FOUND, "Parish Not Found");
+    private static final ResourceNotFoundException ART_CATEGORY_NOT_FOUND = new ResourceNotFoundException(
+            ErrorCode.REFERENCE_NOT_FOUND, "Art Category Not Found");
+    private static final ResourceNotFoundException ART_DISCIPLINE_NOT_FOUND = new ResourceNotFoundException(
+            ErrorCode.REFERENCE_NOT_FOUND, "Art Discipline Not Found");
+    private static final ValidationException PARISH_MISMATCH = new ValidationException(
+            ErrorCode.REFERENCE_MISMATCH, "The Selected Parish Does Not Belong To The Chosen Municipality");
+    private static final ValidationException ART_DISCIPLINE_MISMATCH = new ValidationException(
+            ErrorCode.REFERENCE_MISMATCH, "The Selected Discipline Does Not Belong To The Chosen Category");
+    private static final ValidationException OTHER_DISCIPLINE_NOT_ALLOWED = new ValidationException(
+            ErrorCode.INVALID_FIELD, "The Selected Discipline Does Not Is \"Otra...\"");
+    private static final ValidationException OTHER_DISCIPLINE_REQUIRED = new ValidationException(
+            ErrorCode.INVALID_FIELD, "OtherDiscipline Is Requerid");
+
+    private final ReferenceDataService referenceDataService;
+    private final CultorRepository cultorRepository;
+    private final MunicipalityRepository municipalityRepository;
+    private final ParishRepository parishRepository;
+    private final ArtCategoryRepository artCategoryRepository;
+    private final ArtDisciplineRepository artDisciplineRepository;
+
+    /**
+     * Constructs the validator with its required dependencies.
+     *
+     * @param referenceDataService    Service owning the in-memory reference data snapshot.
+     * @param cultorRepository        Repository providing the single-query hierarchy lookup.
+     * @param municipalityRepository  Repository used to obtain {@link Municipality} references.
+     * @param parishRepository        Repository used to obtain {@link Parish} references.
+     * @param artCategoryRepository   Repository used to obtain {@link ArtCategory} references.
+     * @param artDisciplineRepository Repository used to obtain {@link ArtDiscipline} references.
+     */
+    public CultorReferenceValidator(ReferenceDataService referenceDataService, CultorRepository cultorRepository,
+            MunicipalityRepository municipalityRepository, ParishRepository parishRepository,
+            ArtCategoryRepository artCategoryRepository, ArtDisciplineRepository artDisciplineRepository) {
+        this.referenceDataService = referenceDataService;
+        this.cultorRepository = cultorRepository;
+        this.municipalityRepository = municipalityRepository;
+        this.parishRepository = parishRepository;
+        this.artCategoryRepository = artCategoryRepository;
+        this.artDisciplineRepository = artDisciplineRepository;
+    }
+
+    /**
+     * Resolves and validates all references of the given request.
+     * <p>
+     * Checks run in a fixed order so error messages are deterministic:
+     * municipality, parish, parish/municipality match, category, discipline,
+     * discipline/category match, and finally the "Otra..." rule.
+     *
+     * @param cultorRequest   The request holding the four reference IDs.
+     * @param otherDiscipline The already-normalized 'otherDiscipline' value (may be null).
+     * @return The validated {@link References}.
+     * @throws ResourceNotFoundException If any referenced row does not exist.
+     * @throws ValidationException       If a hierarchy or discipline rule is violated.
+     */
+    @SuppressWarnings("null")
+    public References validate(CultorRequest cultorRequest, String otherDiscipline) {
+        int municipalityId = cultorRequest.getMunicipalityId();
+        int parishId = cultorRequest.getParishId();
+        int artCategoryId = cultorRequest.getArtCategoryId();
+        int artDisciplineId = cultorRequest.getArtDisciplineId();
+
+        // --- 1. Resolve the hierarchy (snapshot first, single query as fallback) ---
+        ReferenceDataSnapshot referenceData = referenceDataService.getSnapshot();
+
+        boolean municipalityExists = referenceData.hasMunicipality(municipalityId);
+        int parishMunicipalityId = referenceData.getParishMunicipalityId(parishId);
+        boolean artCategoryExists = referenceData.hasArtCategory(artCategoryId);
+        int artDisciplineCategoryId = referenceData.getArtDisciplineCategoryId(artDisciplineId);
+        String artDisciplineName = referenceData.getArtDisciplineName(artDisciplineId);
+
+        if (!municipalityExists || parishMunicipalityId == ReferenceDataSnapshot.ABSENT
+                || !artCategoryExists || artDisciplineCategoryId == ReferenceDataSnapshot.ABSENT) {
+            ReferenceHierarchy hierarchy = cultorRepository.findReferenceHierarchy(municipalityId, parishId,
+                    artCategoryId, artDisciplineId);
+
+            municipalityExists = hierarchy.getMunicipalityId() != null;
+            parishMunicipalityId = orAbsent(hierarchy.getParishMunicipalityId());
+            artCategoryExists = hierarchy.getArtCategoryId() != null;
+            artDisciplineCategoryId = orAbsent(hierarchy.getArtDisciplineCategoryId());
+            artDisciplineName = hierarchy.getArtDisciplineName();
+
+            // Every row exists in the database but not in memory: the snapshot is stale
+            if (municipalityExists && parishMunicipalityId != ReferenceDataSnapshot.ABSENT
+                    && artCategoryExists && artDisciplineCategoryId != ReferenceDataSnapshot.ABSENT) {
+                referenceDataService.requestRefresh();
+            }
+        }
+
+        // --- 2. Location checks ---
+        if (!municipalityExists)
+            throw MUNICIPALITY_NOT_FOUND;
+        if (parishMunicipalityId == ReferenceDataSnapshot.ABSENT)
+            throw PARISH_NOT_FOUND;
+        validateParishId(parishMunicipalityId, municipalityId); // Business rule check
+
+        // --- 3. Art checks ---
+        if (!artCategoryExists)
+            throw ART_CATEGORY_NOT_FOUND;
+        if (artDisciplineCategoryId == ReferenceDataSnapshot.ABSENT)
+            throw ART_DISCIPLINE_NOT_FOUND;
+        validateArtDisciplineId(artDisciplineCategoryId, artCategoryId); // Business rule check
+        validateOtherDiscipline(artDisciplineName, otherDiscipline); // Business rule check
+
+        // --- 4. Attach references without loading them ---
+        return new References(
+                municipalityRepository.getReferenceById(municipalityId),
+                parishRepository.getReferenceById(parishId),
+                artCategoryRepository.getReferenceById(artCategoryId),
+                artDisciplineRepository.getReferenceById(artDisciplineId));
+    }
+
+    /**
+     * Validates that the selected Parish belongs to the specified Municipality.
+     *
+     * @throws ValidationException if Parish does not belong to Municipality.
+     */
+    private void validateParishId(int parishMunicipalityId, int municipalityId) {
+        if (parishMunicipalityId != municipalityId) {
+            throw PARISH_MISMATCH;
+        }
+    }
+
+    /**
+     * Validates that the selected Art Discipline belongs to the specified Art
+     * Category.
+     *
+     * @throws ValidationException if Discipline does not belong to Category.
+     */
+    private void validateArtDisciplineId(int artDisciplineCategoryId, int artCategoryId) {
+        if (artDisciplineCategoryId != artCategoryId) {
+            throw ART_DISCIPLINE_MISMATCH;
+        }
+    }
+
+    /**
+     * Validates the logic for the 'otherDiscipline' field.
+     * Ensures 'otherDiscipline' is ONLY provided if the selected discipline is "Otra...",
+     * and MUST be provided if it is.
+     *
+     * @throws ValidationException If the logic is violated.
+     */
+    private void validateOtherDiscipline(String artDisciplineName, String otherDiscipline) {
+        if (!artDisciplineName.equals("Otra...") && otherDiscipline != null && !otherDiscipline.isBlank()) {
+            throw OTHER_DISCIPLINE_NOT_ALLOWED;
+        } else if (artDisciplineName.equals("Otra...")
+                && (otherDiscipline == null || otherDiscipline.isBlank())) {
+            throw OTHER_DISCIPLINE_REQUIRED;
+        }
+    }
+
+    /**
+     * Maps a nullable ID column to {@link ReferenceDataSnapshot#ABSENT}.
+     */
+    private static int orAbsent(Integer id) {
+        return id == null ? ReferenceDataSnapshot.ABSENT : id;
+    }
+
+    /**
+     * Immutable holder for the four validated references of a cultor.
+     */
+    public static final class References {
+
+        private final Municipality municipality;
+        private final Parish parish;
+        private final ArtCategory artCategory;
+        private final ArtDiscipline artDiscipline;
+
+        /**
+         * Constructs a new holder.
+         *
+         * @param municipality  The validated municipality reference.
+         * @param parish        The validated parish reference.
+         * @param artCategory   The validated art category reference.
+         * @param artDiscipline The validated art discipline reference.
+         */
+        public References(Municipality municipality, Parish parish, ArtCategory artCategory,
+                ArtDiscipline artDiscipline) {
+            this.municipality = municipality;
+            this.parish = parish;
+            this.artCategory = artCategory;
+            this.artDiscipline = artDiscipline;
+        }
+
+        // --- Standard Getters ---
+
+        public Municipality getMunicipality() {
+            return municipality;
+        }
+
+        public Parish getParish() {
+            return parish;
+        }
+
+        public ArtCategory getArtCategory() {
+            return artCategory;
+        }
+
+        public ArtDiscipline getArtDiscipline() {
+            return artDiscipline;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import com.culturacarabobo.sicuc.backend.entities.Cultor;
+import com.culturacarabobo.sicuc.backend.entities.CultorSearchGram;
+import com.culturacarabobo.sicuc.backend.repositories.CultorSearchGramRepository;
+import com.culturacarabobo.sicuc.backend.utils.StringUtils;
+
+/**
+ * Maintains the trigram index ({@link CultorSearchGram}) over the digits of
+ * each cultor's id number and phone number.
+ * <p>
+ * Called by {@link CultorService} inside its write transactions, so the index
+ * always commits (or rolls back) together with the cultor row.
+ */
+@Service
+public class CultorSearchGramService {
+
+    private final CultorSearchGramRepository cultorSearchGramRepository;
+
+    /**
+     * Constructs the service.
+     *
+     * @param cultorSearchGramRepository Repository for the trigram postings.
+     */
+    public CultorSearchGramService(CultorSearchGramRepository cultorSearchGramRepository) {
+        this.cultorSearchGramRepository = cultorSearchGramRepository;
+    }
+
+    /**
+     * Returns the trigrams indexed for a cultor: those of the digits of its id
+     * number and of its phone number.
+     *
+     * @param idNumber    The cultor's id number (e.g., "V-12345678").
+     * @param phoneNumber The cultor's phone number (e.g., "0412-1234567").
+     * @return The distinct trigrams of both values.
+     */
+    public static Set<String> gramsOf(String idNumber, String phoneNumber) {
+        Set<String> grams = StringUtils.toTrigrams(StringUtils.toDigits(idNumber));
+        grams.addAll(StringUtils.toTrigrams(StringUtils.toDigits(phoneNumber)));
+        return grams;
+    }
+
+    /**
+     * Replaces the postings of a saved cultor.
+     *
+     * @param cultor The cultor, already holding its database ID.
+     */
+    public void index(Cultor cultor) {
+        int cultorId = cultor.getId();
+        cultorSearchGramRepository.deleteByCultorId(cultorId);
+
+        List<CultorSearchGram> postings = gramsOf(cultor.getIdNumber(), cultor.getPhoneNumber()).stream()
+                .map(gram -> new CultorSearchGram(gram, cultorId))
+                .toList();
+        cultorSearchGramRepository.saveAll(postings);
+    }
+
+    /**
+     * Deletes the postings of a cultor that is about to be deleted.
+     *
+     * @param cultorId The ID of the cultor.
+     */
+    public void remove(int cultorId) {
+        cultorSearchGramRepository.deleteByCultorId(cultorId);
+    }
+}
@@ -0,0 +1,715 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.culturacarabobo.sicuc.backend.entities.Cultor;
+import com.culturacarabobo.sicuc.backend.repositories.CultorRepository;
+import com.culturacarabobo.sicuc.backend.repositories.CultorRepository.SearchSource;
+import com.culturacarabobo.sicuc.backend.utils.StringUtils;
+
+/**
+ * In-process inverted index over the searchable text of every cultor.
+ * <p>
+ * Indexed fields (and their ranking weight):
+ * <ul>
+ * <li>First and last names (3)</li>
+ * <li>Id number and phone number digits (3), indexed as every suffix of at
+ * least three digits so a digit prefix lookup finds any substring. Words of
+ * the other fields that hold digits (e.g., "Grupo 5 de Julio") are indexed
+ * both in their own field and here.</li>
+ * <li>Group name (2)</li>
+ * <li>Other discipline (1)</li>
+ * </ul>
+ * Each query word must match at least one field (AND semantics, any number of
+ * words). A word scores its field weight for an exact term, 75% of it for a
+ * prefix of a term, and 50% for a fuzzy match (edit distance 1, or 2 for words
+ * of eight or more letters, sharing the first letter; a swap of two adjacent
+ * letters counts as one edit). A word holding digits also matches the other
+ * fields exactly or by prefix, without fuzziness. Hits are ranked by the
+ * summed score, then alphabetically by last and first name.
+ * <p>
+ * The gender, municipality, parish, art category and art discipline filters
+ * are served from per-value postings: the candidates are the smallest of the
+ * requested postings (or text matches), checked against the other filters.
+ * A filter-only search therefore visits the smallest requested posting, not
+ * every document.
+ * <p>
+ * The index is built at startup by streaming the {@code cultors} table, and
+ * kept current by {@link CultorService}, whose writes are applied once their
+ * transaction commits. A write updates only the entries of the documents it
+ * touches, in concurrent maps and sets. Readers never lock; writers are
+ * serialized. A search running alongside a write may or may not see it, but
+ * every hit is checked against a whole document, so its filters always hold.
+ */
+@Service
+public class CultorSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CultorSearchIndex.class);
+
+    /**
+     * Splits normalized text into words.
+     */
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^a-z0-9]+");
+
+    /**
+     * Matches words holding a number (e.g., "V-123", "0412-555"), which are
+     * kept whole instead of being split on their punctuation.
+     */
+    private static final Pattern NUMBER_WORD = Pattern.compile(".*\\d.*");
+
+    private static final double EXACT = 1.0;
+    private static final double PREFIX = 0.75;
+    private static final double FUZZY = 0.5;
+
+    /**
+     * Indexed fields and their ranking weight.
+     */
+    private enum Field {
+        NAME(3.0), NUMBER(3.0), GROUP(2.0), OTHER_DISCIPLINE(1.0);
+
+        private final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Filterable attributes served from postings (attribute value -> cultor IDs).
+     */
+    private enum Attribute {
+        GENDER(document -> document.gender),
+        MUNICIPALITY(document -> document.municipalityId),
+        PARISH(document -> document.parishId),
+        ART_CATEGORY(document -> document.artCategoryId),
+        ART_DISCIPLINE(document -> document.artDisciplineId);
+
+        private final Function<Document, Object> value;
+
+        Attribute(Function<Document, Object> value) {
+            this.value = value;
+        }
+    }
+
+    private final CultorRepository cultorRepository;
+
+    /**
+     * The current index. Mutated in place by writers (under this object's
+     * monitor) and replaced as a whole by {@link #rebuild()}.
+     */
+    private volatile Index index = new Index();
+
+    /**
+     * Constructs the index.
+     *
+     * @param cultorRepository Repository used to stream the table at startup.
+     */
+    public CultorSearchIndex(CultorRepository cultorRepository) {
+        this.cultorRepository = cultorRepository;
+    }
+
+    // --- Building & Maintenance ---
+
+    /**
+     * Builds the index once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Streams the whole {@code cultors} table into a new index and publishes
+     * it. Must run inside a (read-only) transaction.
+     * <p>
+     * Writers wait while the index is rebuilt, so no committed write is lost
+     * between the table snapshot and the swap.
+     */
+    public synchronized void rebuild() {
+        Index next = new Index();
+        try (Stream<SearchSource> rows = cultorRepository.streamSearchSources()) {
+            rows.forEach(row -> next.put(Document.of(row.getId(), row.getFirstName(), row.getLastName(),
+                    row.getIdNumber(), row.getPhoneNumber(), row.getGroupName(), row.getOtherDiscipline(),
+                    row.getGender(), row.getMunicipalityId(), row.getParishId(), row.getArtCategoryId(),
+                    row.getArtDisciplineId(), row.getDisability(), row.getIllness())));
+        }
+        index = next;
+        logger.info("Cultor search index built ({} cultors, {} terms)", next.documents.size(), next.termCount());
+    }
+
+    /**
+     * Adds or replaces a cultor. The document is captured now and applied once
+     * the surrounding transaction commits (immediately if there is none).
+     *
+     * @param cultor The saved cultor (with its ID and references set).
+     */
+    public void index(Cultor cultor) {
+        index(List.of(cultor));
+    }
+
+    /**
+     * Adds or replaces several cultors at once (e.g., a bulk import), taking
+     * the writer lock once for all of them. The documents are captured now and
+     * applied once the surrounding transaction commits (immediately if there
+     * is none).
+     *
+     * @param cultors The saved cultors (with their IDs and references set).
+     */
+    public void index(Collection<Cultor> cultors) {
+        Map<Integer, Document> documents = new LinkedHashMap<>();
+        for (Cultor cultor : cultors) {
+            documents.put(cultor.getId(), Document.of(cultor.getId(), cultor.getFirstName(), cultor.getLastName(),
+                    cultor.getIdNumber(), cultor.getPhoneNumber(), cultor.getGroupName(),
+                    cultor.getOtherDiscipline(), cultor.getGender(), cultor.getMunicipality().getId(),
+                    cultor.getParish().getId(), cultor.getArtCategory().getId(), cultor.getArtDiscipline().getId(),
+                    cultor.getDisability(), cultor.getIllness()));
+        }
+        afterCommit(() -> apply(documents));
+    }
+
+    /**
+     * Removes a cultor once the surrounding transaction commits (immediately if
+     * there is none).
+     *
+     * @param cultorId The ID of the deleted cultor.
+     */
+    public void remove(int cultorId) {
+        Map<Integer, Document> removal = new HashMap<>();
+        removal.put(cultorId, null);
+        afterCommit(() -> apply(removal));
+    }
+
+    /**
+     * Replaces the given documents (or removes them, where the document is
+     * null) in the current index. The cost is proportional to the terms of
+     * the documents, not to the size of the index.
+     */
+    private synchronized void apply(Map<Integer, Document> documents) {
+        Index current = index;
+        documents.forEach((cultorId, document) -> {
+            current.remove(cultorId);
+            if (document != null) {
+                current.put(document);
+            }
+        });
+    }
+
+    /**
+     * Runs the action after the current transaction commits, or right away.
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // --- Searching ---
+
+    /**
+     * Searches the index.
+     *
+     * @param query           Optional free text (any number of words).
+     * @param gender          Optional gender filter.
+     * @param municipalityId  Optional municipality filter.
+     * @param parishId        Optional parish filter.
+     * @param artCategoryId   Optional art category filter.
+     * @param artDisciplineId Optional art discipline filter.
+     * @param hasDisability   Optional disability presence filter.
+     * @param hasIllness      Optional illness presence filter.
+     * @param offset          Index of the first hit to return.
+     * @param limit           Maximum number of hits to return.
+     * @return The ranked page of cultor IDs, the total hit count and the facet
+     * counts over all hits.
+     */
+    public Result search(String query, String gender, Integer municipalityId, Integer parishId,
+            Integer artCategoryId, Integer artDisciplineId, Boolean hasDisability, Boolean hasIllness,
+            long offset, int limit) {
+        Index current = index;
+
+        // 1. Text matching: intersect the scored matches of every word
+        Map<Integer, Double> scores = null;
+        for (String word : tokenize(query)) {
+            Map<Integer, Double> wordScores = current.match(word);
+            if (scores == null) {
+                scores = wordScores;
+            } else {
+                scores.keySet().retainAll(wordScores.keySet());
+                scores.replaceAll((id, score) -> score + wordScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+
+        // 2. Candidates: the smallest of the text matches and the requested
+        // attribute postings (every document if there is neither)
+        Set<Integer> candidates = scores != null ? scores.keySet() : null;
+        Map<Attribute, Object> filters = new EnumMap<>(Attribute.class);
+        putIfPresent(filters, Attribute.GENDER, gender == null ? null : gender.toUpperCase(Locale.ROOT));
+        putIfPresent(filters, Attribute.MUNICIPALITY, municipalityId);
+        putIfPresent(filters, Attribute.PARISH, parishId);
+        putIfPresent(filters, Attribute.ART_CATEGORY, artCategoryId);
+        putIfPresent(filters, Attribute.ART_DISCIPLINE, artDisciplineId);
+        for (Map.Entry<Attribute, Object> filter : filters.entrySet()) {
+            Set<Integer> posting = current.posting(filter.getKey(), filter.getValue());
+            if (candidates == null || posting.size() < candidates.size()) {
+                candidates = posting;
+            }
+        }
+        if (candidates == null) {
+            candidates = current.documents.keySet();
+        }
+
+        // 3. Intersect the candidates with the other conditions, in one pass that
+        // counts the facets and the total, and keeps only the best offset + limit
+        // hits in a bounded heap (worst on top), so a page never sorts every hit
+        int keep = (int) Math.min(offset + limit, Integer.MAX_VALUE);
+        PriorityQueue<Hit> best = new PriorityQueue<>(Math.max(1, Math.min(keep, 1024)), Hit.RANKING.reversed());
+        FacetCounts facets = new FacetCounts();
+        int total = 0;
+        for (Integer id : candidates) {
+            Document document = current.documents.get(id);
+            if (document == null || (scores != null && !scores.containsKey(id))
+                    || !document.matches(gender, municipalityId, parishId, artCategoryId, artDisciplineId,
+                            hasDisability, hasIllness)) {
+                continue;
+            }
+            total++;
+            facets.add(document);
+
+            double score = scores != null ? scores.get(id) : 0.0;
+            if (best.size() < keep) {
+                best.add(new Hit(document, score));
+            } else if (keep > 0 && Hit.compare(score, document, best.peek()) < 0) {
+                best.poll();
+                best.add(new Hit(document, score));
+            }
+        }
+
+        // 4. Rank the kept hits and return the requested page
+        Hit[] ranked = best.toArray(new Hit[0]);
+        Arrays.sort(ranked, Hit.RANKING);
+        List<Integer> page = new ArrayList<>(Math.max(0, (int) Math.min(limit, ranked.length - offset)));
+        for (long i = offset; i < ranked.length; i++) {
+            page.add(ranked[(int) i].document.id);
+        }
+        return new Result(page, total, facets.toMap());
+    }
+
+    private static void putIfPresent(Map<Attribute, Object> filters, Attribute attribute, Object value) {
+        if (value != null) {
+            filters.put(attribute, value);
+        }
+    }
+
+    /**
+     * Normalizes text (lowercase, accent-folded) and splits it into words.
+     * Words holding digits are kept whole, so "0412-555" stays one number.
+     */
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>();
+        for (String part : StringUtils.toSearchKey(text).split(" ")) {
+            if (NUMBER_WORD.matcher(part).matches()) {
+                words.add(part);
+                continue;
+            }
+            for (String word : WORD_SEPARATOR.split(part)) {
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Edit distance between two strings (insertions, deletions, substitutions
+     * and adjacent transpositions), or {@code max + 1} as soon as it is known
+     * to exceed {@code max}.
+     */
+    static int boundedDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    // --- Index Structures ---
+
+    /**
+     * The documents, one sorted term dictionary (term -> cultor IDs) per field
+     * and one posting map (value -> cultor IDs) per filterable attribute.
+     * <p>
+     * All concurrent maps and sets: writers (serialized by the enclosing
+     * index) update them in place, one document at a time, while readers
+     * iterate them without locking.
+     */
+    private static final class Index {
+
+        private final Map<Integer, Document> documents = new ConcurrentHashMap<>();
+        private final Map<Field, NavigableMap<String, Set<Integer>>> terms = new EnumMap<>(Field.class);
+        private final Map<Attribute, Map<Object, Set<Integer>>> postings = new EnumMap<>(Attribute.class);
+
+        private Index() {
+            for (Field field : Field.values()) {
+                terms.put(field, new ConcurrentSkipListMap<>());
+            }
+            for (Attribute attribute : Attribute.values()) {
+                postings.put(attribute, new ConcurrentHashMap<>());
+            }
+        }
+
+        /**
+         * Returns the IDs of the documents with the given attribute value.
+         */
+        private Set<Integer> posting(Attribute attribute, Object value) {
+            return postings.get(attribute).getOrDefault(value, Set.of());
+        }
+
+        private void put(Document document) {
+            documents.put(document.id, document);
+            document.terms.forEach((field, fieldTerms) -> {
+                for (String term : fieldTerms) {
+                    add(terms.get(field), term, document.id);
+                }
+            });
+            for (Attribute attribute : Attribute.values()) {
+                add(postings.get(attribute), attribute.value.apply(document), document.id);
+            }
+        }
+
+        private void remove(int cultorId) {
+            Document document = documents.remove(cultorId);
+            if (document == null) {
+                return;
+            }
+            document.terms.forEach((field, fieldTerms) -> {
+                for (String term : fieldTerms) {
+                    remove(terms.get(field), term, cultorId);
+                }
+            });
+            for (Attribute attribute : Attribute.values()) {
+                remove(postings.get(attribute), attribute.value.apply(document), cultorId);
+            }
+        }
+
+        private static <K> void add(Map<K, Set<Integer>> map, K key, int cultorId) {
+            map.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(cultorId);
+        }
+
+        private static <K> void remove(Map<K, Set<Integer>> map, K key, int cultorId) {
+            map.computeIfPresent(key, (k, ids) -> {
+                ids.remove(cultorId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+
+        private int termCount() {
+            return terms.values().stream().mapToInt(Map::size).sum();
+        }
+
+        /**
+         * Returns the best score of a single word for every matching document.
+         */
+        private Map<Integer, Double> match(String word) {
+            Map<Integer, Double> scores = new HashMap<>();
+            String digits = StringUtils.toDigits(word);
+
+            if (!digits.isEmpty()) {
+                // Numbers: the suffix dictionary turns a prefix lookup into a substring match
+                collect(scores, prefixRange(terms.get(Field.NUMBER), digits), Field.NUMBER.weight * EXACT);
+            }
+
+            for (Field field : List.of(Field.NAME, Field.GROUP, Field.OTHER_DISCIPLINE)) {
+                NavigableMap<String, Set<Integer>> dictionary = terms.get(field);
+
+                Set<Integer> exact = dictionary.get(word);
+                if (exact != null) {
+                    collect(scores, Map.of(word, exact), field.weight * EXACT);
+                }
+                collect(scores, prefixRange(dictionary, word).tailMap(word, false), field.weight * PREFIX);
+
+                if (digits.isEmpty() && word.length() >= 4) {
+                    int maxDistance = word.length() >= 8 ? 2 : 1;
+                    Map<String, Set<Integer>> fuzzy = new HashMap<>();
+                    prefixRange(dictionary, word.substring(0, 1)).forEach((term, ids) -> {
+                        if (!term.startsWith(word) && boundedDistance(word, term, maxDistance) <= maxDistance) {
+                            fuzzy.put(term, ids);
+                        }
+                    });
+                    collect(scores, fuzzy, field.weight * FUZZY);
+                }
+            }
+            return scores;
+        }
+
+        private static NavigableMap<String, Set<Integer>> prefixRange(
+                NavigableMap<String, Set<Integer>> dictionary, String prefix) {
+            return dictionary.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        }
+
+        private static void collect(Map<Integer, Double> scores, Map<String, Set<Integer>> matches, double score) {
+            for (Set<Integer> ids : matches.values()) {
+                for (Integer id : ids) {
+                    scores.merge(id, score, Math::max);
+                }
+            }
+        }
+    }
+
+    /**
+     * The indexed form of one cultor: its terms per field and the attributes
+     * used for filtering, faceting and ordering.
+     */
+    private static final class Document {
+
+        private final int id;
+        private final String sortKey;
+        private final String gender;
+        private final int municipalityId;
+        private final int parishId;
+        private final int artCategoryId;
+        private final int artDisciplineId;
+        private final boolean hasDisability;
+        private final boolean hasIllness;
+        private final Map<Field, Set<String>> terms;
+
+        private Document(int id, String sortKey, String gender, int municipalityId, int parishId,
+                int artCategoryId, int artDisciplineId, boolean hasDisability, boolean hasIllness,
+                Map<Field, Set<String>> terms) {
+            this.id = id;
+            this.sortKey = sortKey;
+            this.gender = gender;
+            this.municipalityId = municipalityId;
+            this.parishId = parishId;
+            this.artCategoryId = artCategoryId;
+            this.artDisciplineId = artDisciplineId;
+            this.hasDisability = hasDisability;
+            this.hasIllness = hasIllness;
+            this.terms = terms;
+        }
+
+        @SuppressWarnings("null")
+        private static Document of(int id, String firstName, String lastName, String idNumber,
+                String phoneNumber, String groupName, String otherDiscipline, String gender, int municipalityId,
+                int parishId, int artCategoryId, int artDisciplineId, String disability, String illness) {
+            Map<Field, Set<String>> terms = new EnumMap<>(Field.class);
+
+            Set<String> names = new HashSet<>(tokenize(firstName));
+            names.addAll(tokenize(lastName));
+            terms.put(Field.NAME, names);
+
+            terms.put(Field.GROUP, new HashSet<>(tokenize(groupName)));
+            terms.put(Field.OTHER_DISCIPLINE, new HashSet<>(tokenize(otherDiscipline)));
+
+            // The id and phone numbers, plus the words of the other fields that hold digits
+            List<String> numberSources = new ArrayList<>(List.of(StringUtils.toDigits(idNumber),
+                    StringUtils.toDigits(phoneNumber)));
+            terms.values().forEach(fieldTerms -> fieldTerms.stream()
+                    .filter(term -> NUMBER_WORD.matcher(term).matches())
+                    .map(StringUtils::toDigits)
+                    .forEach(numberSources::add));
+            Set<String> numbers = new HashSet<>();
+            for (String number : numberSources) {
+                for (int start = 0; start + StringUtils.GRAM_LENGTH <= number.length(); start++) {
+                    numbers.add(number.substring(start));
+                }
+            }
+            terms.put(Field.NUMBER, numbers);
+
+            String sortKey = StringUtils.toSearchKey(lastName) + " " + StringUtils.toSearchKey(firstName);
+            return new Document(id, sortKey, gender == null ? null : gender.toUpperCase(Locale.ROOT),
+                    municipalityId, parishId, artCategoryId, artDisciplineId,
+                    disability != null && !disability.isBlank(), illness != null && !illness.isBlank(),
+                    Collections.unmodifiableMap(terms));
+        }
+
+        private boolean matches(String gender, Integer municipalityId, Integer parishId, Integer artCategoryId,
+                Integer artDisciplineId, Boolean hasDisability, Boolean hasIllness) {
+            return (gender == null || gender.equalsIgnoreCase(this.gender))
+                    && (municipalityId == null || municipalityId == this.municipalityId)
+                    && (parishId == null || parishId == this.parishId)
+                    && (artCategoryId == null || artCategoryId == this.artCategoryId)
+                    && (artDisciplineId == null || artDisciplineId == this.artDisciplineId)
+                    && (hasDisability == null || hasDisability == this.hasDisability)
+                    && (hasIllness == null || hasIllness == this.hasIllness);
+        }
+    }
+
+    /**
+     * A scored document.
+     */
+    private static final class Hit {
+
+        private static final Comparator<Hit> RANKING = (a, b) -> compare(a.score, a.document, b);
+
+        private final Document document;
+        private final double score;
+
+        private Hit(Document document, double score) {
+            this.document = document;
+            this.score = score;
+        }
+
+        /**
+         * Compares a candidate (not yet wrapped in a {@link Hit}) with a hit:
+         * higher score first, then by sort key, then by ID.
+         */
+        private static int compare(double score, Document document, Hit other) {
+            int byScore = Double.compare(other.score, score);
+            if (byScore != 0) {
+                return byScore;
+            }
+            int bySortKey = document.sortKey.compareTo(other.document.sortKey);
+            return bySortKey != 0 ? bySortKey : Integer.compare(document.id, other.document.id);
+        }
+    }
+
+    /**
+     * Hit counts per value of every filterable attribute, accumulated one hit
+     * at a time.
+     */
+    private static final class FacetCounts {
+
+        private static final String[] NAMES = { "gender", "municipalityId", "parishId", "artCategoryId",
+                "artDisciplineId", "hasDisability", "hasIllness" };
+
+        @SuppressWarnings("unchecked")
+        private final Map<Object, int[]>[] counts = new Map[NAMES.length];
+
+        private FacetCounts() {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = new HashMap<>();
+            }
+        }
+
+        private void add(Document document) {
+            count(0, document.gender);
+            count(1, document.municipalityId);
+            count(2, document.parishId);
+            count(3, document.artCategoryId);
+            count(4, document.artDisciplineId);
+            count(5, document.hasDisability);
+            count(6, document.hasIllness);
+        }
+
+        private void count(int facet, Object value) {
+            counts[facet].computeIfAbsent(value, key -> new int[1])[0]++;
+        }
+
+        /**
+         * Returns the counts per facet, with the values as sorted strings.
+         */
+        private Map<String, Map<String, Integer>> toMap() {
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            for (int i = 0; i < NAMES.length; i++) {
+                Map<String, Integer> values = new TreeMap<>();
+                counts[i].forEach((value, count) -> values.put(String.valueOf(value), count[0]));
+                facets.put(NAMES[i], values);
+            }
+            return facets;
+        }
+    }
+
+    /**
+     * A page of ranked search results.
+     */
+    public static final class Result {
+
+        private final List<Integer> ids;
+        private final int total;
+        private final Map<String, Map<String, Integer>> facets;
+
+        /**
+         * Constructs a new result.
+         *
+         * @param ids    The cultor IDs of the requested page, in rank order.
+         * @param total  The total number of hits.
+         * @param facets The hit counts per attribute value.
+         */
+        public Result(List<Integer> ids, int total, Map<String, Map<String, Integer>> facets) {
+            this.ids = ids;
+            this.total = total;
+            this.facets = facets;
+        }
+
+        // --- Standard Getters ---
+
+        public List<Integer> getIds() {
+            return ids;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public Map<String, Map<String, Integer>> getFacets() {
+            return facets;
+        }
+    }
+}
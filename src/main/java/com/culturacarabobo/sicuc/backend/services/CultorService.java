@@ -1,29 +1,36 @@
 package com.culturacarabobo.sicuc.backend.services;
 
-import jakarta.persistence.EntityNotFoundException;
-
 import java.net.URI;
 import java.time.LocalDate;
-
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.culturacarabobo.sicuc.backend.dtos.CultorCursorResponse;
 import com.culturacarabobo.sicuc.backend.dtos.CultorRequest;
 import com.culturacarabobo.sicuc.backend.dtos.CultorResponse;
-import com.culturacarabobo.sicuc.backend.entities.ArtCategory;
-import com.culturacarabobo.sicuc.backend.entities.ArtDiscipline;
+import com.culturacarabobo.sicuc.backend.dtos.CultorSearchResponse;
 import com.culturacarabobo.sicuc.backend.entities.Cultor;
-import com.culturacarabobo.sicuc.backend.entities.Municipality;
-import com.culturacarabobo.sicuc.backend.entities.Parish;
 import com.culturacarabobo.sicuc.backend.exceptions.DuplicateEntityException;
-import com.culturacarabobo.sicuc.backend.repositories.ArtCategoryRepository;
-import com.culturacarabobo.sicuc.backend.repositories.ArtDisciplineRepository;
+import com.culturacarabobo.sicuc.backend.exceptions.ErrorCode;
+import com.culturacarabobo.sicuc.backend.exceptions.ResourceNotFoundException;
+import com.culturacarabobo.sicuc.backend.exceptions.UniqueConstraintTranslator;
+import com.culturacarabobo.sicuc.backend.exceptions.ValidationException;
 import com.culturacarabobo.sicuc.backend.repositories.CultorRepository;
-import com.culturacarabobo.sicuc.backend.repositories.MunicipalityRepository;
-import com.culturacarabobo.sicuc.backend.repositories.ParishRepository;
+import com.culturacarabobo.sicuc.backend.repositories.CultorRepository.UniqueFieldCollisions;
 import com.culturacarabobo.sicuc.backend.specifications.CultorSpecification;
 import com.culturacarabobo.sicuc.backend.utils.DateValidator;
 import com.culturacarabobo.sicuc.backend.utils.StringUtils;
@@ -36,31 +43,70 @@ import com.culturacarabobo.sicuc.backend.utils.StringValidator;
 @Service
 public class CultorService {
 
-    // Repositories are declared 'final' and injected via the constructor
+    // Dependencies are declared 'final' and injected via the constructor
     private final CultorRepository cultorRepository;
-    private final MunicipalityRepository municipalityRepository;
-    private final ParishRepository parishRepository;
-    private final ArtCategoryRepository artCategoryRepository;
-    private final ArtDisciplineRepository artDisciplineRepository;
+    private final CultorReferenceValidator cultorReferenceValidator;
+    private final CultorSearchGramService cultorSearchGramService;
+    private final CultorSearchIndex cultorSearchIndex;
+    private final CultorCountCache cultorCountCache;
 
     /**
-     * Constructs the service and injects all required repositories.
+     * When {@code true}, create/update skip the uniqueness pre-check and rely on
+     * the database's unique constraints ("optimistic insert").
+     */
+    private final boolean optimisticInsert;
+
+    /**
+     * Largest page size accepted by {@link #getCultorsByCursor}.
+     */
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    // Preallocated rejections of the write path (stackless, see DomainException)
+    private static final ValidationException ID_NUMBER_MODIFIED = new ValidationException(
+            ErrorCode.IMMUTABLE_FIELD, "The IdNumber (Cédula) cannot be modified.");
+    private static final ValidationException BIRTH_DATE_MODIFIED = new ValidationException(
+            ErrorCode.IMMUTABLE_FIELD, "The Birth Date cannot be modified.");
+    private static final ValidationException FIRST_NAME_INVALID = new ValidationException(
+            ErrorCode.INVALID_FIELD, "FirstName Is Invalid");
+    private static final ValidationException LAST_NAME_INVALID = new ValidationException(
+            ErrorCode.INVALID_FIELD, "LastName Is Invalid");
+    private static final ValidationException GENDER_INVALID = new ValidationException(
+            ErrorCode.INVALID_FIELD, "Gender Is Invalid");
+    private static final ValidationException BIRTH_DATE_INVALID = new ValidationException(
+            ErrorCode.INVALID_FIELD, "BirthDate Is Invalid");
+
+    // Preallocated rejections of the list parameters
+    private static final ValidationException COUNT_INVALID = new ValidationException(
+            ErrorCode.INVALID_PARAMETER, "Count Is Invalid");
+    private static final ValidationException SIZE_INVALID = new ValidationException(
+            ErrorCode.INVALID_PARAMETER, "Size Must Be Between 1 And " + MAX_CURSOR_PAGE_SIZE);
+    private static final ValidationException SORT_MISMATCH = new ValidationException(
+            ErrorCode.INVALID_PARAMETER, "Sort Does Not Match The Cursor");
+
+    /**
+     * Constructs the service and injects all required dependencies.
      * Spring automatically provides these dependencies.
      *
-     * @param cultorRepository        Repository for {@link Cultor} data access.
-     * @param municipalityRepository  Repository for {@link Municipality} data access.
-     * @param parishRepository        Repository for {@link Parish} data access.
-     * @param artCategoryRepository   Repository for {@link ArtCategory} data access.
-     * @param artDisciplineRepository Repository for {@link ArtDiscipline} data access.
+     * @param cultorRepository         Repository for {@link Cultor} data access.
+     * @param cultorReferenceValidator Validator for the Municipality/Parish and
+     * Category/Discipline references of a request.
+     * @param cultorSearchGramService  Service maintaining the trigram index over
+     * id and phone numbers.
+     * @param cultorSearchIndex        In-memory index serving ranked searches.
+     * @param cultorCountCache         Cache of filtered totals, cleared on every write.
+     * @param optimisticInsert         Whether to skip the uniqueness pre-check
+     * (from {@code application.cultors.optimistic-insert}).
      */
-    public CultorService(CultorRepository cultorRepository, MunicipalityRepository municipalityRepository,
-            ParishRepository parishRepository, ArtCategoryRepository artCategoryRepository,
-            ArtDisciplineRepository artDisciplineRepository) {
+    public CultorService(CultorRepository cultorRepository, CultorReferenceValidator cultorReferenceValidator,
+            CultorSearchGramService cultorSearchGramService, CultorSearchIndex cultorSearchIndex,
+            CultorCountCache cultorCountCache,
+            @Value("${application.cultors.optimistic-insert:false}") boolean optimisticInsert) {
         this.cultorRepository = cultorRepository;
-        this.municipalityRepository = municipalityRepository;
-        this.parishRepository = parishRepository;
-        this.artCategoryRepository = artCategoryRepository;
-        this.artDisciplineRepository = artDisciplineRepository;
+        this.cultorReferenceValidator = cultorReferenceValidator;
+        this.cultorSearchGramService = cultorSearchGramService;
+        this.cultorSearchIndex = cultorSearchIndex;
+        this.cultorCountCache = cultorCountCache;
+        this.optimisticInsert = optimisticInsert;
     }
 
     /**
@@ -69,40 +115,27 @@ public class CultorService {
      * @param cultorRequest The DTO containing the data for the new cultor.
      * @return A {@link ResponseEntity} with the created {@link CultorResponse} and HTTP 201 (Created).
      * @throws DuplicateEntityException If idNumber, phoneNumber, email, or instagramUser already exist.
-     * @throws EntityNotFoundException  If related entities (Municipality, Parish, etc.) are not found.
-     * @throws IllegalArgumentException If business rules (e.g., validations, relationships) fail.
+     * @throws ResourceNotFoundException If related entities (Municipality, Parish, etc.) are not found.
+     * @throws ValidationException      If business rules (e.g., validations, relationships) fail.
      */
     @SuppressWarnings("null")
+    @Transactional
     public ResponseEntity<CultorResponse> create(CultorRequest cultorRequest) {
-        // 1. Perform preliminary uniqueness checks
-        if (cultorRepository.existsByIdNumber(cultorRequest.getIdNumber()))
-            throw new DuplicateEntityException("Id Number Already Exists");
-        if (cultorRepository.existsByPhoneNumber(cultorRequest.getPhoneNumber()))
-            throw new DuplicateEntityException("Phone Number Already Exists");
-
-        // 2. Uniqueness check for optional email
-        String email = cultorRequest.getEmail();
-        if (email != null && !email.trim().isEmpty()) {
-            email = email.toLowerCase();
-            if (cultorRepository.existsByEmail(email)) // Use normalized email
-                throw new DuplicateEntityException("Email Already Exists");
-        }
-
-        // 3. Uniqueness check for optional instagramUser
-        String instagramUser = cultorRequest.getInstagramUser();
-        if (instagramUser != null && !instagramUser.trim().isEmpty()) {
-            instagramUser = instagramUser.toLowerCase();
-            if (cultorRepository.existsByInstagramUser(instagramUser)) // Use normalized user
-                throw new DuplicateEntityException("Instagram Username Already Exists");
-        }
+        // 1. Perform preliminary uniqueness checks (one round trip for all four fields).
+        // Skipped in optimistic mode: the unique constraints reject duplicates on insert.
+        if (!optimisticInsert)
+            checkUniqueFields(cultorRequest, 0);
 
-        // 4. Map DTO to Entity, performing all deep validations
+        // 2. Map DTO to Entity, performing all deep validations
         Cultor cultor = mapAndValidateCultor(new Cultor(), cultorRequest);
         
-        // 5. Save the new entity
-        Cultor saved = cultorRepository.save(cultor);
+        // 3. Save the new entity (a concurrent duplicate is still caught by the DB)
+        Cultor saved = save(cultor);
+        cultorSearchGramService.index(saved); // Same transaction as the insert
+        cultorSearchIndex.index(saved); // Applied after commit
+        cultorCountCache.invalidate(); // Applied after commit
 
-        // 6. Build the 201 Created response
+        // 4. Build the 201 Created response
         URI location = URI.create("/cultors/" + saved.getId());
         return ResponseEntity.created(location).body(toCultorResponse(saved));
     }
@@ -118,46 +151,40 @@ public class CultorService {
      * @param id            The ID of the cultor to update.
      * @param cultorRequest The DTO containing the new data.
      * @return A {@link ResponseEntity} with the updated {@link CultorResponse} and HTTP 200 (OK).
-     * @throws EntityNotFoundException  If the cultor with the given ID is not found.
+     * @throws ResourceNotFoundException If the cultor with the given ID is not found.
      * @throws DuplicateEntityException If unique fields conflict with another existing cultor.
-     * @throws IllegalArgumentException If an immutable field is changed or business rules fail.
+     * @throws ValidationException      If an immutable field is changed or business rules fail.
      */
+    @Transactional
     public ResponseEntity<CultorResponse> update(Integer id, CultorRequest cultorRequest) {
         // 1. Find the existing entity or throw 404
         Cultor cultorExisting = cultorRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Cultor Not Found With Id: " + id));
+                .orElseThrow(() -> cultorNotFound(id));
 
         // 2. Enforce business rule: Immutable fields
         if (!cultorExisting.getIdNumber().equals(cultorRequest.getIdNumber())) {
-            throw new IllegalArgumentException("The IdNumber (Cédula) cannot be modified.");
+            throw ID_NUMBER_MODIFIED;
         }
         if (!cultorExisting.getBirthDate().equals(cultorRequest.getBirthDate())) {
-            throw new IllegalArgumentException("The Birth Date cannot be modified.");
+            throw BIRTH_DATE_MODIFIED;
         }
 
-        // 3. Enforce business rule: Uniqueness checks for MUTABLE fields
-        if (cultorRepository.existsByPhoneNumberAndIdNot(cultorRequest.getPhoneNumber(), id))
-            throw new DuplicateEntityException("Phone Number Already Exists");
-
-        String email = cultorRequest.getEmail();
-        if (email != null && !email.trim().isEmpty()) {
-            email = email.toLowerCase();
-            if (cultorRepository.existsByEmailAndIdNot(email, id))
-                throw new DuplicateEntityException("Email Already Exists");
-        }
-
-        String instagramUser = cultorRequest.getInstagramUser();
-        if (instagramUser != null && !instagramUser.trim().isEmpty()) {
-            instagramUser = instagramUser.toLowerCase();
-            if (cultorRepository.existsByInstagramUserAndIdNot(instagramUser, id))
-                throw new DuplicateEntityException("Instagram Username Already Exists");
-        }
+        // 3. Enforce business rule: Uniqueness checks against *other* cultors
+        // (skipped in optimistic mode, see create)
+        if (!optimisticInsert)
+            checkUniqueFields(cultorRequest, id);
 
         // 4. Map DTO data onto the existing entity, validating all fields
+        String previousPhoneNumber = cultorExisting.getPhoneNumber();
         mapAndValidateCultor(cultorExisting, cultorRequest);
 
-        // 5. Save the updated entity
-        Cultor saved = cultorRepository.save(cultorExisting);
+        // 5. Save the updated entity (the idNumber is immutable, so only a new
+        // phone number changes the indexed trigrams)
+        Cultor saved = save(cultorExisting);
+        if (!saved.getPhoneNumber().equals(previousPhoneNumber))
+            cultorSearchGramService.index(saved);
+        cultorSearchIndex.index(saved); // Applied after commit
+        cultorCountCache.invalidate(); // Filtered attributes may have changed
 
         // 6. Return 200 OK
         return ResponseEntity.ok(toCultorResponse(saved));
@@ -166,27 +193,167 @@ public class CultorService {
     /**
      * Retrieves a paginated list of cultors based on dynamic filter criteria.
      * Uses {@link CultorSpecification} to build the query.
+     * <p>
+     * The page is read straight into {@link CultorResponse} DTOs (see
+     * {@link CultorRepository#findResponses}) inside a read-only transaction, so
+     * no entity is hydrated or snapshotted. One extra row tells whether more
+     * follow, and the total comes from {@link CultorCountCache}:
+     * <ul>
+     * <li>{@code "exact"} (default): the cached count of these filters, running
+     * the COUNT query only on a cache miss.</li>
+     * <li>{@code "estimated"}: never runs the COUNT query. Uses the cached count
+     * if present, otherwise the lower bound implied by the page (the rows seen
+     * so far, plus one if another page follows).</li>
+     * </ul>
+     * As before, no count is needed when the page itself reveals the total
+     * (e.g., a first page that is not full).
      *
      * @param query           (and all other params)...
      * @param pageable        The pagination information (page, size, sort).
+     * @param count           {@code "exact"} (default) or {@code "estimated"}.
      * @return A {@link Page} of {@link CultorResponse} DTOs.
+     * @throws ValidationException If the count mode is unknown.
      */
+    @SuppressWarnings("null")
+    @Transactional(readOnly = true)
     public Page<CultorResponse> getAllCultorsWithFilters(String query, String gender, Integer municipalityId,
             Integer parishId,
             Integer artCategoryId, Integer artDisciplineId,
             Boolean hasDisability, Boolean hasIllness,
-            Pageable pageable) {
-        
+            Pageable pageable, String count) {
+        CountMode countMode = CountMode.parse(count, CountMode.EXACT);
+        if (countMode == CountMode.NONE)
+            throw COUNT_INVALID;
+        // Read before the first query fixes the transaction's snapshot (see CultorCountCache)
+        long countGeneration = cultorCountCache.generation();
+
         // 1. Build the dynamic query
         Specification<Cultor> specification = CultorSpecification.withFilters(query,
                 gender, municipalityId, parishId, artCategoryId, artDisciplineId, hasDisability,
                 hasIllness);
+        String signature = CultorCountCache.signature(query, gender, municipalityId, parishId, artCategoryId,
+                artDisciplineId, hasDisability, hasIllness);
+
+        // 2. Fetch the page content only, as DTOs (no COUNT query)
+        List<CultorResponse> rows = cultorRepository.findResponses(specification, pageable.getSort(),
+                pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<CultorResponse> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+
+        // 3. Resolve the total, only if the page cannot tell it
+        LongSupplier total = switch (countMode) {
+            case ESTIMATED -> () -> {
+                Long cached = cultorCountCache.getIfPresent(signature);
+                return cached != null ? cached : pageable.getOffset() + content.size() + (hasNext ? 1 : 0);
+            };
+            default -> () -> cultorCountCache.get(signature, countGeneration,
+                    () -> cultorRepository.count(specification));
+        };
+        return PageableExecutionUtils.getPage(content, pageable, total);
+    }
+
+    /**
+     * Retrieves one keyset (seek) page of filtered cultors.
+     * <p>
+     * Unlike {@link #getAllCultorsWithFilters}, the page starts right after
+     * the cursor's sort key instead of skipping {@code OFFSET} rows, and no
+     * count query runs unless {@code count} is {@code "exact"}. Each page
+     * therefore costs one indexed range scan, however deep it is. As in
+     * {@link #getAllCultorsWithFilters}, the rows are read straight into
+     * {@link CultorResponse} DTOs inside a read-only transaction, with one
+     * extra row telling whether another page follows.
+     *
+     * @param query           (and all other filter params)...
+     * @param sort            The order of the first page: {@code id}, {@code lastName}
+     * or {@code firstName}, optionally followed by {@code ,desc}. May be omitted with a cursor.
+     * @param cursor          The {@code nextCursor} of the previous page, or {@code null} for the first.
+     * @param size            The page size (1 to 100).
+     * @param count           {@code "none"} (default), {@code "exact"} (cached, see
+     * {@link CultorCountCache}) or {@code "estimated"} (the cached count if present, otherwise none).
+     * @return A {@link CultorCursorResponse} with the page and the next cursor.
+     * @throws ValidationException If the cursor, sort, size or count is invalid, or the
+     * sort differs from the cursor's.
+     */
+    @SuppressWarnings("null")
+    @Transactional(readOnly = true)
+    public CultorCursorResponse getCultorsByCursor(String query, String gender, Integer municipalityId,
+            Integer parishId,
+            Integer artCategoryId, Integer artDisciplineId,
+            Boolean hasDisability, Boolean hasIllness,
+            String sort, String cursor, int size, String count) {
+
+        // 1. Validate the paging parameters
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE)
+            throw SIZE_INVALID;
+        CountMode countMode = CountMode.parse(count, CountMode.NONE);
+        long countGeneration = cultorCountCache.generation(); // Before any query (see CultorCountCache)
+
+        CultorCursor position;
+        if (cursor == null || cursor.isBlank()) {
+            position = CultorCursor.first(sort);
+        } else {
+            position = CultorCursor.decode(cursor);
+            if (sort != null && !position.hasSameOrderAs(sort))
+                throw SORT_MISMATCH;
+        }
+
+        // 2. Build the dynamic query and seek past the cursor, as DTOs
+        Specification<Cultor> specification = CultorSpecification.withFilters(query,
+                gender, municipalityId, parishId, artCategoryId, artDisciplineId, hasDisability,
+                hasIllness);
+        String signature = CultorCountCache.signature(query, gender, municipalityId, parishId, artCategoryId,
+                artDisciplineId, hasDisability, hasIllness);
+        List<CultorResponse> rows = cultorRepository.findResponsesAfter(specification, position.toSort(),
+                position.getKeys(), size + 1);
+        boolean hasNext = rows.size() > size;
+        List<CultorResponse> content = hasNext ? rows.subList(0, size) : rows;
+
+        // 3. Build the response (the count is only run on request)
+        String nextCursor = hasNext ? position.next(content.get(content.size() - 1)).encode() : null;
+        Long totalElements = switch (countMode) {
+            case EXACT -> cultorCountCache.get(signature, countGeneration,
+                    () -> cultorRepository.count(specification));
+            case ESTIMATED -> cultorCountCache.getIfPresent(signature);
+            case NONE -> null;
+        };
+
+        return new CultorCursorResponse(content, size, nextCursor, totalElements);
+    }
 
-        // 2. Execute the paginated find
-        Page<Cultor> cultorPage = cultorRepository.findAll(specification, pageable);
+    /**
+     * Runs a ranked search against the in-memory {@link CultorSearchIndex}.
+     * <p>
+     * The index resolves the text, filters, ranking, facets and paging; only
+     * the cultors of the requested page are then loaded by primary key. The
+     * sort of {@code pageable} is ignored: results are ordered by relevance.
+     *
+     * @param query           Optional free text (any number of words).
+     * @param pageable        The page number and size.
+     * @return A {@link CultorSearchResponse} with the page and facet counts.
+     */
+    @SuppressWarnings("null")
+    public CultorSearchResponse searchCultors(String query, String gender, Integer municipalityId,
+            Integer parishId,
+            Integer artCategoryId, Integer artDisciplineId,
+            Boolean hasDisability, Boolean hasIllness,
+            Pageable pageable) {
 
-        // 3. Convert the Page<Entity> to Page<DTO>
-        return cultorPage.map(this::toCultorResponse);
+        // 1. Search the index
+        CultorSearchIndex.Result result = cultorSearchIndex.search(query, gender, municipalityId, parishId,
+                artCategoryId, artDisciplineId, hasDisability, hasIllness, pageable.getOffset(),
+                pageable.getPageSize());
+
+        // 2. Load the page by primary key and restore the ranked order
+        Map<Integer, Cultor> cultorsById = cultorRepository.findAllById(result.getIds()).stream()
+                .collect(Collectors.toMap(Cultor::getId, Function.identity()));
+        List<CultorResponse> content = result.getIds().stream()
+                .map(cultorsById::get)
+                .filter(Objects::nonNull) // Deleted after the search, before the load
+                .map(this::toCultorResponse)
+                .toList();
+
+        return new CultorSearchResponse(content, pageable.getPageNumber(), pageable.getPageSize(),
+                result.getTotal(), result.getFacets());
     }
 
     /**
@@ -194,13 +361,13 @@ public class CultorService {
      *
      * @param id The ID of the cultor.
      * @return A {@link ResponseEntity} with the found {@link CultorResponse} and HTTP 200 (OK).
-     * @throws EntityNotFoundException If the ID is not found.
+     * @throws ResourceNotFoundException If the ID is not found.
      */
     @SuppressWarnings("null")
     public ResponseEntity<CultorResponse> getById(Integer id) {
         // Find by ID or throw 404
         Cultor cultor = cultorRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Cultor Not Found With Id: " + id));
+                .orElseThrow(() -> cultorNotFound(id));
 
         return ResponseEntity.ok(toCultorResponse(cultor));
     }
@@ -210,16 +377,20 @@ public class CultorService {
      *
      * @param id The ID of the cultor to delete.
      * @return A {@link ResponseEntity} with HTTP 204 (No Content).
-     * @throws EntityNotFoundException If the ID is not found.
+     * @throws ResourceNotFoundException If the ID is not found.
      */
+    @Transactional
     public ResponseEntity<Void> delete(Integer id) {
         // 1. Check if it exists first (to provide a clear 404)
         if (!cultorRepository.existsById(id)) {
-            throw new EntityNotFoundException("Cultor Not Found With Id: " + id);
+            throw cultorNotFound(id);
         }
 
-        // 2. Delete the entity
+        // 2. Delete the trigram postings, then the entity
+        cultorSearchGramService.remove(id);
         cultorRepository.deleteById(id);
+        cultorSearchIndex.remove(id); // Applied after commit
+        cultorCountCache.invalidate(); // Applied after commit
 
         // 3. Return 204 No Content
         return ResponseEntity.noContent().build();
@@ -230,7 +401,97 @@ public class CultorService {
     // ----------------------------------------------------------------
 
     /**
-     * Core private helper. Maps data from a {@link CultorRequest} DTO to a {@link Cultor} entity.
+     * Checks the four unique fields of a request against the database with a
+     * single query and throws for the first collision found.
+     * <p>
+     * Values are normalized exactly as {@link #mapAndValidateCultor} stores them.
+     *
+     * @param cultorRequest The DTO holding the values to check.
+     * @param excludeId     The ID of the cultor being updated, or {@code 0} on create.
+     * @throws DuplicateEntityException If any unique field is already in use.
+     */
+    private void checkUniqueFields(CultorRequest cultorRequest, int excludeId) {
+        String email = cultorRequest.getEmail();
+        email = (email == null || email.isBlank()) ? null : email.trim().toLowerCase();
+
+        String instagramUser = cultorRequest.getInstagramUser();
+        instagramUser = (instagramUser == null || instagramUser.isBlank()) ? null : instagramUser.trim().toLowerCase();
+
+        UniqueFieldCollisions collisions = cultorRepository.findUniqueFieldCollisions(
+                cultorRequest.getIdNumber().trim(), cultorRequest.getPhoneNumber().trim(), email, instagramUser,
+                excludeId);
+
+        if (isSet(collisions.getIdNumber()))
+            throw DuplicateEntityException.ID_NUMBER_EXISTS;
+        if (isSet(collisions.getPhoneNumber()))
+            throw DuplicateEntityException.PHONE_NUMBER_EXISTS;
+        if (isSet(collisions.getEmail()))
+            throw DuplicateEntityException.EMAIL_EXISTS;
+        if (isSet(collisions.getInstagramUser()))
+            throw DuplicateEntityException.INSTAGRAM_USER_EXISTS;
+    }
+
+    /**
+     * Saves and flushes a cultor, translating unique-constraint violations raised
+     * by the database into the same {@link DuplicateEntityException} messages as
+     * the pre-checks.
+     * <p>
+     * The flush makes an UPDATE hit the database here, inside the translation,
+     * rather than at commit time.
+     *
+     * @param cultor The entity to insert or update.
+     * @return The saved entity.
+     * @throws DuplicateEntityException If a unique constraint is violated.
+     */
+    @SuppressWarnings("null")
+    private Cultor save(Cultor cultor) {
+        try {
+            Cultor saved = cultorRepository.save(cultor);
+            cultorRepository.flush();
+            return saved;
+        } catch (DataIntegrityViolationException ex) {
+            throw UniqueConstraintTranslator.translate(ex).orElseThrow(() -> ex);
+        }
+    }
+
+    /**
+     * How the total of a list request is resolved ({@code count} parameter).
+     */
+    private enum CountMode {
+        NONE, EXACT, ESTIMATED;
+
+        /**
+         * Parses a {@code count} parameter, case-insensitively.
+         *
+         * @throws ValidationException If the value is unknown.
+         */
+        private static CountMode parse(String count, CountMode defaultMode) {
+            if (count == null || count.isBlank())
+                return defaultMode;
+            for (CountMode mode : values()) {
+                if (mode.name().equalsIgnoreCase(count.trim()))
+                    return mode;
+            }
+            throw COUNT_INVALID;
+        }
+    }
+
+    /**
+     * Builds the (stackless) 404 of a missing cultor.
+     */
+    private static ResourceNotFoundException cultorNotFound(Integer id) {
+        return new ResourceNotFoundException(ErrorCode.CULTOR_NOT_FOUND, "Cultor Not Found With Id: " + id);
+    }
+
+    /**
+     * Returns {@code true} if a collision flag is present and positive.
+     */
+    private static boolean isSet(Integer flag) {
+        return flag != null && flag > 0;
+    }
+
+    /**
+     * Core helper (also used by {@link CultorImportService}). Maps data from a {@link CultorRequest} DTO to a {@link Cultor} entity.
      * <p>
      * This method performs all field-level validation, normalization (trim, toLowerCase),
      * and relational integrity checks (e.g., Parish belongs to Municipality).
@@ -241,32 +502,32 @@ public class CultorService {
      * @param cultor        The entity to map data onto (can be new or existing).
      * @param cultorRequest The DTO source of new data.
      * @return The same {@link Cultor} entity, now populated and validated.
-     * @throws EntityNotFoundException  If related entities (Municipality, etc.) are not found.
-     * @throws IllegalArgumentException If any business rule or validation fails.
+     * @throws ResourceNotFoundException If related entities (Municipality, etc.) are not found.
+     * @throws ValidationException      If any business rule or validation fails.
      */
     @SuppressWarnings("null")
-    private Cultor mapAndValidateCultor(Cultor cultor, CultorRequest cultorRequest) {
+    Cultor mapAndValidateCultor(Cultor cultor, CultorRequest cultorRequest) {
 
         // --- Basic Field Validation & Normalization ---
         String firstName = cultorRequest.getFirstName();
         if (!StringValidator.isValidName(firstName))
-            throw new IllegalArgumentException("FirstName Is Invalid");
+            throw FIRST_NAME_INVALID;
         firstName = StringUtils.toCapitalize(firstName);
 
         String lastName = cultorRequest.getLastName();
         if (!StringValidator.isValidName(lastName))
-            throw new IllegalArgumentException("LastName Is Invalid");
+            throw LAST_NAME_INVALID;
         lastName = StringUtils.toCapitalize(lastName);
 
         String gender = cultorRequest.getGender().trim().toUpperCase();
         if (!gender.equals("F") && !gender.equals("M"))
-            throw new IllegalArgumentException("Gender Is Invalid");
+            throw GENDER_INVALID;
 
         String idNumber = cultorRequest.getIdNumber().trim();
 
         LocalDate birthDate = cultorRequest.getBirthDate();
         if (!DateValidator.isValidBirthDate(birthDate))
-            throw new IllegalArgumentException("BirthDate Is Invalid");
+            throw BIRTH_DATE_INVALID;
 
         String phoneNumber = cultorRequest.getPhoneNumber().trim();
 
@@ -277,26 +538,15 @@ public class CultorService {
         String instagramUser = cultorRequest.getInstagramUser();
         instagramUser = (instagramUser == null || instagramUser.isBlank()) ? null : instagramUser.trim().toLowerCase();
 
-        // --- Relational Integrity Checks (Location) ---
-        Municipality municipality = municipalityRepository.findById(cultorRequest.getMunicipalityId())
-                .orElseThrow(() -> new EntityNotFoundException("Municipality Not Found"));
-        Parish parish = parishRepository.findById(cultorRequest.getParishId())
-                .orElseThrow(() -> new EntityNotFoundException("Parish Not Found"));
-
-        validateParishId(parish, cultorRequest); // Business rule check
         String homeAddress = StringUtils.toCapitalize(cultorRequest.getHomeAddress());
 
-        // --- Relational Integrity Checks (Arts) ---
-        ArtCategory artCategory = artCategoryRepository.findById(cultorRequest.getArtCategoryId())
-                .orElseThrow(() -> new EntityNotFoundException("Art Category Not Found"));
-        ArtDiscipline artDiscipline = artDisciplineRepository.findById(cultorRequest.getArtDisciplineId())
-                .orElseThrow(() -> new EntityNotFoundException("Art Discipline Not Found"));
-        
         String otherDiscipline = cultorRequest.getOtherDiscipline();
         otherDiscipline = (otherDiscipline == null || otherDiscipline.isBlank()) ? null : StringUtils.toCapitalize(otherDiscipline.trim());
 
-        validateArtDisciplineId(artDiscipline, cultorRequest); // Business rule check
-        validateOtherDiscipline(artDiscipline, otherDiscipline); // Business rule check
+        // --- Relational Integrity Checks (Location & Arts) ---
+        // Resolved in one step (in-memory snapshot or a single query) by the validator
+        CultorReferenceValidator.References references = cultorReferenceValidator.validate(cultorRequest,
+                otherDiscipline);
 
         // --- Other Fields ---
         int yearsofExperience = cultorRequest.getYearsOfExperience();
@@ -313,17 +563,19 @@ public class CultorService {
         // --- Set all fields on the entity ---
         cultor.setFirstName(firstName);
         cultor.setLastName(lastName);
+        cultor.setFirstNameSearch(StringUtils.toSearchKey(firstName));
+        cultor.setLastNameSearch(StringUtils.toSearchKey(lastName));
         cultor.setGender(gender);
         cultor.setIdNumber(idNumber);
         cultor.setBirthDate(birthDate);
         cultor.setPhoneNumber(phoneNumber);
         cultor.setEmail(email);
         cultor.setInstagramUser(instagramUser);
-        cultor.setMunicipality(municipality);
-        cultor.setParish(parish);
+        cultor.setMunicipality(references.getMunicipality());
+        cultor.setParish(references.getParish());
         cultor.setHomeAddress(homeAddress);
-        cultor.setArtCategory(artCategory);
-        cultor.setArtDiscipline(artDiscipline);
+        cultor.setArtCategory(references.getArtCategory());
+        cultor.setArtDiscipline(references.getArtDiscipline());
         cultor.setOtherDiscipline(otherDiscipline);
         cultor.setYearsOfExperience(yearsofExperience);
         cultor.setGroupName(groupName);
@@ -365,45 +617,4 @@ public class CultorService {
                 birthDate, phoneNumber, email, instagramUser, municipalityId, parishId, homeAddress, artCategoryId,
                 artDisciplineId, otherDiscipline, yearsOfExperience, groupName, disability, illness, createdAt);
     }
-
-    /**
-     * Validates that the selected Parish belongs to the specified Municipality.
-     *
-     * @throws IllegalArgumentException if Parish does not belong to Municipality.
-     */
-    private void validateParishId(Parish parish, CultorRequest cultorRequest) {
-        if (parish.getMunicipality().getId() != cultorRequest.getMunicipalityId()) {
-            throw new IllegalArgumentException(
-                    "The Selected Parish Does Not Belong To The Chosen Municipality");
-        }
-    }
-
-    /**
-     * Validates that the selected Art Discipline belongs to the specified Art
-     * Category.
-     *
-     * @throws IllegalArgumentException if Discipline does not belong to Category.
-     */
-    private void validateArtDisciplineId(ArtDiscipline artDiscipline, CultorRequest cultorRequest) {
-        if (artDiscipline.getArtCategory().getId() != cultorRequest.getArtCategoryId()) {
-            throw new IllegalArgumentException(
-                    "The Selected Discipline Does Not Belong To The Chosen Category");
-        }
-    }
-
-    /**
-     * Validates the logic for the 'otherDiscipline' field.
-     * Ensures 'otherDiscipline' is ONLY provided if the selected discipline is "Otra...",
-     * and MUST be provided if it is.
-     *
-     * @throws IllegalArgumentException If the logic is violated.
-     */
-    private void validateOtherDiscipline(ArtDiscipline artDiscipline, String otherDiscipline) {
-        if (!artDiscipline.getName().equals("Otra...") && otherDiscipline != null && !otherDiscipline.isBlank()) {
-            throw new IllegalArgumentException("The Selected Discipline Does Not Is \"Otra...\"");
-        } else if (artDiscipline.getName().equals("Otra...")
-                && (otherDiscipline == null || otherDiscipline.isBlank())) {
-            throw new IllegalArgumentException("OtherDiscipline Is Requerid");
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,177 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+
+/**
+ * Local cache of a remote JWK Set (e.g., the auth node's
+ * {@code GET /.well-known/jwks.json}), so an instance can verify
+ * asymmetrically signed tokens without holding any signing key.
+ * <p>
+ * Configured with {@code application.security.jwt.jwks-uri}; when empty, the
+ * cache is disabled and knows no keys. The set is fetched on first use and
+ * re-fetched once it is older than
+ * {@code application.security.jwt.jwks-refresh-interval}, or when a token
+ * names an unknown {@code kid} (a rotation), at most once per
+ * {@value #MIN_REFETCH_SECONDS} seconds so unknown IDs cannot flood the auth
+ * node. A failed fetch keeps the previous keys. Only public keys are taken
+ * from the set.
+ * <p>
+ * Only one thread fetches at a time. The others do not wait for it (the
+ * fetch may block for up to {@code HTTP_TIMEOUT}) and use the current keys,
+ * except before the first successful fetch, when there are none yet. The
+ * fetch lock is a {@link ReentrantLock}, not a monitor, so a virtual thread
+ * blocked on the fetch does not pin its carrier thread.
+ */
+@Component
+public class JwkSetCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwkSetCache.class);
+
+    /**
+     * Shortest time between two fetches.
+     */
+    static final long MIN_REFETCH_SECONDS = 30;
+
+    private static final Duration HTTP_TIMEOUT = Duration.ofSeconds(5);
+
+    private final URI jwksUri;
+    private final long refreshNanos;
+    private final HttpClient httpClient;
+    private final ReentrantLock fetchLock = new ReentrantLock();
+
+    private volatile Map<String, PublicKey> keys = Collections.emptyMap();
+    private volatile long fetchedAtNanos;
+    private volatile long attemptedAtNanos;
+    private volatile boolean attempted;
+    private volatile boolean fetched;
+
+    /**
+     * Constructs the cache.
+     *
+     * @param jwksUri         The JWK Set URL (from
+     * {@code application.security.jwt.jwks-uri}); empty disables the cache.
+     * @param refreshInterval How long a fetched set is used before it is
+     * re-fetched (from {@code application.security.jwt.jwks-refresh-interval}).
+     */
+    public JwkSetCache(@Value("${application.security.jwt.jwks-uri:}") String jwksUri,
+            @Value("${application.security.jwt.jwks-refresh-interval:5m}") Duration refreshInterval) {
+        this.jwksUri = jwksUri.isBlank() ? null : URI.create(jwksUri.trim());
+        this.refreshNanos = refreshInterval.toNanos();
+        this.httpClient = this.jwksUri == null ? null
+                : HttpClient.newBuilder().connectTimeout(HTTP_TIMEOUT).build();
+    }
+
+    /**
+     * Checks whether a JWK Set URL is configured.
+     *
+     * @return {@code true} if the cache is enabled.
+     */
+    public boolean isEnabled() {
+        return jwksUri != null;
+    }
+
+    /**
+     * Returns the public key with the given ID, fetching the set if it is
+     * stale or does not know the ID yet.
+     *
+     * @param keyId The key ID ({@code kid}).
+     * @return The key, or {@code null} if the set has no such key (or the
+     * cache is disabled).
+     */
+    public PublicKey find(String keyId) {
+        if (jwksUri == null || keyId == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        PublicKey key = keys.get(keyId);
+        boolean stale = !fetched || now - fetchedAtNanos > refreshNanos;
+        if ((key == null || stale) && mayFetch(now)) {
+            refresh(now, !fetched);
+            key = keys.get(keyId);
+        }
+        return key;
+    }
+
+    // ----------------------------------------------------------------
+    // PRIVATE HELPER METHODS
+    // ----------------------------------------------------------------
+
+    /**
+     * Fetches the set; only one thread fetches, the others use the current
+     * keys (or, if {@code wait}, wait for the fetch in progress).
+     */
+    private void refresh(long now, boolean wait) {
+        if (wait) {
+            fetchLock.lock();
+        } else if (!fetchLock.tryLock()) {
+            return; // Another thread is fetching
+        }
+        try {
+            if (mayFetch(now)) { // Otherwise another thread has just fetched
+                fetch(now);
+            }
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+
+    private void fetch(long now) {
+        attemptedAtNanos = now;
+        attempted = true;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(jwksUri).timeout(HTTP_TIMEOUT).GET().build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                logger.warn("JWK Set fetch from {} returned HTTP {}", jwksUri, response.statusCode());
+                return;
+            }
+            keys = parse(response.body());
+            fetchedAtNanos = now;
+            fetched = true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            logger.warn("JWK Set fetch from {} failed", jwksUri, ex);
+        }
+    }
+
+    private boolean mayFetch(long now) {
+        return !attempted || now - attemptedAtNanos > MIN_REFETCH_SECONDS * 1_000_000_000L;
+    }
+
+    /**
+     * Parses a JWK Set document into its public keys, by key ID.
+     *
+     * @param json The JWK Set JSON.
+     * @return The public keys that have an ID.
+     */
+    static Map<String, PublicKey> parse(String json) {
+        JwkSet set = Jwks.setParser().build().parse(json);
+        Map<String, PublicKey> parsed = new HashMap<>();
+        for (Jwk<?> jwk : set.getKeys()) {
+            if (jwk instanceof PublicJwk<?> publicJwk && jwk.getId() != null) {
+                parsed.put(jwk.getId(), publicJwk.toKey());
+            }
+        }
+        return Collections.unmodifiableMap(parsed);
+    }
+}
@@ -0,0 +1,401 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.PublicJwk;
+
+/**
+ * The keys used to sign and verify JWTs, each identified by a key ID
+ * ({@code kid} header).
+ * <p>
+ * New tokens are signed with the <em>active</em> key; a token is verified
+ * with whichever key its {@code kid} names, so tokens signed with an older key
+ * stay valid until that key is retired. Tokens without a {@code kid} (issued
+ * before key IDs were introduced) are verified with the configured primary
+ * key.
+ * <p>
+ * With {@code application.security.jwt.algorithm=HS256} (the default) the
+ * keys are shared HMAC secrets. With {@code ES256} or {@code EdDSA} (Ed25519)
+ * tokens are signed with a private key and verified with its public key,
+ * whose ID is its RFC 7638 thumbprint; the public keys are published as a JWK
+ * Set ({@link #getJwkSetJson()}), so other instances can verify tokens
+ * without being able to sign them. Keys this ring does not hold are looked up
+ * in the {@link JwkSetCache}. In asymmetric mode the HMAC keys, if configured,
+ * are kept for verification only, so tokens issued before the switch stay
+ * valid until they expire.
+ * <p>
+ * Keys are decoded once. The ring is an immutable snapshot swapped atomically
+ * on rotation, so lookups are lock-free and allocate nothing. To rotate
+ * without downtime, deploy with the new key as
+ * {@code application.security.jwt.secret-key} and the old one listed in
+ * {@code application.security.jwt.verification-keys}; at runtime, use
+ * {@link JwtService#rotateKey} and {@link JwtService#retireKey}.
+ */
+@Component
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    /**
+     * The HMAC algorithm name (the default mode).
+     */
+    public static final String HS256 = "HS256";
+
+    /**
+     * A key and its ID.
+     */
+    public static final class SigningKey {
+
+        private final String id;
+        private final Key key;
+
+        private SigningKey(String id, Key key) {
+            this.id = id;
+            this.key = key;
+        }
+
+        // --- Standard Getters ---
+
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * @return The HMAC secret or the private key.
+         */
+        public Key getKey() {
+            return key;
+        }
+    }
+
+    /**
+     * An immutable state of the ring.
+     */
+    private static final class Snapshot {
+
+        private final Map<String, Key> keys;
+        private final SigningKey active;
+        private final String jwkSetJson;
+
+        private Snapshot(Map<String, Key> keys, SigningKey active) {
+            this.keys = Collections.unmodifiableMap(keys);
+            this.active = active;
+            this.jwkSetJson = toJwkSetJson(keys);
+        }
+    }
+
+    private final String primaryKeyId;
+    private final String algorithm;
+    private final JwkSetCache remoteKeys;
+    private volatile Snapshot snapshot;
+
+    /**
+     * Constructs an HMAC key ring, without a remote JWK Set.
+     *
+     * @param secretKey        The Base64 encoded primary (active) key.
+     * @param keyId            The primary key's ID.
+     * @param verificationKeys Older keys still accepted for verification, as
+     * {@code kid=base64} pairs separated by commas; may be empty.
+     */
+    public JwtKeyRing(String secretKey, String keyId, String verificationKeys) {
+        this(secretKey, keyId, verificationKeys, HS256, "", "", new JwkSetCache("", Duration.ZERO));
+    }
+
+    /**
+     * Constructs the key ring from the application configuration.
+     * <p>
+     * In asymmetric mode, a ring with only a public key (or none, when a JWK
+     * Set URL is configured) verifies tokens but cannot sign them. With no key
+     * at all, a key pair is generated at startup; tokens then only verify on
+     * this instance, and not after a restart.
+     *
+     * @param secretKey        The Base64 encoded HMAC primary key (active in
+     * HS256 mode; optional in asymmetric mode).
+     * @param keyId            The primary HMAC key's ID (from
+     * {@code application.security.jwt.key-id}).
+     * @param verificationKeys Older keys still accepted for verification, as
+     * {@code kid=base64} pairs separated by commas (from
+     * {@code application.security.jwt.verification-keys}); may be empty. In
+     * asymmetric mode a value may also be a Base64 X.509 public key.
+     * @param algorithm        The signing algorithm: {@code HS256},
+     * {@code ES256} or {@code EdDSA} (from
+     * {@code application.security.jwt.algorithm}).
+     * @param privateKey       The Base64 PKCS#8 private key (asymmetric mode,
+     * from {@code application.security.jwt.private-key}); may be empty.
+     * @param publicKey        The Base64 X.509 public key (asymmetric mode,
+     * from {@code application.security.jwt.public-key}); may be empty.
+     * @param remoteKeys       The cache of a remote JWK Set.
+     * @throws IllegalArgumentException If a key is malformed, or the
+     * algorithm is unsupported.
+     * @throws io.jsonwebtoken.security.WeakKeyException If an HMAC key is
+     * shorter than 256 bits.
+     */
+    @Autowired
+    public JwtKeyRing(
+            @Value("${application.security.jwt.secret-key:}") String secretKey,
+            @Value("${application.security.jwt.key-id:primary}") String keyId,
+            @Value("${application.security.jwt.verification-keys:}") String verificationKeys,
+            @Value("${application.security.jwt.algorithm:HS256}") String algorithm,
+            @Value("${application.security.jwt.private-key:}") String privateKey,
+            @Value("${application.security.jwt.public-key:}") String publicKey,
+            JwkSetCache remoteKeys) {
+        keyAlgorithm(algorithm); // Rejects unsupported algorithms
+        this.algorithm = algorithm;
+        this.primaryKeyId = keyId;
+        this.remoteKeys = remoteKeys;
+
+        Map<String, Key> keys = new LinkedHashMap<>();
+        for (String entry : verificationKeys.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Verification Keys Must Be kid=base64 Pairs");
+            }
+            keys.put(entry.substring(0, separator).trim(), decodeVerificationKey(entry.substring(separator + 1).trim()));
+        }
+
+        SigningKey active = null;
+        if (HS256.equals(this.algorithm)) {
+            active = new SigningKey(keyId, decode(secretKey));
+            keys.put(keyId, active.key);
+        } else {
+            if (!secretKey.isBlank()) {
+                keys.put(keyId, decode(secretKey)); // Pre-switch tokens, verification only
+            }
+            if (!privateKey.isBlank() && publicKey.isBlank()) {
+                throw new IllegalArgumentException("The Public Key Of The Private Key Is Required");
+            }
+            if (!publicKey.isBlank()) {
+                PublicKey decodedPublicKey = decodePublicKey(publicKey);
+                String id = thumbprint(decodedPublicKey);
+                keys.put(id, decodedPublicKey);
+                if (!privateKey.isBlank()) {
+                    active = new SigningKey(id, decodePrivateKey(privateKey));
+                }
+            } else if (!remoteKeys.isEnabled()) {
+                KeyPair generated = generateKeyPair();
+                String id = thumbprint(generated.getPublic());
+                keys.put(id, generated.getPublic());
+                active = new SigningKey(id, generated.getPrivate());
+                logger.warn("No {} key configured: generated a temporary key pair ({}). Tokens will not verify"
+                        + " on other instances or after a restart", this.algorithm, id);
+            }
+        }
+        this.snapshot = new Snapshot(keys, active);
+    }
+
+    /**
+     * Returns the key new tokens are signed with.
+     *
+     * @return The active key and its ID.
+     * @throws IllegalStateException If this instance only verifies tokens.
+     */
+    public SigningKey getActiveKey() {
+        SigningKey active = snapshot.active;
+        if (active == null) {
+            throw new IllegalStateException("This Instance Does Not Sign Tokens");
+        }
+        return active;
+    }
+
+    /**
+     * Returns the signing algorithm.
+     *
+     * @return {@code HS256}, {@code ES256} or {@code EdDSA}.
+     */
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Returns the verification key for a key ID, looking it up in the remote
+     * JWK Set if this ring does not hold it.
+     *
+     * @param keyId The key ID ({@code null} for tokens without a {@code kid}).
+     * @return The key, or {@code null} if it is unknown or retired.
+     */
+    public Key find(String keyId) {
+        Key key = snapshot.keys.get(keyId == null ? primaryKeyId : keyId);
+        return key != null ? key : remoteKeys.find(keyId);
+    }
+
+    /**
+     * Returns this ring's public keys as a JWK Set document
+     * ({@code {"keys":[...]}}); empty in HMAC mode, as secrets are never
+     * published.
+     *
+     * @return The JWK Set JSON.
+     */
+    public String getJwkSetJson() {
+        return snapshot.jwkSetJson;
+    }
+
+    /**
+     * Locates the verification key of a signed token (called by the JWT
+     * parser). A {@code null} result makes the parser reject the token.
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        return find(header.getKeyId());
+    }
+
+    /**
+     * Adds a key and makes it the active one. The previous keys stay valid
+     * for verification.
+     *
+     * @param keyId     The new key's ID.
+     * @param secretKey The Base64 encoded key.
+     */
+    synchronized void rotate(String keyId, String secretKey) {
+        SigningKey active = new SigningKey(keyId, decode(secretKey));
+        Map<String, Key> keys = new LinkedHashMap<>(snapshot.keys);
+        keys.put(keyId, active.key);
+        snapshot = new Snapshot(keys, active);
+    }
+
+    /**
+     * Adds an asymmetric key pair and makes it the active one. Its public key
+     * is published in the JWK Set; the previous keys stay valid for
+     * verification.
+     *
+     * @param keyPair The new key pair (EC P-256 or Ed25519).
+     * @return The new key's ID (its thumbprint).
+     */
+    synchronized String rotate(KeyPair keyPair) {
+        String keyId = thumbprint(keyPair.getPublic());
+        Map<String, Key> keys = new LinkedHashMap<>(snapshot.keys);
+        keys.put(keyId, keyPair.getPublic());
+        snapshot = new Snapshot(keys, new SigningKey(keyId, keyPair.getPrivate()));
+        return keyId;
+    }
+
+    /**
+     * Removes a key: tokens signed with it are rejected from now on.
+     *
+     * @param keyId The ID of the key to retire.
+     * @throws IllegalArgumentException If it is the active key.
+     */
+    synchronized void retire(String keyId) {
+        Snapshot current = snapshot;
+        if (current.active != null && current.active.id.equals(keyId)) {
+            throw new IllegalArgumentException("The Active Key Cannot Be Retired");
+        }
+        Map<String, Key> keys = new LinkedHashMap<>(current.keys);
+        keys.remove(keyId);
+        snapshot = new Snapshot(keys, current.active);
+    }
+
+    // ----------------------------------------------------------------
+    // PRIVATE HELPER METHODS
+    // ----------------------------------------------------------------
+
+    /**
+     * Decodes a Base64 secret into an HMAC-SHA key.
+     */
+    private static Key decode(String secretKey) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+    }
+
+    /**
+     * Decodes a verification key: in asymmetric mode an X.509 public key if it
+     * parses as one, otherwise an HMAC secret.
+     */
+    private Key decodeVerificationKey(String base64) {
+        if (!HS256.equals(algorithm)) {
+            try {
+                return decodePublicKey(base64);
+            } catch (IllegalArgumentException ex) {
+                // Not a public key: an HMAC secret from before the switch
+            }
+        }
+        return decode(base64);
+    }
+
+    private PublicKey decodePublicKey(String base64) {
+        try {
+            return KeyFactory.getInstance(keyAlgorithm(algorithm))
+                    .generatePublic(new X509EncodedKeySpec(Decoders.BASE64.decode(base64)));
+        } catch (GeneralSecurityException | RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid " + algorithm + " Public Key", ex);
+        }
+    }
+
+    private PrivateKey decodePrivateKey(String base64) {
+        try {
+            return KeyFactory.getInstance(keyAlgorithm(algorithm))
+                    .generatePrivate(new PKCS8EncodedKeySpec(Decoders.BASE64.decode(base64)));
+        } catch (GeneralSecurityException | RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid " + algorithm + " Private Key", ex);
+        }
+    }
+
+    private KeyPair generateKeyPair() {
+        return "ES256".equals(algorithm)
+                ? Jwts.SIG.ES256.keyPair().build()
+                : Jwks.CRV.Ed25519.keyPair().build();
+    }
+
+    /**
+     * Maps a JWT algorithm to its JCA key algorithm ({@code null} for HS256).
+     *
+     * @throws IllegalArgumentException If the algorithm is unsupported.
+     */
+    private static String keyAlgorithm(String algorithm) {
+        return switch (algorithm) {
+            case HS256 -> null;
+            case "ES256" -> "EC";
+            case "EdDSA" -> "Ed25519";
+            default -> throw new IllegalArgumentException(
+                    "Unsupported JWT Algorithm: " + algorithm + " (Use HS256, ES256 Or EdDSA)");
+        };
+    }
+
+    /**
+     * Returns a public key's RFC 7638 thumbprint, used as its key ID.
+     */
+    private static String thumbprint(PublicKey publicKey) {
+        return Jwks.builder().key(publicKey).idFromThumbprint().build().getId();
+    }
+
+    /**
+     * Builds the JWK Set document of the public keys in a ring.
+     */
+    private static String toJwkSetJson(Map<String, Key> keys) {
+        return keys.entrySet().stream()
+                .filter(entry -> entry.getValue() instanceof PublicKey)
+                .map(entry -> {
+                    PublicJwk<?> jwk = Jwks.builder().key((PublicKey) entry.getValue())
+                            .id(entry.getKey())
+                            .publicKeyUse("sig")
+                            .build();
+                    return Jwks.json(jwk);
+                })
+                .collect(Collectors.joining(",", "{\"keys\":[", "]}"));
+    }
+}
@@ -2,50 +2,101 @@ package com.culturacarabobo.sicuc.backend.services;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException; // Import for Javadoc
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import java.security.KeyPair;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
-import javax.crypto.SecretKey;
+import java.util.UUID;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.culturacarabobo.sicuc.backend.entities.Role;
+import com.culturacarabobo.sicuc.backend.entities.User;
+
 /**
  * Service responsible for all JSON Web Token (JWT) operations.
  * <p>
  * This includes generating, parsing, and validating access and refresh tokens
  * using properties injected from the application configuration.
+ * <p>
+ * Request handling should call {@link #parse} once and read everything from
+ * the returned {@link ParsedToken}: every other accessor verifies the token
+ * again. Verified tokens are kept in a {@link VerifiedTokenCache}, so a token
+ * seen before skips the signature check entirely.
  */
 @Service
 @SuppressWarnings("null")
 public class JwtService {
 
-    private final String secretKey;
+    private final JwtKeyRing keyRing;
+    private final JwtParser parser;
     private final long jwtExpiration;
     private final long refreshExpiration;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     /**
-     * Constructs the JwtService with secrets and expirations injected from
-     * application properties.
+     * Constructs the JwtService with its keys and the expirations injected
+     * from application properties.
+     * <p>
+     * The parser is built once: it is immutable and thread-safe, and finds the
+     * verification key of each token in the key ring by its {@code kid}.
      *
-     * @param secretKey       The Base64 encoded secret key for signing tokens.
+     * @param keyRing         The signing and verification keys.
      * @param jwtExpiration   The expiration time for access tokens (in
      * milliseconds).
      * @param refreshExpiration The expiration time for refresh tokens (in
      * milliseconds).
+     * @param verifiedTokenCache The cache of already verified tokens.
      */
     public JwtService(
-            @Value("${application.security.jwt.secret-key}") String secretKey,
+            JwtKeyRing keyRing,
             @Value("${application.security.jwt.access-token.expiration}") long jwtExpiration,
-            @Value("${application.security.jwt.refresh-token.expiration}") long refreshExpiration
+            @Value("${application.security.jwt.refresh-token.expiration}") long refreshExpiration,
+            VerifiedTokenCache verifiedTokenCache
     ) {
-        this.secretKey = secretKey;
+        this.keyRing = keyRing;
+        this.parser = Jwts.parser().keyLocator(keyRing).build();
         this.jwtExpiration = jwtExpiration;
         this.refreshExpiration = refreshExpiration;
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    /**
+     * Verifies a token once and returns the claims the application reads.
+     * <p>
+     * A token found in the {@link VerifiedTokenCache} (verified before, not yet
+     * expired, and its key not retired since) is returned without verifying
+     * its signature again.
+     *
+     * @param token The JWT string.
+     * @return The verified {@link ParsedToken}.
+     * @throws ExpiredJwtException If the token is expired.
+     * @throws io.jsonwebtoken.JwtException If the token is malformed or its
+     * signature is invalid.
+     */
+    public ParsedToken parse(String token) {
+        ParsedToken cached = verifiedTokenCache.getIfPresent(token);
+        if (cached != null && keyRing.find(cached.getKeyId()) != null) {
+            return cached;
+        }
+
+        Jws<Claims> jws = parser.parseSignedClaims(token);
+        Claims claims = jws.getPayload();
+        ParsedToken parsed = new ParsedToken(
+                jws.getHeader().getKeyId(),
+                claims.getId(),
+                claims.getSubject(),
+                claims.get("type", String.class),
+                toRole(claims.get("role", String.class)),
+                claims.get("ver", Integer.class),
+                claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant(),
+                claims.getExpiration() == null ? null : claims.getExpiration().toInstant());
+        verifiedTokenCache.put(token, parsed);
+        return parsed;
     }
 
     /**
@@ -56,34 +107,40 @@ public class JwtService {
      * @throws ExpiredJwtException If the token is expired.
      */
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parse(token).getSubject();
     }
 
     /**
      * Generates a short-lived "access" token for a user.
      * <p>
      * Includes a custom "type" claim to distinguish it from a refresh token.
+     * Tokens issued to a {@link User} also carry its "role" and token version
+     * ("ver"), so stateless authentication can skip loading the user.
      *
      * @param userDetails The user details object to build the token from.
      * @return A signed JWT access token string.
      */
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("type", "access");
+        claims.put("type", ParsedToken.TYPE_ACCESS);
+        putUserState(claims, userDetails);
         return buildToken(claims, userDetails, jwtExpiration);
     }
 
     /**
      * Generates a long-lived "refresh" token for a user.
      * <p>
-     * Includes a custom "type" claim to distinguish it from an access token.
+     * Includes a custom "type" claim to distinguish it from an access token,
+     * and (for a {@link User}) the same user state as access tokens, so
+     * revoking the user's tokens also stops refreshes.
      *
      * @param userDetails The user details object to build the token from.
      * @return A signed JWT refresh token string.
      */
     public String generateRefreshToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("type", "refresh");
+        claims.put("type", ParsedToken.TYPE_REFRESH);
+        putUserState(claims, userDetails);
         return buildToken(claims, userDetails, refreshExpiration);
     }
 
@@ -98,43 +155,67 @@ public class JwtService {
      * @return {@code true} if the token is valid, {@code false} otherwise.
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        return parse(token).isValidFor(userDetails);
     }
 
     /**
-     * A generic method to extract a specific claim from a token's payload.
+     * Makes a new key the active signing key, without a restart. Tokens signed
+     * with the previous keys remain valid until those keys are retired.
      *
-     * @param <T>            The type of the claim.
-     * @param token          The JWT string.
-     * @param claimsResolver A function to apply to the claims (e.g.,
-     * {@code Claims::getSubject}).
-     * @return The resolved claim.
-     * @throws ExpiredJwtException If the token is expired.
+     * @param keyId     The new key's ID (the {@code kid} of new tokens).
+     * @param secretKey The Base64 encoded key (at least 256 bits).
      */
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public void rotateKey(String keyId, String secretKey) {
+        keyRing.rotate(keyId, secretKey);
     }
 
     /**
-     * Checks if a token's expiration date is before the current time.
+     * Makes a new key pair the active signing key (asymmetric mode), without a
+     * restart. Its public key is published in the JWK Set at once; tokens
+     * signed with the previous keys remain valid until those keys are retired.
      *
-     * @param token The JWT string.
-     * @return {@code true} if the token is expired, {@code false} otherwise.
+     * @param keyPair The new key pair (EC P-256 for ES256, Ed25519 for EdDSA).
+     * @return The new key's ID (its RFC 7638 thumbprint).
      */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public String rotateKey(KeyPair keyPair) {
+        return keyRing.rotate(keyPair);
     }
 
     /**
-     * Extracts the expiration date from the token.
+     * Retires a key: tokens signed with it are rejected from now on, including
+     * those already in the verified-token cache.
      *
-     * @param token The JWT string.
-     * @return The {@link Date} of expiration.
+     * @param keyId The ID of the key to retire.
+     * @throws IllegalArgumentException If it is the active key.
+     */
+    public void retireKey(String keyId) {
+        keyRing.retire(keyId);
+    }
+
+    /**
+     * Adds the "role" and "ver" claims of a {@link User}. Other
+     * {@link UserDetails} implementations get neither.
+     */
+    private static void putUserState(Map<String, Object> claims, UserDetails userDetails) {
+        if (userDetails instanceof User user && user.getRole() != null) {
+            claims.put("role", user.getRole().name());
+            claims.put("ver", user.getTokenVersion());
+        }
+    }
+
+    /**
+     * Converts a "role" claim to a {@link Role}; {@code null} if absent or
+     * unknown (e.g., a role removed since the token was issued).
      */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private static Role toRole(String role) {
+        if (role == null) {
+            return null;
+        }
+        try {
+            return Role.valueOf(role);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
     }
 
     /**
@@ -146,42 +227,16 @@ public class JwtService {
      * @return A compact, signed JWT string.
      */
     private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, long expiration) {
+        JwtKeyRing.SigningKey signingKey = keyRing.getActiveKey();
         return Jwts
                 .builder()
+                .header().keyId(signingKey.getId()).and()
                 .claims(extraClaims)
+                .id(UUID.randomUUID().toString()) // "jti", the key of the revocation denylist
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey()) // HMAC-SHA algorithm is inferred
+                .signWith(signingKey.getKey()) // Algorithm inferred from the key (HMAC-SHA, ES256 or EdDSA)
                 .compact();
     }
-
-    /**
-     * Parses the token, verifies the signature using the secret key, and returns
-     * all claims.
-     *
-     * @param token The JWT string.
-     * @return The {@link Claims} payload.
-     * @throws ExpiredJwtException If the token is expired.
-     */
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    /**
-     * Decodes the Base64 {@code secretKey} string into a {@link SecretKey}
-     * object
-     * suitable for HMAC-SHA algorithms.
-     *
-     * @return The HMAC-SHA {@link SecretKey}.
-     */
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,164 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.culturacarabobo.sicuc.backend.exceptions.TooManyRequestsException;
+import com.culturacarabobo.sicuc.backend.utils.StripedRateLimiter;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Protects the CPU from login bursts (e.g., credential stuffing), since every
+ * attempt costs a deliberately slow BCrypt verification.
+ * <p>
+ * Attempts are first throttled per client address and per username by
+ * lock-free {@link StripedRateLimiter}s, so a throttled attempt costs a couple
+ * of atomic operations. Admitted attempts are verified on a dedicated, fixed
+ * pool of threads with a bounded queue: when the queue is full the attempt is
+ * rejected at once instead of piling up, so BCrypt never takes more cores than
+ * the pool has threads and the rest of the API keeps its share.
+ * <p>
+ * Both rejections surface as a {@link TooManyRequestsException} (HTTP 429).
+ */
+@Service
+public class LoginGuard {
+
+    /**
+     * Preallocated rejection of a saturated pool (stackless, see
+     * DomainException); a throttled attempt carries its own Retry-After.
+     */
+    private static final TooManyRequestsException BUSY = new TooManyRequestsException(
+            "The Login Service Is Busy. Please Try Again Later", 1);
+
+    private final StripedRateLimiter addressLimiter;
+    private final StripedRateLimiter usernameLimiter;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Constructs the guard and starts its verification pool.
+     *
+     * @param attemptsPerAddress  Login attempts allowed per client address and
+     * window (from {@code application.security.login.attempts-per-address});
+     * {@code 0} disables the limit.
+     * @param attemptsPerUsername Login attempts allowed per username and window
+     * (from {@code application.security.login.attempts-per-username});
+     * {@code 0} disables the limit.
+     * @param window              The throttling window (from
+     * {@code application.security.login.window}).
+     * @param stripes             The number of counters per limiter (from
+     * {@code application.security.login.stripes}).
+     * @param threads             The size of the verification pool (from
+     * {@code application.security.login.threads}); {@code 0} uses half the
+     * available processors.
+     * @param queueCapacity       How many attempts may wait for a verification
+     * thread (from {@code application.security.login.queue-capacity}).
+     */
+    public LoginGuard(@Value("${application.security.login.attempts-per-address:30}") int attemptsPerAddress,
+            @Value("${application.security.login.attempts-per-username:10}") int attemptsPerUsername,
+            @Value("${application.security.login.window:1m}") Duration window,
+            @Value("${application.security.login.stripes:4096}") int stripes,
+            @Value("${application.security.login.threads:0}") int threads,
+            @Value("${application.security.login.queue-capacity:32}") int queueCapacity) {
+        this.addressLimiter = new StripedRateLimiter(stripes, attemptsPerAddress, window.toMillis());
+        this.usernameLimiter = new StripedRateLimiter(stripes, attemptsPerUsername, window.toMillis());
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)), runnable -> {
+                    Thread thread = new Thread(runnable, "login-verifier-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Counts a login attempt against its client address and username.
+     *
+     * @param clientAddress The client's address.
+     * @param username      The username being logged in to.
+     * @throws TooManyRequestsException If either has no attempts left in the
+     * current window.
+     */
+    public void checkRate(String clientAddress, String username) {
+        long now = System.currentTimeMillis();
+        if (!addressLimiter.tryAcquire(String.valueOf(clientAddress), now)) {
+            throw throttled(addressLimiter, now);
+        }
+        // Usernames compare case-insensitively in MySQL, so "Admin" must share "admin"'s budget
+        if (!usernameLimiter.tryAcquire(String.valueOf(username).toLowerCase(Locale.ROOT), now)) {
+            throw throttled(usernameLimiter, now);
+        }
+    }
+
+    /**
+     * Runs a verification on the bounded pool and waits for its result.
+     *
+     * @param <T>          The result type.
+     * @param verification The (CPU-heavy) verification.
+     * @return The verification's result.
+     * @throws TooManyRequestsException If the pool's queue is full.
+     */
+    public <T> T verify(Supplier<T> verification) {
+        Future<T> future;
+        try {
+            future = executor.submit(verification::get);
+        } catch (RejectedExecutionException ex) {
+            throw BUSY;
+        }
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            // Rethrow the verification's own exception (e.g., BadCredentialsException)
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Login Interrupted", ex);
+        }
+    }
+
+    /**
+     * Returns how many attempts are waiting for a verification thread.
+     *
+     * @return The queue length.
+     */
+    public int queuedAttempts() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Stops the verification pool.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ----------------------------------------------------------------
+    // PRIVATE HELPER METHODS
+    // ----------------------------------------------------------------
+
+    private static TooManyRequestsException throttled(StripedRateLimiter limiter, long now) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(limiter.millisUntilReset(now) + 999));
+        return new TooManyRequestsException("Too Many Login Attempts. Please Try Again Later", retryAfterSeconds);
+    }
+}
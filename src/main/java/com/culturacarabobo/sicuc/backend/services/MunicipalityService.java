@@ -1,57 +1,51 @@
 package com.culturacarabobo.sicuc.backend.services;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.culturacarabobo.sicuc.backend.dtos.MunicipalityResponse;
 import com.culturacarabobo.sicuc.backend.entities.Municipality;
-import com.culturacarabobo.sicuc.backend.repositories.MunicipalityRepository;
 
 /**
  * Service layer for managing {@link Municipality} entities.
  * <p>
  * This service handles retrieving municipalities, primarily for populating
- * form dropdowns.
+ * form dropdowns. Data is served from the in-memory
+ * {@link ReferenceDataSnapshot} instead of querying the database.
  */
 @Service
 public class MunicipalityService {
 
-    private final MunicipalityRepository municipalityRepository;
+    private final ReferenceDataService referenceDataService;
 
     /**
-     * Constructs the service with the required repository.
+     * Constructs the service with the reference data holder.
      *
-     * @param municipalityRepository Repository for {@link Municipality} data access.
+     * @param referenceDataService Service owning the reference data snapshot.
      */
-    public MunicipalityService(MunicipalityRepository municipalityRepository) {
-        this.municipalityRepository = municipalityRepository;
+    public MunicipalityService(ReferenceDataService referenceDataService) {
+        this.referenceDataService = referenceDataService;
     }
 
     /**
      * Retrieves all municipalities, sorted by their ID in ascending order.
      *
-     * @return A {@link List} of {@link MunicipalityResponse} DTOs.
+     * @return An unmodifiable {@link List} of {@link MunicipalityResponse} DTOs.
      */
-    @SuppressWarnings("null")
     public List<MunicipalityResponse> getAll() {
-        // Find all municipalities, sort by ID to ensure consistent ordering
-        return municipalityRepository.findAll(Sort.by("id")).stream()
-                .map(this::toMunicipalityResponse) // Convert each entity to a DTO
-                .collect(Collectors.toList());
+        return referenceDataService.getSnapshot().getMunicipalities();
     }
 
     /**
-     * Private helper method to convert a {@link Municipality} entity to its DTO
-     * representation.
+     * Retrieves all municipalities as a pre-serialized JSON array, with its gzip
+     * form and HTTP validators.
+     * <p>
+     * The returned body is shared across requests and must not be modified.
      *
-     * @param municipality The {@link Municipality} entity to convert.
-     * @return The corresponding {@link MunicipalityResponse} DTO.
+     * @return The body for {@code GET /municipalities}.
      */
-    private MunicipalityResponse toMunicipalityResponse(Municipality municipality) {
-        return new MunicipalityResponse(municipality.getId(), municipality.getName());
+    public PrecompressedJson getAllBody() {
+        return referenceDataService.getSnapshot().getMunicipalitiesBody();
     }
-
-}
\ No newline at end of file
+}
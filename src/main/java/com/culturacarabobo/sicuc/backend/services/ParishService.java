@@ -1,60 +1,51 @@
 package com.culturacarabobo.sicuc.backend.services;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.culturacarabobo.sicuc.backend.dtos.ParishResponse;
 import com.culturacarabobo.sicuc.backend.entities.Parish;
-import com.culturacarabobo.sicuc.backend.repositories.ParishRepository;
 
 /**
  * Service layer for managing {@link Parish} entities.
  * <p>
  * This service handles retrieving parishes, primarily for populating
- * form dropdowns.
+ * form dropdowns. Data is served from the in-memory
+ * {@link ReferenceDataSnapshot} instead of querying the database.
  */
 @Service
 public class ParishService {
 
-    private final ParishRepository parishRepository;
+    private final ReferenceDataService referenceDataService;
 
     /**
-     * Constructs the service with the required repository.
+     * Constructs the service with the reference data holder.
      *
-     * @param parishRepository Repository for {@link Parish} data access.
+     * @param referenceDataService Service owning the reference data snapshot.
      */
-    public ParishService(ParishRepository parishRepository) {
-        this.parishRepository = parishRepository;
+    public ParishService(ReferenceDataService referenceDataService) {
+        this.referenceDataService = referenceDataService;
     }
 
     /**
      * Retrieves all parishes, sorted by their ID in ascending order.
      *
-     * @return A {@link List} of {@link ParishResponse} DTOs.
+     * @return An unmodifiable {@link List} of {@link ParishResponse} DTOs.
      */
-    @SuppressWarnings("null")
     public List<ParishResponse> getAll() {
-        // Find all parishes, sort by ID to ensure consistent ordering
-        return parishRepository.findAll(Sort.by("id")).stream()
-                .map(this::toParishResponse) // Convert each entity to a DTO
-                .collect(Collectors.toList());
+        return referenceDataService.getSnapshot().getParishes();
     }
 
     /**
-     * Private helper method to convert a {@link Parish} entity to its DTO
-     * representation.
+     * Retrieves all parishes as a pre-serialized JSON array, with its gzip
+     * form and HTTP validators.
+     * <p>
+     * The returned body is shared across requests and must not be modified.
      *
-     * @param parish The {@link Parish} entity to convert.
-     * @return The corresponding {@link ParishResponse} DTO.
+     * @return The body for {@code GET /parishes}.
      */
-    private ParishResponse toParishResponse(Parish parish) {
-        return new ParishResponse(
-                parish.getId(),
-                parish.getName(),
-                parish.getMunicipality().getId()
-        );
+    public PrecompressedJson getAllBody() {
+        return referenceDataService.getSnapshot().getParishesBody();
     }
-}
\ No newline at end of file
+}
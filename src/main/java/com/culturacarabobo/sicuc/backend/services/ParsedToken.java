@@ -0,0 +1,157 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import java.time.Instant;
+
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.culturacarabobo.sicuc.backend.entities.Role;
+import com.culturacarabobo.sicuc.backend.entities.User;
+
+/**
+ * The verified contents of a JWT, produced once by {@link JwtService#parse}.
+ * <p>
+ * Holds only the claims the application reads, so callers check the subject,
+ * type, and expiration without parsing (and verifying) the token again.
+ * Tokens issued to a {@link User} also carry its role and token version,
+ * which is enough to authenticate a request without loading the user (see
+ * {@link #hasUserState()}).
+ * Instances are immutable and safe to share between threads, which lets
+ * {@link JwtService} cache them.
+ */
+public final class ParsedToken {
+
+    /**
+     * The "type" claim of access tokens.
+     */
+    public static final String TYPE_ACCESS = "access";
+
+    /**
+     * The "type" claim of refresh tokens.
+     */
+    public static final String TYPE_REFRESH = "refresh";
+
+    private final String keyId;
+    private final String tokenId;
+    private final String subject;
+    private final String type;
+    private final Role role;
+    private final Integer tokenVersion;
+    private final Instant issuedAt;
+    private final Instant expiration;
+
+    /**
+     * Constructs a parsed token.
+     *
+     * @param keyId      The ID of the key that signed it ({@code kid} header;
+     * {@code null} for tokens issued without one).
+     * @param tokenId    The token's unique ID ("jti" claim; {@code null} for
+     * tokens issued without one).
+     * @param subject    The subject (username).
+     * @param type       The "type" claim ({@value #TYPE_ACCESS} or
+     * {@value #TYPE_REFRESH}).
+     * @param role         The "role" claim, or {@code null} if absent or unknown.
+     * @param tokenVersion The "ver" claim (the user's token version when the
+     * token was issued), or {@code null} if absent.
+     * @param issuedAt   When the token was issued.
+     * @param expiration When the token expires.
+     */
+    public ParsedToken(String keyId, String tokenId, String subject, String type, Role role, Integer tokenVersion,
+            Instant issuedAt, Instant expiration) {
+        this.keyId = keyId;
+        this.tokenId = tokenId;
+        this.subject = subject;
+        this.type = type;
+        this.role = role;
+        this.tokenVersion = tokenVersion;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+    }
+
+    /**
+     * Checks whether the token has expired at the given instant.
+     *
+     * @param now The instant to check against.
+     * @return {@code true} if the token is expired.
+     */
+    public boolean isExpired(Instant now) {
+        return expiration == null || !now.isBefore(expiration);
+    }
+
+    /**
+     * Checks that the token belongs to the given user and has not expired. For
+     * a {@link User}, it also checks that the token was issued at the user's
+     * current token version (i.e., it has not been revoked).
+     *
+     * @param userDetails The user to validate against.
+     * @return {@code true} if the token is valid for the user.
+     */
+    public boolean isValidFor(UserDetails userDetails) {
+        if (subject == null || !subject.equals(userDetails.getUsername()) || isExpired(Instant.now())) {
+            return false;
+        }
+        return tokenVersion == null || !(userDetails instanceof User user)
+                || user.getTokenVersion() == tokenVersion;
+    }
+
+    /**
+     * Checks whether the token carries the user's role and token version, so
+     * it can be authenticated without loading the user.
+     *
+     * @return {@code true} if both claims are present.
+     */
+    public boolean hasUserState() {
+        return role != null && tokenVersion != null;
+    }
+
+    /**
+     * Checks whether this is an access token.
+     *
+     * @return {@code true} if the "type" claim is {@value #TYPE_ACCESS}.
+     */
+    public boolean isAccessToken() {
+        return TYPE_ACCESS.equals(type);
+    }
+
+    /**
+     * Checks whether this is a refresh token.
+     *
+     * @return {@code true} if the "type" claim is {@value #TYPE_REFRESH}.
+     */
+    public boolean isRefreshToken() {
+        return TYPE_REFRESH.equals(type);
+    }
+
+    // --- Standard Getters ---
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Instant getExpiration() {
+        return expiration;
+    }
+}
@@ -0,0 +1,102 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A pre-serialized JSON response body, with everything needed to serve it
+ * without further work: its gzip-compressed form and its HTTP validators.
+ * <p>
+ * The gzip body is compressed once, at the highest level, when the body is
+ * built (e.g., on a reference data refresh), so requests that accept gzip only
+ * copy bytes. There is no Brotli form: the JDK has no Brotli encoder, and the
+ * available ones wrap a native library. The strong ETag is derived from the
+ * content (SHA-256), so it is the same on every instance and across restarts
+ * for the same data; the gzip representation has its own ETag, as strong
+ * validators must differ per content coding. There is deliberately no modification date: the load time
+ * would differ between instances and restarts for identical data, defeating
+ * revalidation, while the ETag already identifies the content exactly.
+ */
+public final class PrecompressedJson {
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String eTag;
+    private final String gzipETag;
+
+    /**
+     * Builds the body, compressing and hashing it.
+     *
+     * @param json The UTF-8 JSON bytes (taken as-is, must not be modified
+     * afterwards).
+     */
+    public PrecompressedJson(byte[] json) {
+        this.json = json;
+        this.gzip = gzip(json);
+        String hash = hash(json);
+        this.eTag = "\"" + hash + "\"";
+        this.gzipETag = "\"" + hash + "-gzip\"";
+    }
+
+    // --- Standard Getters ---
+    // (The byte arrays are shared, callers must treat them as read-only)
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    /**
+     * @return The quoted strong ETag of the uncompressed body.
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * @return The quoted strong ETag of the gzip body.
+     */
+    public String getGzipETag() {
+        return gzipETag;
+    }
+
+    // ----------------------------------------------------------------
+    // PRIVATE HELPER METHODS
+    // ----------------------------------------------------------------
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(data.length / 4, 32));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(data);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * The first 128 bits of the SHA-256 digest, Base64url-encoded.
+     */
+    private static String hash(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 Is Not Available", ex);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener attached to the four reference entities.
+ * <p>
+ * Any insert, update or delete on a municipality, parish, art category or art
+ * discipline asks {@link ReferenceDataService} to rebuild its snapshot once the
+ * surrounding transaction commits.
+ * <p>
+ * Instances are created by Hibernate through Spring's bean container. The
+ * service is resolved lazily via {@link ObjectProvider} because the listener is
+ * instantiated while the {@code EntityManagerFactory} (which the service's
+ * repositories depend on) is still being built.
+ */
+public class ReferenceDataChangeListener {
+
+    private final ObjectProvider<ReferenceDataService> referenceDataService;
+
+    /**
+     * Constructs the listener.
+     *
+     * @param referenceDataService Lazy provider for the reference data service.
+     */
+    public ReferenceDataChangeListener(ObjectProvider<ReferenceDataService> referenceDataService) {
+        this.referenceDataService = referenceDataService;
+    }
+
+    /**
+     * Requests a snapshot refresh after a reference entity is written.
+     *
+     * @param entity The persisted, updated or removed entity (unused).
+     */
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onReferenceDataChanged(Object entity) {
+        referenceDataService.ifAvailable(ReferenceDataService::requestRefresh);
+    }
+}
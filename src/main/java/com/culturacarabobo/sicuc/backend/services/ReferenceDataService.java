@@ -0,0 +1,163 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.culturacarabobo.sicuc.backend.dtos.ArtCategoryResponse;
+import com.culturacarabobo.sicuc.backend.dtos.ArtDisciplineResponse;
+import com.culturacarabobo.sicuc.backend.dtos.MunicipalityResponse;
+import com.culturacarabobo.sicuc.backend.dtos.ParishResponse;
+import com.culturacarabobo.sicuc.backend.repositories.ArtCategoryRepository;
+import com.culturacarabobo.sicuc.backend.repositories.ArtDisciplineRepository;
+import com.culturacarabobo.sicuc.backend.repositories.MunicipalityRepository;
+import com.culturacarabobo.sicuc.backend.repositories.ParishRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Service that owns the in-memory {@link ReferenceDataSnapshot}.
+ * <p>
+ * The reference tables (seeded by {@code V2__Insert_Reference_Data}) almost
+ * never change, yet they back the hottest public endpoints. This service loads
+ * all four tables once at startup, builds an immutable snapshot and publishes
+ * it through a {@code volatile} field, so readers never lock and never see a
+ * half-built state.
+ * <p>
+ * The first snapshot is loaded once every singleton exists, which is before
+ * the embedded web server starts accepting requests. The reference endpoints
+ * are cached by clients for a day, so they must never serve the empty
+ * placeholder.
+ * <p>
+ * When reference data changes, {@link #requestRefresh()} rebuilds the snapshot
+ * (after the surrounding transaction commits) and swaps it atomically.
+ */
+@Service
+public class ReferenceDataService implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataService.class);
+
+    private final MunicipalityRepository municipalityRepository;
+    private final ParishRepository parishRepository;
+    private final ArtCategoryRepository artCategoryRepository;
+    private final ArtDisciplineRepository artDisciplineRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * The currently published snapshot. Replaced as a whole, never mutated.
+     */
+    private volatile ReferenceDataSnapshot snapshot = ReferenceDataSnapshot.empty();
+
+    /**
+     * Constructs the service with the repositories of the four reference tables.
+     *
+     * @param municipalityRepository  Repository for municipality data access.
+     * @param parishRepository        Repository for parish data access.
+     * @param artCategoryRepository   Repository for art category data access.
+     * @param artDisciplineRepository Repository for art discipline data access.
+     * @param objectMapper            The application's JSON mapper, used to
+     * pre-serialize the endpoint bodies.
+     */
+    public ReferenceDataService(MunicipalityRepository municipalityRepository, ParishRepository parishRepository,
+            ArtCategoryRepository artCategoryRepository, ArtDisciplineRepository artDisciplineRepository,
+            ObjectMapper objectMapper) {
+        this.municipalityRepository = municipalityRepository;
+        this.parishRepository = parishRepository;
+        this.artCategoryRepository = artCategoryRepository;
+        this.artDisciplineRepository = artDisciplineRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the currently published snapshot.
+     *
+     * @return The current {@link ReferenceDataSnapshot} (never {@code null}).
+     */
+    public ReferenceDataSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Loads the initial snapshot before the web server starts (the server is
+     * started with the context's lifecycle beans, after every singleton is
+     * initialized).
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh();
+    }
+
+    /**
+     * Signals that reference data has changed.
+     * <p>
+     * If a transaction is active, the rebuild is deferred until it commits (a
+     * rollback leaves the current snapshot untouched). Otherwise the snapshot is
+     * rebuilt immediately.
+     */
+    public void requestRefresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh();
+                }
+            });
+        } else {
+            refresh();
+        }
+    }
+
+    /**
+     * Reads the four reference tables, builds a new snapshot with the next
+     * version number and publishes it.
+     * <p>
+     * Synchronized so concurrent refreshes cannot publish out of order.
+     */
+    @SuppressWarnings("null")
+    public synchronized void refresh() {
+        List<MunicipalityResponse> municipalities = municipalityRepository.findAll(Sort.by("id")).stream()
+                .map(municipality -> new MunicipalityResponse(municipality.getId(), municipality.getName()))
+                .toList();
+        List<ParishResponse> parishes = parishRepository.findAll(Sort.by("id")).stream()
+                .map(parish -> new ParishResponse(parish.getId(), parish.getName(),
+                        parish.getMunicipality().getId()))
+                .toList();
+        List<ArtCategoryResponse> artCategories = artCategoryRepository.findAll(Sort.by("id")).stream()
+                .map(artCategory -> new ArtCategoryResponse(artCategory.getId(), artCategory.getName()))
+                .toList();
+        List<ArtDisciplineResponse> artDisciplines = artDisciplineRepository.findAll(Sort.by("id")).stream()
+                .map(artDiscipline -> new ArtDisciplineResponse(artDiscipline.getId(), artDiscipline.getName(),
+                        artDiscipline.getArtCategory().getId()))
+                .toList();
+
+        ReferenceDataSnapshot next = new ReferenceDataSnapshot(snapshot.getVersion() + 1,
+                municipalities, parishes, artCategories, artDisciplines,
+                toJson(municipalities), toJson(parishes), toJson(artCategories), toJson(artDisciplines));
+
+        // Atomic publication: readers see either the old or the new snapshot
+        snapshot = next;
+        logger.info("Reference data snapshot v{} loaded ({} municipalities, {} parishes, {} categories, {} disciplines)",
+                next.getVersion(), municipalities.size(), parishes.size(), artCategories.size(),
+                artDisciplines.size());
+    }
+
+    /**
+     * Serializes a DTO list to UTF-8 JSON bytes.
+     *
+     * @throws IllegalStateException if serialization fails (should never happen
+     * for these simple DTOs).
+     */
+    private byte[] toJson(List<?> value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could Not Serialize Reference Data", ex);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import com.culturacarabobo.sicuc.backend.dtos.ArtCategoryResponse;
+import com.culturacarabobo.sicuc.backend.dtos.ArtDisciplineResponse;
+import com.culturacarabobo.sicuc.backend.dtos.MunicipalityResponse;
+import com.culturacarabobo.sicuc.backend.dtos.ParishResponse;
+
+/**
+ * Immutable, versioned in-memory copy of all reference (lookup) data:
+ * municipalities, parishes, art categories and art disciplines.
+ * <p>
+ * A snapshot is built once by {@link ReferenceDataService} and then shared by
+ * every request thread without locking. Besides the DTO lists, it keeps:
+ * <ul>
+ * <li>Primitive lookup arrays indexed directly by entity ID, so relational
+ * checks (e.g., "Parish belongs to Municipality") cost an array access.</li>
+ * <li>The pre-serialized JSON body of each public reference endpoint, with
+ * its gzip form and HTTP validators ({@link PrecompressedJson}).</li>
+ * </ul>
+ * IDs are {@code AUTO_INCREMENT} values starting at 1, so {@code 0} is used as
+ * the "absent" marker in the parent-ID arrays.
+ */
+public final class ReferenceDataSnapshot {
+
+    /**
+     * Marker returned by the parent-ID lookups when the ID is unknown.
+     */
+    public static final int ABSENT = 0;
+
+    private static final byte[] EMPTY_JSON_ARRAY = { '[', ']' };
+
+    /** Monotonic version of this snapshot (0 = empty, never loaded). */
+    private final long version;
+
+    private final List<MunicipalityResponse> municipalities;
+    private final List<ParishResponse> parishes;
+    private final List<ArtCategoryResponse> artCategories;
+    private final List<ArtDisciplineResponse> artDisciplines;
+
+    private final PrecompressedJson municipalitiesBody;
+    private final PrecompressedJson parishesBody;
+    private final PrecompressedJson artCategoriesBody;
+    private final PrecompressedJson artDisciplinesBody;
+
+    /** {@code true} at index {@code id} if the municipality exists. */
+    private final boolean[] municipalityIndex;
+
+    /** Parent municipality ID at index {@code parishId}, or {@link #ABSENT}. */
+    private final int[] parishMunicipalityIndex;
+
+    /** {@code true} at index {@code id} if the art category exists. */
+    private final boolean[] artCategoryIndex;
+
+    /** Parent category ID at index {@code artDisciplineId}, or {@link #ABSENT}. */
+    private final int[] artDisciplineCategoryIndex;
+
+    /** Discipline name at index {@code artDisciplineId}, or {@code null}. */
+    private final String[] artDisciplineNameIndex;
+
+    /**
+     * Builds a snapshot from already-sorted DTO lists and their JSON bodies.
+     * <p>
+     * The lists are copied into unmodifiable lists and the lookup arrays are
+     * derived from them. The JSON arrays are taken as-is and must not be
+     * modified afterwards by the caller; they are compressed and hashed here,
+     * once per snapshot.
+     *
+     * @param version            The version number of this snapshot.
+     * @param municipalities     All municipalities, sorted by ID.
+     * @param parishes           All parishes, sorted by ID.
+     * @param artCategories      All art categories, sorted by ID.
+     * @param artDisciplines     All art disciplines, sorted by ID.
+     * @param municipalitiesJson Serialized body of {@code GET /municipalities}.
+     * @param parishesJson       Serialized body of {@code GET /parishes}.
+     * @param artCategoriesJson  Serialized body of {@code GET /art-categories}.
+     * @param artDisciplinesJson Serialized body of {@code GET /art-disciplines}.
+     */
+    public ReferenceDataSnapshot(long version,
+            List<MunicipalityResponse> municipalities, List<ParishResponse> parishes,
+            List<ArtCategoryResponse> artCategories, List<ArtDisciplineResponse> artDisciplines,
+            byte[] municipalitiesJson, byte[] parishesJson,
+            byte[] artCategoriesJson, byte[] artDisciplinesJson) {
+        this.version = version;
+        this.municipalities = List.copyOf(municipalities);
+        this.parishes = List.copyOf(parishes);
+        this.artCategories = List.copyOf(artCategories);
+        this.artDisciplines = List.copyOf(artDisciplines);
+        this.municipalitiesBody = new PrecompressedJson(municipalitiesJson);
+        this.parishesBody = new PrecompressedJson(parishesJson);
+        this.artCategoriesBody = new PrecompressedJson(artCategoriesJson);
+        this.artDisciplinesBody = new PrecompressedJson(artDisciplinesJson);
+
+        // --- Build the ID-indexed lookup arrays ---
+        this.municipalityIndex = new boolean[maxId(this.municipalities, MunicipalityResponse::getId) + 1];
+        for (MunicipalityResponse municipality : this.municipalities) {
+            municipalityIndex[municipality.getId()] = true;
+        }
+
+        this.parishMunicipalityIndex = new int[maxId(this.parishes, ParishResponse::getId) + 1];
+        for (ParishResponse parish : this.parishes) {
+            parishMunicipalityIndex[parish.getId()] = parish.getMunicipalityId();
+        }
+
+        this.artCategoryIndex = new boolean[maxId(this.artCategories, ArtCategoryResponse::getId) + 1];
+        for (ArtCategoryResponse artCategory : this.artCategories) {
+            artCategoryIndex[artCategory.getId()] = true;
+        }
+
+        int disciplineLength = maxId(this.artDisciplines, ArtDisciplineResponse::getId) + 1;
+        this.artDisciplineCategoryIndex = new int[disciplineLength];
+        this.artDisciplineNameIndex = new String[disciplineLength];
+        for (ArtDisciplineResponse artDiscipline : this.artDisciplines) {
+            artDisciplineCategoryIndex[artDiscipline.getId()] = artDiscipline.getArtCategoryId();
+            artDisciplineNameIndex[artDiscipline.getId()] = artDiscipline.getName();
+        }
+    }
+
+    /**
+     * Creates the initial, empty snapshot (version 0) used before the first load.
+     *
+     * @return An empty {@link ReferenceDataSnapshot}.
+     */
+    public static ReferenceDataSnapshot empty() {
+        return new ReferenceDataSnapshot(0, List.of(), List.of(), List.of(), List.of(),
+                EMPTY_JSON_ARRAY, EMPTY_JSON_ARRAY, EMPTY_JSON_ARRAY, EMPTY_JSON_ARRAY);
+    }
+
+    // --- Lookups ---
+
+    /**
+     * @param id The municipality ID.
+     * @return {@code true} if the municipality is present in this snapshot.
+     */
+    public boolean hasMunicipality(int id) {
+        return id > 0 && id < municipalityIndex.length && municipalityIndex[id];
+    }
+
+    /**
+     * @param parishId The parish ID.
+     * @return The ID of the parish's municipality, or {@link #ABSENT} if the
+     * parish is not present in this snapshot.
+     */
+    public int getParishMunicipalityId(int parishId) {
+        return parishId > 0 && parishId < parishMunicipalityIndex.length ? parishMunicipalityIndex[parishId] : ABSENT;
+    }
+
+    /**
+     * @param id The art category ID.
+     * @return {@code true} if the art category is present in this snapshot.
+     */
+    public boolean hasArtCategory(int id) {
+        return id > 0 && id < artCategoryIndex.length && artCategoryIndex[id];
+    }
+
+    /**
+     * @param artDisciplineId The art discipline ID.
+     * @return The ID of the discipline's category, or {@link #ABSENT} if the
+     * discipline is not present in this snapshot.
+     */
+    public int getArtDisciplineCategoryId(int artDisciplineId) {
+        return artDisciplineId > 0 && artDisciplineId < artDisciplineCategoryIndex.length
+                ? artDisciplineCategoryIndex[artDisciplineId]
+                : ABSENT;
+    }
+
+    /**
+     * @param artDisciplineId The art discipline ID.
+     * @return The discipline's name, or {@code null} if it is not present in
+     * this snapshot.
+     */
+    public String getArtDisciplineName(int artDisciplineId) {
+        return artDisciplineId > 0 && artDisciplineId < artDisciplineNameIndex.length
+                ? artDisciplineNameIndex[artDisciplineId]
+                : null;
+    }
+
+    // --- Standard Getters ---
+    // (The byte arrays are shared, callers must treat them as read-only)
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<MunicipalityResponse> getMunicipalities() {
+        return municipalities;
+    }
+
+    public List<ParishResponse> getParishes() {
+        return parishes;
+    }
+
+    public List<ArtCategoryResponse> getArtCategories() {
+        return artCategories;
+    }
+
+    public List<ArtDisciplineResponse> getArtDisciplines() {
+        return artDisciplines;
+    }
+
+    public byte[] getMunicipalitiesJson() {
+        return municipalitiesBody.getJson();
+    }
+
+    public byte[] getParishesJson() {
+        return parishesBody.getJson();
+    }
+
+    public byte[] getArtCategoriesJson() {
+        return artCategoriesBody.getJson();
+    }
+
+    public byte[] getArtDisciplinesJson() {
+        return artDisciplinesBody.getJson();
+    }
+
+    public PrecompressedJson getMunicipalitiesBody() {
+        return municipalitiesBody;
+    }
+
+    public PrecompressedJson getParishesBody() {
+        return parishesBody;
+    }
+
+    public PrecompressedJson getArtCategoriesBody() {
+        return artCategoriesBody;
+    }
+
+    public PrecompressedJson getArtDisciplinesBody() {
+        return artDisciplinesBody;
+    }
+
+    /**
+     * Returns the highest ID in the given list, or 0 if it is empty.
+     */
+    private static <T> int maxId(List<T> items, ToIntFunction<T> idGetter) {
+        int max = 0;
+        for (T item : items) {
+            max = Math.max(max, idGetter.applyAsInt(item));
+        }
+        return max;
+    }
+}
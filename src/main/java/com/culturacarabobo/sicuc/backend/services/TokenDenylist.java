@@ -0,0 +1,245 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.culturacarabobo.sicuc.backend.entities.RevokedToken;
+import com.culturacarabobo.sicuc.backend.repositories.RevokedTokenRepository;
+import com.culturacarabobo.sicuc.backend.utils.BloomFilter;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-memory denylist of revoked JWTs (logged out before they expired), keyed
+ * by the token's "jti" claim.
+ * <p>
+ * The hot path ({@link #isRevoked}) never touches the database: a
+ * {@link BloomFilter} answers "not revoked" for almost every token in a few
+ * bit reads, and only its (rare) positives are confirmed against the exact
+ * set. Entries are grouped in one-minute buckets by expiration, so expired
+ * revocations are dropped a bucket at a time, after which the Bloom filter is
+ * rebuilt from the remaining entries.
+ * <p>
+ * Revocations are persisted to {@code revoked_tokens}. The list is loaded at
+ * startup, and a background task polls for rows added by other instances and
+ * purges expired ones every {@code application.security.jwt.denylist.sync-interval}.
+ */
+@Service
+public class TokenDenylist {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenDenylist.class);
+
+    /**
+     * The width of an expiration bucket.
+     */
+    private static final long BUCKET_MILLIS = 60_000;
+
+    /**
+     * Revoked token IDs and their expiration (epoch milliseconds).
+     */
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    /**
+     * Revoked token IDs grouped by expiration bucket.
+     */
+    private final ConcurrentSkipListMap<Long, Set<String>> buckets = new ConcurrentSkipListMap<>();
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+    private final Duration syncInterval;
+
+    private volatile BloomFilter bloomFilter;
+    private LocalDateTime lastSync;
+    private ScheduledExecutorService executor;
+
+    /**
+     * Constructs the denylist.
+     *
+     * @param revokedTokenRepository Repository of persisted revocations.
+     * @param transactionManager     Used for the purge of expired rows.
+     * @param expectedEntries        How many live revocations the Bloom filter
+     * is sized for (from {@code application.security.jwt.denylist.expected-entries});
+     * it grows on rebuild if exceeded.
+     * @param falsePositiveRate      The Bloom filter's target false-positive
+     * rate (from {@code application.security.jwt.denylist.false-positive-rate}).
+     * @param syncInterval           How often to pick up other instances'
+     * revocations and purge expired ones (from
+     * {@code application.security.jwt.denylist.sync-interval}).
+     */
+    public TokenDenylist(RevokedTokenRepository revokedTokenRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${application.security.jwt.denylist.expected-entries:100000}") int expectedEntries,
+            @Value("${application.security.jwt.denylist.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${application.security.jwt.denylist.sync-interval:30s}") Duration syncInterval) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncInterval = syncInterval;
+        this.bloomFilter = new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    /**
+     * Checks whether a token has been revoked. Lock-free, no database access.
+     *
+     * @param token The verified token.
+     * @return {@code true} if the token was revoked.
+     */
+    public boolean isRevoked(ParsedToken token) {
+        String tokenId = token.getTokenId();
+        return tokenId != null && bloomFilter.mightContain(tokenId) && revoked.containsKey(tokenId);
+    }
+
+    /**
+     * Revokes a token until it expires.
+     *
+     * @param token The verified token.
+     * @return {@code true} if the token was revoked by this call;
+     * {@code false} if it was already revoked, has expired, or has no ID.
+     */
+    public boolean revoke(ParsedToken token) {
+        String tokenId = token.getTokenId();
+        if (tokenId == null || token.isExpired(Instant.now()) || revoked.containsKey(tokenId)) {
+            return false;
+        }
+        if (!revokedTokenRepository.existsById(tokenId)) {
+            revokedTokenRepository.save(new RevokedToken(tokenId, token.getSubject(),
+                    toUtc(token.getExpiration()), toUtc(Instant.now())));
+        }
+        remember(tokenId, token.getExpiration().toEpochMilli());
+        return true;
+    }
+
+    /**
+     * Returns the number of revocations held in memory.
+     *
+     * @return The number of live revocations.
+     */
+    public int size() {
+        return revoked.size();
+    }
+
+    /**
+     * Loads the persisted revocations and starts the background sync.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void onApplicationReady() {
+        if (executor != null) {
+            return;
+        }
+        sync();
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-denylist");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::maintainSafely, syncInterval.toMillis(), syncInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        logger.info("Token denylist loaded ({} revoked tokens)", revoked.size());
+    }
+
+    /**
+     * Stops the background sync.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Loads the revocations recorded since the last sync (all live ones on the
+     * first call). The window overlaps the previous one by a sync interval, to
+     * absorb clock skew and late commits between instances.
+     */
+    public synchronized void sync() {
+        LocalDateTime now = toUtc(Instant.now());
+        LocalDateTime since = lastSync == null ? LocalDateTime.of(1970, 1, 1, 0, 0) : lastSync.minus(syncInterval);
+        for (RevokedToken row : revokedTokenRepository.findActiveRevokedAfter(since, now)) {
+            remember(row.getId(), row.getExpiresAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+        }
+        lastSync = now;
+    }
+
+    /**
+     * Drops the revocations of expired tokens, rebuilds the Bloom filter
+     * without them, and deletes their rows.
+     */
+    public void purgeExpired() {
+        synchronized (this) {
+            long currentBucket = System.currentTimeMillis() / BUCKET_MILLIS;
+            NavigableMap<Long, Set<String>> expired = buckets.headMap(currentBucket, false);
+            if (!expired.isEmpty()) {
+                for (Set<String> tokenIds : expired.values()) {
+                    tokenIds.forEach(revoked::remove);
+                }
+                expired.clear();
+                rebuildBloomFilter();
+            }
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                revokedTokenRepository.deleteExpired(toUtc(Instant.now())));
+    }
+
+    // ----------------------------------------------------------------
+    // PRIVATE HELPER METHODS
+    // ----------------------------------------------------------------
+
+    /**
+     * Adds a revocation to the in-memory structures. Synchronized with
+     * {@link #rebuildBloomFilter()}, so a rebuild never misses one.
+     */
+    private synchronized void remember(String tokenId, long expiresAtMillis) {
+        if (revoked.putIfAbsent(tokenId, expiresAtMillis) == null) {
+            // Exact set first: a Bloom hit must always be confirmable
+            buckets.computeIfAbsent(expiresAtMillis / BUCKET_MILLIS, bucket -> ConcurrentHashMap.newKeySet())
+                    .add(tokenId);
+            bloomFilter.put(tokenId);
+        }
+    }
+
+    private synchronized void rebuildBloomFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revoked.size() * 2), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+    }
+
+    /**
+     * One background round; errors are logged so the schedule keeps running.
+     */
+    private void maintainSafely() {
+        try {
+            sync();
+            purgeExpired();
+        } catch (RuntimeException ex) {
+            logger.warn("Token denylist sync failed", ex);
+        }
+    }
+
+    private static LocalDateTime toUtc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,53 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.culturacarabobo.sicuc.backend.entities.User;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener attached to {@link User}.
+ * <p>
+ * Any insert, update (e.g., a password or role change) or delete of a user
+ * evicts it from the {@link UserDetailsCache} and the {@link UserStateCache}
+ * once the surrounding transaction commits. Bulk JPQL updates bypass entity
+ * listeners and must invalidate explicitly (see
+ * {@link UserService#revokeTokens}).
+ * <p>
+ * As with {@link ReferenceDataChangeListener}, the caches are resolved lazily
+ * because Hibernate creates the listener while the
+ * {@code EntityManagerFactory} is still being built.
+ */
+public class UserChangeListener {
+
+    private final ObjectProvider<UserDetailsCache> userDetailsCache;
+    private final ObjectProvider<UserStateCache> userStateCache;
+
+    /**
+     * Constructs the listener.
+     *
+     * @param userDetailsCache Lazy provider for the user lookup cache.
+     * @param userStateCache   Lazy provider for the user-state cache.
+     */
+    public UserChangeListener(ObjectProvider<UserDetailsCache> userDetailsCache,
+            ObjectProvider<UserStateCache> userStateCache) {
+        this.userDetailsCache = userDetailsCache;
+        this.userStateCache = userStateCache;
+    }
+
+    /**
+     * Invalidates the cached entries of a user after it is written.
+     *
+     * @param user The persisted, updated or removed user.
+     */
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        userDetailsCache.ifAvailable(cache -> cache.invalidate(user.getUsername()));
+        userStateCache.ifAvailable(cache -> cache.invalidate(user.getUsername()));
+    }
+}
@@ -0,0 +1,124 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.culturacarabobo.sicuc.backend.entities.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded, Caffeine-backed cache of user lookups for
+ * {@link UserService#loadUserByUsername}, so DB-backed authentication (every
+ * request, login, and refresh) costs one query per user per TTL instead of one
+ * per call. A dashboard's burst of parallel requests shares a single load:
+ * concurrent misses for the same username wait for the first one.
+ * <p>
+ * Entries are detached copies of the {@link User} entity and must be treated
+ * as read-only. Writes to a user (role, password, token version, deletion)
+ * invalidate its entry once their transaction commits, via the
+ * {@link UserChangeListener} or explicitly for bulk updates; Caffeine discards
+ * a load still in flight when its key is invalidated, so a stale read is never
+ * cached. The TTL bounds staleness after changes that bypass the application.
+ * <p>
+ * Hit, miss, load, and eviction counts are published to Micrometer as the
+ * {@code cache.*} meters tagged {@code cache=users}.
+ */
+@Service
+public class UserDetailsCache {
+
+    private final Cache<String, User> users;
+    private final boolean enabled;
+
+    /**
+     * Constructs the cache and registers its metrics.
+     *
+     * @param maxEntries    The maximum number of cached users (from
+     * {@code application.security.user-cache.max-entries}); {@code 0} disables
+     * the cache.
+     * @param ttl           How long an entry stays valid after it is loaded
+     * (from {@code application.security.user-cache.ttl}).
+     * @param meterRegistry The registry the cache statistics are published to.
+     */
+    public UserDetailsCache(@Value("${application.security.user-cache.max-entries:1000}") int maxEntries,
+            @Value("${application.security.user-cache.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.enabled = maxEntries > 0;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxEntries, 0))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "users");
+    }
+
+    /**
+     * Returns the cached user, loading (and caching a copy of) it if absent.
+     *
+     * @param username The username.
+     * @param loader   Loads the user from the database; may return
+     * {@code null}, which is not cached.
+     * @return The user (read-only), or {@code null} if not found.
+     */
+    public User get(String username, Function<String, User> loader) {
+        if (!enabled) {
+            return loader.apply(username);
+        }
+        return users.get(username, key -> copyOf(loader.apply(key)));
+    }
+
+    /**
+     * Drops a user's entry once the current transaction commits (immediately
+     * if there is none).
+     *
+     * @param username The user's username.
+     */
+    public void invalidate(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    users.invalidate(username);
+                }
+            });
+        } else {
+            users.invalidate(username);
+        }
+    }
+
+    /**
+     * Returns the cache statistics (hits, misses, loads, evictions).
+     *
+     * @return A snapshot of the statistics.
+     */
+    public CacheStats stats() {
+        return users.stats();
+    }
+
+    // ----------------------------------------------------------------
+    // PRIVATE HELPER METHODS
+    // ----------------------------------------------------------------
+
+    /**
+     * Copies a user, so the cache never shares an instance attached to a
+     * persistence context.
+     */
+    private static User copyOf(User user) {
+        if (user == null) {
+            return null;
+        }
+        User copy = new User(user.getUsername(), user.getPassword(), user.getRole());
+        copy.setId(user.getId());
+        copy.setTokenVersion(user.getTokenVersion());
+        return copy;
+    }
+}
@@ -1,9 +1,11 @@
 package com.culturacarabobo.sicuc.backend.services;
 
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.culturacarabobo.sicuc.backend.entities.User;
 import com.culturacarabobo.sicuc.backend.repositories.UserRepository;
@@ -15,26 +17,40 @@ import com.culturacarabobo.sicuc.backend.repositories.UserRepository;
  * method {@link #loadUserByUsername(String)} used by the
  * {@link org.springframework.security.authentication.AuthenticationProvider}
  * to fetch user details during authentication.
+ * <p>
+ * It also implements {@link UserDetailsPasswordService}, through which the
+ * provider re-hashes a password stored with a lower BCrypt cost than
+ * configured after a successful login.
  */
 @Service
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final UserStateCache userStateCache;
 
     /**
      * Constructs the service with the required {@link UserRepository}.
      *
      * @param userRepository Repository for {@link User} data access.
+     * @param userDetailsCache The cache of user lookups.
+     * @param userStateCache The cache of user states checked by stateless
+     * authentication.
      */
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, UserDetailsCache userDetailsCache,
+            UserStateCache userStateCache) {
         this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
+        this.userStateCache = userStateCache;
     }
 
     /**
      * Locates the user based on the username.
      * <p>
      * This method is called by Spring Security's {@code AuthenticationProvider}
-     * when a user attempts to log in.
+     * when a user attempts to log in, and by the JWT filter and the refresh
+     * flow. Lookups go through the {@link UserDetailsCache}; the returned user
+     * is a read-only copy.
      *
      * @param username The username identifying the user whose data is required.
      * @return A {@link UserDetails} object (in this case, our {@link User}
@@ -45,7 +61,7 @@ public class UserService implements UserDetailsService {
     @SuppressWarnings("null")
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username);
+        User user = userDetailsCache.get(username, userRepository::findByUsername);
         
         if (user == null) {
             // This exception is caught by Spring Security to indicate a failed login
@@ -56,4 +72,46 @@ public class UserService implements UserDetailsService {
         return user;
     }
 
-}
\ No newline at end of file
+    /**
+     * Revokes every token issued so far to a user (e.g., "log out everywhere",
+     * or after a role or password change) by incrementing their token version.
+     * <p>
+     * Takes effect on this instance as soon as the transaction commits, and on
+     * other instances within the user-state cache TTL.
+     *
+     * @param username The user's username.
+     * @return {@code true} if the user exists.
+     */
+    @Transactional
+    public boolean revokeTokens(String username) {
+        boolean revoked = userRepository.incrementTokenVersion(username) > 0;
+        // A bulk update bypasses the UserChangeListener
+        userDetailsCache.invalidate(username);
+        userStateCache.invalidate(username);
+        return revoked;
+    }
+
+    /**
+     * Replaces a user's stored password hash (called after a successful login
+     * when the hash should be upgraded, e.g., to a higher BCrypt cost).
+     * <p>
+     * Tokens are not revoked, since the password itself is unchanged; the
+     * {@link UserChangeListener} evicts the cached user once the transaction
+     * commits.
+     *
+     * @param user        The authenticated user (possibly a cached copy).
+     * @param newPassword The new hash of the same password.
+     * @return The updated user, or the given one if it no longer exists.
+     */
+    @SuppressWarnings("null")
+    @Transactional
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User entity = userRepository.findByUsername(user.getUsername());
+        if (entity == null) {
+            return user;
+        }
+        entity.setPassword(newPassword);
+        return userRepository.save(entity);
+    }
+}
@@ -0,0 +1,137 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.culturacarabobo.sicuc.backend.entities.Role;
+import com.culturacarabobo.sicuc.backend.repositories.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Short-lived, Caffeine-backed cache of each user's authorization state (role
+ * and token version), used to check stateless tokens without a database query
+ * per request.
+ * <p>
+ * A stateless token is accepted only while its user still exists, still has
+ * the role the token was issued with, and still has the same token version,
+ * so deleted, demoted, or revoked users lose access. Changes made through
+ * {@link UserService} invalidate the user's entry once their transaction
+ * commits; the TTL bounds staleness after changes that bypass it (e.g.,
+ * manual SQL, or another instance of the application).
+ * <p>
+ * Unknown users are cached too, so tokens of a deleted user do not cause a
+ * query per request. As in {@link UserDetailsCache}, Caffeine discards a load
+ * still in flight when its key is invalidated, so a state loaded before an
+ * invalidation is never cached. Statistics are published to Micrometer as the
+ * {@code cache.*} meters tagged {@code cache=user-states}.
+ */
+@Service
+public class UserStateCache {
+
+    /**
+     * A user's state ({@code role == null} if the user does not exist).
+     */
+    private static final class State {
+
+        private final Role role;
+        private final int tokenVersion;
+
+        private State(Role role, int tokenVersion) {
+            this.role = role;
+            this.tokenVersion = tokenVersion;
+        }
+    }
+
+    private static final State UNKNOWN = new State(null, 0);
+
+    private final Cache<String, State> states;
+
+    private final UserRepository userRepository;
+
+    /**
+     * Constructs the cache and registers its metrics.
+     *
+     * @param userRepository Repository used to load a user's state.
+     * @param maxEntries     The maximum number of cached users (from
+     * {@code application.security.user-state-cache.max-entries}); the least
+     * recently used are evicted beyond it.
+     * @param ttl            How long a state stays valid after it is loaded
+     * (from {@code application.security.user-state-cache.ttl}).
+     * @param meterRegistry  The registry the cache statistics are published to.
+     */
+    public UserStateCache(UserRepository userRepository,
+            @Value("${application.security.user-state-cache.max-entries:10000}") int maxEntries,
+            @Value("${application.security.user-state-cache.ttl:30s}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.states = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxEntries, 0))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, states, "user-states");
+    }
+
+    /**
+     * Checks that a token's role and version still match its user.
+     *
+     * @param username     The token's subject.
+     * @param role         The role carried by the token.
+     * @param tokenVersion The token version carried by the token.
+     * @return {@code true} if the user exists with that role and version.
+     */
+    public boolean isCurrent(String username, Role role, int tokenVersion) {
+        State state = states.get(username, this::load);
+        return state.role != null && state.role == role && state.tokenVersion == tokenVersion;
+    }
+
+    /**
+     * Drops a user's entry once the current transaction commits (immediately
+     * if there is none). Called whenever a user's role or token version
+     * changes.
+     *
+     * @param username The user's username.
+     */
+    public void invalidate(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    states.invalidate(username);
+                }
+            });
+        } else {
+            states.invalidate(username);
+        }
+    }
+
+    /**
+     * Returns the cache statistics (hits, misses, loads, evictions).
+     *
+     * @return A snapshot of the statistics.
+     */
+    public CacheStats stats() {
+        return states.stats();
+    }
+
+    // ----------------------------------------------------------------
+    // PRIVATE HELPER METHODS
+    // ----------------------------------------------------------------
+
+    /**
+     * Loads the state of a user from the database.
+     */
+    private State load(String username) {
+        UserRepository.UserState state = userRepository.findStateByUsername(username);
+        return state == null ? UNKNOWN : new State(state.getRole(), state.getTokenVersion());
+    }
+}
@@ -0,0 +1,143 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Caffeine-backed cache of JWTs whose signature has already been verified, so
+ * a client that repeats the same bearer token (e.g., a dashboard polling the
+ * API) skips the HMAC verification and JSON parsing on every call after the
+ * first.
+ * <p>
+ * Entries are keyed by the SHA-256 hash of the token, so the cache never
+ * holds usable credentials. Each entry expires with its token, after which
+ * the token goes through a full parse again (which rejects it); beyond the
+ * size bound the least recently used tokens are evicted. Only verified tokens
+ * are stored: a forged or malformed token fails verification every time.
+ * Statistics are published to Micrometer as the {@code cache.*} meters tagged
+ * {@code cache=verified-tokens}.
+ */
+@Service
+public class VerifiedTokenCache {
+
+    private final Cache<String, ParsedToken> tokens;
+    private final boolean enabled;
+
+    /**
+     * Constructs the cache and registers its metrics.
+     *
+     * @param maxEntries    The maximum number of cached tokens (from
+     * {@code application.security.jwt.token-cache.max-entries}); {@code 0}
+     * disables the cache.
+     * @param meterRegistry The registry the cache statistics are published to.
+     */
+    public VerifiedTokenCache(@Value("${application.security.jwt.token-cache.max-entries:10000}") int maxEntries,
+            MeterRegistry meterRegistry) {
+        this.enabled = maxEntries > 0;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxEntries, 0))
+                .expireAfter(Expiry.creating((String key, ParsedToken parsed) -> timeToLive(parsed)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, "verified-tokens");
+    }
+
+    /**
+     * Returns the parsed form of a token, if it was verified before and has
+     * not expired.
+     *
+     * @param token The compact JWT string.
+     * @return The parsed token, or {@code null}.
+     */
+    public ParsedToken getIfPresent(String token) {
+        if (!enabled) {
+            return null;
+        }
+        return tokens.getIfPresent(hash(token));
+    }
+
+    /**
+     * Stores a verified token until it expires. A token with no time left is
+     * not stored at all.
+     *
+     * @param token  The compact JWT string.
+     * @param parsed Its verified contents.
+     */
+    public void put(String token, ParsedToken parsed) {
+        if (!enabled || timeToLive(parsed).isZero()) {
+            return;
+        }
+        tokens.put(hash(token), parsed);
+    }
+
+    /**
+     * Removes every cached token.
+     */
+    public void clear() {
+        tokens.invalidateAll();
+    }
+
+    /**
+     * Returns the number of cached tokens, once expired and evicted entries
+     * have been removed.
+     *
+     * @return The current size.
+     */
+    public long size() {
+        tokens.cleanUp();
+        return tokens.estimatedSize();
+    }
+
+    /**
+     * Returns the cache statistics (hits, misses, evictions).
+     *
+     * @return A snapshot of the statistics.
+     */
+    public CacheStats stats() {
+        return tokens.stats();
+    }
+
+    // ----------------------------------------------------------------
+    // PRIVATE HELPER METHODS
+    // ----------------------------------------------------------------
+
+    /**
+     * Returns how long a token has left before it expires (zero if it already
+     * has, or carries no expiration).
+     */
+    private static Duration timeToLive(ParsedToken parsed) {
+        if (parsed.getExpiration() == null) {
+            return Duration.ZERO;
+        }
+        Duration remaining = Duration.between(Instant.now(), parsed.getExpiration());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    /**
+     * Hashes a token with SHA-256 (Base64-encoded).
+     */
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -2,21 +2,35 @@ package com.culturacarabobo.sicuc.backend.specifications;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Subquery;
 
 import org.springframework.data.jpa.domain.Specification;
 
 import com.culturacarabobo.sicuc.backend.entities.Cultor;
+import com.culturacarabobo.sicuc.backend.entities.CultorSearchGram;
+import com.culturacarabobo.sicuc.backend.utils.StringUtils;
 
 /**
  * Creates dynamic JPA Specifications for the {@link Cultor} entity.
  * <p>
  * This class is used by {@link com.culturacarabobo.sicuc.backend.services.CultorService}
  * to build complex, multi-parameter search queries.
+ * <p>
+ * Name searches target the stored, indexed search keys
+ * ({@code firstNameSearch}, {@code lastNameSearch}) rather than wrapping the
+ * display columns in {@code LOWER(...)}, so a prefix {@code LIKE 'x%'} is an
+ * index range scan. The search input is normalized with the same
+ * {@link StringUtils#toSearchKey(String)} used on write.
+ * <p>
+ * Id/phone number substring searches are narrowed first with the trigram
+ * index maintained by
+ * {@link com.culturacarabobo.sicuc.backend.services.CultorSearchGramService}.
  */
 public class CultorSpecification {
 
@@ -48,22 +62,28 @@ public class CultorSpecification {
 
             // --- Full-Text Search Query Logic ---
             if (query != null && !query.trim().isEmpty()) {
-                String normalizedQuery = query.trim().toLowerCase();
-                String[] parts = normalizedQuery.split("\\s+");
+                // Same normalization as the stored search keys (lowercase, accent-folded)
+                String normalizedQuery = StringUtils.toSearchKey(query);
+                String[] parts = normalizedQuery.split(" ");
 
                 // This logic dynamically changes the search behavior based on the number of words
                 switch (parts.length) {
 
                     case 1:
-                        // 1 word: "Jose" -> (firstName LIKE 'jose%' OR lastName LIKE 'jose%' OR idNumber LIKE '%jose%'...)
+                        // 1 word. Names only hold letters and id/phone numbers are mostly digits,
+                        // so the word is matched against one side only:
+                        // "Jose" -> (firstName LIKE 'jose%' OR lastName LIKE 'jose%')
+                        // "1234" -> idNumber/phoneNumber contain '1234' (see numberMatches)
                         String part = parts[0];
-                        List<Predicate> singleWordPredicates = new ArrayList<>();
-                        singleWordPredicates.add(cb.like(cb.lower(root.get("firstName")), part + "%"));
-                        singleWordPredicates.add(cb.like(cb.lower(root.get("lastName")), part + "%"));
-                        singleWordPredicates.add(cb.like(cb.lower(root.get("idNumber")), "%" + part + "%"));
-                        singleWordPredicates.add(cb.like(cb.lower(root.get("phoneNumber")), "%" + part + "%"));
-                        
-                        predicates.add(cb.or(singleWordPredicates.toArray(new Predicate[0])));
+                        if (StringUtils.toDigits(part).isEmpty()) {
+                            List<Predicate> singleWordPredicates = new ArrayList<>();
+                            singleWordPredicates.add(cb.like(root.get("firstNameSearch"), part + "%"));
+                            singleWordPredicates.add(cb.like(root.get("lastNameSearch"), part + "%"));
+
+                            predicates.add(cb.or(singleWordPredicates.toArray(new Predicate[0])));
+                        } else {
+                            predicates.add(numberMatches(part, root, criteriaQuery, cb));
+                        }
                         break;
 
                     case 2:
@@ -71,11 +91,11 @@ public class CultorSpecification {
                         //                           (firstName LIKE 'jose%' AND lastName LIKE 'perez%') )
                         String firstTwo = parts[0] + " " + parts[1];
                         predicates.add(cb.or(
-                                cb.like(cb.lower(root.get("firstName")), firstTwo + "%"),
-                                cb.like(cb.lower(root.get("lastName")), firstTwo + "%"),
+                                cb.like(root.get("firstNameSearch"), firstTwo + "%"),
+                                cb.like(root.get("lastNameSearch"), firstTwo + "%"),
                                 cb.and(
-                                        cb.like(cb.lower(root.get("firstName")), parts[0] + "%"),
-                                        cb.like(cb.lower(root.get("lastName")), parts[1] + "%"))));
+                                        cb.like(root.get("firstNameSearch"), parts[0] + "%"),
+                                        cb.like(root.get("lastNameSearch"), parts[1] + "%"))));
                         break;
                     case 3:
                         // 3 words: "Jose Angel Perez" -> ( (firstName LIKE 'jose angel%' AND lastName LIKE 'perez%') OR
@@ -83,13 +103,16 @@ public class CultorSpecification {
                         String firstTwoAsFirstName = parts[0] + " " + parts[1];
                         String lastTwoAsLastName = parts[1] + " " + parts[2];
 
+                        // Both branches imply firstName LIKE 'jose%'; stating it once lets the
+                        // whole OR be resolved with a single range scan on the first name index
+                        predicates.add(cb.like(root.get("firstNameSearch"), parts[0] + "%"));
                         predicates.add(cb.or(
                                 cb.and(
-                                        cb.like(cb.lower(root.get("firstName")), firstTwoAsFirstName + "%"),
-                                        cb.like(cb.lower(root.get("lastName")), parts[2] + "%")),
+                                        cb.like(root.get("firstNameSearch"), firstTwoAsFirstName + "%"),
+                                        cb.like(root.get("lastNameSearch"), parts[2] + "%")),
                                 cb.and(
-                                        cb.like(cb.lower(root.get("firstName")), parts[0] + "%"),
-                                        cb.like(cb.lower(root.get("lastName")), lastTwoAsLastName + "%"))));
+                                        cb.like(root.get("firstNameSearch"), parts[0] + "%"),
+                                        cb.like(root.get("lastNameSearch"), lastTwoAsLastName + "%"))));
                         break;
                     case 4:
                         // 4 words: "Jose Angel Perez Garcia" -> (firstName LIKE 'jose angel%' AND lastName LIKE 'perez garcia%')
@@ -97,8 +120,8 @@ public class CultorSpecification {
                         String fullLastName = parts[2] + " " + parts[3];
 
                         predicates.add(cb.and(
-                                cb.like(cb.lower(root.get("firstName")), fullFirstName + "%"),
-                                cb.like(cb.lower(root.get("lastName")), fullLastName + "%")));
+                                cb.like(root.get("firstNameSearch"), fullFirstName + "%"),
+                                cb.like(root.get("lastNameSearch"), fullLastName + "%")));
                         break;
                 }
             }
@@ -155,4 +178,45 @@ public class CultorSpecification {
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Builds the "idNumber or phoneNumber contains {@code part}" predicate.
+     * <p>
+     * When the word has at least three digits, candidates are first narrowed
+     * with the trigram index ({@link CultorSearchGram}): only cultors owning
+     * every trigram of the word's digits qualify, which is an index lookup
+     * proportional to the number of matches. The original {@code LIKE '%x%'}
+     * is then applied to those candidates only, since owning the trigrams does
+     * not guarantee they are contiguous (or in the same field).
+     * <p>
+     * Shorter words fall back to the plain {@code LIKE}.
+     *
+     * @param part          The normalized search word (contains at least one digit).
+     * @param root          The {@link Cultor} root.
+     * @param criteriaQuery The enclosing query, used to create the subquery.
+     * @param cb            The criteria builder.
+     * @return The predicate.
+     */
+    private static Predicate numberMatches(String part, Root<Cultor> root, CriteriaQuery<?> criteriaQuery,
+            CriteriaBuilder cb) {
+        Predicate contains = cb.or(
+                cb.like(cb.lower(root.get("idNumber")), "%" + part + "%"),
+                cb.like(cb.lower(root.get("phoneNumber")), "%" + part + "%"));
+
+        Set<String> grams = StringUtils.toTrigrams(StringUtils.toDigits(part));
+        if (grams.isEmpty()) {
+            return contains;
+        }
+
+        // SELECT cultor_id FROM cultor_search_grams WHERE gram IN (...)
+        // GROUP BY cultor_id HAVING COUNT(*) = <number of grams>
+        Subquery<Integer> candidates = criteriaQuery.subquery(Integer.class);
+        Root<CultorSearchGram> gram = candidates.from(CultorSearchGram.class);
+        candidates.select(gram.get("cultorId"))
+                .where(gram.get("gram").in(grams))
+                .groupBy(gram.get("cultorId"))
+                .having(cb.equal(cb.count(gram), (long) grams.size()));
+
+        return cb.and(root.get("id").in(candidates), contains);
+    }
+}
@@ -0,0 +1,102 @@
+package com.culturacarabobo.sicuc.backend.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size, thread-safe Bloom filter of strings.
+ * <p>
+ * {@link #mightContain} never returns {@code false} for a value that was
+ * {@link #put}, and returns {@code true} for other values with roughly the
+ * false-positive probability the filter was sized for (higher once more values
+ * than expected are added). Values cannot be removed; rebuild the filter
+ * instead.
+ * <p>
+ * Bits live in an {@link AtomicLongArray}, so reads and writes are lock-free.
+ * Positions are derived from one 64-bit hash by double hashing.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long numBits;
+    private final int numHashes;
+
+    /**
+     * Creates an empty filter.
+     *
+     * @param expectedInsertions        How many values the filter is sized for.
+     * @param falsePositiveProbability  The target false-positive probability
+     * (e.g., {@code 0.01}).
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveProbability) {
+        int n = Math.max(expectedInsertions, 1);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        this.numBits = Math.max(bits, 64);
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / n * Math.log(2)));
+        this.words = new AtomicLongArray((int) ((numBits + 63) / 64));
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value The value.
+     */
+    public void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(word);
+            } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * Checks whether a value may have been added.
+     *
+     * @param value The value.
+     * @return {@code false} if the value was definitely never added.
+     */
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ----------------------------------------------------------------
+    // PRIVATE HELPER METHODS
+    // ----------------------------------------------------------------
+
+    private long index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % numBits;
+    }
+
+    /**
+     * FNV-1a over the characters, followed by the MurmurHash3 64-bit
+     * finalizer to spread the bits.
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
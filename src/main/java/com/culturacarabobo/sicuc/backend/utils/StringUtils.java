@@ -1,5 +1,11 @@
 package com.culturacarabobo.sicuc.backend.utils;
 
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
 /**
  * Final utility class for common string manipulation tasks.
  * <p>
@@ -7,6 +13,27 @@ package com.culturacarabobo.sicuc.backend.utils;
  */
 public final class StringUtils {
 
+    /**
+     * Matches the combining marks left behind by NFD decomposition (accents,
+     * tildes, diaeresis).
+     */
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    /**
+     * Matches runs of whitespace.
+     */
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * Matches every character that is not an ASCII digit.
+     */
+    private static final Pattern NON_DIGITS = Pattern.compile("[^0-9]+");
+
+    /**
+     * Length of the n-grams produced by {@link #toTrigrams(String)}.
+     */
+    public static final int GRAM_LENGTH = 3;
+
     /**
      * Private constructor to prevent instantiation of this utility class.
      */
@@ -51,4 +78,64 @@ public final class StringUtils {
         // Convert to string and trim the final trailing space
         return textCapitalize.toString().trim();
     }
-}
\ No newline at end of file
+
+    /**
+     * Normalizes text into a search key: accents are removed, the text is
+     * lowercased, trimmed, and internal spacing is collapsed to single spaces.
+     * <p>
+     * This is the form stored in the {@code *_search} columns of
+     * {@code cultors}, and the form search input must be converted to before
+     * it is compared against them.
+     * <p>
+     * Example: " José  ÁNGEL Muñoz " -> "jose angel munoz"
+     *
+     * @param text The input string to normalize.
+     * @return The search key, or {@code null} if the input is null.
+     */
+    public static String toSearchKey(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        // Decompose accented characters (á -> a + ´) and drop the marks
+        String folded = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return WHITESPACE.matcher(folded.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Removes every non-digit character from the given text.
+     * <p>
+     * Example: "V-12345678" -> "12345678", "0412-1234567" -> "04121234567"
+     *
+     * @param text The input string.
+     * @return The digits of the input, in order (empty if there are none), or
+     * {@code null} if the input is null.
+     */
+    public static String toDigits(String text) {
+        if (text == null) {
+            return null;
+        }
+        return NON_DIGITS.matcher(text).replaceAll("");
+    }
+
+    /**
+     * Returns the distinct, overlapping {@value #GRAM_LENGTH}-character
+     * substrings of the given text, in order of first appearance.
+     * <p>
+     * Example: "12345" -> [123, 234, 345]
+     *
+     * @param text The input string (typically the output of {@link #toDigits}).
+     * @return The trigrams of the input; empty if it is null or shorter than
+     * {@value #GRAM_LENGTH} characters.
+     */
+    public static Set<String> toTrigrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null) {
+            return grams;
+        }
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
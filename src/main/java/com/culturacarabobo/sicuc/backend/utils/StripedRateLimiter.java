@@ -0,0 +1,123 @@
+package com.culturacarabobo.sicuc.backend.utils;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-window, thread-safe rate limiter keyed by strings (e.g., client
+ * addresses or usernames), with a fixed memory footprint.
+ * <p>
+ * Keys are hashed onto a fixed number of stripes, each holding the current
+ * window and its count packed into one {@code long} of an
+ * {@link AtomicLongArray}, so {@link #tryAcquire} is a single compare-and-set
+ * and never locks or allocates. Keys that share a stripe share its budget, so
+ * use many more stripes than expected concurrent keys. The hash is seeded per
+ * instance, so which keys collide cannot be predicted from outside.
+ * <p>
+ * As with any fixed window, up to twice the limit may pass around a window
+ * boundary.
+ */
+public final class StripedRateLimiter {
+
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long WINDOW_MASK = -1L >>> COUNT_BITS;
+
+    private final AtomicLongArray stripes;
+    private final int stripeMask;
+    private final int limit;
+    private final long windowMillis;
+    private final long seed;
+
+    /**
+     * Creates a limiter.
+     *
+     * @param stripes      The number of stripes (rounded up to a power of two).
+     * @param limit        How many acquisitions a key gets per window;
+     * {@code 0} disables the limiter.
+     * @param windowMillis The window length, in milliseconds.
+     */
+    public StripedRateLimiter(int stripes, int limit, long windowMillis) {
+        if (limit < 0 || limit > COUNT_MASK) {
+            throw new IllegalArgumentException("The Limit Must Be Between 0 And " + COUNT_MASK);
+        }
+        if (windowMillis <= 0) {
+            throw new IllegalArgumentException("The Window Must Be Positive");
+        }
+        int size = Integer.highestOneBit(Math.max(stripes, 1) - 1) << 1;
+        this.stripes = new AtomicLongArray(Math.max(size, 1));
+        this.stripeMask = this.stripes.length() - 1;
+        this.limit = limit;
+        this.windowMillis = windowMillis;
+        this.seed = ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Records an acquisition for a key, unless its budget for the current
+     * window is spent.
+     *
+     * @param key The key.
+     * @return {@code true} if the acquisition is allowed.
+     */
+    public boolean tryAcquire(String key) {
+        return tryAcquire(key, System.currentTimeMillis());
+    }
+
+    /**
+     * Same as {@link #tryAcquire(String)}, at the given time.
+     *
+     * @param key        The key.
+     * @param nowMillis  The current time, in epoch milliseconds.
+     * @return {@code true} if the acquisition is allowed.
+     */
+    public boolean tryAcquire(String key, long nowMillis) {
+        if (limit == 0) {
+            return true;
+        }
+        int index = (int) hash64(key) & stripeMask;
+        long window = (nowMillis / windowMillis) & WINDOW_MASK;
+        while (true) {
+            long current = stripes.get(index);
+            long count = (current >>> COUNT_BITS) == window ? current & COUNT_MASK : 0;
+            if (count >= limit) {
+                return false;
+            }
+            if (stripes.compareAndSet(index, current, (window << COUNT_BITS) | (count + 1))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns how long until the current window ends, when spent budgets are
+     * restored.
+     *
+     * @param nowMillis The current time, in epoch milliseconds.
+     * @return The remaining time, in milliseconds.
+     */
+    public long millisUntilReset(long nowMillis) {
+        return windowMillis - nowMillis % windowMillis;
+    }
+
+    // ----------------------------------------------------------------
+    // PRIVATE HELPER METHODS
+    // ----------------------------------------------------------------
+
+    /**
+     * Seeded FNV-1a over the characters, followed by the MurmurHash3 64-bit
+     * finalizer.
+     */
+    private long hash64(String value) {
+        long hash = 0xcbf29ce484222325L ^ seed;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,25 @@
+-- Flyway Migration: V10
+-- Title: Create Revoked Tokens
+-- Author: devzelix
+-- Date: 2026-10-17
+-- Description: Persists the JWT revocation denylist (tokens logged out
+--              before they expired), keyed by the token's "jti" claim. The
+--              application keeps the list in memory and checks it without a
+--              query; this table restores it on startup and lets instances
+--              pick up each other's revocations. Rows are deleted once their
+--              token expires. Times are UTC.
+
+CREATE TABLE revoked_tokens (
+    id CHAR(36) NOT NULL,
+    username VARCHAR(255) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    revoked_at DATETIME(6) NOT NULL,
+
+    PRIMARY KEY (id),
+
+    -- Instances poll for revocations recorded since their last sync
+    KEY idx_revoked_tokens_revoked_at (revoked_at),
+
+    -- Expired rows are purged periodically
+    KEY idx_revoked_tokens_expires_at (expires_at)
+);
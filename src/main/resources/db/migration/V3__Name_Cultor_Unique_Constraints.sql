@@ -0,0 +1,14 @@
+-- Flyway Migration: V3
+-- Title: Name Cultor Unique Constraints
+-- Author: devzelix
+-- Date: 2026-10-17
+-- Description: Gives the unique indexes of the 'cultors' table explicit,
+--              predictable names. V1 declared them inline (UNIQUE), so MySQL
+--              named each index after its column. The application maps a
+--              unique violation back to the offending field by constraint
+--              name, which enables the optimistic-insert write mode.
+
+ALTER TABLE cultors RENAME INDEX id_number TO uk_cultors_id_number;
+ALTER TABLE cultors RENAME INDEX phone_number TO uk_cultors_phone_number;
+ALTER TABLE cultors RENAME INDEX email TO uk_cultors_email;
+ALTER TABLE cultors RENAME INDEX instagram_user TO uk_cultors_instagram_user;
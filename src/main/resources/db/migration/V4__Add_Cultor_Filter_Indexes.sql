@@ -0,0 +1,48 @@
+-- Flyway Migration: V4
+-- Title: Add Cultor Filter Indexes
+-- Author: devzelix
+-- Date: 2026-10-17
+-- Description: Adds composite indexes to the 'cultors' table, designed around
+--              the filter combinations sent by the dashboard to GET /cultors
+--              (see CultorSpecification). Equality filters come first and the
+--              low-selectivity 'gender' column is appended last, so each index
+--              serves its leading filter alone and every narrower combination.
+--              The single-column FK indexes created implicitly by V1 become
+--              redundant for filtering; MySQL keeps using these composites to
+--              enforce the foreign keys.
+--
+--              Gender-only and disability/illness-only filters match a large
+--              share of the table, so they are intentionally left to a scan and
+--              act as refinements on top of a location or art filter.
+
+-- =================================================================
+-- 1. LOCATION FILTERS
+-- =================================================================
+
+-- municipality | municipality + parish | ... + gender
+CREATE INDEX idx_cultors_municipality_parish_gender
+    ON cultors (municipality_id, parish_id, gender);
+
+-- parish | parish + gender
+CREATE INDEX idx_cultors_parish_gender
+    ON cultors (parish_id, gender);
+
+-- =================================================================
+-- 2. ART FILTERS
+-- =================================================================
+
+-- category | category + discipline | ... + gender
+CREATE INDEX idx_cultors_category_discipline_gender
+    ON cultors (art_category_id, art_discipline_id, gender);
+
+-- discipline | discipline + gender
+CREATE INDEX idx_cultors_discipline_gender
+    ON cultors (art_discipline_id, gender);
+
+-- =================================================================
+-- 3. CROSS FILTERS (location + art)
+-- =================================================================
+
+-- municipality + category | municipality + category + discipline
+CREATE INDEX idx_cultors_municipality_category_discipline
+    ON cultors (municipality_id, art_category_id, art_discipline_id);
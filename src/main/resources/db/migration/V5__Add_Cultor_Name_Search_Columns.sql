@@ -0,0 +1,48 @@
+-- Flyway Migration: V5
+-- Title: Add Cultor Name Search Columns
+-- Author: devzelix
+-- Date: 2026-10-17
+-- Description: Adds stored search keys for the cultor's names. The keys are
+--              the lowercased, accent-folded names (see
+--              StringUtils.toSearchKey) and are maintained by the application
+--              on every write. Name searches run a prefix LIKE against these
+--              indexed columns instead of LOWER(first_name), which no B-tree
+--              index can serve.
+
+-- =================================================================
+-- 1. NEW COLUMNS
+-- =================================================================
+
+ALTER TABLE cultors
+    ADD COLUMN first_name_search VARCHAR(50) NULL AFTER last_name,
+    ADD COLUMN last_name_search VARCHAR(50) NULL AFTER first_name_search;
+
+-- =================================================================
+-- 2. BACKFILL
+-- =================================================================
+-- Names only accept the Spanish accented letters (see StringValidator),
+-- so folding these six characters matches StringUtils.toSearchKey.
+
+UPDATE cultors
+SET first_name_search =
+        REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(LOWER(first_name),
+            'á', 'a'), 'é', 'e'), 'í', 'i'), 'ó', 'o'), 'ú', 'u'), 'ñ', 'n'),
+    last_name_search =
+        REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(LOWER(last_name),
+            'á', 'a'), 'é', 'e'), 'í', 'i'), 'ó', 'o'), 'ú', 'u'), 'ñ', 'n');
+
+ALTER TABLE cultors
+    MODIFY first_name_search VARCHAR(50) NOT NULL,
+    MODIFY last_name_search VARCHAR(50) NOT NULL;
+
+-- =================================================================
+-- 3. INDEXES
+-- =================================================================
+
+-- "jose%" on first names | "jose angel%" + "perez%"
+CREATE INDEX idx_cultors_first_name_search
+    ON cultors (first_name_search, last_name_search);
+
+-- "perez%" on last names
+CREATE INDEX idx_cultors_last_name_search
+    ON cultors (last_name_search);
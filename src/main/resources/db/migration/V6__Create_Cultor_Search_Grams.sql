@@ -0,0 +1,48 @@
+-- Flyway Migration: V6
+-- Title: Create Cultor Search Grams
+-- Author: devzelix
+-- Date: 2026-10-17
+-- Description: Creates the trigram index over the digits of each cultor's
+--              id number and phone number. A search such as "1234" matches
+--              cultors owning both trigrams "123" and "234" (an index lookup
+--              on the primary key) before the LIKE '%1234%' check is applied,
+--              instead of scanning every row. Rows are maintained by the
+--              application in the same transaction as the cultor write.
+
+-- ---------------------------------------------------------------------
+-- Step 1: Postings Table
+-- ---------------------------------------------------------------------
+
+CREATE TABLE cultor_search_grams (
+    gram CHAR(3) NOT NULL,
+    cultor_id INT NOT NULL,
+
+    -- Leading 'gram' column: the postings of a trigram are one range scan
+    PRIMARY KEY (gram, cultor_id),
+
+    -- Used when a cultor's postings are replaced or deleted
+    KEY idx_cultor_search_grams_cultor (cultor_id),
+
+    FOREIGN KEY (cultor_id) REFERENCES cultors(id) ON DELETE CASCADE
+);
+
+-- ---------------------------------------------------------------------
+-- Step 2: Backfill
+-- Every 3-digit window of the digits of id_number (at most 8 digits) and
+-- phone_number (11 digits), generated with a recursive position sequence.
+-- ---------------------------------------------------------------------
+
+INSERT IGNORE INTO cultor_search_grams (gram, cultor_id)
+WITH RECURSIVE positions (n) AS (
+    SELECT 1
+    UNION ALL
+    SELECT n + 1 FROM positions WHERE n < 9
+),
+digits (cultor_id, value) AS (
+    SELECT id, REGEXP_REPLACE(id_number, '[^0-9]', '') FROM cultors
+    UNION ALL
+    SELECT id, REGEXP_REPLACE(phone_number, '[^0-9]', '') FROM cultors
+)
+SELECT SUBSTRING(d.value, p.n, 3), d.cultor_id
+FROM digits d
+JOIN positions p ON p.n <= CHAR_LENGTH(d.value) - 2;
@@ -0,0 +1,30 @@
+-- Flyway Migration: V7
+-- Title: Create Id Sequences
+-- Author: devzelix
+-- Date: 2026-10-17
+-- Description: Creates the table the application allocates cultor IDs from,
+--              in blocks (Hibernate's pooled-lo table generator), so cultor
+--              inserts can be sent in JDBC batches. Each row holds the next
+--              free ID of one segment; a block is reserved by reading the
+--              value and advancing it by the block size.
+--              The AUTO_INCREMENT of cultors.id is kept for compatibility, but
+--              manual inserts should take their IDs from this table as well.
+
+-- ---------------------------------------------------------------------
+-- Step 1: Allocation Table
+-- ---------------------------------------------------------------------
+
+CREATE TABLE id_sequences (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+
+    PRIMARY KEY (sequence_name)
+);
+
+-- ---------------------------------------------------------------------
+-- Step 2: Cultors Segment
+-- Continues after the highest ID issued so far by AUTO_INCREMENT.
+-- ---------------------------------------------------------------------
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'cultors', COALESCE(MAX(id), 0) + 1 FROM cultors;
@@ -0,0 +1,31 @@
+-- Flyway Migration: V8
+-- Title: Create Cultor Intakes
+-- Author: devzelix
+-- Date: 2026-10-17
+-- Description: Creates the queue of registrations accepted by POST /cultors
+--              in intake mode. Each row holds the submitted request as JSON
+--              and its processing state; background workers claim pending
+--              rows in batches (a conditional UPDATE on status) and create
+--              the cultors. The row ID is the tracking ID given to the
+--              registrant.
+
+CREATE TABLE cultor_intakes (
+    id CHAR(36) NOT NULL,
+    payload VARCHAR(2000) NOT NULL,
+    status VARCHAR(10) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    claim_token CHAR(36) NULL,
+    claimed_at DATETIME(6) NULL,
+    cultor_id INT NULL,
+    error VARCHAR(255) NULL,
+    created_at DATETIME(6) NOT NULL,
+    processed_at DATETIME(6) NULL,
+
+    PRIMARY KEY (id),
+
+    -- Workers read the oldest pending rows
+    KEY idx_cultor_intakes_status (status, created_at),
+
+    -- A batch reads back the rows it claimed
+    KEY idx_cultor_intakes_claim (claim_token)
+);
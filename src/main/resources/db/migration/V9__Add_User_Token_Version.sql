@@ -0,0 +1,12 @@
+-- Flyway Migration: V9
+-- Title: Add User Token Version
+-- Author: devzelix
+-- Date: 2026-10-17
+-- Description: Adds a per-user token version. Every JWT carries the version
+--              current when it was issued; bumping it (on logout-everywhere,
+--              a role change, or a password change) invalidates all of the
+--              user's outstanding tokens, including in stateless mode, where
+--              the filter no longer loads the user on every request.
+
+ALTER TABLE users
+    ADD COLUMN token_version INT NOT NULL DEFAULT 0;
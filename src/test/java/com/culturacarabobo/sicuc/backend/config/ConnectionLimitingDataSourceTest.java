@@ -0,0 +1,123 @@
+package com.culturacarabobo.sicuc.backend.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link ConnectionLimitingDataSource}, over a stub
+ * {@link DataSource} that hands out mock connections.
+ */
+public class ConnectionLimitingDataSourceTest {
+
+    private DataSource target;
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = new ConnectionLimitingDataSource(target, 2, Duration.ofMillis(50));
+    }
+
+    /**
+     * Expected: A connection opened while the thread already holds one (e.g.,
+     * a {@code REQUIRES_NEW} transaction) reuses the thread's permit, which is
+     * returned when the outermost connection closes.
+     */
+    @Test
+    void whenConnectionIsNested_shouldNotTakeASecondPermit() throws SQLException {
+        Connection outer = dataSource.getConnection();
+        Connection nested = dataSource.getConnection();
+        assertEquals(1, dataSource.getAvailablePermits());
+
+        nested.close();
+        assertEquals(1, dataSource.getAvailablePermits());
+        outer.close();
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    /**
+     * Expected: A thread that finds every permit held by other threads gives
+     * up after the timeout, without touching the pool.
+     */
+    @Test
+    void whenNoPermitFreesUp_shouldTimeOut() throws Exception {
+        Connection first = openOnNewThread();
+        Connection second = openOnNewThread();
+        assertEquals(0, dataSource.getAvailablePermits());
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        verify(target, times(2)).getConnection();
+
+        first.close();
+        second.close();
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    /**
+     * Expected: Closing a connection twice returns its permit once, so it
+     * cannot free a permit another thread holds.
+     */
+    @Test
+    void whenClosedTwice_shouldReleaseThePermitOnce() throws Exception {
+        Connection connection = dataSource.getConnection();
+        Connection other = openOnNewThread();
+
+        connection.close();
+        connection.close();
+        assertEquals(1, dataSource.getAvailablePermits());
+
+        other.close();
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    /**
+     * Expected: When the pool cannot hand out a connection, the permit is
+     * returned and the pool's exception is rethrown unchanged.
+     */
+    @Test
+    void whenTargetFails_shouldReturnThePermit() throws SQLException {
+        SQLException failure = new SQLException("Pool exhausted");
+        when(target.getConnection()).thenThrow(failure);
+
+        assertSame(failure, assertThrows(SQLException.class, dataSource::getConnection));
+        assertEquals(2, dataSource.getAvailablePermits());
+
+        // The thread holds nothing, so its next connection takes a permit again
+        reset(target);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        Connection connection = dataSource.getConnection();
+        assertEquals(1, dataSource.getAvailablePermits());
+        connection.close();
+    }
+
+    // --- Helpers ---
+
+    /**
+     * Opens a connection on a new thread (a pooled thread could already hold
+     * one, which would make this connection nested) and hands it over.
+     */
+    private Connection openOnNewThread() throws Exception {
+        CompletableFuture<Connection> connection = new CompletableFuture<>();
+        new Thread(() -> {
+            try {
+                connection.complete(dataSource.getConnection());
+            } catch (SQLException ex) {
+                connection.completeExceptionally(ex);
+            }
+        }).start();
+        return connection.get(5, TimeUnit.SECONDS);
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -23,12 +24,22 @@ import com.culturacarabobo.sicuc.backend.repositories.ArtDisciplineRepository;
 import com.culturacarabobo.sicuc.backend.repositories.CultorRepository;
 import com.culturacarabobo.sicuc.backend.repositories.MunicipalityRepository;
 import com.culturacarabobo.sicuc.backend.repositories.ParishRepository;
+import com.culturacarabobo.sicuc.backend.services.CultorExportService;
+import com.culturacarabobo.sicuc.backend.services.CultorIntakeService;
+import com.culturacarabobo.sicuc.backend.services.CultorSearchIndex;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import jakarta.persistence.EntityManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 
 /**
@@ -69,6 +80,14 @@ public class CultorControllerIntegrationTests {
     private ArtCategoryRepository artCategoryRepository;
     @Autowired
     private ArtDisciplineRepository artDisciplineRepository;
+    @Autowired
+    private CultorSearchIndex cultorSearchIndex;
+    @Autowired
+    private CultorExportService cultorExportService;
+    @Autowired
+    private CultorIntakeService cultorIntakeService;
+    @Autowired
+    private EntityManager entityManager;
 
     /**
      * Configures the {@link ObjectMapper} to correctly serialize/deserialize
@@ -135,7 +154,8 @@ public class CultorControllerIntegrationTests {
         mockMvc.perform(get("/cultors/" + idQueNoExiste)
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound())
-                .andExpect(jsonPath("$.error").value("Cultor Not Found With Id: " + idQueNoExiste));
+                .andExpect(jsonPath("$.error").value("Cultor Not Found With Id: " + idQueNoExiste))
+                .andExpect(jsonPath("$.code").value("CULTOR_NOT_FOUND"));
     }
 
     // ----------------------------------------------------------------
@@ -182,6 +202,491 @@ public class CultorControllerIntegrationTests {
                 .andExpect(jsonPath("$.idNumber").value("V-99999999"));
     }
 
+    /**
+     * Test (Happy Path): GET /cultors?query=...
+     * <p>
+     * Scenario: A cultor is created through the API (which indexes the trigrams
+     * of its id and phone numbers) and then searched by digit substrings.
+     * <p>
+     * Expected: Substrings of its phone and id numbers find it; a string whose
+     * trigrams it owns, but not contiguously, does not.
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenSearchingByNumberSubstring_shouldMatchThroughTrigramIndex() throws Exception {
+        // --- 1. ARRANGE ---
+        Municipality m = municipalityRepository.save(new Municipality("Valencia"));
+        Parish p = parishRepository.save(new Parish("San José", m));
+        ArtCategory ac = artCategoryRepository.save(new ArtCategory("Música"));
+        ArtDiscipline ad = artDisciplineRepository.save(new ArtDiscipline("Guitarra", ac));
+
+        CultorRequest cultorRequest = new CultorRequest(
+                "Nuevo", "Cultor", "M", "V-24681357",
+                LocalDate.of(1990, 1, 1), "0412-7654321",
+                null, null,
+                m.getId(), p.getId(), "Direccion nueva",
+                ac.getId(), ad.getId(), null,
+                10, null, null, null
+        );
+        mockMvc.perform(post("/cultors")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(cultorRequest)))
+                .andExpect(status().isCreated());
+
+        // --- 2. ACT & 3. ASSERT ---
+        mockMvc.perform(get("/cultors").param("query", "2-76543"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].idNumber").value("V-24681357"));
+        mockMvc.perform(get("/cultors").param("query", "8135"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].phoneNumber").value("0412-7654321"));
+        // Owns "765" and "654" (phone), but never "765" followed by "4"
+        mockMvc.perform(get("/cultors").param("query", "7654654"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isEmpty());
+    }
+
+    /**
+     * Test (Happy Path): GET /cultors?municipalityId=...
+     * <p>
+     * Scenario: The list is read through the DTO projection, filtered by
+     * municipality.
+     * <p>
+     * Expected: Every response field is populated, including the related IDs
+     * read from the foreign key columns.
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenListingWithFilters_shouldProjectAllResponseFields() throws Exception {
+        // --- 1. ARRANGE ---
+        Municipality m = municipalityRepository.save(new Municipality("Valencia"));
+        Parish p = parishRepository.save(new Parish("San José", m));
+        ArtCategory ac = artCategoryRepository.save(new ArtCategory("Música"));
+        ArtDiscipline ad = artDisciplineRepository.save(new ArtDiscipline("Guitarra", ac));
+        Cultor saved = cultorRepository.save(new Cultor(
+                "Jose Ángel de Jesus", "Solett Bustamante", "M", "V-31456615",
+                LocalDate.of(2003, 11, 20), "0424-4125472", "jose@mail.com", null,
+                m, p, "Urb. Las Acacias", ac, ad, null, 17, "Los Cuatristas", null, null));
+
+        // --- 2. ACT & 3. ASSERT ---
+        mockMvc.perform(get("/cultors").param("municipalityId", String.valueOf(m.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(saved.getId()))
+                .andExpect(jsonPath("$.content[0].email").value("jose@mail.com"))
+                .andExpect(jsonPath("$.content[0].municipalityId").value(m.getId()))
+                .andExpect(jsonPath("$.content[0].parishId").value(p.getId()))
+                .andExpect(jsonPath("$.content[0].artCategoryId").value(ac.getId()))
+                .andExpect(jsonPath("$.content[0].artDisciplineId").value(ad.getId()))
+                .andExpect(jsonPath("$.content[0].yearsOfExperience").value(17))
+                .andExpect(jsonPath("$.content[0].groupName").value("Los Cuatristas"))
+                .andExpect(jsonPath("$.content[0].birthDate").value("2003-11-20"))
+                .andExpect(jsonPath("$.content[0].createdAt").exists());
+    }
+
+    /**
+     * Test (Happy Path): GET /cultors?page=...&count=...
+     * <p>
+     * Scenario: Five cultors are listed two per page by last name, with exact
+     * and estimated totals.
+     * <p>
+     * Expected: Offset pages hold the right rows; the estimated total of a
+     * full page is the lower bound (rows seen plus one), and the last page
+     * reveals the exact total.
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenListingWithCountModes_shouldReturnPagesAndTotals() throws Exception {
+        // --- 1. ARRANGE ---
+        Municipality m = municipalityRepository.save(new Municipality("Valencia"));
+        Parish p = parishRepository.save(new Parish("San José", m));
+        ArtCategory ac = artCategoryRepository.save(new ArtCategory("Música"));
+        ArtDiscipline ad = artDisciplineRepository.save(new ArtDiscipline("Guitarra", ac));
+        String[] lastNames = { "Zapata", "Álvarez", "Mora", "Blanco", "Nieves" };
+        for (int i = 0; i < lastNames.length; i++) {
+            cultorRepository.save(new Cultor("Ana", lastNames[i], "F", "V-2000000" + i,
+                    LocalDate.of(1990, 1, 1), "0412-200000" + i, null, null,
+                    m, p, "Dir", ac, ad, null, 5, null, null, null));
+        }
+
+        // --- 2. ACT & 3. ASSERT ---
+        mockMvc.perform(get("/cultors")
+                .param("page", "1")
+                .param("size", "2")
+                .param("sort", "lastNameSearch,asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].lastName").value("Mora"))
+                .andExpect(jsonPath("$.content[1].lastName").value("Nieves"))
+                .andExpect(jsonPath("$.totalElements").value(5));
+
+        mockMvc.perform(get("/cultors")
+                .param("size", "2")
+                .param("sort", "lastNameSearch,asc")
+                .param("count", "estimated"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].lastName").value("Álvarez"))
+                .andExpect(jsonPath("$.totalElements").value(3));
+
+        mockMvc.perform(get("/cultors")
+                .param("page", "2")
+                .param("size", "2")
+                .param("sort", "lastNameSearch,asc")
+                .param("count", "estimated"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].lastName").value("Zapata"))
+                .andExpect(jsonPath("$.totalElements").value(5));
+
+        mockMvc.perform(get("/cultors").param("count", "sometimes"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Count Is Invalid"))
+                .andExpect(jsonPath("$.code").value("INVALID_PARAMETER"));
+    }
+
+    /**
+     * Test (Happy Path): GET /cultors/export
+     * <p>
+     * Scenario: The export is requested as CSV. The body is written on an
+     * async thread, outside this test's (uncommitted) transaction, so only
+     * the header is expected.
+     * <p>
+     * Expected: HTTP 200, a CSV attachment starting with the header row.
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenExportingAsCsv_shouldStreamAnAttachment() throws Exception {
+        MvcResult result = mockMvc.perform(get("/cultors/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"cultors.csv\""))
+                .andExpect(content().string(startsWith("id,firstName,lastName,")));
+    }
+
+    /**
+     * Test (Happy Path): CultorExportService
+     * <p>
+     * Scenario: Seeded cultors are exported (in this test's transaction) as CSV
+     * and NDJSON, filtered by municipality.
+     * <p>
+     * Expected: One record per matching cultor; CSV fields with commas or
+     * quotes are quoted, a leading {@code @} is kept as stored unless the
+     * spreadsheet export is requested, and each NDJSON line is a complete
+     * JSON object.
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenExporting_shouldWriteOneRecordPerMatchingCultor() throws Exception {
+        // --- 1. ARRANGE ---
+        Municipality m = municipalityRepository.save(new Municipality("Valencia"));
+        Municipality other = municipalityRepository.save(new Municipality("Naguanagua"));
+        Parish p = parishRepository.save(new Parish("San José", m));
+        Parish otherParish = parishRepository.save(new Parish("Naguanagua", other));
+        ArtCategory ac = artCategoryRepository.save(new ArtCategory("Música"));
+        ArtDiscipline ad = artDisciplineRepository.save(new ArtDiscipline("Guitarra", ac));
+        Cultor saved = cultorRepository.save(new Cultor("Ana", "Díaz", "F", "V-30000001",
+                LocalDate.of(1990, 1, 1), "0412-3000001", null, null,
+                m, p, "Calle 1, Casa \"A\"", ac, ad, null, 5, "@cuatristas", null, null));
+        cultorRepository.save(new Cultor("Luis", "Mora", "M", "V-30000002",
+                LocalDate.of(1990, 1, 1), "0412-3000002", null, null,
+                other, otherParish, "Dir", ac, ad, null, 5, null, null, null));
+
+        // --- 2. ACT ---
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        cultorExportService.export(null, null, m.getId(), null, null, null, null, null,
+                CultorExportService.Format.CSV, false, csv);
+        ByteArrayOutputStream spreadsheet = new ByteArrayOutputStream();
+        cultorExportService.export(null, null, m.getId(), null, null, null, null, null,
+                CultorExportService.Format.CSV, true, spreadsheet);
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        cultorExportService.export(null, null, m.getId(), null, null, null, null, null,
+                CultorExportService.Format.NDJSON, false, ndjson);
+
+        // --- 3. ASSERT ---
+        String[] csvLines = csv.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, csvLines.length);
+        assertTrue(csvLines[1].startsWith(saved.getId() + ",Ana,Díaz,F,V-30000001,1990-01-01,"));
+        assertTrue(csvLines[1].contains(",\"Calle 1, Casa \"\"A\"\"\","));
+        assertTrue(csvLines[1].contains(",5,@cuatristas,"));
+        assertTrue(spreadsheet.toString(StandardCharsets.UTF_8).split("\r\n")[1].contains(",5,'@cuatristas,"));
+
+        String[] jsonLines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, jsonLines.length);
+        assertEquals("@cuatristas", objectMapper.readTree(jsonLines[0]).get("groupName").asText());
+    }
+
+    /**
+     * Test (Sad Path): GET /cultors/export
+     * <p>
+     * Scenario: An unsupported format is requested.
+     * <p>
+     * Expected: HTTP 400 (Bad Request) before any streaming starts.
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenExportFormatIsInvalid_shouldReturn400() throws Exception {
+        mockMvc.perform(get("/cultors/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Format Is Invalid"))
+                .andExpect(jsonPath("$.code").value("INVALID_PARAMETER"));
+    }
+
+    /**
+     * Test (Happy Path): POST /cultors/import
+     * <p>
+     * Scenario: A CSV file mixes valid rows, a row failing bean validation, a
+     * row repeating an ID number from earlier in the file, and a row reusing
+     * the phone number of a stored cultor.
+     * <p>
+     * Expected: HTTP 200 with one result per row; only the valid rows are
+     * created, and the rejected ones carry the same messages as POST /cultors.
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenImportingCsv_shouldCreateValidRowsAndReportTheRest() throws Exception {
+        // --- 1. ARRANGE ---
+        Municipality m = municipalityRepository.save(new Municipality("Valencia"));
+        Parish p = parishRepository.save(new Parish("San José", m));
+        ArtCategory ac = artCategoryRepository.save(new ArtCategory("Música"));
+        ArtDiscipline ad = artDisciplineRepository.save(new ArtDiscipline("Guitarra", ac));
+        cultorRepository.save(new Cultor("Existente", "Cultor", "F", "V-111",
+                LocalDate.of(1980, 5, 5), "0414-1111111", null, null,
+                m, p, "Casa 1", ac, ad, null, 20, null, null, null));
+        long before = cultorRepository.count();
+
+        String refs = m.getId() + "," + p.getId() + "," + ac.getId() + "," + ad.getId();
+        String csv = "firstName,lastName,gender,idNumber,birthDate,phoneNumber,email,municipalityId,parishId,"
+                + "artCategoryId,artDisciplineId,homeAddress,yearsOfExperience\r\n"
+                + "Ana,Díaz,F,V-40000001,1990-01-01,0412-4000001,ana@cultor.com," + refs + ",\"Calle 1, Casa 2\",5\r\n"
+                + "Luis,Mora,M,V-40000002,1990-01-01,0412-400,," + refs + ",Dir,5\r\n"
+                + "Rosa,Páez,F,V-40000001,1990-01-01,0412-4000003,," + refs + ",Dir,5\r\n"
+                + "Juan,Rojas,M,V-40000004,1990-01-01,0414-1111111,," + refs + ",Dir,5\r\n"
+                + "Eva,Sosa,F,V-40000005,1990-01-01,0412-4000005,," + refs + ",Dir,5\r\n";
+
+        // --- 2. ACT & 3. ASSERT ---
+        mockMvc.perform(post("/cultors/import")
+                .contentType("text/csv")
+                .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.rows[0].id").exists())
+                .andExpect(jsonPath("$.rows[1].error").value(containsString("Phonenumber Is Invalid")))
+                .andExpect(jsonPath("$.rows[2].error").value("Id Number Is Repeated In Row 1"))
+                .andExpect(jsonPath("$.rows[3].error").value("Phone Number Already Exists"))
+                .andExpect(jsonPath("$.rows[4].id").exists());
+
+        assertEquals(before + 2, cultorRepository.count());
+
+        // The import reserves its IDs from the same allocator as JPA inserts
+        cultorRepository.saveAndFlush(new Cultor("Despues", "Cultor", "F", "V-40000006",
+                LocalDate.of(1990, 1, 1), "0412-4000006", null, null,
+                m, p, "Dir", ac, ad, null, 5, null, null, null));
+        assertEquals(before + 3, cultorRepository.count());
+        assertTrue(cultorRepository.findAll().stream()
+                .anyMatch(cultor -> cultor.getHomeAddress().equals("Calle 1, Casa 2")
+                        && cultor.getEmail().equals("ana@cultor.com")));
+    }
+
+    /**
+     * Test (Sad Path): POST /cultors/import
+     * <p>
+     * Scenario: An NDJSON file holds a malformed line and a row referencing a
+     * municipality that does not exist.
+     * <p>
+     * Expected: HTTP 200 with both rows rejected and nothing created.
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenImportingNdjsonWithBadRows_shouldReportEachRow() throws Exception {
+        ArtCategory ac = artCategoryRepository.save(new ArtCategory("Música"));
+        ArtDiscipline ad = artDisciplineRepository.save(new ArtDiscipline("Guitarra", ac));
+        CultorRequest unknownMunicipality = new CultorRequest(
+                "Nuevo", "Cultor", "M", "V-40000010",
+                LocalDate.of(1990, 1, 1), "0412-4000010", null, null,
+                999999, 999999, "Dir", ac.getId(), ad.getId(), null, 10, null, null, null);
+        String ndjson = "{\"firstName\": \n" + objectMapper.writeValueAsString(unknownMunicipality) + "\n";
+        long before = cultorRepository.count();
+
+        mockMvc.perform(post("/cultors/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(0))
+                .andExpect(jsonPath("$.rows[0].error").value("The Row Is Malformed"))
+                .andExpect(jsonPath("$.rows[1].error").value("Municipality Not Found"));
+
+        assertEquals(before, cultorRepository.count());
+    }
+
+    /**
+     * Test (Happy Path): CultorIntakeService and GET /cultors/intake/{trackingId}
+     * <p>
+     * Scenario: A registration is queued (as POST /cultors does in intake mode)
+     * and one worker batch is processed in this test's transaction.
+     * <p>
+     * Expected: The cultor is created and the tracking ID reports CREATED with
+     * its ID; an unknown tracking ID returns 404.
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenIntakeIsProcessed_shouldCreateTheCultorAndReportIt() throws Exception {
+        // --- 1. ARRANGE ---
+        Municipality m = municipalityRepository.save(new Municipality("Valencia"));
+        Parish p = parishRepository.save(new Parish("San José", m));
+        ArtCategory ac = artCategoryRepository.save(new ArtCategory("Música"));
+        ArtDiscipline ad = artDisciplineRepository.save(new ArtDiscipline("Guitarra", ac));
+        CultorRequest cultorRequest = new CultorRequest(
+                "Encolado", "Cultor", "M", "V-50000001",
+                LocalDate.of(1990, 1, 1), "0412-5000001", null, null,
+                m.getId(), p.getId(), "Dir", ac.getId(), ad.getId(), null, 10, null, null, null);
+        String trackingId = cultorIntakeService.submit(cultorRequest).getBody().getTrackingId();
+
+        mockMvc.perform(get("/cultors/intake/" + trackingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        // --- 2. ACT ---
+        assertEquals(1, cultorIntakeService.processBatch());
+        entityManager.clear(); // The next request starts with a fresh persistence context
+
+        // --- 3. ASSERT ---
+        mockMvc.perform(get("/cultors/intake/" + trackingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CREATED"))
+                .andExpect(jsonPath("$.cultorId").isNumber())
+                .andExpect(jsonPath("$.processedAt").exists());
+        assertTrue(cultorRepository.findAll().stream()
+                .anyMatch(cultor -> cultor.getIdNumber().equals("V-50000001")));
+
+        mockMvc.perform(get("/cultors/intake/00000000-0000-0000-0000-000000000000"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Intake Not Found"))
+                .andExpect(jsonPath("$.code").value("INTAKE_NOT_FOUND"));
+    }
+
+    /**
+     * Test (Happy Path): GET /cultors?mode=cursor
+     * <p>
+     * Scenario: Five cultors are paged two at a time by last name, following
+     * the returned cursors.
+     * <p>
+     * Expected: Every cultor is returned once and in order (accents ignored),
+     * the last page has no cursor, and the total is only present on request.
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenPagingByCursor_shouldWalkAllPagesInOrder() throws Exception {
+        // --- 1. ARRANGE ---
+        Municipality m = municipalityRepository.save(new Municipality("Valencia"));
+        Parish p = parishRepository.save(new Parish("San José", m));
+        ArtCategory ac = artCategoryRepository.save(new ArtCategory("Música"));
+        ArtDiscipline ad = artDisciplineRepository.save(new ArtDiscipline("Guitarra", ac));
+        String[] lastNames = { "Zapata", "Álvarez", "Mora", "Blanco", "Mora" };
+        for (int i = 0; i < lastNames.length; i++) {
+            cultorRepository.save(new Cultor("Ana", lastNames[i], "F", "V-1000000" + i,
+                    LocalDate.of(1990, 1, 1), "0412-100000" + i, null, null,
+                    m, p, "Dir", ac, ad, null, 5, null, null, null));
+        }
+
+        // --- 2. ACT & 3. ASSERT ---
+        String firstPage = mockMvc.perform(get("/cultors")
+                .param("mode", "cursor")
+                .param("sort", "lastName")
+                .param("size", "2")
+                .param("count", "exact"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].lastName").value("Álvarez"))
+                .andExpect(jsonPath("$.content[1].lastName").value("Blanco"))
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        String secondPage = mockMvc.perform(get("/cultors")
+                .param("mode", "cursor")
+                .param("cursor", cursor)
+                .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].lastName").value("Mora"))
+                .andExpect(jsonPath("$.content[1].lastName").value("Mora"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+        cursor = objectMapper.readTree(secondPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/cultors")
+                .param("mode", "cursor")
+                .param("cursor", cursor)
+                .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].lastName").value("Zapata"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        // A cursor cannot be reused with another order
+        mockMvc.perform(get("/cultors")
+                .param("mode", "cursor")
+                .param("cursor", cursor)
+                .param("sort", "id"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Sort Does Not Match The Cursor"));
+    }
+
+    /**
+     * Test (Sad Path): GET /cultors?mode=cursor
+     * <p>
+     * Scenario: The cursor token was tampered with.
+     * <p>
+     * Expected: HTTP 400 (Bad Request).
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenCursorIsMalformed_shouldReturn400() throws Exception {
+        mockMvc.perform(get("/cultors")
+                .param("mode", "cursor")
+                .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Cursor Is Invalid"))
+                .andExpect(jsonPath("$.code").value("INVALID_PARAMETER"));
+    }
+
+    /**
+     * Test (Happy Path): GET /cultors?mode=search&query=...
+     * <p>
+     * Scenario: The search index is rebuilt over a seeded cultor (the test
+     * transaction never commits, so writes are not applied incrementally).
+     * <p>
+     * Expected: A six-word query with a typo and a prefix finds it, and the
+     * facets count it.
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenSearchModeIsUsed_shouldReturnRankedHitsAndFacets() throws Exception {
+        // --- 1. ARRANGE ---
+        Municipality m = municipalityRepository.save(new Municipality("Valencia"));
+        Parish p = parishRepository.save(new Parish("San José", m));
+        ArtCategory ac = artCategoryRepository.save(new ArtCategory("Música"));
+        ArtDiscipline ad = artDisciplineRepository.save(new ArtDiscipline("Guitarra", ac));
+        Cultor saved = cultorRepository.save(new Cultor(
+                "Jose Ángel de Jesus", "Solett Bustamante", "M", "V-31456615",
+                LocalDate.of(2003, 11, 20), "0424-4125472", null, null,
+                m, p, "Urb. Las Acacias", ac, ad, null, 17, null, null, null));
+        cultorRepository.flush();
+        cultorSearchIndex.rebuild();
+
+        // --- 2. ACT & 3. ASSERT ---
+        mockMvc.perform(get("/cultors")
+                .param("mode", "search")
+                .param("query", "jose angel de jesus solet busta")
+                .param("gender", "M"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(saved.getId()))
+                .andExpect(jsonPath("$.facets.parishId." + p.getId()).value(1));
+    }
+
     /**
      * Test (Sad Path): POST /cultors
      * <p>
@@ -220,7 +725,8 @@ public class CultorControllerIntegrationTests {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(cultorJson))
                 .andExpect(status().isConflict())
-                .andExpect(jsonPath("$.error").value("Id Number Already Exists"));
+                .andExpect(jsonPath("$.error").value("Id Number Already Exists"))
+                .andExpect(jsonPath("$.code").value("DUPLICATE_ENTITY"));
     }
 
     /**
@@ -0,0 +1,248 @@
+package com.culturacarabobo.sicuc.backend.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.culturacarabobo.sicuc.backend.config.ConnectionLimitingDataSource;
+import com.culturacarabobo.sicuc.backend.dtos.CultorRequest;
+import com.culturacarabobo.sicuc.backend.entities.ArtCategory;
+import com.culturacarabobo.sicuc.backend.entities.ArtDiscipline;
+import com.culturacarabobo.sicuc.backend.entities.Municipality;
+import com.culturacarabobo.sicuc.backend.entities.Parish;
+import com.culturacarabobo.sicuc.backend.entities.Role;
+import com.culturacarabobo.sicuc.backend.entities.User;
+import com.culturacarabobo.sicuc.backend.repositories.ArtCategoryRepository;
+import com.culturacarabobo.sicuc.backend.repositories.ArtDisciplineRepository;
+import com.culturacarabobo.sicuc.backend.repositories.MunicipalityRepository;
+import com.culturacarabobo.sicuc.backend.repositories.ParishRepository;
+import com.culturacarabobo.sicuc.backend.repositories.UserRepository;
+import com.culturacarabobo.sicuc.backend.services.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Load tests comparing Tomcat's platform-thread pool with virtual-thread mode
+ * ({@code spring.threads.virtual.enabled}) on {@code GET /cultors} and
+ * {@code POST /cultors}, over real HTTP.
+ * <p>
+ * Each nested class boots the application on a random port with its own H2
+ * database. {@value #CLIENTS} clients then send {@value #REQUESTS} requests
+ * per endpoint, and the throughput and p50/p99 latencies are printed under
+ * the mode's name. Every request must succeed, and the data source must match
+ * the mode afterwards: a {@link ConnectionLimitingDataSource} with all of its
+ * permits back in virtual-thread mode, the bare pool otherwise.
+ * <p>
+ * Two server boots and 16,000 requests are too slow for every build, so the
+ * class only runs on request:
+ *
+ * <pre>
+ * ./mvnw test -Dtest='CultorControllerLoadTests*' -Dloadtest=true
+ * </pre>
+ *
+ * An in-memory H2 answers in microseconds, so request threads barely block on
+ * JDBC here; the case virtual threads are for (many requests waiting on a
+ * remote MySQL) needs a run against that database.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+public class CultorControllerLoadTests {
+
+    private static final int CLIENTS = 64;
+    private static final int REQUESTS = 4000;
+
+    /**
+     * Platform-thread mode (the default).
+     */
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "spring.threads.virtual.enabled=false",
+            "spring.datasource.url=jdbc:h2:mem:load-platform;DB_CLOSE_DELAY=-1",
+            "spring.jpa.show-sql=false" })
+    class PlatformThreads extends LoadScenario {
+
+        @Test
+        void measureGetAndPost() throws Exception {
+            run("platform");
+        }
+    }
+
+    /**
+     * Virtual-thread mode.
+     */
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "spring.threads.virtual.enabled=true",
+            "spring.datasource.url=jdbc:h2:mem:load-virtual;DB_CLOSE_DELAY=-1",
+            "spring.jpa.show-sql=false" })
+    class VirtualThreads extends LoadScenario {
+
+        @Test
+        void measureGetAndPost() throws Exception {
+            run("virtual");
+        }
+    }
+
+    /**
+     * The shared scenario: seed, then load each endpoint.
+     */
+    abstract static class LoadScenario {
+
+        /**
+         * Numbers the registrations across runs (unique id and phone numbers).
+         */
+        private static final AtomicInteger REGISTRATIONS = new AtomicInteger();
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private DataSource dataSource;
+        @Autowired
+        private ObjectMapper objectMapper;
+        @Autowired
+        private JwtService jwtService;
+        @Autowired
+        private UserRepository userRepository;
+        @Autowired
+        private MunicipalityRepository municipalityRepository;
+        @Autowired
+        private ParishRepository parishRepository;
+        @Autowired
+        private ArtCategoryRepository artCategoryRepository;
+        @Autowired
+        private ArtDisciplineRepository artDisciplineRepository;
+
+        @SuppressWarnings("null")
+        void run(String mode) throws Exception {
+            // --- 1. ARRANGE (committed: the server threads must see it) ---
+            Municipality m = municipalityRepository.save(new Municipality("Valencia"));
+            Parish p = parishRepository.save(new Parish("San José", m));
+            ArtCategory ac = artCategoryRepository.save(new ArtCategory("Música"));
+            ArtDiscipline ad = artDisciplineRepository.save(new ArtDiscipline("Guitarra", ac));
+            User admin = userRepository.save(new User("load-" + mode, "unused", Role.ROLE_ADMIN));
+            String token = jwtService.generateToken(admin);
+
+            // --- 2. ACT ---
+            HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+            String baseUrl = "http://localhost:" + port + "/cultors";
+
+            Result post = load(client, i -> {
+                int n = REGISTRATIONS.incrementAndGet();
+                CultorRequest registration = new CultorRequest("Carga", "Prueba", "F",
+                        "V-" + (20000000 + n), LocalDate.of(1990, 1, 1),
+                        String.format(Locale.ROOT, "0412-%07d", n), null, null,
+                        m.getId(), p.getId(), "Dir", ac.getId(), ad.getId(), null, 5, null, null, null);
+                try {
+                    return HttpRequest.newBuilder(URI.create(baseUrl))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(registration)))
+                            .build();
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            });
+            Result get = load(client, i -> HttpRequest.newBuilder(
+                    URI.create(baseUrl + "?municipalityId=" + m.getId() + "&page=" + (i % 20) + "&size=20"))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build());
+
+            // --- 3. REPORT & ASSERT ---
+            System.out.printf(Locale.ROOT, "[load:%s] POST /cultors %s%n", mode, post);
+            System.out.printf(Locale.ROOT, "[load:%s] GET  /cultors %s%n", mode, get);
+            assertEquals(0, post.failures, "POST failures");
+            assertEquals(0, get.failures, "GET failures");
+
+            // The limiter only fronts the pool in virtual-thread mode, and every permit was returned
+            if (mode.equals("virtual")) {
+                assertTrue(dataSource instanceof ConnectionLimitingDataSource);
+                assertEquals(5, ((ConnectionLimitingDataSource) dataSource).getAvailablePermits());
+            } else {
+                assertFalse(dataSource instanceof ConnectionLimitingDataSource);
+            }
+        }
+
+        /**
+         * Sends {@link #REQUESTS} requests from {@link #CLIENTS} concurrent
+         * clients and measures each one.
+         */
+        private static Result load(HttpClient client, IntFunction<HttpRequest> requests) throws Exception {
+            AtomicInteger next = new AtomicInteger();
+            AtomicInteger failures = new AtomicInteger();
+            long[] latencies = new long[REQUESTS];
+
+            long start = System.nanoTime();
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int c = 0; c < CLIENTS; c++) {
+                    futures.add(clients.submit(() -> {
+                        int i;
+                        while ((i = next.getAndIncrement()) < REQUESTS) {
+                            HttpRequest request = requests.apply(i);
+                            long sent = System.nanoTime();
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            latencies[i] = System.nanoTime() - sent;
+                            if (response.statusCode() >= 300) {
+                                failures.incrementAndGet();
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            return new Result(latencies, System.nanoTime() - start, failures.get());
+        }
+    }
+
+    /**
+     * Throughput and latency percentiles of one load run.
+     */
+    static final class Result {
+
+        private final double throughput;
+        private final double p50Millis;
+        private final double p99Millis;
+        private final int failures;
+
+        Result(long[] latencies, long elapsedNanos, int failures) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            this.throughput = sorted.length / (elapsedNanos / 1e9);
+            this.p50Millis = sorted[(int) (sorted.length * 0.50)] / 1e6;
+            this.p99Millis = sorted[(int) (sorted.length * 0.99)] / 1e6;
+            this.failures = failures;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%.0f req/s, p50 %.1f ms, p99 %.1f ms, %d failures",
+                    throughput, p50Millis, p99Millis, failures);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.culturacarabobo.sicuc.backend.controllers;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.culturacarabobo.sicuc.backend.services.MunicipalityService;
+import com.culturacarabobo.sicuc.backend.services.PrecompressedJson;
+
+/**
+ * Tests for the cacheable reference responses ({@link ReferenceDataResponses}),
+ * through {@code GET /municipalities} on a standalone {@link MockMvc}.
+ */
+public class ReferenceDataResponsesTest {
+
+    private static final String JSON = "[{\"id\":1,\"name\":\"Valencia\"},{\"id\":2,\"name\":\"Naguanagua\"}]";
+
+    private MockMvc mockMvc;
+    private MunicipalityService municipalityService;
+    private PrecompressedJson body;
+
+    @BeforeEach
+    void setUp() {
+        body = new PrecompressedJson(JSON.getBytes(StandardCharsets.UTF_8));
+        municipalityService = mock(MunicipalityService.class);
+        when(municipalityService.getAllBody()).thenReturn(body);
+        mockMvc = MockMvcBuilders.standaloneSetup(new MunicipalityController(municipalityService,
+                new ReferenceDataResponses(Duration.ofHours(24)))).build();
+    }
+
+    /**
+     * Expected: A plain request gets the JSON with a strong ETag and a
+     * long-lived public Cache-Control, and no Last-Modified (which would vary
+     * between instances for the same data).
+     */
+    @Test
+    void whenRequested_shouldReturnBodyWithValidators() throws Exception {
+        mockMvc.perform(get("/municipalities"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, body.getETag()))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=86400, public"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    /**
+     * Expected: A client accepting gzip gets the pre-compressed bytes, which
+     * decompress to the JSON, under their own ETag.
+     */
+    @Test
+    void whenGzipIsAccepted_shouldReturnPrecompressedBody() throws Exception {
+        byte[] compressed = mockMvc.perform(get("/municipalities").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, body.getGzipETag()))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertEquals(JSON, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Expected: A client whose copy is current gets a 304 with no body.
+     */
+    @Test
+    void whenETagMatches_shouldReturnNotModified() throws Exception {
+        mockMvc.perform(get("/municipalities").header(HttpHeaders.IF_NONE_MATCH, body.getETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]))
+                .andExpect(header().string(HttpHeaders.ETAG, body.getETag()));
+
+        mockMvc.perform(get("/municipalities").header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * Expected: gzip is accepted when listed or as "*", unless its quality is
+     * zero.
+     */
+    @Test
+    void whenParsingAcceptEncoding_shouldHonorQuality() {
+        assertTrue(ReferenceDataResponses.acceptsGzip("gzip"));
+        assertTrue(ReferenceDataResponses.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(ReferenceDataResponses.acceptsGzip("*"));
+        assertFalse(ReferenceDataResponses.acceptsGzip("gzip;q=0"));
+        assertFalse(ReferenceDataResponses.acceptsGzip("identity"));
+        assertFalse(ReferenceDataResponses.acceptsGzip(null));
+    }
+}
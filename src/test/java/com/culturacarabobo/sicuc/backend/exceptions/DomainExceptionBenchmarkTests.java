@@ -0,0 +1,96 @@
+package com.culturacarabobo.sicuc.backend.exceptions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Microbenchmark of one rejection (throw, unwind, catch) in the three shapes
+ * the write path has used:
+ * <ul>
+ * <li><b>before</b>: a new {@link IllegalArgumentException}, which fills in
+ * its stack trace.</li>
+ * <li><b>stackless</b>: a new {@link ValidationException} per throw, as for a
+ * message that varies (e.g., "Cultor Not Found With Id: 99").</li>
+ * <li><b>preallocated</b>: a constant {@link ValidationException} rethrown
+ * (e.g., "FirstName Is Invalid").</li>
+ * </ul>
+ * Filling in a stack trace costs in proportion to its depth, so every
+ * rejection is thrown {@value #DEPTH} frames down, roughly where a service
+ * call sits under the servlet container, the filter chain and Spring MVC. The
+ * mean of {@value #ITERATIONS} rejections is printed in nanoseconds. Opt in
+ * with:
+ *
+ * <pre>
+ * ./mvnw test -Dtest=DomainExceptionBenchmarkTests -Dbenchmark=true
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class DomainExceptionBenchmarkTests {
+
+    private static final int DEPTH = 128;
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+    private static final String MESSAGE = "FirstName Is Invalid";
+
+    private static final ValidationException PREALLOCATED = new ValidationException(ErrorCode.INVALID_FIELD,
+            MESSAGE);
+
+    @Test
+    void measureRejection() {
+        System.out.printf("%-14s %14s%n", "variant", "reject (ns)");
+        measure("before", () -> new IllegalArgumentException(MESSAGE));
+        measure("stackless", () -> new ValidationException(ErrorCode.INVALID_FIELD, MESSAGE));
+        measure("preallocated", () -> PREALLOCATED);
+    }
+
+    // --- Helpers ---
+
+    private static void measure(String variant, Supplier<RuntimeException> rejection) {
+        assertEquals(MESSAGE, reject(rejection));
+        System.out.printf(Locale.ROOT, "%-14s %14.1f%n", variant, time(rejection));
+    }
+
+    /**
+     * Returns the mean time of a rejection, in nanoseconds.
+     */
+    private static double time(Supplier<RuntimeException> rejection) {
+        int sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += reject(rejection).length();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += reject(rejection).length();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 0) {
+            throw new IllegalStateException();
+        }
+        return (double) elapsed / ITERATIONS;
+    }
+
+    /**
+     * Throws a rejection {@value #DEPTH} frames deep and returns its message,
+     * as the exception handler would read it.
+     */
+    private static String reject(Supplier<RuntimeException> rejection) {
+        try {
+            descend(DEPTH, rejection);
+            throw new IllegalStateException("Not Rejected");
+        } catch (IllegalArgumentException | DomainException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    private static int descend(int depth, Supplier<RuntimeException> rejection) {
+        if (depth == 0) {
+            throw rejection.get();
+        }
+        return descend(depth - 1, rejection) + 1;
+    }
+}
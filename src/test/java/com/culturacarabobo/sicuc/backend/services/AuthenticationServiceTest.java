@@ -3,12 +3,16 @@ package com.culturacarabobo.sicuc.backend.services;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -19,17 +23,25 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import com.culturacarabobo.sicuc.backend.dtos.AuthRequest;
 import com.culturacarabobo.sicuc.backend.dtos.AuthResponse;
 import com.culturacarabobo.sicuc.backend.dtos.RefreshTokenRequest;
+import com.culturacarabobo.sicuc.backend.exceptions.ErrorCode;
+import com.culturacarabobo.sicuc.backend.exceptions.InvalidTokenException;
+import com.culturacarabobo.sicuc.backend.exceptions.TooManyRequestsException;
+
+import io.jsonwebtoken.MalformedJwtException;
 
 /**
  * Unit tests for the {@link AuthenticationService}.
  * <p>
  * This class uses Mockito to test the login and token refresh logic in isolation
  * by simulating (mocking) the behavior of {@link AuthenticationManager},
- * {@link UserService}, and {@link JwtService}.
+ * {@link UserService}, {@link JwtService}, and {@link TokenDenylist}. A real
+ * {@link LoginGuard} (two attempts per username) runs the verification.
  */
 @ExtendWith(MockitoExtension.class)
 public class AuthenticationServiceTest {
 
+    private static final String CLIENT_ADDRESS = "203.0.113.7";
+
     // --- Mocks (Dependencies) ---
     @Mock
     private AuthenticationManager authenticationManager;
@@ -37,17 +49,29 @@ public class AuthenticationServiceTest {
     private UserService userService;
     @Mock
     private JwtService jwtService;
+    @Mock
+    private TokenDenylist tokenDenylist;
+    @Spy
+    private LoginGuard loginGuard = new LoginGuard(0, 2, Duration.ofMinutes(1), 64, 1, 4);
 
     // --- Class Under Test (Injects the Mocks) ---
     @InjectMocks
     private AuthenticationService authenticationService;
 
+    /**
+     * Stops the verification pool of the real {@link LoginGuard}.
+     */
+    @AfterEach
+    void tearDown() {
+        loginGuard.shutdown();
+    }
+
     // ----------------------------------------------------------------
     // LOGIN TESTS
     // ----------------------------------------------------------------
 
     /**
-     * Test (Happy Path): {@link AuthenticationService#login(AuthRequest)}.
+     * Test (Happy Path): {@link AuthenticationService#login(AuthRequest, String)}.
      * <p>
      * Scenario: Valid credentials are provided.
      * Expected: Authentication succeeds, and new access/refresh tokens are returned.
@@ -69,7 +93,7 @@ public class AuthenticationServiceTest {
             .thenReturn(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
 
         // [ACT]
-        AuthResponse response = authenticationService.login(loginRequest);
+        AuthResponse response = authenticationService.login(loginRequest, CLIENT_ADDRESS);
 
         // [ASSERT]
         assertEquals("fake-access-token", response.getAccessToken());
@@ -79,7 +103,7 @@ public class AuthenticationServiceTest {
     }
 
     /**
-     * Test (Sad Path): {@link AuthenticationService#login(AuthRequest)}.
+     * Test (Sad Path): {@link AuthenticationService#login(AuthRequest, String)}.
      * Scenario: Invalid password or unknown username.
      * Expected: Throws {@link BadCredentialsException} and skips token generation.
      */
@@ -96,7 +120,7 @@ public class AuthenticationServiceTest {
 
         // [ACT & ASSERT]
         assertThrows(BadCredentialsException.class, () -> {
-            authenticationService.login(loginRequest);
+            authenticationService.login(loginRequest, CLIENT_ADDRESS);
         });
 
         // Verify token generation was never attempted
@@ -104,6 +128,35 @@ public class AuthenticationServiceTest {
         verify(jwtService, never()).generateToken(any());
     }
 
+    /**
+     * Test (Sad Path): {@link AuthenticationService#login(AuthRequest, String)}.
+     * Scenario: A username gets more attempts than allowed per window (with
+     * different letter case).
+     * Expected: The extra attempt is rejected with a
+     * {@link TooManyRequestsException} before any password is verified.
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenLogin_TooManyAttempts_shouldThrottleWithoutVerifying() {
+        // [ARRANGE]
+        AuthRequest loginRequest = new AuthRequest();
+        loginRequest.setUsername("testuser");
+        loginRequest.setPassword("wrong-password");
+        when(authenticationManager.authenticate(any()))
+            .thenThrow(new BadCredentialsException("Invalid credentials"));
+
+        // [ACT & ASSERT]
+        assertThrows(BadCredentialsException.class, () -> authenticationService.login(loginRequest, CLIENT_ADDRESS));
+        loginRequest.setUsername("TestUser");
+        assertThrows(BadCredentialsException.class, () -> authenticationService.login(loginRequest, CLIENT_ADDRESS));
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> authenticationService.login(loginRequest, CLIENT_ADDRESS));
+
+        assertTrue(exception.getRetryAfterSeconds() >= 1);
+        assertEquals(ErrorCode.TOO_MANY_REQUESTS, exception.getCode());
+        verify(authenticationManager, times(2)).authenticate(any());
+    }
+
     // ----------------------------------------------------------------
     // REFRESH TOKEN TESTS
     // ----------------------------------------------------------------
@@ -122,10 +175,8 @@ public class AuthenticationServiceTest {
         
         UserDetails userDetails = User.builder().username("testuser").password("").roles("USER").build();
 
-        when(jwtService.extractUsername("valid-refresh-token")).thenReturn("testuser");
+        when(jwtService.parse("valid-refresh-token")).thenReturn(parsedToken("testuser", "refresh"));
         when(userService.loadUserByUsername("testuser")).thenReturn(userDetails);
-        when(jwtService.isTokenValid("valid-refresh-token", userDetails)).thenReturn(true);
-        when(jwtService.extractClaim(eq("valid-refresh-token"), any())).thenReturn("refresh");
         when(jwtService.generateToken(userDetails)).thenReturn("new-access-token");
 
         // [ACT]
@@ -140,24 +191,22 @@ public class AuthenticationServiceTest {
     /**
      * Test (Sad Path): {@link AuthenticationService#refreshToken(RefreshTokenRequest)}.
      * Scenario: An *access* token is mistakenly sent to the refresh endpoint.
-     * Expected: Throws {@link RuntimeException} as the token type is wrong.
+     * Expected: Throws {@link InvalidTokenException} as the token type is wrong.
      */
     @SuppressWarnings("null")
     @Test
     public void whenRefreshToken_IsActuallyAccessToken_shouldThrowException() {
-        // [ARRANGE] Setup mocks to confirm token type is "access"
+        // [ARRANGE] Setup mocks so the parsed token type is "access"
         RefreshTokenRequest refreshRequest = new RefreshTokenRequest();
         refreshRequest.setRefreshToken("not-a-refresh-token");
         
         UserDetails userDetails = User.builder().username("testuser").password("").roles("USER").build();
 
-        when(jwtService.extractUsername("not-a-refresh-token")).thenReturn("testuser");
+        when(jwtService.parse("not-a-refresh-token")).thenReturn(parsedToken("testuser", "access"));
         when(userService.loadUserByUsername("testuser")).thenReturn(userDetails);
-        when(jwtService.isTokenValid("not-a-refresh-token", userDetails)).thenReturn(true);
-        when(jwtService.extractClaim(eq("not-a-refresh-token"), any())).thenReturn("access"); // Token type is 'access'
 
         // [ACT & ASSERT]
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+        InvalidTokenException exception = assertThrows(InvalidTokenException.class, () -> {
             authenticationService.refreshToken(refreshRequest);
         });
 
@@ -166,4 +215,100 @@ public class AuthenticationServiceTest {
         // Verify token generation was never called
         verify(jwtService, never()).generateToken(userDetails);
     }
-}
\ No newline at end of file
+
+    /**
+     * Test (Sad Path): {@link AuthenticationService#refreshToken(RefreshTokenRequest)}.
+     * Scenario: The refresh token was revoked (logged out).
+     * Expected: Throws {@link InvalidTokenException} without loading the user.
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenRefreshToken_IsRevoked_shouldThrowException() {
+        // [ARRANGE]
+        RefreshTokenRequest refreshRequest = new RefreshTokenRequest();
+        refreshRequest.setRefreshToken("revoked-refresh-token");
+        ParsedToken token = parsedToken("testuser", "refresh");
+        when(jwtService.parse("revoked-refresh-token")).thenReturn(token);
+        when(tokenDenylist.isRevoked(token)).thenReturn(true);
+
+        // [ACT & ASSERT]
+        InvalidTokenException exception = assertThrows(InvalidTokenException.class,
+                () -> authenticationService.refreshToken(refreshRequest));
+        assertEquals("Invalid or expired Refresh Token", exception.getMessage());
+        verify(userService, never()).loadUserByUsername(any());
+    }
+
+    /**
+     * Test (Sad Path): {@link AuthenticationService#refreshToken(RefreshTokenRequest)}.
+     * Scenario: The refresh token is malformed (or tampered, or expired), so
+     * parsing it fails.
+     * Expected: Throws the same {@link InvalidTokenException} (a 401), not the
+     * parser's exception (which would be an unexpected 500).
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenRefreshToken_IsMalformed_shouldThrowInvalidToken() {
+        // [ARRANGE]
+        RefreshTokenRequest refreshRequest = new RefreshTokenRequest();
+        refreshRequest.setRefreshToken("garbage");
+        when(jwtService.parse("garbage")).thenThrow(new MalformedJwtException("Malformed"));
+
+        // [ACT & ASSERT]
+        InvalidTokenException exception = assertThrows(InvalidTokenException.class,
+                () -> authenticationService.refreshToken(refreshRequest));
+        assertEquals("Invalid or expired Refresh Token", exception.getMessage());
+        verify(userService, never()).loadUserByUsername(any());
+    }
+
+    // ----------------------------------------------------------------
+    // LOGOUT TESTS
+    // ----------------------------------------------------------------
+
+    /**
+     * Test (Happy Path): {@link AuthenticationService#logout(String, String)}.
+     * Expected: Both tokens of the session are revoked.
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenLogout_shouldRevokeAccessAndRefreshTokens() {
+        // [ARRANGE]
+        ParsedToken access = parsedToken("testuser", "access");
+        ParsedToken refresh = parsedToken("testuser", "refresh");
+        when(jwtService.parse("access-token")).thenReturn(access);
+        when(jwtService.parse("refresh-token")).thenReturn(refresh);
+
+        // [ACT]
+        authenticationService.logout("access-token", "refresh-token");
+
+        // [ASSERT]
+        verify(tokenDenylist).revoke(access);
+        verify(tokenDenylist).revoke(refresh);
+    }
+
+    /**
+     * Test (Sad Path): {@link AuthenticationService#logout(String, String)}.
+     * Scenario: The refresh token belongs to another user.
+     * Expected: Throws {@link InvalidTokenException} and revokes nothing.
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenLogout_WithAnotherUsersRefreshToken_shouldThrowException() {
+        // [ARRANGE]
+        when(jwtService.parse("access-token")).thenReturn(parsedToken("testuser", "access"));
+        when(jwtService.parse("refresh-token")).thenReturn(parsedToken("otheruser", "refresh"));
+
+        // [ACT & ASSERT]
+        assertThrows(InvalidTokenException.class, () -> authenticationService.logout("access-token", "refresh-token"));
+        verify(tokenDenylist, never()).revoke(any());
+    }
+
+    // --- Helpers ---
+
+    /**
+     * Builds an unexpired parsed token of the given type.
+     */
+    private static ParsedToken parsedToken(String subject, String type) {
+        Instant now = Instant.now();
+        return new ParsedToken("primary", null, subject, type, null, null, now, now.plusSeconds(3600));
+    }
+}
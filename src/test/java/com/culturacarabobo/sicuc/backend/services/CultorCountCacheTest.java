@@ -0,0 +1,98 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for the {@link CultorCountCache}.
+ * <p>
+ * No transaction is active here, so counts are cached and invalidations
+ * apply immediately.
+ */
+public class CultorCountCacheTest {
+
+    private CultorCountCache countCache;
+    private AtomicInteger countQueries;
+
+    @BeforeEach
+    void setUp() {
+        countCache = new CultorCountCache(2, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        countQueries = new AtomicInteger();
+    }
+
+    /**
+     * Expected: Equivalent filters produce the same signature.
+     */
+    @Test
+    void whenFiltersAreEquivalent_shouldShareTheSignature() {
+        assertEquals(CultorCountCache.signature(" José  Pérez ", "f", 1, null, null, null, true, null),
+                CultorCountCache.signature("jose perez", "F", 1, null, null, null, true, null));
+        assertNotEquals(CultorCountCache.signature(null, null, 1, null, null, null, null, null),
+                CultorCountCache.signature(null, null, null, 1, null, null, null, null));
+    }
+
+    /**
+     * Expected: The count query runs once per signature until an invalidation.
+     */
+    @Test
+    void whenCountIsCached_shouldRunTheQueryOnceUntilInvalidated() {
+        assertEquals(7, countCache.get("a", countCache.generation(), this::countSeven));
+        assertEquals(7, countCache.get("a", countCache.generation(), this::countSeven));
+        assertEquals(1, countQueries.get());
+        assertEquals(1, countCache.stats().hitCount());
+
+        countCache.invalidate();
+        assertNull(countCache.getIfPresent("a"));
+        assertEquals(7, countCache.get("a", countCache.generation(), this::countSeven));
+        assertEquals(2, countQueries.get());
+    }
+
+    /**
+     * Expected: A count that overlaps an invalidation is returned but not cached.
+     */
+    @Test
+    void whenInvalidatedWhileCounting_shouldNotCacheTheCount() {
+        assertEquals(7, countCache.get("a", countCache.generation(), () -> {
+            countCache.invalidate(); // A write commits mid-count
+            return countSeven();
+        }));
+        assertNull(countCache.getIfPresent("a"));
+    }
+
+    /**
+     * Expected: A count whose transaction began before an invalidation (so it
+     * may read the pre-write snapshot) is returned but not cached, even if the
+     * invalidation happened before the count query itself.
+     */
+    @Test
+    void whenInvalidatedBeforeCountingInTheSameTransaction_shouldNotCacheTheCount() {
+        long generation = countCache.generation(); // The transaction's first query runs here
+        countCache.invalidate(); // A write commits before the count runs
+
+        assertEquals(7, countCache.get("a", generation, this::countSeven));
+        assertNull(countCache.getIfPresent("a"));
+    }
+
+    /**
+     * Expected: Expired entries are not returned.
+     */
+    @Test
+    void whenEntryExpires_shouldRecount() {
+        countCache = new CultorCountCache(2, Duration.ZERO, new SimpleMeterRegistry());
+        countCache.get("a", countCache.generation(), this::countSeven);
+        countCache.get("a", countCache.generation(), this::countSeven);
+        assertEquals(2, countQueries.get());
+    }
+
+    private long countSeven() {
+        countQueries.incrementAndGet();
+        return 7;
+    }
+}
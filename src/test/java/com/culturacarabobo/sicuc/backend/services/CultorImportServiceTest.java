@@ -0,0 +1,172 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.culturacarabobo.sicuc.backend.dtos.CultorImportResponse;
+import com.culturacarabobo.sicuc.backend.dtos.CultorRequest;
+import com.culturacarabobo.sicuc.backend.entities.ArtCategory;
+import com.culturacarabobo.sicuc.backend.entities.ArtDiscipline;
+import com.culturacarabobo.sicuc.backend.entities.Cultor;
+import com.culturacarabobo.sicuc.backend.entities.Municipality;
+import com.culturacarabobo.sicuc.backend.entities.Parish;
+import com.culturacarabobo.sicuc.backend.repositories.ArtCategoryRepository;
+import com.culturacarabobo.sicuc.backend.repositories.ArtDisciplineRepository;
+import com.culturacarabobo.sicuc.backend.repositories.CultorRepository;
+import com.culturacarabobo.sicuc.backend.repositories.MunicipalityRepository;
+import com.culturacarabobo.sicuc.backend.repositories.ParishRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validator;
+
+/**
+ * Tests for the {@link CultorImportService} against the H2 test database.
+ * <p>
+ * The inserts run through the real {@link JdbcTemplate} and transaction
+ * manager, so a unique violation surfaces exactly as in production (a
+ * {@link org.springframework.dao.DuplicateKeyException} wrapping the driver's
+ * {@link java.sql.BatchUpdateException}). The per-row rules
+ * ({@link CultorService}) are mocked, and the duplicate check query is
+ * forwarded to the real repository, to commit a concurrent write between the
+ * duplicate check and the insert.
+ * <p>
+ * The import commits its own transaction, so this class is not
+ * {@code @Transactional}; the rows it creates are deleted after each test.
+ */
+@SpringBootTest
+public class CultorImportServiceTest {
+
+    @Autowired
+    private CultorRepository cultorRepository;
+    @Autowired
+    private MunicipalityRepository municipalityRepository;
+    @Autowired
+    private ParishRepository parishRepository;
+    @Autowired
+    private ArtCategoryRepository artCategoryRepository;
+    @Autowired
+    private ArtDisciplineRepository artDisciplineRepository;
+    @Autowired
+    private Validator validator;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final CultorService cultorService = mock(CultorService.class);
+    private final CultorRepository checkedRepository = mock(CultorRepository.class);
+
+    private Municipality municipality;
+    private Parish parish;
+    private ArtCategory artCategory;
+    private ArtDiscipline artDiscipline;
+
+    private CultorImportService cultorImportService;
+
+    @BeforeEach
+    void setUp() {
+        municipality = municipalityRepository.save(new Municipality("Import Municipio"));
+        parish = parishRepository.save(new Parish("Import Parroquia", municipality));
+        artCategory = artCategoryRepository.save(new ArtCategory("Import Categoria"));
+        artDiscipline = artDisciplineRepository.save(new ArtDiscipline("Import Disciplina", artCategory));
+
+        when(cultorService.mapAndValidateCultor(any(Cultor.class), any(CultorRequest.class)))
+                .thenAnswer(invocation -> toCultor(invocation.getArgument(1)));
+        cultorImportService = new CultorImportService(cultorService, checkedRepository,
+                mock(CultorSearchIndex.class), mock(CultorCountCache.class), validator, objectMapper,
+                jdbcTemplate, transactionManager, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM cultor_search_grams WHERE cultor_id IN "
+                + "(SELECT id FROM cultors WHERE municipality_id = ?)", municipality.getId());
+        jdbcTemplate.update("DELETE FROM cultors WHERE municipality_id = ?", municipality.getId());
+        artDisciplineRepository.delete(artDiscipline);
+        artCategoryRepository.delete(artCategory);
+        parishRepository.delete(parish);
+        municipalityRepository.delete(municipality);
+    }
+
+    /**
+     * Tests {@link CultorImportService#importCultors} when a concurrent write
+     * commits a row's ID number after the duplicate check.
+     * <p>
+     * Expected: The first insert fails on the unique constraint; the check
+     * runs again and reports only that row as failed, and the other rows are
+     * inserted on the second attempt.
+     */
+    @Test
+    void whenConcurrentWriteTakesAUniqueValue_shouldReportTheRowAndImportTheRest() throws Exception {
+        AtomicBoolean raced = new AtomicBoolean();
+        when(checkedRepository.findUniqueFieldValues(anyCollection(), anyCollection(), anyCollection(),
+                anyCollection())).thenAnswer(invocation -> {
+                    Collection<String> idNumbers = invocation.getArgument(0);
+                    Collection<String> phoneNumbers = invocation.getArgument(1);
+                    Collection<String> emails = invocation.getArgument(2);
+                    Collection<String> instagramUsers = invocation.getArgument(3);
+                    var stored = cultorRepository.findUniqueFieldValues(idNumbers, phoneNumbers, emails,
+                            instagramUsers);
+                    if (raced.compareAndSet(false, true)) {
+                        // The concurrent write, committed after the check saw nothing
+                        cultorRepository.saveAndFlush(toCultor(request("V-2", "0412-9999999")));
+                    }
+                    return stored;
+                });
+
+        CultorImportResponse response = cultorImportService.importCultors(MediaType.APPLICATION_NDJSON,
+                ndjson(request("V-1", "0412-1111111"), request("V-2", "0412-2222222"),
+                        request("V-3", "0412-3333333")));
+
+        assertEquals(2, response.getCreated());
+        assertEquals(1, response.getFailed());
+        assertEquals("Id Number Already Exists", response.getRows().get(1).getError());
+        assertNotNull(response.getRows().get(0).getId());
+        assertNotNull(response.getRows().get(2).getId());
+        assertEquals(List.of("0412-1111111", "0412-3333333", "0412-9999999"), jdbcTemplate.queryForList(
+                "SELECT phone_number FROM cultors WHERE municipality_id = ? ORDER BY phone_number", String.class,
+                municipality.getId()));
+    }
+
+    // --- Helpers ---
+
+    private static CultorRequest request(String idNumber, String phoneNumber) {
+        return new CultorRequest("Nuevo", "Cultor", "M", idNumber, LocalDate.of(1990, 1, 1), phoneNumber,
+                null, null, 1, 1, "Dir", 1, 1, null, 10, null, null, null);
+    }
+
+    private ByteArrayInputStream ndjson(CultorRequest... requests) throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (CultorRequest request : requests) {
+            body.append(objectMapper.writeValueAsString(request)).append('\n');
+        }
+        return new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Cultor toCultor(CultorRequest request) {
+        return new Cultor(request.getFirstName(), request.getLastName(), request.getGender(), request.getIdNumber(),
+                request.getBirthDate(), request.getPhoneNumber(), null, null, municipality, parish,
+                request.getHomeAddress(), artCategory, artDiscipline, null, request.getYearsOfExperience(), null,
+                null, null);
+    }
+}
@@ -0,0 +1,194 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.culturacarabobo.sicuc.backend.dtos.CultorIntakeResponse;
+import com.culturacarabobo.sicuc.backend.dtos.CultorRequest;
+import com.culturacarabobo.sicuc.backend.dtos.CultorResponse;
+import com.culturacarabobo.sicuc.backend.entities.CultorIntake;
+import com.culturacarabobo.sicuc.backend.exceptions.DuplicateEntityException;
+import com.culturacarabobo.sicuc.backend.repositories.CultorIntakeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for the {@link CultorIntakeService}.
+ * <p>
+ * The queue repository and {@link CultorService} are mocked; the workers are
+ * not started, and batches are processed by calling
+ * {@link CultorIntakeService#processBatch()} directly.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class CultorIntakeServiceTest {
+
+    @Mock
+    private CultorService cultorService;
+    @Mock
+    private CultorIntakeRepository cultorIntakeRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private CultorIntakeService cultorIntakeService;
+
+    /**
+     * Builds the service (batches of 10, 3 attempts) over a transaction manager
+     * that hands out plain transaction statuses.
+     */
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        cultorIntakeService = new CultorIntakeService(cultorService, cultorIntakeRepository, objectMapper,
+                transactionManager, true, 1, 10, Duration.ofSeconds(1), Duration.ofMinutes(5), 3);
+    }
+
+    /**
+     * Tests {@link CultorIntakeService#submit} (Happy Path).
+     * <p>
+     * Expected: The request is stored as a PENDING intake with its JSON
+     * payload, and the response is 202 with a Location to poll.
+     */
+    @Test
+    void testSubmit_QueuesTheRequest() throws Exception {
+        when(cultorIntakeRepository.save(any(CultorIntake.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ResponseEntity<CultorIntakeResponse> response = cultorIntakeService.submit(request("V-123"));
+
+        ArgumentCaptor<CultorIntake> saved = ArgumentCaptor.forClass(CultorIntake.class);
+        verify(cultorIntakeRepository).save(saved.capture());
+        assertEquals(CultorIntake.Status.PENDING, saved.getValue().getStatus());
+        assertEquals("V-123", objectMapper.readValue(saved.getValue().getPayload(), CultorRequest.class).getIdNumber());
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals("/cultors/intake/" + saved.getValue().getId(), response.getHeaders().getLocation().toString());
+        assertEquals("PENDING", response.getBody().getStatus());
+    }
+
+    /**
+     * Tests {@link CultorIntakeService#processBatch()}.
+     * <p>
+     * Scenario: A claimed batch holds a valid registration and a duplicate.
+     * <p>
+     * Expected: The first is created and marked CREATED with its cultor ID;
+     * the second is marked REJECTED with the same message as POST /cultors.
+     */
+    @Test
+    void testProcessBatch_CreatesOrRejectsEachIntake() throws Exception {
+        CultorIntake valid = intake("a", "V-1");
+        CultorIntake duplicate = intake("b", "V-2");
+        when(cultorIntakeRepository.findPendingIds(any(Pageable.class))).thenReturn(List.of("a", "b"));
+        when(cultorIntakeRepository.findByClaimTokenOrderByCreatedAt(anyString())).thenReturn(List.of(valid, duplicate));
+        when(cultorService.create(argThatIdNumber("V-1"))).thenReturn(ResponseEntity.ok(response(7)));
+        when(cultorService.create(argThatIdNumber("V-2"))).thenThrow(new DuplicateEntityException("Id Number Already Exists"));
+        when(cultorIntakeRepository.markCreated(anyString(), anyString(), anyInt(), any())).thenReturn(1);
+
+        assertEquals(2, cultorIntakeService.processBatch());
+
+        ArgumentCaptor<String> claimToken = ArgumentCaptor.forClass(String.class);
+        verify(cultorIntakeRepository).claim(eq(List.of("a", "b")), claimToken.capture(), any(LocalDateTime.class));
+        verify(cultorIntakeRepository).markCreated(eq("a"), eq(claimToken.getValue()), eq(7), any(LocalDateTime.class));
+        verify(cultorIntakeRepository).markRejected(eq("b"), eq(claimToken.getValue()), eq("Id Number Already Exists"),
+                any(LocalDateTime.class));
+    }
+
+    /**
+     * Tests {@link CultorIntakeService#processBatch()} after the batch lost its
+     * claim (it went stale and another batch re-claimed the intake).
+     * <p>
+     * Expected: The CREATED mark matches no row, so the cultor's transaction
+     * is rolled back and the intake is left to the batch that holds it.
+     */
+    @Test
+    void testProcessBatch_RollsBackWhenTheClaimWasLost() throws Exception {
+        CultorIntake reclaimed = intake("a", "V-1");
+        when(cultorIntakeRepository.findPendingIds(any(Pageable.class))).thenReturn(List.of("a"));
+        when(cultorIntakeRepository.findByClaimTokenOrderByCreatedAt(anyString())).thenReturn(List.of(reclaimed));
+        when(cultorService.create(any())).thenReturn(ResponseEntity.ok(response(7)));
+        when(cultorIntakeRepository.markCreated(anyString(), anyString(), anyInt(), any())).thenReturn(0);
+
+        cultorIntakeService.processBatch();
+
+        // The (mocked) manager is asked to commit a rollback-only status
+        ArgumentCaptor<TransactionStatus> committed = ArgumentCaptor.forClass(TransactionStatus.class);
+        verify(transactionManager, atLeastOnce()).commit(committed.capture());
+        assertTrue(committed.getValue().isRollbackOnly());
+        verify(cultorIntakeRepository, never()).markRejected(anyString(), anyString(), anyString(), any());
+    }
+
+    /**
+     * Tests {@link CultorIntakeService#processBatch()} with an unexpected error.
+     * <p>
+     * Expected: The intake is returned to the queue (it has attempts left).
+     */
+    @Test
+    void testProcessBatch_ReleasesIntakeOnUnexpectedError() throws Exception {
+        CultorIntake failing = intake("a", "V-1");
+        when(cultorIntakeRepository.findPendingIds(any(Pageable.class))).thenReturn(List.of("a"));
+        when(cultorIntakeRepository.findByClaimTokenOrderByCreatedAt(anyString())).thenReturn(List.of(failing));
+        when(cultorService.create(any())).thenThrow(new IllegalStateException("Connection lost"));
+
+        cultorIntakeService.processBatch();
+
+        verify(cultorIntakeRepository).release(eq("a"), anyString());
+        verify(cultorIntakeRepository, never()).markRejected(anyString(), anyString(), anyString(), any());
+    }
+
+    /**
+     * Tests {@link CultorIntakeService#processBatch()} on an empty queue.
+     * <p>
+     * Expected: Nothing is claimed.
+     */
+    @Test
+    void testProcessBatch_EmptyQueue() {
+        when(cultorIntakeRepository.findPendingIds(any(Pageable.class))).thenReturn(List.of());
+
+        assertEquals(0, cultorIntakeService.processBatch());
+        verify(cultorIntakeRepository, never()).claim(any(), anyString(), any());
+    }
+
+    // --- Helpers ---
+
+    private static CultorRequest request(String idNumber) {
+        return new CultorRequest("Nuevo", "Cultor", "M", idNumber, LocalDate.of(1990, 1, 1), "0412-1234567",
+                null, null, 1, 1, "Dir", 1, 1, null, 10, null, null, null);
+    }
+
+    private CultorIntake intake(String id, String idNumber) throws Exception {
+        return new CultorIntake(id, objectMapper.writeValueAsString(request(idNumber)), LocalDateTime.now());
+    }
+
+    private static CultorResponse response(int id) {
+        return new CultorResponse(id, "Nuevo", "Cultor", "M", "V-1", LocalDate.of(1990, 1, 1), "0412-1234567",
+                null, null, 1, 1, "Dir", 1, 1, null, 10, null, null, null, LocalDate.now());
+    }
+
+    private static CultorRequest argThatIdNumber(String idNumber) {
+        return argThat(request -> request != null && idNumber.equals(request.getIdNumber()));
+    }
+}
@@ -0,0 +1,231 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.culturacarabobo.sicuc.backend.entities.ArtCategory;
+import com.culturacarabobo.sicuc.backend.entities.ArtDiscipline;
+import com.culturacarabobo.sicuc.backend.entities.Cultor;
+import com.culturacarabobo.sicuc.backend.entities.Municipality;
+import com.culturacarabobo.sicuc.backend.entities.Parish;
+import com.culturacarabobo.sicuc.backend.repositories.CultorRepository;
+import com.culturacarabobo.sicuc.backend.repositories.CultorRepository.SearchSource;
+
+/**
+ * Unit tests for the {@link CultorSearchIndex}.
+ * <p>
+ * No transaction is active here, so {@code index}/{@code remove} apply
+ * immediately instead of after commit.
+ */
+public class CultorSearchIndexTest {
+
+    private CultorRepository cultorRepository;
+    private CultorSearchIndex searchIndex;
+
+    private Municipality valencia;
+    private Parish sanJose;
+    private Parish candelaria;
+    private ArtCategory musica;
+    private ArtDiscipline guitarra;
+
+    /**
+     * Indexes three cultors in two parishes.
+     */
+    @BeforeEach
+    void setUp() {
+        cultorRepository = mock(CultorRepository.class);
+        searchIndex = new CultorSearchIndex(cultorRepository);
+
+        valencia = new Municipality("Valencia");
+        valencia.setId(1);
+        sanJose = new Parish("San José", valencia);
+        sanJose.setId(1);
+        candelaria = new Parish("Candelaria", valencia);
+        candelaria.setId(2);
+        musica = new ArtCategory("Música");
+        musica.setId(1);
+        guitarra = new ArtDiscipline("Guitarra", musica);
+        guitarra.setId(1);
+
+        searchIndex.index(cultor(1, "José Ángel", "Pérez García", "M", "V-12345678", "0412-7654321",
+                sanJose, "Los Cuatristas", null));
+        searchIndex.index(cultor(2, "María José", "Rodríguez", "F", "V-87654321", "0424-1112233",
+                candelaria, null, "illness"));
+        searchIndex.index(cultor(3, "Josefina", "Pereira", "F", "V-11223344", "0416-9998877",
+                sanJose, null, null));
+    }
+
+    /**
+     * Expected: Accents and case are ignored, and a five-word query is applied
+     * in full (every word must match).
+     */
+    @Test
+    void whenQueryHasManyWords_shouldMatchAllOfThem() {
+        assertEquals(List.of(1), search("jose angel perez garcia cuatristas").getIds());
+        assertEquals(List.of(), search("jose angel perez garcia rodriguez").getIds());
+    }
+
+    /**
+     * Expected: Pages of any offset and size follow the full ranking (by last
+     * name without a query), while the total and facets cover every hit.
+     */
+    @Test
+    void whenPaging_shouldReturnTheSameOrderAsTheFullRanking() {
+        List<Integer> all = search(null).getIds();
+        assertEquals(List.of(3, 1, 2), all); // Pereira, Pérez García, Rodríguez
+
+        for (int offset = 0; offset <= 3; offset++) {
+            for (int limit = 0; limit <= 3; limit++) {
+                CultorSearchIndex.Result page = searchIndex.search(null, null, null, null, null, null, null, null,
+                        offset, limit);
+                assertEquals(all.subList(Math.min(offset, 3), Math.min(offset + limit, 3)), page.getIds());
+                assertEquals(3, page.getTotal());
+                assertEquals(3, page.getFacets().get("municipalityId").get("1"));
+            }
+        }
+    }
+
+    /**
+     * Expected: Exact word matches rank above prefix matches.
+     */
+    @Test
+    void whenQueryIsAPrefix_shouldRankExactMatchesFirst() {
+        CultorSearchIndex.Result result = search("jose");
+
+        assertEquals(3, result.getTotal());
+        // 1 and 2 contain "jose" (tie broken by last name); 3 only "josefina"
+        assertEquals(List.of(1, 2, 3), result.getIds());
+    }
+
+    /**
+     * Expected: A single typo still matches.
+     */
+    @Test
+    void whenQueryHasATypo_shouldMatchFuzzily() {
+        assertEquals(List.of(2), search("rodrigez").getIds());
+        assertEquals(List.of(3), search("pereria").getIds());
+    }
+
+    /**
+     * Expected: A digit fragment matches anywhere in the ID or phone number.
+     */
+    @Test
+    void whenQueryIsANumberFragment_shouldMatchAnySubstring() {
+        assertEquals(List.of(1), search("2-76543").getIds());
+        assertEquals(List.of(2), search("1112").getIds());
+        assertEquals(List.of(), search("7654654").getIds());
+    }
+
+    /**
+     * Expected: A word holding digits in a group name is found by text, in
+     * full or by prefix, and its digits are searchable as a number too.
+     */
+    @Test
+    void whenGroupNameHoldsDigits_shouldMatchItAsTextAndNumber() {
+        searchIndex.index(cultor(4, "Luis", "Torres", "M", "V-44556677", "0414-4445566", candelaria,
+                "Grupo 5 de Julio", null));
+        searchIndex.index(cultor(5, "Rosa", "Vega", "F", "V-99887766", "0426-1234000", sanJose, "Banda2024",
+                null));
+
+        assertEquals(List.of(4), search("grupo 5 de julio").getIds());
+        assertEquals(List.of(5), search("banda2024").getIds());
+        assertEquals(List.of(5), search("banda20").getIds());
+        assertEquals(List.of(5), search("2024").getIds());
+    }
+
+    /**
+     * Expected: Without text, the attribute filters alone select the hits
+     * (from their postings), combined with the presence flags.
+     */
+    @Test
+    void whenFilteringWithoutText_shouldIntersectTheFilters() {
+        assertEquals(List.of(3, 2), searchIndex.search(null, "f", null, null, null, null, null, null, 0, 20)
+                .getIds());
+        assertEquals(List.of(3), searchIndex.search(null, "F", 1, 1, 1, 1, null, null, 0, 20).getIds());
+        assertEquals(List.of(2), searchIndex.search(null, "F", null, null, null, null, null, true, 0, 20)
+                .getIds());
+        assertEquals(List.of(), searchIndex.search(null, "M", null, 2, null, null, null, null, 0, 20).getIds());
+        assertEquals(0, searchIndex.search(null, null, 7, null, null, null, null, null, 0, 20).getTotal());
+    }
+
+    /**
+     * Expected: Filters restrict the hits, and facets count all hits.
+     */
+    @Test
+    void whenFiltering_shouldCountFacetsOverAllHits() {
+        CultorSearchIndex.Result result = searchIndex.search("jose", "F", null, null, null, null, null, null, 0,
+                1);
+
+        assertEquals(2, result.getTotal());
+        assertEquals(List.of(2), result.getIds()); // Page size 1
+        assertEquals(2, result.getFacets().get("gender").get("F"));
+        assertEquals(1, result.getFacets().get("parishId").get("1"));
+        assertEquals(1, result.getFacets().get("parishId").get("2"));
+        assertEquals(1, result.getFacets().get("hasIllness").get("true"));
+    }
+
+    /**
+     * Expected: Updates replace the old terms and postings, and removals drop
+     * the cultor.
+     */
+    @Test
+    void whenCultorIsUpdatedOrRemoved_shouldReflectTheChange() {
+        searchIndex.index(cultor(3, "Josefina", "Martínez", "F", "V-11223344", "0416-9998877", candelaria, null,
+                null));
+        assertEquals(List.of(), search("pereira").getIds());
+        assertEquals(List.of(3), search("martinez").getIds());
+        assertEquals(List.of(1), searchIndex.search(null, null, null, 1, null, null, null, null, 0, 20).getIds());
+        assertEquals(List.of(3, 2), searchIndex.search(null, null, null, 2, null, null, null, null, 0, 20)
+                .getIds());
+
+        searchIndex.remove(3);
+        assertEquals(List.of(), search("martinez").getIds());
+        assertEquals(2, search(null).getTotal());
+    }
+
+    /**
+     * Expected: A rebuild replaces the index with the streamed rows.
+     */
+    @Test
+    void whenRebuilt_shouldIndexTheStreamedRows() {
+        SearchSource row = mock(SearchSource.class);
+        when(row.getId()).thenReturn(9);
+        when(row.getFirstName()).thenReturn("Ana");
+        when(row.getLastName()).thenReturn("Díaz");
+        when(row.getIdNumber()).thenReturn("V-555666");
+        when(row.getPhoneNumber()).thenReturn("0414-0000000");
+        when(row.getGender()).thenReturn("F");
+        when(row.getMunicipalityId()).thenReturn(1);
+        when(row.getParishId()).thenReturn(1);
+        when(row.getArtCategoryId()).thenReturn(1);
+        when(row.getArtDisciplineId()).thenReturn(1);
+        when(cultorRepository.streamSearchSources()).thenReturn(Stream.of(row));
+
+        searchIndex.rebuild();
+
+        assertEquals(1, search(null).getTotal());
+        assertEquals(List.of(9), search("diaz").getIds());
+    }
+
+    // --- Helpers ---
+
+    private CultorSearchIndex.Result search(String query) {
+        return searchIndex.search(query, null, null, null, null, null, null, null, 0, 20);
+    }
+
+    private Cultor cultor(int id, String firstName, String lastName, String gender, String idNumber,
+            String phoneNumber, Parish parish, String groupName, String illness) {
+        Cultor cultor = new Cultor(firstName, lastName, gender, idNumber, LocalDate.of(1990, 1, 1), phoneNumber,
+                null, null, valencia, parish, "Dir", musica, guitarra, null, 10, groupName, null, illness);
+        cultor.setId(id);
+        return cultor;
+    }
+}
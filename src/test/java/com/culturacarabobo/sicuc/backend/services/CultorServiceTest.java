@@ -4,37 +4,47 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyString;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import com.culturacarabobo.sicuc.backend.dtos.ArtCategoryResponse;
+import com.culturacarabobo.sicuc.backend.dtos.ArtDisciplineResponse;
 import com.culturacarabobo.sicuc.backend.dtos.CultorRequest;
 import com.culturacarabobo.sicuc.backend.dtos.CultorResponse;
+import com.culturacarabobo.sicuc.backend.dtos.MunicipalityResponse;
+import com.culturacarabobo.sicuc.backend.dtos.ParishResponse;
 import com.culturacarabobo.sicuc.backend.entities.ArtCategory;
 import com.culturacarabobo.sicuc.backend.entities.ArtDiscipline;
 import com.culturacarabobo.sicuc.backend.entities.Cultor;
 import com.culturacarabobo.sicuc.backend.entities.Municipality;
 import com.culturacarabobo.sicuc.backend.entities.Parish;
 import com.culturacarabobo.sicuc.backend.exceptions.DuplicateEntityException;
+import com.culturacarabobo.sicuc.backend.exceptions.ErrorCode;
+import com.culturacarabobo.sicuc.backend.exceptions.ResourceNotFoundException;
+import com.culturacarabobo.sicuc.backend.exceptions.ValidationException;
 import com.culturacarabobo.sicuc.backend.repositories.ArtCategoryRepository;
 import com.culturacarabobo.sicuc.backend.repositories.ArtDisciplineRepository;
 import com.culturacarabobo.sicuc.backend.repositories.CultorRepository;
+import com.culturacarabobo.sicuc.backend.repositories.CultorRepository.ReferenceHierarchy;
+import com.culturacarabobo.sicuc.backend.repositories.CultorRepository.UniqueFieldCollisions;
 import com.culturacarabobo.sicuc.backend.repositories.MunicipalityRepository;
 import com.culturacarabobo.sicuc.backend.repositories.ParishRepository;
 
-import jakarta.persistence.EntityNotFoundException;
-
 /**
  * Unit tests for the {@link CultorService}.
  * <p>
@@ -56,11 +66,66 @@ public class CultorServiceTest {
     private ArtCategoryRepository artCategoryRepository;
     @Mock
     private ArtDisciplineRepository artDisciplineRepository;
+    @Mock
+    private ReferenceDataService referenceDataService;
+    @Mock
+    private CultorSearchGramService cultorSearchGramService;
+    @Mock
+    private CultorSearchIndex cultorSearchIndex;
+    @Mock
+    private CultorCountCache cultorCountCache;
 
-    // --- Class Under Test (Injects the Mocks above) ---
-    @InjectMocks
+    // --- Class Under Test (Built from the Mocks above with a real validator) ---
     private CultorService cultorService;
 
+    /**
+     * Wires the service with a real {@link CultorReferenceValidator}. By default
+     * the reference snapshot is empty, so every lookup falls back to the
+     * (mocked) single-query hierarchy resolution.
+     */
+    @BeforeEach
+    void setUp() {
+        when(referenceDataService.getSnapshot()).thenReturn(ReferenceDataSnapshot.empty());
+        CultorReferenceValidator cultorReferenceValidator = new CultorReferenceValidator(referenceDataService,
+                cultorRepository, municipalityRepository, parishRepository, artCategoryRepository,
+                artDisciplineRepository);
+        cultorService = new CultorService(cultorRepository, cultorReferenceValidator, cultorSearchGramService,
+                cultorSearchIndex, cultorCountCache, false);
+
+        // No unique field collides unless a test says otherwise
+        when(cultorRepository.findUniqueFieldCollisions(any(), any(), any(), any(), anyInt()))
+                .thenReturn(collisions(null, null, null, null));
+    }
+
+    /**
+     * Builds a fake {@link UniqueFieldCollisions} row as returned by
+     * {@link CultorRepository#findUniqueFieldCollisions}.
+     */
+    private static UniqueFieldCollisions collisions(Integer idNumber, Integer phoneNumber, Integer email,
+            Integer instagramUser) {
+        return new UniqueFieldCollisions() {
+            public Integer getIdNumber() { return idNumber; }
+            public Integer getPhoneNumber() { return phoneNumber; }
+            public Integer getEmail() { return email; }
+            public Integer getInstagramUser() { return instagramUser; }
+        };
+    }
+
+    /**
+     * Builds a fake {@link ReferenceHierarchy} row as returned by
+     * {@link CultorRepository#findReferenceHierarchy}.
+     */
+    private static ReferenceHierarchy hierarchy(Integer municipalityId, Integer parishMunicipalityId,
+            Integer artCategoryId, Integer artDisciplineCategoryId, String artDisciplineName) {
+        return new ReferenceHierarchy() {
+            public Integer getMunicipalityId() { return municipalityId; }
+            public Integer getParishMunicipalityId() { return parishMunicipalityId; }
+            public Integer getArtCategoryId() { return artCategoryId; }
+            public Integer getArtDisciplineCategoryId() { return artDisciplineCategoryId; }
+            public String getArtDisciplineName() { return artDisciplineName; }
+        };
+    }
+
     // ----------------------------------------------------------------
     // GET and CREATE HAPPY PATHS
     // ----------------------------------------------------------------
@@ -95,15 +160,15 @@ public class CultorServiceTest {
     /**
      * Test (Sad Path): {@link CultorService#getById(Integer)}.
      * Scenario: Cultor does not exist.
-     * Expected: Throws {@link EntityNotFoundException}.
+     * Expected: Throws {@link ResourceNotFoundException}.
      */
     @Test
-    public void whenGetById_CultorNotFound_shouldThrowEntityNotFound() {
+    public void whenGetById_CultorNotFound_shouldThrowResourceNotFound() {
         // [ARRANGE] Setup mock to return empty Optional
         when(cultorRepository.findById(anyInt())).thenReturn(Optional.empty());
 
         // [ACT & ASSERT] Verify the service throws the correct exception
-        assertThrows(EntityNotFoundException.class, () -> {
+        assertThrows(ResourceNotFoundException.class, () -> {
             cultorService.getById(99);
         });
     }
@@ -118,7 +183,8 @@ public class CultorServiceTest {
     public void whenCreate_IdNumberIsDuplicated_shouldThrowDuplicateEntityException() {
         // [ARRANGE] Setup mock to check for duplication
         CultorRequest requestDto = new CultorRequest("Nuevo", "Cultor", "M", "V-123", LocalDate.of(1990, 1, 1), "0412-1234567", "nuevo@cultor.com", null, 1, 1, "Dir", 1, 1, null, 10, null, null, null);
-        when(cultorRepository.existsByIdNumber("V-123")).thenReturn(true);
+        when(cultorRepository.findUniqueFieldCollisions("V-123", "0412-1234567", "nuevo@cultor.com", null, 0))
+                .thenReturn(collisions(1, 0, 0, 0));
 
         // [ACT & ASSERT] Verify the service throws the correct exception
         assertThrows(DuplicateEntityException.class, () -> {
@@ -146,13 +212,7 @@ public class CultorServiceTest {
         
         CultorRequest requestDto = new CultorRequest("Nuevo", "Cultor", "M", "V-12345", LocalDate.of(1990, 1, 1), "0412-1234567", "nuevo@cultor.com", null, 1, 1, "Direccion nueva", 1, 1, null, 10, null, null, null);
 
-        when(cultorRepository.existsByIdNumber(anyString())).thenReturn(false);
-        when(cultorRepository.existsByPhoneNumber(anyString())).thenReturn(false);
-        when(cultorRepository.existsByEmail(anyString())).thenReturn(false);
-        when(municipalityRepository.findById(1)).thenReturn(Optional.of(m));
-        when(parishRepository.findById(1)).thenReturn(Optional.of(p));
-        when(artCategoryRepository.findById(1)).thenReturn(Optional.of(ac));
-        when(artDisciplineRepository.findById(1)).thenReturn(Optional.of(ad));
+        when(cultorRepository.findReferenceHierarchy(1, 1, 1, 1)).thenReturn(hierarchy(1, 1, 1, 1, "Guitarra"));
         when(cultorRepository.save(any(Cultor.class))).thenReturn(cultorGuardado);
 
         // [ACT]
@@ -161,9 +221,97 @@ public class CultorServiceTest {
         // [ASSERT]
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         verify(cultorRepository, times(1)).save(any(Cultor.class));
+        verify(cultorSearchGramService, times(1)).index(cultorGuardado);
+        verify(cultorSearchIndex, times(1)).index(cultorGuardado);
+        verify(cultorCountCache, times(1)).invalidate();
     }
 
 
+    /**
+     * Test (Sad Path): {@link CultorService#create(CultorRequest)}.
+     * Scenario: The reference snapshot is loaded and the parish belongs to
+     * another municipality.
+     * Expected: Throws {@link ValidationException} without querying the
+     * database for the reference hierarchy.
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenCreate_SnapshotResolvesMismatchedParish_shouldThrowWithoutQueryingReferences() {
+        // [ARRANGE] Snapshot: parish 2 belongs to municipality 2
+        ReferenceDataSnapshot snapshot = new ReferenceDataSnapshot(1,
+                List.of(new MunicipalityResponse(1, "Valencia"), new MunicipalityResponse(2, "Otro")),
+                List.of(new ParishResponse(1, "San José", 1), new ParishResponse(2, "Otra", 2)),
+                List.of(new ArtCategoryResponse(1, "Música")),
+                List.of(new ArtDisciplineResponse(1, "Guitarra", 1)),
+                new byte[0], new byte[0], new byte[0], new byte[0]);
+        when(referenceDataService.getSnapshot()).thenReturn(snapshot);
+        CultorRequest requestDto = new CultorRequest("Nombre", "Cultor", "M", "V-123", LocalDate.of(1990, 1, 1), "0412-1111111", null, null, 1, 2, "Dir", 1, 1, null, 10, null, null, null);
+
+        // [ACT & ASSERT]
+        ValidationException exception = assertThrows(ValidationException.class, () -> {
+            cultorService.create(requestDto);
+        });
+
+        assertEquals("The Selected Parish Does Not Belong To The Chosen Municipality", exception.getMessage());
+        verify(cultorRepository, never()).findReferenceHierarchy(anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    /**
+     * Test (Sad Path): {@link CultorService#create(CultorRequest)}.
+     * Scenario: The pre-check passes, but a concurrent insert makes the database
+     * reject the row on the phone number unique constraint.
+     * Expected: The violation is translated into the pre-check's
+     * {@link DuplicateEntityException} message.
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenCreate_DatabaseRejectsDuplicatePhone_shouldTranslateToDuplicateEntityException() {
+        // [ARRANGE] The insert fails on the unique index of phone_number
+        CultorRequest requestDto = new CultorRequest("Nuevo", "Cultor", "M", "V-12345", LocalDate.of(1990, 1, 1), "0412-1234567", null, null, 1, 1, "Dir", 1, 1, null, 10, null, null, null);
+        when(cultorRepository.findReferenceHierarchy(1, 1, 1, 1)).thenReturn(hierarchy(1, 1, 1, 1, "Guitarra"));
+        when(cultorRepository.save(any(Cultor.class))).thenThrow(new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Duplicate entry", new SQLException("Duplicate entry", "23000", 1062),
+                        ConstraintViolationException.ConstraintKind.UNIQUE, "phone_number")));
+
+        // [ACT & ASSERT]
+        DuplicateEntityException exception = assertThrows(DuplicateEntityException.class, () -> {
+            cultorService.create(requestDto);
+        });
+        assertEquals("Phone Number Already Exists", exception.getMessage());
+    }
+
+    /**
+     * Test (Happy Path): {@link CultorService#create(CultorRequest)} in
+     * optimistic-insert mode.
+     * Scenario: The service is configured to rely on the DB unique constraints.
+     * Expected: The uniqueness pre-check query is never issued.
+     */
+    @SuppressWarnings("null")
+    @Test
+    public void whenCreateInOptimisticMode_shouldSkipUniquenessPreCheck() {
+        // [ARRANGE]
+        CultorService optimisticService = new CultorService(cultorRepository, new CultorReferenceValidator(
+                referenceDataService, cultorRepository, municipalityRepository, parishRepository,
+                artCategoryRepository, artDisciplineRepository), cultorSearchGramService, cultorSearchIndex,
+                cultorCountCache, true);
+        CultorRequest requestDto = new CultorRequest("Nuevo", "Cultor", "M", "V-12345", LocalDate.of(1990, 1, 1), "0412-1234567", null, null, 1, 1, "Dir", 1, 1, null, 10, null, null, null);
+        Municipality m = new Municipality("Valencia"); m.setId(1);
+        Parish p = new Parish("San José", m); p.setId(1);
+        ArtCategory ac = new ArtCategory("Música"); ac.setId(1);
+        ArtDiscipline ad = new ArtDiscipline("Guitarra", ac); ad.setId(1);
+        Cultor cultorGuardado = new Cultor("Nuevo", "Cultor", "M", "V-12345", LocalDate.of(1990, 1, 1), "0412-1234567", null, null, m, p, "Dir", ac, ad, null, 10, null, null, null);
+        cultorGuardado.setId(1);
+        when(cultorRepository.findReferenceHierarchy(1, 1, 1, 1)).thenReturn(hierarchy(1, 1, 1, 1, "Guitarra"));
+        when(cultorRepository.save(any(Cultor.class))).thenReturn(cultorGuardado);
+
+        // [ACT]
+        ResponseEntity<CultorResponse> response = optimisticService.create(requestDto);
+
+        // [ASSERT]
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        verify(cultorRepository, never()).findUniqueFieldCollisions(any(), any(), any(), any(), anyInt());
+    }
+
     // ----------------------------------------------------------------
     // UPDATE and DELETE SAD PATHS
     // ----------------------------------------------------------------
@@ -178,7 +326,8 @@ public class CultorServiceTest {
     public void whenCreate_PhoneNumberIsDuplicated_shouldThrowDuplicateEntityException() {
         // [ARRANGE] Setup mock for duplication check
         CultorRequest requestDto = new CultorRequest("Nombre", "Cultor", "M", "V-123", LocalDate.of(1990, 1, 1), "0412-1111111", "nuevo@mail.com", null, 1, 1, "Dir", 1, 1, null, 10, null, null, null);
-        when(cultorRepository.existsByPhoneNumber("0412-1111111")).thenReturn(true);
+        when(cultorRepository.findUniqueFieldCollisions("V-123", "0412-1111111", "nuevo@mail.com", null, 0))
+                .thenReturn(collisions(0, 1, 0, 0));
 
         // [ACT & ASSERT]
         assertThrows(DuplicateEntityException.class, () -> {
@@ -192,29 +341,23 @@ public class CultorServiceTest {
      * Test (Sad Path): {@link CultorService#create(CultorRequest)}.
      * Scenario: Parish ID and Municipality ID do not match the business rule
      * (Parish does not belong to Municipality).
-     * Expected: Throws {@link IllegalArgumentException}.
+     * Expected: Throws {@link ValidationException}.
      */
     @SuppressWarnings("null")
     @Test
-    public void whenCreate_ParishDoesNotBelongToMunicipality_shouldThrowIllegalArgument() {
+    public void whenCreate_ParishDoesNotBelongToMunicipality_shouldThrowValidation() {
         // [ARRANGE] Setup mocks for conflicting IDs
         Integer municipalityId = 1;
         Integer parishId = 99; // ID conflict
         CultorRequest requestDto = new CultorRequest("Nombre", "Cultor", "M", "V-123", LocalDate.of(1990, 1, 1), "0412-1111111", "test@mail.com", null, municipalityId, parishId, "Dir", 1, 1, null, 10, null, null, null);
         
-        // Mock related entities (Parish 99 belongs to Municipality 2, but request sent Municipality 1)
-        Municipality m = new Municipality("Valencia"); m.setId(1);
-        Municipality m2 = new Municipality("Otro"); m2.setId(2);
-        Parish p = new Parish("San José", m2); p.setId(99); 
+        // Mock the resolved hierarchy (Parish 99 belongs to Municipality 2, but request sent Municipality 1)
 
-        when(cultorRepository.existsByIdNumber(anyString())).thenReturn(false);
-        when(cultorRepository.existsByPhoneNumber(anyString())).thenReturn(false);
-        when(cultorRepository.existsByEmail(anyString())).thenReturn(false);
-        when(municipalityRepository.findById(municipalityId)).thenReturn(Optional.of(m));
-        when(parishRepository.findById(parishId)).thenReturn(Optional.of(p)); // Returns the conflicting parish
+        when(cultorRepository.findReferenceHierarchy(municipalityId, parishId, 1, 1))
+                .thenReturn(hierarchy(1, 2, 1, 1, "Guitarra")); // Returns the conflicting parish
 
         // [ACT & ASSERT]
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+        ValidationException exception = assertThrows(ValidationException.class, () -> {
             cultorService.create(requestDto);
         });
 
@@ -226,11 +369,11 @@ public class CultorServiceTest {
     /**
      * Test (Sad Path): {@link CultorService#update(Integer, CultorRequest)}.
      * Scenario: Attempts to change the immutable ID Number field.
-     * Expected: Throws {@link IllegalArgumentException}.
+     * Expected: Throws {@link ValidationException}.
      */
     @SuppressWarnings("null")
     @Test
-    public void whenUpdatingImmutableIdNumber_shouldThrowIllegalArgumentException() {
+    public void whenUpdatingImmutableIdNumber_shouldThrowValidationException() {
         // [ARRANGE] Setup mocks with conflicting DTO
         Integer cultorId = 1;
         CultorRequest requestDto = new CultorRequest("Nombre", "Actualizado", "M", "V-666", LocalDate.of(1990, 1, 1), "0412-9999999", null, null, 1, 1, "Direccion", 1, 1, null, 11, null, null, null);
@@ -239,11 +382,13 @@ public class CultorServiceTest {
         when(cultorRepository.findById(cultorId)).thenReturn(Optional.of(cultorExistente));
 
         // [ACT & ASSERT]
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+        ValidationException exception = assertThrows(ValidationException.class, () -> {
             cultorService.update(cultorId, requestDto);
         });
 
         assertEquals("The IdNumber (Cédula) cannot be modified.", exception.getMessage());
+        assertEquals(ErrorCode.IMMUTABLE_FIELD, exception.getCode());
+        assertEquals(0, exception.getStackTrace().length); // Stackless
         verify(cultorRepository, never()).save(any(Cultor.class));
     }
 
@@ -262,7 +407,8 @@ public class CultorServiceTest {
         cultorExistente.setId(cultorId);
 
         when(cultorRepository.findById(cultorId)).thenReturn(Optional.of(cultorExistente));
-        when(cultorRepository.existsByPhoneNumberAndIdNot("0412-9999999", cultorId)).thenReturn(true);
+        when(cultorRepository.findUniqueFieldCollisions("V-12345", "0412-9999999", "update@cultor.com", null, cultorId))
+                .thenReturn(collisions(0, 1, 0, 0));
         
         // [ACT & ASSERT]
         assertThrows(DuplicateEntityException.class, () -> {
@@ -287,6 +433,9 @@ public class CultorServiceTest {
         ResponseEntity<Void> response = cultorService.delete(cultorId);
 
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(cultorSearchGramService, times(1)).remove(cultorId);
+        verify(cultorSearchIndex, times(1)).remove(cultorId);
+        verify(cultorCountCache, times(1)).invalidate();
         verify(cultorRepository, times(1)).deleteById(cultorId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Jwks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for the {@link JwkSetCache}, against a local HTTP server that
+ * publishes the JWK Set of an EdDSA key ring.
+ */
+public class JwkSetCacheTest {
+
+    private HttpServer server;
+    private AtomicInteger fetches;
+    private JwtKeyRing signingRing;
+    private String jwksUri;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPair keyPair = Jwks.CRV.Ed25519.keyPair().build();
+        signingRing = new JwtKeyRing("", "primary", "", "EdDSA",
+                Encoders.BASE64.encode(keyPair.getPrivate().getEncoded()),
+                Encoders.BASE64.encode(keyPair.getPublic().getEncoded()),
+                new JwkSetCache("", Duration.ofMinutes(5)));
+
+        fetches = new AtomicInteger();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/.well-known/jwks.json", exchange -> {
+            fetches.incrementAndGet();
+            byte[] body = signingRing.getJwkSetJson().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        jwksUri = "http://127.0.0.1:" + server.getAddress().getPort() + "/.well-known/jwks.json";
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    /**
+     * Expected: The signing key is found after one fetch, and later lookups
+     * (even of unknown IDs, within the refetch interval) do not fetch again.
+     */
+    @Test
+    void whenKeyIsPublished_shouldFetchOnceAndCacheIt() {
+        JwkSetCache cache = new JwkSetCache(jwksUri, Duration.ofMinutes(5));
+        String keyId = signingRing.getActiveKey().getId();
+
+        assertNotNull(cache.find(keyId));
+        assertNotNull(cache.find(keyId));
+        assertNull(cache.find("unknown"));
+
+        assertEquals(1, fetches.get());
+    }
+
+    /**
+     * Expected: A verify-only ring with no key of its own verifies the
+     * signer's tokens through the cache.
+     */
+    @SuppressWarnings("null")
+    @Test
+    void whenRingHasNoKeys_shouldVerifyWithTheRemoteSet() {
+        JwtKeyRing verifyingRing = new JwtKeyRing("", "primary", "", "EdDSA", "", "",
+                new JwkSetCache(jwksUri, Duration.ofMinutes(5)));
+        JwtService signer = new JwtService(signingRing, 3600000, 3600000,
+                new VerifiedTokenCache(0, new SimpleMeterRegistry()));
+        JwtService verifier = new JwtService(verifyingRing, 3600000, 3600000,
+                new VerifiedTokenCache(0, new SimpleMeterRegistry()));
+        String token = signer.generateToken(User.builder()
+                .username("admin").password("password").roles("ADMIN").build());
+
+        assertEquals("admin", verifier.parse(token).getSubject());
+        assertEquals("{\"keys\":[]}", verifyingRing.getJwkSetJson());
+    }
+
+    /**
+     * Expected: Without a URL the cache knows no keys and never fetches.
+     */
+    @Test
+    void whenDisabled_shouldFindNothing() {
+        JwkSetCache cache = new JwkSetCache("", Duration.ofMinutes(5));
+
+        assertFalse(cache.isEnabled());
+        assertNull(cache.find(signingRing.getActiveKey().getId()));
+    }
+}
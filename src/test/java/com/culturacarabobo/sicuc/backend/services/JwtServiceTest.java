@@ -2,12 +2,28 @@ package com.culturacarabobo.sicuc.backend.services;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Set;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import com.culturacarabobo.sicuc.backend.entities.Role;
+
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * Unit tests for the {@link JwtService}.
@@ -18,11 +34,14 @@ import io.jsonwebtoken.ExpiredJwtException;
 public class JwtServiceTest {
 
     private JwtService jwtService;
+    private VerifiedTokenCache verifiedTokenCache;
     private UserDetails userDetails;
 
     // Constantes de prueba inyectadas
     private static final String FAKE_SECRET_KEY = 
         "xWey5IjnYkdI3C9DWeHDesTXwr0srNCH9zh1WBkGiR1CaZTA2PXoYQp31Svee2m4FHhfy5sHHPVKn3n0Eqa2Gw";
+    private static final String OTHER_SECRET_KEY =
+        "q8S1m4Vf0bZk2Xr7Yh3Nc6Pw9Ld5Tg1Je8Ua4Ko0Ri2Wx7Bv3Cy6Hn9Mz5Qs1Ft4Dp8Gl2Aj0Ev6Iu3Ob7Ks9Yw1Rn5Th4Lc8Xm2";
     private static final long ONE_HOUR = 3600000;
     private static final long SEVEN_DAYS = 604800000;
 
@@ -32,7 +51,8 @@ public class JwtServiceTest {
     @BeforeEach
     void setUp() {
         // Creates a real JwtService instance with test secrets/expirations
-        jwtService = new JwtService(FAKE_SECRET_KEY, ONE_HOUR, SEVEN_DAYS);
+        verifiedTokenCache = new VerifiedTokenCache(100, new SimpleMeterRegistry());
+        jwtService = new JwtService(new JwtKeyRing(FAKE_SECRET_KEY, "primary", ""), ONE_HOUR, SEVEN_DAYS, verifiedTokenCache);
         
         // Creates a base UserDetails object
         userDetails = User.builder()
@@ -96,7 +116,8 @@ public class JwtServiceTest {
     @Test
     void whenTokenIsExpired_shouldThrowExpiredJwtException() {
         // [ARRANGE] Service instance configured to generate instantly expired tokens
-        JwtService expiredJwtService = new JwtService(FAKE_SECRET_KEY, -1000, -1000);
+        JwtService expiredJwtService = new JwtService(new JwtKeyRing(FAKE_SECRET_KEY, "primary", ""), -1000, -1000,
+                new VerifiedTokenCache(0, new SimpleMeterRegistry()));
 
         @SuppressWarnings("null")
         String expiredToken = expiredJwtService.generateToken(userDetails);
@@ -110,7 +131,8 @@ public class JwtServiceTest {
     /**
      * Test Scenario: Verify that 'access' and 'refresh' tokens contain the correct
      * custom 'type' claim.
-     * Expected: Access token type is "access", refresh token type is "refresh".
+     * Expected: The parsed access token is an access token only, and the
+     * refresh token a refresh token only.
      */
     @Test
     void whenTokensAreGenerated_shouldHaveCorrectTypeClaim() {
@@ -120,11 +142,189 @@ public class JwtServiceTest {
         @SuppressWarnings("null")
         String refreshToken = jwtService.generateRefreshToken(userDetails);
 
-        // [ASSERT] Verify the custom claim content
-        String accessTokenType = jwtService.extractClaim(accessToken, claims -> claims.get("type", String.class));
-        String refreshTokenType = jwtService.extractClaim(refreshToken, claims -> claims.get("type", String.class));
+        // [ASSERT] Verify the custom claim content (through the single, cached verification path)
+        ParsedToken parsedAccessToken = jwtService.parse(accessToken);
+        ParsedToken parsedRefreshToken = jwtService.parse(refreshToken);
+
+        assertTrue(parsedAccessToken.isAccessToken());
+        assertFalse(parsedAccessToken.isRefreshToken());
+        assertTrue(parsedRefreshToken.isRefreshToken());
+        assertFalse(parsedRefreshToken.isAccessToken());
+    }
+
+    /**
+     * Test Scenario: Parse an access token twice.
+     * Expected: The first call verifies it and exposes its claims; the second
+     * returns the same cached instance.
+     */
+    @Test
+    void whenTokenIsParsed_shouldExposeClaimsAndCacheTheResult() {
+        // [ARRANGE]
+        @SuppressWarnings("null")
+        String token = jwtService.generateToken(userDetails);
+
+        // [ACT]
+        ParsedToken first = jwtService.parse(token);
+        ParsedToken second = jwtService.parse(token);
+
+        // [ASSERT]
+        assertEquals("testuser@mail.com", first.getSubject());
+        assertTrue(first.isAccessToken());
+        assertFalse(first.isRefreshToken());
+        assertTrue(first.getExpiration().isAfter(first.getIssuedAt()));
+        assertTrue(first.isValidFor(userDetails));
+        assertSame(first, second);
+        assertEquals(1, verifiedTokenCache.size());
+    }
 
-        assertEquals("access", accessTokenType);
-        assertEquals("refresh", refreshTokenType);
+    /**
+     * Test Scenario: Parse a token whose signature was tampered with.
+     * Expected: Verification fails every time, and nothing is cached.
+     */
+    @Test
+    void whenSignatureIsTampered_shouldThrowAndNotCache() {
+        // [ARRANGE] Replace the signature with another token's
+        @SuppressWarnings("null")
+        String token = jwtService.generateToken(userDetails);
+        @SuppressWarnings("null")
+        String other = jwtService.generateRefreshToken(userDetails);
+        String tampered = token.substring(0, token.lastIndexOf('.')) + other.substring(other.lastIndexOf('.'));
+
+        // [ACT & ASSERT]
+        assertThrows(JwtException.class, () -> jwtService.parse(tampered));
+        assertThrows(JwtException.class, () -> jwtService.parse(tampered));
+        assertEquals(0, verifiedTokenCache.size());
+    }
+
+    /**
+     * Test Scenario: Rotate the signing key, then retire the old one.
+     * Expected: New tokens carry the new key ID; tokens signed with the old
+     * key stay valid until it is retired, even if already cached, and are
+     * rejected afterwards.
+     */
+    @Test
+    void whenKeyIsRotatedAndRetired_shouldRejectOnlyOldTokensAfterRetirement() {
+        // [ARRANGE] A token signed (and cached) with the primary key
+        @SuppressWarnings("null")
+        String oldToken = jwtService.generateToken(userDetails);
+        assertEquals("primary", jwtService.parse(oldToken).getKeyId());
+
+        // [ACT] Rotate
+        jwtService.rotateKey("second", OTHER_SECRET_KEY);
+        @SuppressWarnings("null")
+        String newToken = jwtService.generateToken(userDetails);
+
+        // [ASSERT] Both are accepted while the old key is in the ring
+        assertEquals("second", jwtService.parse(newToken).getKeyId());
+        assertTrue(jwtService.isTokenValid(oldToken, userDetails));
+
+        // [ACT & ASSERT] After retirement only the new token is accepted
+        jwtService.retireKey("primary");
+        assertThrows(JwtException.class, () -> jwtService.parse(oldToken));
+        assertTrue(jwtService.isTokenValid(newToken, userDetails));
+        assertThrows(IllegalArgumentException.class, () -> jwtService.retireKey("second"));
+    }
+
+    /**
+     * Test Scenario: Verify a token issued before key IDs existed (no
+     * {@code kid} header), and one signed by a key listed only for
+     * verification.
+     * Expected: The first is verified with the primary key, the second with
+     * the listed key.
+     */
+    @Test
+    void whenTokenHasNoKeyIdOrAnOlderKey_shouldBeVerified() {
+        // [ARRANGE] A ring whose active key is new, with the old key still listed
+        JwtService rotatedService = new JwtService(
+                new JwtKeyRing(OTHER_SECRET_KEY, "second", "primary=" + FAKE_SECRET_KEY),
+                ONE_HOUR, SEVEN_DAYS, new VerifiedTokenCache(0, new SimpleMeterRegistry()));
+        @SuppressWarnings("null")
+        String legacyToken = Jwts.builder()
+                .subject("testuser@mail.com")
+                .expiration(new Date(System.currentTimeMillis() + ONE_HOUR))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(OTHER_SECRET_KEY)))
+                .compact();
+        @SuppressWarnings("null")
+        String olderToken = jwtService.generateToken(userDetails);
+
+        // [ACT & ASSERT]
+        assertEquals("testuser@mail.com", rotatedService.parse(olderToken).getSubject());
+        assertNull(rotatedService.parse(legacyToken).getKeyId());
+        assertTrue(rotatedService.isTokenValid(legacyToken, userDetails));
+    }
+
+    /**
+     * Test Scenario: Issue a token to a {@link com.culturacarabobo.sicuc.backend.entities.User}
+     * entity, then revoke the user's tokens by bumping the token version.
+     * Expected: The token carries the role and version; it is valid until the
+     * version changes.
+     */
+    @Test
+    void whenIssuedToUserEntity_shouldCarryRoleAndTokenVersion() {
+        // [ARRANGE]
+        com.culturacarabobo.sicuc.backend.entities.User user =
+                new com.culturacarabobo.sicuc.backend.entities.User("editor", "hash", Role.ROLE_EDITOR);
+        user.setTokenVersion(3);
+
+        // [ACT]
+        @SuppressWarnings("null")
+        ParsedToken token = jwtService.parse(jwtService.generateToken(user));
+
+        // [ASSERT]
+        assertTrue(token.hasUserState());
+        assertEquals(Role.ROLE_EDITOR, token.getRole());
+        assertEquals(3, token.getTokenVersion());
+        assertTrue(token.isValidFor(user));
+
+        user.setTokenVersion(4);
+        assertFalse(token.isValidFor(user));
+
+        // Tokens issued to other UserDetails carry no user state
+        @SuppressWarnings("null")
+        ParsedToken plain = jwtService.parse(jwtService.generateToken(userDetails));
+        assertFalse(plain.hasUserState());
+    }
+
+    /**
+     * Test Scenario: Sign tokens with ES256 and with EdDSA, and verify them on
+     * an instance that only holds the public key, as found in the signer's
+     * JWK Set.
+     * Expected: The tokens verify; the verify-only instance cannot sign.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = { "ES256", "EdDSA" })
+    void whenSignedAsymmetrically_shouldVerifyWithThePublishedKeyOnly(String algorithm) {
+        // [ARRANGE]
+        KeyPair keyPair = "ES256".equals(algorithm)
+                ? Jwts.SIG.ES256.keyPair().build()
+                : Jwks.CRV.Ed25519.keyPair().build();
+        String privateKey = Encoders.BASE64.encode(keyPair.getPrivate().getEncoded());
+        String publicKey = Encoders.BASE64.encode(keyPair.getPublic().getEncoded());
+        JwkSetCache noRemoteKeys = new JwkSetCache("", Duration.ofMinutes(5));
+        JwtKeyRing signingRing = new JwtKeyRing("", "primary", "", algorithm, privateKey, publicKey, noRemoteKeys);
+        JwtService signer = new JwtService(signingRing, ONE_HOUR, SEVEN_DAYS,
+                new VerifiedTokenCache(0, new SimpleMeterRegistry()));
+        JwtService verifier = new JwtService(
+                new JwtKeyRing("", "primary", "", algorithm, "", publicKey, noRemoteKeys),
+                ONE_HOUR, SEVEN_DAYS, new VerifiedTokenCache(0, new SimpleMeterRegistry()));
+
+        // [ACT]
+        @SuppressWarnings("null")
+        String token = signer.generateToken(userDetails);
+        ParsedToken parsed = verifier.parse(token);
+
+        // [ASSERT]
+        assertEquals("testuser@mail.com", parsed.getSubject());
+        assertEquals(Set.of(parsed.getKeyId()), JwkSetCache.parse(signingRing.getJwkSetJson()).keySet());
+        assertThrows(IllegalStateException.class, () -> verifier.generateToken(userDetails));
+    }
+
+    /**
+     * Test Scenario: Read the JWK Set in HMAC mode.
+     * Expected: It is empty, as shared secrets are never published.
+     */
+    @Test
+    void whenHmacMode_shouldPublishNoKeys() {
+        assertEquals("{\"keys\":[]}", new JwtKeyRing(FAKE_SECRET_KEY, "primary", "").getJwkSetJson());
     }
-}
\ No newline at end of file
+}
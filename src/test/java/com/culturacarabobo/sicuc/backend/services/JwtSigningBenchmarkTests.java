@@ -0,0 +1,101 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Jwks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Microbenchmark behind the choice of
+ * {@code application.security.jwt.algorithm}: what it costs to sign and to
+ * verify one access token with HS256 (the shared-secret default), ES256 and
+ * EdDSA (Ed25519), and how long each token gets.
+ * <p>
+ * The {@link VerifiedTokenCache} is built with zero entries, so every
+ * {@code parse} checks the signature. After {@value #WARMUP} warm-up calls,
+ * {@value #ITERATIONS} calls per operation are timed on one thread and the
+ * mean is printed in microseconds. HS256 should be the cheapest on both
+ * sides; what ES256 and EdDSA buy is verification on other nodes without the
+ * signing secret. Run with:
+ *
+ * <pre>
+ * ./mvnw test -Dtest=JwtSigningBenchmarkTests -Dbenchmark=true
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class JwtSigningBenchmarkTests {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+    private static final long ONE_HOUR = 3600000;
+    private static final String SECRET_KEY =
+            "xWey5IjnYkdI3C9DWeHDesTXwr0srNCH9zh1WBkGiR1CaZTA2PXoYQp31Svee2m4FHhfy5sHHPVKn3n0Eqa2Gw";
+
+    private final UserDetails userDetails = User.builder()
+            .username("admin")
+            .password("password")
+            .roles("ADMIN")
+            .build();
+
+    @Test
+    void measureSignAndVerify() {
+        System.out.printf("%-8s %12s %12s %8s%n", "alg", "sign (us)", "verify (us)", "length");
+        measure("HS256", new JwtKeyRing(SECRET_KEY, "primary", ""));
+        measure("ES256", asymmetricRing("ES256", Jwts.SIG.ES256.keyPair().build()));
+        measure("EdDSA", asymmetricRing("EdDSA", Jwks.CRV.Ed25519.keyPair().build()));
+    }
+
+    // --- Helpers ---
+
+    @SuppressWarnings("null")
+    private void measure(String algorithm, JwtKeyRing keyRing) {
+        JwtService jwtService = new JwtService(keyRing, ONE_HOUR, ONE_HOUR,
+                new VerifiedTokenCache(0, new SimpleMeterRegistry()));
+        String token = jwtService.generateToken(userDetails);
+
+        double signMicros = time(() -> jwtService.generateToken(userDetails));
+        double verifyMicros = time(() -> jwtService.parse(token));
+
+        assertEquals("admin", jwtService.parse(token).getSubject());
+        System.out.printf(Locale.ROOT, "%-8s %12.1f %12.1f %8d%n", algorithm, signMicros, verifyMicros,
+                token.length());
+    }
+
+    /**
+     * Returns the mean time of an operation, in microseconds.
+     */
+    private static double time(Supplier<?> operation) {
+        Object sink = null;
+        for (int i = 0; i < WARMUP; i++) {
+            sink = operation.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = operation.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == null) {
+            throw new IllegalStateException();
+        }
+        return elapsed / 1_000.0 / ITERATIONS;
+    }
+
+    private static JwtKeyRing asymmetricRing(String algorithm, KeyPair keyPair) {
+        return new JwtKeyRing("", "primary", "", algorithm,
+                Encoders.BASE64.encode(keyPair.getPrivate().getEncoded()),
+                Encoders.BASE64.encode(keyPair.getPublic().getEncoded()),
+                new JwkSetCache("", Duration.ofMinutes(5)));
+    }
+}
@@ -0,0 +1,99 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.culturacarabobo.sicuc.backend.exceptions.TooManyRequestsException;
+
+/**
+ * Unit tests for the {@link LoginGuard}.
+ * <p>
+ * The guard under test has one verification thread and room for one waiting
+ * attempt.
+ */
+public class LoginGuardTest {
+
+    private LoginGuard loginGuard;
+
+    @BeforeEach
+    void setUp() {
+        loginGuard = new LoginGuard(2, 0, Duration.ofMinutes(1), 64, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loginGuard.shutdown();
+    }
+
+    /**
+     * Expected: A client address gets its attempts per window, across
+     * usernames.
+     */
+    @Test
+    void whenAddressExceedsItsAttempts_shouldThrottle() {
+        loginGuard.checkRate("203.0.113.7", "admin");
+        loginGuard.checkRate("203.0.113.7", "editor");
+
+        assertThrows(TooManyRequestsException.class, () -> loginGuard.checkRate("203.0.113.7", "guest"));
+    }
+
+    /**
+     * Expected: The verification's own exception reaches the caller.
+     */
+    @Test
+    void whenVerificationFails_shouldRethrowItsException() {
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> loginGuard.verify(() -> {
+                    throw new IllegalStateException("Bad Credentials");
+                }));
+
+        assertEquals("Bad Credentials", thrown.getMessage());
+        assertEquals("ok", loginGuard.verify(() -> "ok"));
+    }
+
+    /**
+     * Expected: With the only thread busy and the queue full, a further
+     * attempt is rejected immediately instead of waiting.
+     */
+    @Test
+    void whenPoolIsSaturated_shouldRejectImmediately() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> loginGuard.verify(() -> {
+            started.countDown();
+            await(release);
+            return "first";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> loginGuard.verify(() -> "second"));
+        // Wait for the second attempt to take the only queue slot
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loginGuard.queuedAttempts() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertThrows(TooManyRequestsException.class, () -> loginGuard.verify(() -> "third"));
+
+        release.countDown();
+        assertEquals("first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("second", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    // --- Helpers ---
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.culturacarabobo.sicuc.backend.entities.RevokedToken;
+import com.culturacarabobo.sicuc.backend.repositories.RevokedTokenRepository;
+
+/**
+ * Unit tests for the {@link TokenDenylist}.
+ * <p>
+ * The repository is mocked and the background sync is not started; syncs and
+ * purges are triggered directly.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class TokenDenylistTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TokenDenylist tokenDenylist;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        tokenDenylist = new TokenDenylist(revokedTokenRepository, transactionManager, 100, 0.01,
+                Duration.ofSeconds(30));
+    }
+
+    /**
+     * Expected: A revoked token is reported (and persisted); others are not.
+     */
+    @Test
+    void whenRevoked_shouldBeReportedAndPersisted() {
+        ParsedToken revoked = token("jti-1", Instant.now().plusSeconds(600));
+        ParsedToken other = token("jti-2", Instant.now().plusSeconds(600));
+
+        assertTrue(tokenDenylist.revoke(revoked));
+        assertFalse(tokenDenylist.revoke(revoked));
+
+        assertTrue(tokenDenylist.isRevoked(revoked));
+        assertFalse(tokenDenylist.isRevoked(other));
+        assertFalse(tokenDenylist.isRevoked(token(null, Instant.now().plusSeconds(600))));
+        verify(revokedTokenRepository, times(1)).save(any(RevokedToken.class));
+    }
+
+    /**
+     * Expected: Expired or ID-less tokens are not revoked (nothing to deny).
+     */
+    @Test
+    void whenExpiredOrWithoutId_shouldNotRevoke() {
+        assertFalse(tokenDenylist.revoke(token("jti-1", Instant.now().minusSeconds(1))));
+        assertFalse(tokenDenylist.revoke(token(null, Instant.now().plusSeconds(600))));
+
+        assertEquals(0, tokenDenylist.size());
+        verify(revokedTokenRepository, never()).save(any());
+    }
+
+    /**
+     * Expected: A sync loads other instances' revocations, and a purge drops
+     * those whose tokens have expired (and deletes their rows).
+     */
+    @Test
+    void whenSyncedAndPurged_shouldKeepOnlyLiveRevocations() {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        when(revokedTokenRepository.findActiveRevokedAfter(any(), any())).thenReturn(List.of(
+                new RevokedToken("live", "user", now.plusMinutes(10), now),
+                new RevokedToken("stale", "user", now.minusMinutes(5), now.minusMinutes(20))));
+
+        tokenDenylist.sync();
+        assertEquals(2, tokenDenylist.size());
+
+        tokenDenylist.purgeExpired();
+
+        assertEquals(1, tokenDenylist.size());
+        assertTrue(tokenDenylist.isRevoked(token("live", Instant.now().plusSeconds(600))));
+        assertFalse(tokenDenylist.isRevoked(token("stale", Instant.now().plusSeconds(600))));
+        verify(revokedTokenRepository).deleteExpired(any());
+    }
+
+    // --- Helpers ---
+
+    private static ParsedToken token(String tokenId, Instant expiration) {
+        return new ParsedToken("primary", tokenId, "user", ParsedToken.TYPE_ACCESS, null, null,
+                expiration.minusSeconds(3600), expiration);
+    }
+}
@@ -0,0 +1,94 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.culturacarabobo.sicuc.backend.entities.Role;
+import com.culturacarabobo.sicuc.backend.entities.User;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for the {@link UserDetailsCache}.
+ * <p>
+ * No transaction is active here, so invalidations apply immediately.
+ */
+public class UserDetailsCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserDetailsCache userDetailsCache;
+    private AtomicInteger loads;
+    private Function<String, User> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userDetailsCache = new UserDetailsCache(10, Duration.ofMinutes(5), meterRegistry);
+        loads = new AtomicInteger();
+        loader = username -> {
+            loads.incrementAndGet();
+            return "ghost".equals(username) ? null : new User(username, "hash", Role.ROLE_ADMIN);
+        };
+    }
+
+    /**
+     * Expected: A user is loaded once and then served from the cache as a
+     * copy, and the hits and misses are recorded and published.
+     */
+    @Test
+    void whenLoadedRepeatedly_shouldQueryOnceAndRecordStats() {
+        User first = userDetailsCache.get("admin", loader);
+        User second = userDetailsCache.get("admin", loader);
+
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        assertEquals("admin", first.getUsername());
+        assertEquals(Role.ROLE_ADMIN, first.getRole());
+        assertEquals(1, userDetailsCache.stats().hitCount());
+        assertEquals(1, userDetailsCache.stats().missCount());
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", "users").tag("result", "hit").functionCounter());
+    }
+
+    /**
+     * Expected: After an invalidation, the next lookup reloads the user.
+     */
+    @Test
+    void whenInvalidated_shouldReload() {
+        userDetailsCache.get("admin", loader);
+
+        userDetailsCache.invalidate("admin");
+        userDetailsCache.get("admin", loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    /**
+     * Expected: Unknown users are not cached.
+     */
+    @Test
+    void whenUserIsMissing_shouldNotCacheIt() {
+        assertNull(userDetailsCache.get("ghost", loader));
+        assertNull(userDetailsCache.get("ghost", loader));
+
+        assertEquals(2, loads.get());
+    }
+
+    /**
+     * Expected: With zero entries allowed, every lookup goes to the loader.
+     */
+    @Test
+    void whenDisabled_shouldAlwaysLoad() {
+        UserDetailsCache disabled = new UserDetailsCache(0, Duration.ofMinutes(5), new SimpleMeterRegistry());
+
+        disabled.get("admin", loader);
+        disabled.get("admin", loader);
+
+        assertEquals(2, loads.get());
+    }
+}
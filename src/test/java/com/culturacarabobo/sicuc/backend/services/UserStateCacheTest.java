@@ -0,0 +1,96 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.culturacarabobo.sicuc.backend.entities.Role;
+import com.culturacarabobo.sicuc.backend.repositories.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for the {@link UserStateCache}.
+ * <p>
+ * No transaction is active here, so invalidations apply immediately.
+ */
+@ExtendWith(MockitoExtension.class)
+public class UserStateCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserStateCache userStateCache;
+
+    @BeforeEach
+    void setUp() {
+        userStateCache = new UserStateCache(userRepository, 100, Duration.ofMinutes(5),
+                new SimpleMeterRegistry());
+    }
+
+    /**
+     * Expected: A user's state is loaded once and then served from the cache.
+     */
+    @Test
+    void whenCheckedRepeatedly_shouldQueryOnce() {
+        when(userRepository.findStateByUsername("admin")).thenReturn(state(Role.ROLE_ADMIN, 0));
+
+        assertTrue(userStateCache.isCurrent("admin", Role.ROLE_ADMIN, 0));
+        assertTrue(userStateCache.isCurrent("admin", Role.ROLE_ADMIN, 0));
+
+        verify(userRepository, times(1)).findStateByUsername("admin");
+        assertEquals(1, userStateCache.stats().hitCount());
+        assertEquals(1, userStateCache.stats().missCount());
+    }
+
+    /**
+     * Expected: Tokens of a demoted, revoked, or deleted user are not current.
+     */
+    @Test
+    void whenUserChanged_shouldRejectOldTokens() {
+        when(userRepository.findStateByUsername("admin")).thenReturn(state(Role.ROLE_EDITOR, 1));
+
+        assertFalse(userStateCache.isCurrent("admin", Role.ROLE_ADMIN, 1));
+        assertFalse(userStateCache.isCurrent("admin", Role.ROLE_EDITOR, 0));
+        assertTrue(userStateCache.isCurrent("admin", Role.ROLE_EDITOR, 1));
+        assertFalse(userStateCache.isCurrent("ghost", Role.ROLE_ADMIN, 0));
+    }
+
+    /**
+     * Expected: After an invalidation, the next check reloads the state.
+     */
+    @Test
+    void whenInvalidated_shouldReload() {
+        when(userRepository.findStateByUsername("admin"))
+                .thenReturn(state(Role.ROLE_ADMIN, 0), state(Role.ROLE_ADMIN, 1));
+        assertTrue(userStateCache.isCurrent("admin", Role.ROLE_ADMIN, 0));
+
+        userStateCache.invalidate("admin");
+
+        assertFalse(userStateCache.isCurrent("admin", Role.ROLE_ADMIN, 0));
+        verify(userRepository, times(2)).findStateByUsername("admin");
+    }
+
+    // --- Helpers ---
+
+    private static UserRepository.UserState state(Role role, int tokenVersion) {
+        return new UserRepository.UserState() {
+            @Override
+            public Role getRole() {
+                return role;
+            }
+
+            @Override
+            public int getTokenVersion() {
+                return tokenVersion;
+            }
+        };
+    }
+}
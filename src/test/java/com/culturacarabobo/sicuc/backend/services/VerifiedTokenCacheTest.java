@@ -0,0 +1,72 @@
+package com.culturacarabobo.sicuc.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for the {@link VerifiedTokenCache}.
+ */
+public class VerifiedTokenCacheTest {
+
+    private VerifiedTokenCache tokenCache;
+
+    @BeforeEach
+    void setUp() {
+        tokenCache = new VerifiedTokenCache(2, new SimpleMeterRegistry());
+    }
+
+    /**
+     * Expected: A cached token is returned until it expires, then dropped.
+     */
+    @Test
+    void whenTokenExpires_shouldBeDropped() {
+        Instant now = Instant.now();
+        tokenCache.put("live", token(now.plusSeconds(60)));
+        tokenCache.put("expired", token(now.minusSeconds(1)));
+
+        assertNotNull(tokenCache.getIfPresent("live"));
+        assertNull(tokenCache.getIfPresent("expired"));
+        assertNull(tokenCache.getIfPresent("unknown"));
+        assertEquals(1, tokenCache.size());
+    }
+
+    /**
+     * Expected: When full, tokens are evicted one at a time rather than the
+     * whole cache being dropped, and the cache never exceeds its bound.
+     */
+    @Test
+    void whenFull_shouldEvictInsteadOfClearing() {
+        Instant now = Instant.now();
+        tokenCache.put("a", token(now.plusSeconds(60)));
+        tokenCache.put("b", token(now.plusSeconds(60)));
+        tokenCache.put("c", token(now.plusSeconds(60)));
+
+        assertEquals(2, tokenCache.size());
+        assertEquals(1, tokenCache.stats().evictionCount());
+    }
+
+    /**
+     * Expected: With zero entries allowed, nothing is ever cached.
+     */
+    @Test
+    void whenDisabled_shouldCacheNothing() {
+        VerifiedTokenCache disabled = new VerifiedTokenCache(0, new SimpleMeterRegistry());
+        disabled.put("a", token(Instant.now().plusSeconds(60)));
+
+        assertNull(disabled.getIfPresent("a"));
+        assertEquals(0, disabled.size());
+    }
+
+    // --- Helpers ---
+
+    private static ParsedToken token(Instant expiration) {
+        return new ParsedToken("primary", null, "user", ParsedToken.TYPE_ACCESS, null, null,
+                expiration.minusSeconds(3600), expiration);
+    }
+}
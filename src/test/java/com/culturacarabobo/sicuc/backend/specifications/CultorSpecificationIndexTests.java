@@ -0,0 +1,417 @@
+package com.culturacarabobo.sicuc.backend.specifications;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.culturacarabobo.sicuc.backend.entities.Cultor;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * EXPLAIN-based regression tests for the indexes added by
+ * {@code V4__Add_Cultor_Filter_Indexes} and
+ * {@code V5__Add_Cultor_Name_Search_Columns}.
+ * <p>
+ * Every filter combination of {@code GET /cultors} (1 to 4 name words, an
+ * id/phone number, location, art, gender and the disability/illness flags) is
+ * turned into the SQL that Hibernate actually generates from
+ * {@link CultorSpecification}, which is passed to H2's {@code EXPLAIN}:
+ * <ul>
+ * <li><b>Selective combinations</b> (a location or art filter, a 3- or 4-word
+ * name, or a number) must read {@code cultors} (and the
+ * {@code cultor_search_grams} trigram index) through an index seek. The test
+ * fails on a full table scan, or on an index whose leading column is not
+ * constrained by the query (a full index scan).</li>
+ * <li><b>Unselective combinations</b> (no filter, gender and/or flags only,
+ * or a 1- or 2-word name alone) may scan the table, but never fully scan an
+ * index. Gender and the flags match a large share of the table, so a scan is
+ * the intended plan. The 1- and 2-word searches OR predicates over the two
+ * name columns. MySQL can resolve them with an index merge (union), which H2
+ * does not implement, so here the test only checks that each name column
+ * leads an index.</li>
+ * </ul>
+ * These are H2's plans for the Hibernate-generated schema plus the migration
+ * indexes, not MySQL's. They prove that a suitable index exists for each
+ * selective combination and that the generated SQL can use it. They do not
+ * prove which plan MySQL's optimizer picks.
+ * <p>
+ * Flyway is disabled in tests, so the {@code CREATE INDEX} statements of those
+ * migrations are applied to the generated schema before each test. The class
+ * runs against its own in-memory database, in its own application context
+ * (closed afterwards), so the other test classes never see these indexes.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:index-tests;DB_CLOSE_DELAY=-1")
+@DirtiesContext
+class CultorSpecificationIndexTests {
+
+    private static final String[] MIGRATIONS = {
+            "db/migration/V4__Add_Cultor_Filter_Indexes.sql",
+            "db/migration/V5__Add_Cultor_Name_Search_Columns.sql"
+    };
+
+    /**
+     * Matches the access path H2 prints for a checked table, e.g.
+     * {@code "PUBLIC"."CULTORS" "C1_0" /* PUBLIC.IDX_...: MUNICIPALITY_ID = ?1 *}{@code /},
+     * capturing the table, the index and the index conditions (absent for a
+     * full scan). Subqueries are printed without quotes.
+     */
+    private static final Pattern TABLE_ACCESS = Pattern.compile(
+            "\"?PUBLIC\"?\\.\"?(CULTORS|CULTOR_SEARCH_GRAMS)\"? \"?\\w+\"?\\s*/\\* PUBLIC\\.([\\w.]+)(?::(.*?)\\*/)?",
+            Pattern.DOTALL);
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    /**
+     * Applies the migration indexes to the Hibernate-generated H2 schema.
+     * <p>
+     * The schema lives as long as this class's context, so indexes that
+     * already exist (from an earlier test) are skipped.
+     */
+    @BeforeEach
+    void applyMigration() throws IOException {
+        for (String statement : readIndexStatements()) {
+            String indexName = statement.split("\\s+")[2];
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE UPPER(INDEX_NAME) = UPPER(?)",
+                    Integer.class, indexName);
+            if (existing == null || existing == 0) {
+                jdbcTemplate.execute(statement);
+            }
+        }
+    }
+
+    // ---------------- Parameterized Tests ---------------- //
+
+    /**
+     * Verifies that every selective filter combination reads {@code cultors}
+     * through an index seek.
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("selectiveFilterCombinations")
+    void selectiveFilterCombinations_UseAnIndex(String label, String query, Integer municipalityId,
+            Integer parishId, Integer artCategoryId, Integer artDisciplineId, String gender, Boolean hasDisability,
+            Boolean hasIllness) throws SQLException {
+        assertAccessPaths(query, municipalityId, parishId, artCategoryId, artDisciplineId, gender, hasDisability,
+                hasIllness, false);
+    }
+
+    /**
+     * Verifies that every unselective filter combination either scans the
+     * table or seeks an index, but never fully scans an index.
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("unselectiveFilterCombinations")
+    void unselectiveFilterCombinations_NeverScanAWholeIndex(String label, String query, Integer municipalityId,
+            Integer parishId, Integer artCategoryId, Integer artDisciplineId, String gender, Boolean hasDisability,
+            Boolean hasIllness) throws SQLException {
+        assertAccessPaths(query, municipalityId, parishId, artCategoryId, artDisciplineId, gender, hasDisability,
+                hasIllness, true);
+    }
+
+    /**
+     * Verifies that both name search columns lead an index, so MySQL can
+     * resolve the OR of a 1- or 2-word search with an index merge.
+     */
+    @Test
+    void nameSearchColumns_EachLeadAnIndex() {
+        Map<String, String> leadingColumns = leadingColumns();
+        assertTrue(leadingColumns.containsValue("FIRST_NAME_SEARCH"), () -> leadingColumns.toString());
+        assertTrue(leadingColumns.containsValue("LAST_NAME_SEARCH"), () -> leadingColumns.toString());
+    }
+
+    /**
+     * Sanity check: every index declared by the migrations exists in the schema.
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("declaredIndexes")
+    void migrationIndexes_ExistInSchema(String indexName) {
+        assertTrue(leadingColumns().containsKey(indexName.toUpperCase()));
+    }
+
+    // ---------------- Argument Sources ---------------- //
+
+    static Stream<Arguments> selectiveFilterCombinations() {
+        return filterCombinations(true);
+    }
+
+    static Stream<Arguments> unselectiveFilterCombinations() {
+        return filterCombinations(false);
+    }
+
+    /**
+     * Builds every filter combination: no query, 1- to 4-word name searches and
+     * an id/phone number search, crossed with every location filter
+     * (municipality, municipality + parish, parish, none), every art filter
+     * (category, category + discipline, discipline, none), gender (set or not)
+     * and the disability/illness flags (none, one set to true, one set to false).
+     * Returns the selective or the unselective ones (see the class comment).
+     */
+    private static Stream<Arguments> filterCombinations(boolean selective) {
+        String[] queries = { null, "jose", "José Pérez", "José Ángel Pérez", "jose angel perez garcia",
+                "0412-123" };
+        Integer[][] locations = { { null, null }, { 1, null }, { 1, 2 }, { null, 2 } };
+        Integer[][] arts = { { null, null }, { 3, null }, { 3, 4 }, { null, 4 } };
+        String[] genders = { null, "F" };
+        Boolean[][] flags = { { null, null }, { true, null }, { null, false } };
+
+        List<Arguments> arguments = new ArrayList<>();
+        for (String query : queries) {
+            for (Integer[] location : locations) {
+                for (Integer[] art : arts) {
+                    if (isSelective(query, location, art) != selective) {
+                        continue;
+                    }
+                    for (String gender : genders) {
+                        for (Boolean[] flag : flags) {
+                            String label = "query=" + query + ", municipality=" + location[0]
+                                    + ", parish=" + location[1] + ", category=" + art[0]
+                                    + ", discipline=" + art[1] + ", gender=" + gender
+                                    + ", hasDisability=" + flag[0] + ", hasIllness=" + flag[1];
+                            arguments.add(Arguments.of(label, query, location[0], location[1], art[0], art[1],
+                                    gender, flag[0], flag[1]));
+                        }
+                    }
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    /**
+     * A combination is selective if it filters by location or art, or
+     * searches a number or a name of three or more words.
+     */
+    private static boolean isSelective(String query, Integer[] location, Integer[] art) {
+        if (location[0] != null || location[1] != null || art[0] != null || art[1] != null) {
+            return true;
+        }
+        return query != null && (query.matches(".*\\d.*") || query.trim().split("\\s+").length >= 3);
+    }
+
+    static Stream<String> declaredIndexes() throws IOException {
+        return readIndexStatements().stream().map(statement -> statement.split("\\s+")[2]);
+    }
+
+    // ---------------- Helpers ---------------- //
+
+    /**
+     * Explains the query of a filter combination and checks every access path
+     * to {@code cultors} and {@code cultor_search_grams}: an index seek on a
+     * constrained leading column, or (if {@code scanAllowed}) a table scan.
+     */
+    private void assertAccessPaths(String query, Integer municipalityId, Integer parishId, Integer artCategoryId,
+            Integer artDisciplineId, String gender, Boolean hasDisability, Boolean hasIllness, boolean scanAllowed)
+            throws SQLException {
+        CapturedQuery select = captureSelect(CultorSpecification.withFilters(query, gender, municipalityId, parishId,
+                artCategoryId, artDisciplineId, hasDisability, hasIllness));
+        String plan = explain(select);
+
+        Map<String, String> leadingColumns = leadingColumns();
+        Matcher access = TABLE_ACCESS.matcher(plan);
+        boolean cultorsAccessed = false;
+
+        while (access.find()) {
+            String table = access.group(1);
+            String indexName = access.group(2);
+            String conditions = access.group(3);
+            cultorsAccessed |= table.equals("CULTORS");
+
+            if (indexName.endsWith(".tableScan")) {
+                assertTrue(scanAllowed, () -> "Full table scan on " + table + ":\n" + plan);
+                continue;
+            }
+            assertNotNull(conditions, () -> "Full index scan of " + indexName + " on " + table + ":\n" + plan);
+
+            // The leading column must be compared itself (not as the "X.ID" side of a join)
+            String leadingColumn = leadingColumns.get(indexName);
+            assertTrue(Pattern.compile("(?<![\\w.])" + leadingColumn + " (=|>=|IN\\()").matcher(conditions).find(),
+                    () -> "Leading column " + leadingColumn + " of " + indexName + " is not constrained:\n" + plan);
+        }
+        assertTrue(cultorsAccessed, () -> "No access path for CULTORS in plan:\n" + plan);
+    }
+
+    /**
+     * Runs the specification through Hibernate as a first-page query and returns
+     * the main SELECT it sent to the database, with its bound parameters.
+     * <p>
+     * Parameters matter: H2 (like MySQL) only turns {@code LIKE ?} into an index
+     * range once it knows the pattern's prefix.
+     */
+    private CapturedQuery captureSelect(Specification<Cultor> specification) throws SQLException {
+        List<CapturedQuery> statements = new ArrayList<>();
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+
+        try (Connection connection = dataSource.getConnection();
+                Session session = sessionFactory.withOptions()
+                        .connection(recording(connection, statements))
+                        .openSession()) {
+            CriteriaBuilder cb = session.getCriteriaBuilder();
+            CriteriaQuery<Cultor> criteriaQuery = cb.createQuery(Cultor.class);
+            Root<Cultor> root = criteriaQuery.from(Cultor.class);
+            criteriaQuery.select(root).where(specification.toPredicate(root, criteriaQuery, cb));
+            session.createQuery(criteriaQuery).setMaxResults(20).getResultList();
+        }
+
+        assertEquals(1, statements.size(), () -> "Expected a single SELECT, got " + statements.size());
+        return statements.get(0);
+    }
+
+    /**
+     * Returns the H2 execution plan of a captured statement.
+     */
+    private String explain(CapturedQuery query) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query.sql);
+            for (Map.Entry<Integer, Object> parameter : query.parameters.entrySet()) {
+                statement.setObject(parameter.getKey(), parameter.getValue());
+            }
+            return statement;
+        }, resultSet -> resultSet.next() ? resultSet.getString(1) : fail("EXPLAIN returned no plan"));
+    }
+
+    /**
+     * Wraps a connection so every prepared statement, and the values bound to
+     * it, are recorded.
+     */
+    private static Connection recording(Connection connection, List<CapturedQuery> statements) {
+        return proxy(Connection.class, connection, (method, args, result) -> {
+            if (!method.getName().equals("prepareStatement")) {
+                return result;
+            }
+            CapturedQuery captured = new CapturedQuery((String) args[0]);
+            statements.add(captured);
+            return proxy(PreparedStatement.class, (PreparedStatement) result, (setter, values, ignored) -> {
+                if (setter.getName().startsWith("set") && values != null && values.length >= 2
+                        && values[0] instanceof Integer index) {
+                    captured.parameters.put(index, setter.getName().equals("setNull") ? null : values[1]);
+                }
+                return ignored;
+            });
+        });
+    }
+
+    /**
+     * Creates a dynamic proxy that delegates to {@code target} and lets
+     * {@code after} inspect (or replace) each result.
+     */
+    private static <T> T proxy(Class<T> type, T target, Interception after) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    try {
+                        return after.apply(method, args, method.invoke(target, args));
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getCause();
+                    }
+                }));
+    }
+
+    /**
+     * Post-invocation hook used by {@link #proxy}.
+     */
+    @FunctionalInterface
+    private interface Interception {
+        Object apply(Method method, Object[] args, Object result) throws Throwable;
+    }
+
+    /**
+     * A SQL statement sent by Hibernate and its bound parameters.
+     */
+    private static final class CapturedQuery {
+
+        private final String sql;
+        private final Map<Integer, Object> parameters = new TreeMap<>();
+
+        private CapturedQuery(String sql) {
+            this.sql = sql;
+        }
+    }
+
+    /**
+     * Maps each index on {@code cultors} and {@code cultor_search_grams} to its
+     * first column.
+     */
+    private Map<String, String> leadingColumns() {
+        Map<String, String> leadingColumns = new HashMap<>();
+        jdbcTemplate.query("SELECT INDEX_NAME, COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS "
+                + "WHERE TABLE_NAME IN ('CULTORS', 'CULTOR_SEARCH_GRAMS') AND ORDINAL_POSITION = 1",
+                resultSet -> {
+                    leadingColumns.put(resultSet.getString(1), resultSet.getString(2));
+                });
+        return leadingColumns;
+    }
+
+    /**
+     * Reads the migration scripts and returns their {@code CREATE INDEX}
+     * statements, ignoring SQL comments. Column changes are already part of the
+     * Hibernate-generated schema.
+     */
+    private static List<String> readIndexStatements() throws IOException {
+        List<String> statements = new ArrayList<>();
+        for (String migration : MIGRATIONS) {
+            String script;
+            try (InputStream input = new ClassPathResource(migration).getInputStream()) {
+                script = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            }
+
+            StringBuilder withoutComments = new StringBuilder();
+            for (String line : script.split("\\R")) {
+                if (!line.trim().startsWith("--")) {
+                    withoutComments.append(line).append('\n');
+                }
+            }
+
+            for (String statement : withoutComments.toString().split(";")) {
+                if (statement.trim().startsWith("CREATE INDEX")) {
+                    statements.add(statement.trim());
+                }
+            }
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,50 @@
+package com.culturacarabobo.sicuc.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link BloomFilter}.
+ */
+public class BloomFilterTest {
+
+    /**
+     * Expected: Every added value is reported, and the false-positive rate
+     * stays near the target when the filter holds what it was sized for.
+     */
+    @Test
+    void whenSizedForItsContents_shouldHaveNoFalseNegativesAndFewFalsePositives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        String[] added = new String[10_000];
+        for (int i = 0; i < added.length; i++) {
+            added[i] = UUID.randomUUID().toString();
+            filter.put(added[i]);
+        }
+
+        for (String value : added) {
+            assertTrue(filter.mightContain(value));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "False positives: " + falsePositives);
+    }
+
+    /**
+     * Expected: An empty filter contains nothing.
+     */
+    @Test
+    void whenEmpty_shouldContainNothing() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        assertFalse(filter.mightContain("a"));
+        assertFalse(filter.mightContain(""));
+    }
+}
@@ -0,0 +1,46 @@
+package com.culturacarabobo.sicuc.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link CsvReader} utility class.
+ * <p>
+ * Verifies RFC 4180 parsing: plain and quoted fields, embedded separators and
+ * line breaks, doubled quotes, mixed line endings and unterminated quotes.
+ */
+public class CsvReaderTest {
+
+    /**
+     * Tests {@link CsvReader#readRecord()} with plain and quoted records.
+     * <p>
+     * Scenarios covered: CRLF and LF endings, empty fields, quoted commas,
+     * doubled quotes, a quoted line break and a missing final line break.
+     */
+    @Test
+    void testReadRecord_ParsesQuotedAndPlainFields() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(
+                "a,b,c\r\n1,,\"x, y\"\n\"say \"\"hi\"\"\",\"two\nlines\",end"));
+
+        assertEquals(List.of("a", "b", "c"), reader.readRecord());
+        assertEquals(List.of("1", "", "x, y"), reader.readRecord());
+        assertEquals(List.of("say \"hi\"", "two\nlines", "end"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    /**
+     * Tests {@link CsvReader#readRecord()} with a quoted field that is never closed.
+     */
+    @Test
+    void testReadRecord_UnterminatedQuote() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"open,field\r\n"));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, reader::readRecord);
+        assertEquals("Unterminated Quoted Field", ex.getMessage());
+    }
+}
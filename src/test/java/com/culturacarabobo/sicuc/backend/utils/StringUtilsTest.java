@@ -1,6 +1,9 @@
 package com.culturacarabobo.sicuc.backend.utils;
 
 import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -65,4 +68,46 @@ public class StringUtilsTest {
         assertEquals("", StringUtils.toCapitalize(""));
         assertEquals("   ", StringUtils.toCapitalize("   "));
     }
-}
\ No newline at end of file
+
+    /**
+     * Test Scenario: Accented, mixed-case input with irregular spacing.
+     * Expected: Accents removed, lowercased, spacing collapsed ("jose angel munoz").
+     */
+    @Test
+    void testToSearchKey_FoldsAccentsAndCase() {
+        String input = " José  ÁNGEL Muñoz ";
+        String expected = "jose angel munoz";
+        assertEquals(expected, StringUtils.toSearchKey(input));
+    }
+
+    /**
+     * Test Scenario: Input is null or blank.
+     * Expected: Null stays null; blank input becomes an empty key.
+     */
+    @Test
+    void testToSearchKey_NullOrBlank() {
+        assertNull(StringUtils.toSearchKey(null));
+        assertEquals("", StringUtils.toSearchKey("   "));
+    }
+
+    /**
+     * Test Scenario: A phone number is reduced to its digits and split into trigrams.
+     * Expected: Overlapping, distinct trigrams in order of appearance.
+     */
+    @Test
+    void testToTrigrams_PhoneDigits() {
+        String digits = StringUtils.toDigits("0412-1212");
+        assertEquals("04121212", digits);
+        assertEquals(List.of("041", "412", "121", "212"), List.copyOf(StringUtils.toTrigrams(digits)));
+    }
+
+    /**
+     * Test Scenario: Input is null or shorter than a trigram.
+     * Expected: No trigrams.
+     */
+    @Test
+    void testToTrigrams_TooShort() {
+        assertTrue(StringUtils.toTrigrams(null).isEmpty());
+        assertTrue(StringUtils.toTrigrams("12").isEmpty());
+    }
+}
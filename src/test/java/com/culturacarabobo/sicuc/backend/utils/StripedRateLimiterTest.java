@@ -0,0 +1,71 @@
+package com.culturacarabobo.sicuc.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link StripedRateLimiter}.
+ */
+public class StripedRateLimiterTest {
+
+    private static final long WINDOW_MILLIS = 60_000;
+
+    /**
+     * Expected: A key gets exactly its limit per window, other keys keep
+     * theirs, and the budget is restored in the next window.
+     */
+    @Test
+    void whenLimitIsReached_shouldRejectUntilTheNextWindow() {
+        StripedRateLimiter limiter = new StripedRateLimiter(1 << 16, 3, WINDOW_MILLIS);
+        long now = 10 * WINDOW_MILLIS;
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire("10.0.0.1", now));
+        }
+        assertFalse(limiter.tryAcquire("10.0.0.1", now + 1_000));
+        assertTrue(limiter.tryAcquire("10.0.0.2", now + 1_000));
+
+        assertTrue(limiter.tryAcquire("10.0.0.1", now + WINDOW_MILLIS));
+        assertEquals(59_000, limiter.millisUntilReset(now + 1_000));
+    }
+
+    /**
+     * Expected: Concurrent acquisitions never exceed the limit.
+     */
+    @Test
+    void whenAcquiredConcurrently_shouldNeverExceedTheLimit() throws InterruptedException {
+        StripedRateLimiter limiter = new StripedRateLimiter(16, 100, WINDOW_MILLIS);
+        long now = System.currentTimeMillis();
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1_000; i++) {
+            executor.execute(() -> {
+                if (limiter.tryAcquire("admin", now)) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(100, allowed.get());
+    }
+
+    /**
+     * Expected: A limit of zero disables the limiter.
+     */
+    @Test
+    void whenLimitIsZero_shouldAllowEverything() {
+        StripedRateLimiter limiter = new StripedRateLimiter(16, 0, WINDOW_MILLIS);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(limiter.tryAcquire("admin"));
+        }
+    }
+}